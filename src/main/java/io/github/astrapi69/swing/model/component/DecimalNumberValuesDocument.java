@@ -25,17 +25,28 @@
 package io.github.astrapi69.swing.model.component;
 
 import java.io.Serial;
+import java.util.regex.Pattern;
 
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
 
-import io.github.astrapi69.swing.document.RegularExpressionDocument;
 import lombok.NonNull;
 
 /**
  * The class {@link DecimalNumberValuesDocument} provides a document for text components that only
  * allows decimal number values.
+ * <p>
+ * With the default regular expression the document validates incrementally: the position of the
+ * decimal point and the sign are tracked on every change, so an insertion is validated by checking
+ * only the inserted characters against them. The tracking runs when the change is fired, so it also
+ * follows the changes of an undo or redo. No proposed text is built and no regular expression
+ * is evaluated, which keeps typing and pasting constant-time per character. An accepted change is
+ * passed on to {@link PlainDocument} as it is, the text of the document is never copied.
  */
-public class DecimalNumberValuesDocument extends RegularExpressionDocument
+public class DecimalNumberValuesDocument extends PlainDocument
 {
 
 	/** The Constant serialVersionUID. */
@@ -46,6 +57,18 @@ public class DecimalNumberValuesDocument extends RegularExpressionDocument
 	public static final String DEFAULT_REGEX = "^-?\\d*(\\.\\d*)?$"; // Updated regex to allow
 																		// partial input
 
+	/** The compiled custom regular expression or null for the default regular expression. */
+	private final Pattern pattern;
+
+	/** The reused segment for reading the inserted characters, created on first use. */
+	private transient Segment segment;
+
+	/** The offset of the decimal point or -1 if the text has no decimal point. */
+	private int decimalPointOffset = -1;
+
+	/** The flag if the text starts with a minus sign. */
+	private boolean negative;
+
 	/**
 	 * Constructs a new <code>DecimalNumberValuesDocument</code> with the default regular
 	 * expression.
@@ -64,19 +87,16 @@ public class DecimalNumberValuesDocument extends RegularExpressionDocument
 	 */
 	public DecimalNumberValuesDocument(@NonNull String regex)
 	{
-		super(regex);
+		this.pattern = DEFAULT_REGEX.equals(regex) ? null : Pattern.compile(regex);
 	}
 
 	/**
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void insertString(int offs, String str, javax.swing.text.AttributeSet a)
-		throws BadLocationException
+	public void insertString(int offs, String str, AttributeSet a) throws BadLocationException
 	{
-		String currentText = getText(0, getLength());
-		String proposedValue = currentText.substring(0, offs) + str + currentText.substring(offs);
-		if (proposedValue.matches(DEFAULT_REGEX))
+		if (str == null || str.isEmpty() || isValidReplacement(offs, 0, str))
 		{
 			super.insertString(offs, str, a);
 		}
@@ -86,25 +106,27 @@ public class DecimalNumberValuesDocument extends RegularExpressionDocument
 	 * {@inheritDoc}
 	 */
 	@Override
-	public void replace(int offset, int length, String text, javax.swing.text.AttributeSet attrs)
+	public void replace(int offset, int length, String text, AttributeSet attrs)
 		throws BadLocationException
 	{
-		String currentText = getText(0, getLength());
-		String proposedValue = currentText.substring(0, offset) + text
-			+ currentText.substring(offset + length);
-		if (proposedValue.matches(DEFAULT_REGEX))
+		if (isValidReplacement(offset, length, text != null ? text : ""))
 		{
 			super.replace(offset, length, text, attrs);
 		}
 	}
 
 	/**
-	 * {@inheritDoc}
+	 * Validates the given proposed value against the regular expression of this document.
+	 *
+	 * @param proposedValue
+	 *            the proposed value
+	 * @return the given proposed value if it is valid
+	 * @throws IllegalArgumentException
+	 *             if the given proposed value does not match the regular expression
 	 */
-	@Override
 	public String validate(String proposedValue) throws IllegalArgumentException
 	{
-		if (proposedValue.isEmpty() || proposedValue.matches(DEFAULT_REGEX))
+		if (proposedValue.isEmpty() || matches(proposedValue))
 		{
 			return proposedValue;
 		}
@@ -113,4 +135,163 @@ public class DecimalNumberValuesDocument extends RegularExpressionDocument
 			throw new IllegalArgumentException("Value does not match the required format");
 		}
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Tracks the decimal point and the sign of the inserted text. This method is called once per
+	 * insertion, also for an insertion by an undo or redo.
+	 */
+	@Override
+	protected void fireInsertUpdate(DocumentEvent e)
+	{
+		trackInsertion(e.getOffset(), e.getLength());
+		super.fireInsertUpdate(e);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Tracks the decimal point and the sign of the removed text. This method is called once per
+	 * removal, also for a removal by an undo or redo.
+	 */
+	@Override
+	protected void fireRemoveUpdate(DocumentEvent e)
+	{
+		trackRemoval(e.getOffset(), e.getLength());
+		super.fireRemoveUpdate(e);
+	}
+
+	/**
+	 * Tracks the decimal point and the sign after the given range was inserted.
+	 */
+	private void trackInsertion(final int offset, final int length)
+	{
+		final int end = offset + length;
+		if (this.decimalPointOffset >= offset)
+		{
+			this.decimalPointOffset += length;
+		}
+		if (this.segment == null)
+		{
+			this.segment = new Segment();
+			this.segment.setPartialReturn(true);
+		}
+		int position = offset;
+		while (position < end)
+		{
+			try
+			{
+				getText(position, end - position, this.segment);
+			}
+			catch (BadLocationException exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+			for (int i = 0; i < this.segment.count; i++)
+			{
+				char c = this.segment.array[this.segment.offset + i];
+				if (c == '.')
+				{
+					this.decimalPointOffset = position + i;
+				}
+				else if (c == '-' && position + i == 0)
+				{
+					this.negative = true;
+				}
+			}
+			position += this.segment.count;
+		}
+		this.segment.array = null;
+	}
+
+	/**
+	 * Tracks the decimal point and the sign after the given range was removed.
+	 */
+	private void trackRemoval(final int offset, final int length)
+	{
+		final int end = offset + length;
+		if (offset <= this.decimalPointOffset && this.decimalPointOffset < end)
+		{
+			this.decimalPointOffset = -1;
+		}
+		else if (this.decimalPointOffset >= end)
+		{
+			this.decimalPointOffset -= length;
+		}
+		if (offset == 0 && end > 0)
+		{
+			this.negative = false;
+		}
+	}
+
+	/**
+	 * Checks if the text is still valid if the given number of characters at the given offset are
+	 * replaced with the given text.
+	 */
+	private boolean isValidReplacement(final int offset, final int length, final String text)
+		throws BadLocationException
+	{
+		if (this.pattern != null)
+		{
+			String currentText = getText(0, getLength());
+			String proposedValue = currentText.substring(0, offset) + text
+				+ currentText.substring(offset + length);
+			return this.pattern.matcher(proposedValue).matches();
+		}
+		if (offset < 0 || length < 0 || getLength() < offset + length)
+		{
+			throw new BadLocationException("Invalid replace", offset);
+		}
+		boolean hasDecimalPoint = this.decimalPointOffset >= 0
+			&& !(offset <= this.decimalPointOffset && this.decimalPointOffset < offset + length);
+		boolean hasSign = this.negative && !(offset == 0 && length > 0);
+		if (offset == 0 && hasSign && !text.isEmpty())
+		{
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			if ('0' <= c && c <= '9')
+			{
+				continue;
+			}
+			if (c == '.' && !hasDecimalPoint)
+			{
+				hasDecimalPoint = true;
+			}
+			else if (!(c == '-' && i == 0 && offset == 0))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given text matches the regular expression of this document.
+	 */
+	private boolean matches(final String text)
+	{
+		if (this.pattern != null)
+		{
+			return this.pattern.matcher(text).matches();
+		}
+		int index = text.startsWith("-") ? 1 : 0;
+		boolean hasDecimalPoint = false;
+		for (; index < text.length(); index++)
+		{
+			char c = text.charAt(index);
+			if (c == '.' && !hasDecimalPoint)
+			{
+				hasDecimalPoint = true;
+			}
+			else if (c < '0' || '9' < c)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
 }
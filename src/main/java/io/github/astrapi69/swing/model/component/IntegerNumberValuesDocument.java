@@ -0,0 +1,196 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import java.io.Serial;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
+
+/**
+ * The class {@link IntegerNumberValuesDocument} provides a document for text components that only
+ * allows integer number values, digits with an optional leading sign.
+ * <p>
+ * The document validates incrementally: the leading sign is tracked on every change, so an
+ * insertion is validated by checking only the inserted characters against it. The tracking runs
+ * when the change is fired, so it also follows the changes of an undo or redo. No proposed text is
+ * built and no regular expression is evaluated, which keeps typing and pasting constant-time per
+ * character. An accepted change is passed on to {@link PlainDocument} as it is, the text of the
+ * document is never copied.
+ */
+public class IntegerNumberValuesDocument extends PlainDocument
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The Constant for the regular expression of the allowed text. */
+	public static final String DEFAULT_REGEX = "[-+]?\\d*";
+
+	/** The reused segment for reading the first character, created on first use. */
+	private transient Segment segment;
+
+	/** The flag if the text starts with a sign. */
+	private boolean signed;
+
+	/**
+	 * Constructs a new <code>IntegerNumberValuesDocument</code>.
+	 */
+	public IntegerNumberValuesDocument()
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void insertString(int offs, String str, AttributeSet a) throws BadLocationException
+	{
+		if (str == null || str.isEmpty() || isValidReplacement(offs, 0, str))
+		{
+			super.insertString(offs, str, a);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void replace(int offset, int length, String text, AttributeSet attrs)
+		throws BadLocationException
+	{
+		if (isValidReplacement(offset, length, text != null ? text : ""))
+		{
+			super.replace(offset, length, text, attrs);
+		}
+	}
+
+	/**
+	 * Validates the given proposed value against the {@link #DEFAULT_REGEX}.
+	 *
+	 * @param proposedValue
+	 *            the proposed value
+	 * @return the given proposed value if it is valid
+	 * @throws IllegalArgumentException
+	 *             if the given proposed value does not match the regular expression
+	 */
+	public String validate(String proposedValue) throws IllegalArgumentException
+	{
+		int index = !proposedValue.isEmpty() && isSign(proposedValue.charAt(0)) ? 1 : 0;
+		for (; index < proposedValue.length(); index++)
+		{
+			char c = proposedValue.charAt(index);
+			if (c < '0' || '9' < c)
+			{
+				throw new IllegalArgumentException("Value does not match the required format");
+			}
+		}
+		return proposedValue;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Tracks the sign of the inserted text. This method is called once per insertion, also for an
+	 * insertion by an undo or redo.
+	 */
+	@Override
+	protected void fireInsertUpdate(DocumentEvent e)
+	{
+		if (e.getOffset() == 0 && e.getLength() > 0)
+		{
+			if (this.segment == null)
+			{
+				this.segment = new Segment();
+			}
+			try
+			{
+				getText(0, 1, this.segment);
+			}
+			catch (BadLocationException exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+			this.signed = isSign(this.segment.first());
+			this.segment.array = null;
+		}
+		super.fireInsertUpdate(e);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Tracks the sign of the removed text. This method is called once per removal, also for a
+	 * removal by an undo or redo.
+	 */
+	@Override
+	protected void fireRemoveUpdate(DocumentEvent e)
+	{
+		if (e.getOffset() == 0 && e.getLength() > 0)
+		{
+			this.signed = false;
+		}
+		super.fireRemoveUpdate(e);
+	}
+
+	/**
+	 * Checks if the text is still valid if the given number of characters at the given offset are
+	 * replaced with the given text.
+	 */
+	private boolean isValidReplacement(final int offset, final int length, final String text)
+		throws BadLocationException
+	{
+		if (offset < 0 || length < 0 || getLength() < offset + length)
+		{
+			throw new BadLocationException("Invalid replace", offset);
+		}
+		boolean hasSign = this.signed && !(offset == 0 && length > 0);
+		if (offset == 0 && hasSign && !text.isEmpty())
+		{
+			return false;
+		}
+		for (int i = 0; i < text.length(); i++)
+		{
+			char c = text.charAt(i);
+			if (('0' > c || c > '9') && !(isSign(c) && i == 0 && offset == 0))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given character is a sign.
+	 */
+	private static boolean isSign(final char c)
+	{
+		return c == '-' || c == '+';
+	}
+}
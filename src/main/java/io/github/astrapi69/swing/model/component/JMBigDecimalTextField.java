@@ -26,11 +26,8 @@ package io.github.astrapi69.swing.model.component;
 
 import java.math.BigDecimal;
 
-import javax.swing.event.DocumentEvent;
-
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import io.github.astrapi69.swing.model.component.binding.LazyParsedModel;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -39,7 +36,8 @@ import lombok.experimental.FieldDefaults;
 
 /**
  * The class {@link JMBigDecimalTextField} provides a text field component for handling
- * {@link BigDecimal} values.
+ * {@link BigDecimal} values. If the property model is a {@link LazyParsedModel} an edit only
+ * invalidates the model and the text is parsed when the model object is read.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -111,20 +109,25 @@ public class JMBigDecimalTextField extends JMGenericTextField<BigDecimal>
 	protected void onInitialize()
 	{
 		setDocument(new DecimalNumberValuesDocument());
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
+		observeDocument();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A {@link LazyParsedModel} is only invalidated, the text is parsed when the model object is
+	 * read.
+	 */
+	@Override
+	protected void updatePropertyModel()
+	{
+		final IModel<BigDecimal> propertyModel = getPropertyModel();
+		if (!isReplacingText() && propertyModel instanceof LazyParsedModel)
 		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMBigDecimalTextField.this.getPropertyModel() != null)
-				{
-					JMBigDecimalTextField.this.getPropertyModel().setObject(toGenericObject(text));
-				}
-			}
-		});
+			((LazyParsedModel<BigDecimal>)propertyModel).invalidate(getDocument());
+			return;
+		}
+		super.updatePropertyModel();
 	}
 
 	/**
@@ -132,12 +135,14 @@ public class JMBigDecimalTextField extends JMGenericTextField<BigDecimal>
 	 *
 	 * @param text
 	 *            the text to convert
-	 * @return the converted {@link BigDecimal} object
+	 * @return the converted {@link BigDecimal} object, {@link BigDecimal#ZERO} if the text is empty
+	 *         or contains no digit yet
 	 */
 	@Override
 	public BigDecimal toGenericObject(String text)
 	{
-		if (text == null || text.isEmpty())
+		if (text == null || text.isEmpty() || "-".equals(text) || ".".equals(text)
+			|| "-.".equals(text))
 		{
 			return BigDecimal.ZERO;
 		}
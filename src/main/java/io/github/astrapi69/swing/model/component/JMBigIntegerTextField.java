@@ -26,12 +26,9 @@ package io.github.astrapi69.swing.model.component;
 
 import java.math.BigInteger;
 
-import javax.swing.event.DocumentEvent;
-
 import io.github.astrapi69.model.api.IModel;
 import io.github.astrapi69.swing.document.NumberValuesDocument;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import io.github.astrapi69.swing.model.component.binding.LazyParsedModel;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -40,7 +37,8 @@ import lombok.experimental.FieldDefaults;
 
 /**
  * The class {@link JMBigIntegerTextField} provides a text field component for handling
- * {@link BigInteger} values.
+ * {@link BigInteger} values. If the property model is a {@link LazyParsedModel} an edit only
+ * invalidates the model and the text is parsed when the model object is read.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -112,20 +110,25 @@ public class JMBigIntegerTextField extends JMGenericTextField<BigInteger>
 	protected void onInitialize()
 	{
 		setDocument(new NumberValuesDocument());
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
+		observeDocument();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A {@link LazyParsedModel} is only invalidated, the text is parsed when the model object is
+	 * read.
+	 */
+	@Override
+	protected void updatePropertyModel()
+	{
+		final IModel<BigInteger> propertyModel = getPropertyModel();
+		if (!isReplacingText() && propertyModel instanceof LazyParsedModel)
 		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMBigIntegerTextField.this.getPropertyModel() != null)
-				{
-					JMBigIntegerTextField.this.getPropertyModel().setObject(toGenericObject(text));
-				}
-			}
-		});
+			((LazyParsedModel<BigInteger>)propertyModel).invalidate(getDocument());
+			return;
+		}
+		super.updatePropertyModel();
 	}
 
 	/**
@@ -133,12 +136,13 @@ public class JMBigIntegerTextField extends JMGenericTextField<BigInteger>
 	 *
 	 * @param text
 	 *            the text to convert
-	 * @return the converted {@link BigInteger} object
+	 * @return the converted {@link BigInteger} object, {@link BigInteger#ZERO} if the text is empty
+	 *         or contains no digit yet
 	 */
 	@Override
 	public BigInteger toGenericObject(String text)
 	{
-		if (text == null || text.isEmpty())
+		if (text == null || text.isEmpty() || "-".equals(text))
 		{
 			return BigInteger.ZERO;
 		}
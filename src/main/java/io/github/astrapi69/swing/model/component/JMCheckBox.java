@@ -30,6 +30,9 @@ import javax.swing.JCheckBox;
 
 import io.github.astrapi69.model.PropertyModel;
 import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -37,7 +40,9 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
 /**
- * The class {@link JMCheckBox} provides a checkbox component with an associated model.
+ * The class {@link JMCheckBox} provides a checkbox component with an associated model. If the
+ * property model is an {@link ObservableModel} its later changes are reflected in the selection
+ * state.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -45,21 +50,26 @@ import lombok.experimental.FieldDefaults;
 public class JMCheckBox extends JCheckBox
 {
 
-	/** The model. */
-	IModel<Boolean> propertyModel = PropertyModel.of(this, "model.selected");
+	/**
+	 * The model, the default model that reads and writes the selection state is created on first
+	 * use.
+	 */
+	IModel<Boolean> propertyModel;
+
+	/**
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	ModelViewBinding<Boolean> modelViewBinding;
 
 	/**
-	 * Initializes the checkbox and adds an item listener to update the model when the checkbox
-	 * state changes.
+	 * Initializes the checkbox and registers the shared listener to update the model when the
+	 * checkbox state changes.
 	 */
 	{
-		addItemListener(e -> {
-			Object source = e.getSource();
-			if (source instanceof JCheckBox)
-			{
-				propertyModel.setObject(JMCheckBox.this.isSelected());
-			}
-		});
+		addItemListener(SharedComponentListener.INSTANCE);
 	}
 
 	/**
@@ -168,6 +178,21 @@ public class JMCheckBox extends JCheckBox
 		this("", selected);
 	}
 
+	/**
+	 * Gets the property model. If no property model was set the default model that reads and
+	 * writes the selection state is created.
+	 *
+	 * @return the property model
+	 */
+	public IModel<Boolean> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = PropertyModel.of(this, "model.selected");
+		}
+		return this.propertyModel;
+	}
+
 	/**
 	 * Sets the property model and updates the checkbox's selection state.
 	 *
@@ -178,7 +203,67 @@ public class JMCheckBox extends JCheckBox
 	public JMCheckBox setPropertyModel(final @NonNull IModel<Boolean> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		getModel().setSelected(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 		return this;
 	}
+
+	/**
+	 * Called by the shared listener when the selection state has changed. Without a property model
+	 * nothing is to do, because the default model reads the selection state itself.
+	 */
+	void onItemStateChanged()
+	{
+		if (this.propertyModel != null)
+		{
+			Models.setObjectIfChanged(this.propertyModel, isSelected());
+		}
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed.
+	 *
+	 * @param selected
+	 *            the new selection state
+	 */
+	protected void updateView(final Boolean selected)
+	{
+		final boolean newSelected = Boolean.TRUE.equals(selected);
+		if (isSelected() != newSelected)
+		{
+			setSelected(newSelected);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
+	}
 }
@@ -25,13 +25,25 @@
 package io.github.astrapi69.swing.model.component;
 
 import java.awt.event.ItemEvent;
+import java.util.Objects;
+import java.util.function.Function;
 
+import javax.accessibility.Accessible;
 import javax.swing.ComboBoxModel;
 import javax.swing.JComboBox;
+import javax.swing.JList;
 import javax.swing.plaf.ComboBoxUI;
+import javax.swing.plaf.basic.ComboPopup;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+import io.github.astrapi69.swing.model.component.combobox.CellMetricsCache;
+import io.github.astrapi69.swing.model.component.combobox.FilteredComboBoxModel;
+import io.github.astrapi69.swing.model.component.combobox.IndexedComboBoxModel;
+import io.github.astrapi69.swing.model.component.combobox.IndexedKeySelectionManager;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -39,7 +51,9 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
 /**
- * The class {@link JMComboBox} provides a combo box component with an associated model.
+ * The class {@link JMComboBox} provides a combo box component with an associated model. If the
+ * property model is an {@link ObservableModel} its later changes are reflected in the selected
+ * item.
  *
  * @param <T>
  *            the type of the items in the combo box
@@ -51,22 +65,23 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 {
-	/** The model. */
-	IModel<T> propertyModel = BaseModel.of();
+	/** The model, the default model is created on first use. */
+	IModel<T> propertyModel;
 
 	/**
-	 * Initializes the combo box and adds an item listener to update the model when an item is
-	 * selected.
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	ModelViewBinding<T> modelViewBinding;
+
+	/**
+	 * Initializes the combo box and registers the shared listener to update the model when an item
+	 * is selected.
 	 */
 	{
-		addItemListener(event -> {
-			if (event.getStateChange() == ItemEvent.SELECTED)
-			{
-				@SuppressWarnings("unchecked")
-				T item = (T)event.getItem();
-				propertyModel.setObject(item);
-			}
-		});
+		addItemListener(SharedComponentListener.INSTANCE);
 	}
 
 	/**
@@ -93,7 +108,9 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 	{
 		super(comboBoxModel);
 		this.propertyModel = propertyModel;
-		getModel().setSelectedItem(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 	}
 
 	/**
@@ -108,8 +125,8 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 	public JMComboBox(T selectedModelObject, CMB comboBoxModel)
 	{
 		super(comboBoxModel);
-		this.propertyModel.setObject(selectedModelObject);
-		getModel().setSelectedItem(this.propertyModel.getObject());
+		this.propertyModel = BaseModel.of(selectedModelObject);
+		getModel().setSelectedItem(selectedModelObject);
 	}
 
 	/**
@@ -135,7 +152,9 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 	{
 		super(items);
 		this.propertyModel = propertyModel;
-		getModel().setSelectedItem(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 	}
 
 	/**
@@ -148,7 +167,9 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 	{
 		super();
 		this.propertyModel = propertyModel;
-		getModel().setSelectedItem(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 	}
 
 	/**
@@ -171,6 +192,22 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 		setUI(ui);
 	}
 
+	/**
+	 * Gets the property model. If no property model was set a default model with the selected item
+	 * is created, so a combo box that is never bound holds no model.
+	 *
+	 * @return the property model
+	 */
+	@SuppressWarnings("unchecked")
+	public IModel<T> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of((T)getSelectedItem());
+		}
+		return this.propertyModel;
+	}
+
 	/**
 	 * Sets the property model and updates the combo box's selected item.
 	 *
@@ -181,7 +218,236 @@ public class JMComboBox<T, CMB extends ComboBoxModel<T>> extends JComboBox<T>
 	public JMComboBox<T, CMB> setPropertyModel(final @NonNull IModel<T> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		getModel().setSelectedItem(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
+		return this;
+	}
+
+	/**
+	 * Installs an {@link IndexedKeySelectionManager} that resolves the type-ahead with an index over
+	 * the string values of the items instead of converting every item on every key.
+	 *
+	 * @return the current instance of {@link JMComboBox}
+	 */
+	public JMComboBox<T, CMB> installIndexedKeySelection()
+	{
+		IndexedKeySelectionManager.install(this);
+		return this;
+	}
+
+	/**
+	 * Installs an {@link IndexedKeySelectionManager} that resolves the type-ahead with an index over
+	 * the display strings of the items instead of converting every item on every key.
+	 *
+	 * @param displayFunction
+	 *            the function that returns the display string of an item
+	 * @return the current instance of {@link JMComboBox}
+	 */
+	public JMComboBox<T, CMB> installIndexedKeySelection(
+		final @NonNull Function<? super T, String> displayFunction)
+	{
+		IndexedKeySelectionManager.install(this, displayFunction);
+		return this;
+	}
+
+	/**
+	 * Installs a {@link CellMetricsCache} that sets the widest of a sample of the items as
+	 * prototype display value, so the preferred size and the popup are computed without measuring
+	 * every item.
+	 *
+	 * @return the current instance of {@link JMComboBox}
+	 */
+	public JMComboBox<T, CMB> installAutoPrototype()
+	{
+		CellMetricsCache.install(this);
+		return this;
+	}
+
+	/**
+	 * Installs a {@link CellMetricsCache} that sets the widest of the given number of sampled items
+	 * as prototype display value.
+	 *
+	 * @param sampleSize
+	 *            the number of items that are measured from a model
+	 * @return the current instance of {@link JMComboBox}
+	 */
+	public JMComboBox<T, CMB> installAutoPrototype(final int sampleSize)
+	{
+		CellMetricsCache.install(this, sampleSize);
+		return this;
+	}
+
+	/**
+	 * Makes this combo box editable and filters its {@link FilteredComboBoxModel} with the text of
+	 * the editor. The filter is evaluated in the background and only the final view is published.
+	 *
+	 * @return the current instance of {@link JMComboBox}
+	 */
+	public JMComboBox<T, CMB> installFilter()
+	{
+		FilteredComboBoxModel.install(this);
 		return this;
 	}
+
+	/**
+	 * Called by the shared listener when the selection has changed. Pushes a selected item into
+	 * the property model if a property model exists.
+	 *
+	 * @param itemEvent
+	 *            the item event
+	 */
+	@SuppressWarnings("unchecked")
+	void onItemStateChanged(final ItemEvent itemEvent)
+	{
+		if (this.propertyModel != null && itemEvent.getStateChange() == ItemEvent.SELECTED)
+		{
+			Models.setObjectIfChanged(this.propertyModel, (T)itemEvent.getItem());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the combo box model is an {@link IndexedComboBoxModel} the index is taken from the model
+	 * instead of a linear scan over the items.
+	 */
+	@Override
+	public int getSelectedIndex()
+	{
+		if (getModel() instanceof IndexedComboBoxModel<T> indexedModel)
+		{
+			return indexedModel.indexOf(indexedModel.getSelectedItem());
+		}
+		return super.getSelectedIndex();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the combo box is not editable and the combo box model is an {@link IndexedComboBoxModel}
+	 * the item is looked up with the index of the model instead of a linear scan over the items.
+	 */
+	@Override
+	public void setSelectedItem(final Object item)
+	{
+		if (item == null || isEditable()
+			|| !(getModel() instanceof IndexedComboBoxModel<T> indexedModel))
+		{
+			super.setSelectedItem(item);
+			return;
+		}
+		final Object previousSelection = this.selectedItemReminder;
+		if (!item.equals(previousSelection))
+		{
+			final int index = indexedModel.indexOf(item);
+			if (index == -1)
+			{
+				return;
+			}
+			getEditor().setItem(item);
+			indexedModel.setSelectedItem(indexedModel.getElementAt(index));
+			if (this.selectedItemReminder != previousSelection)
+			{
+				// the model has fired a contents changed event that has notified the listeners
+				return;
+			}
+			if (this.selectedItemReminder != indexedModel.getSelectedItem())
+			{
+				selectedItemChanged();
+			}
+		}
+		fireActionEvent();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The prototype display value is also set as prototype cell value of the list in the popup,
+	 * so the list has a fixed cell size and does not measure every item when the popup is shown.
+	 */
+	@Override
+	public void setPrototypeDisplayValue(final T prototypeDisplayValue)
+	{
+		super.setPrototypeDisplayValue(prototypeDisplayValue);
+		updatePopupPrototype();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The prototype display value is set again to the list of the new popup.
+	 */
+	@Override
+	public void updateUI()
+	{
+		super.updateUI();
+		updatePopupPrototype();
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed.
+	 *
+	 * @param item
+	 *            the new selected item
+	 */
+	protected void updateView(final T item)
+	{
+		if (!Objects.equals(getSelectedItem(), item))
+		{
+			getModel().setSelectedItem(item);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
+	}
+
+	private void updatePopupPrototype()
+	{
+		final Accessible popup = getUI() != null ? getUI().getAccessibleChild(this, 0) : null;
+		if (!(popup instanceof ComboPopup))
+		{
+			return;
+		}
+		final JList<Object> list = ((ComboPopup)popup).getList();
+		final Object prototype = getPrototypeDisplayValue();
+		if (prototype != null)
+		{
+			list.setPrototypeCellValue(prototype);
+		}
+		else if (list.getPrototypeCellValue() != null)
+		{
+			list.setPrototypeCellValue(null);
+			list.setFixedCellWidth(-1);
+			list.setFixedCellHeight(-1);
+		}
+	}
 }
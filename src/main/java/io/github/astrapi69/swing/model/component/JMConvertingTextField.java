@@ -0,0 +1,207 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.converter.TextConverter;
+import io.github.astrapi69.swing.model.component.converter.TextConverters;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link JMConvertingTextField} provides a text field component for any type that has a
+ * {@link TextConverter}. The converter is given or taken from {@link TextConverters}, so no
+ * subclass is needed for a new type. An empty text results in a <code>null</code> model object, a
+ * text that can not be converted leaves the model untouched and is reported by
+ * {@link #isConversionValid()}.
+ *
+ * @param <T>
+ *            the type of the model object
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JMConvertingTextField<T> extends JMGenericTextField<T>
+{
+
+	/** The converter between the text and the model object. */
+	TextConverter<T> converter;
+
+	/**
+	 * The flag if the current text could be converted. It has no generated getter because
+	 * <code>isValid()</code> would override the layout validity of {@link java.awt.Component}.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	boolean valid = true;
+
+	/**
+	 * Constructs a new <code>JMConvertingTextField</code> with the specified converter and
+	 * property model.
+	 *
+	 * @param converter
+	 *            the converter between the text and the model object
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	public JMConvertingTextField(final @NonNull TextConverter<T> converter,
+		final @NonNull IModel<T> propertyModel)
+	{
+		super(propertyModel);
+		this.converter = converter;
+		setPropertyModel(propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMConvertingTextField</code> with the registered converter of the
+	 * specified type and the specified property model.
+	 *
+	 * @param type
+	 *            the type of the model object
+	 * @param propertyModel
+	 *            the model of the value
+	 * @throws IllegalArgumentException
+	 *             if no converter is registered for the given type
+	 */
+	public JMConvertingTextField(final @NonNull Class<T> type,
+		final @NonNull IModel<T> propertyModel)
+	{
+		this(TextConverters.get(type), propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMConvertingTextField</code> with the registered converter of the
+	 * specified type. A default model is created and the number of columns is set to 0.
+	 *
+	 * @param type
+	 *            the type of the model object
+	 * @throws IllegalArgumentException
+	 *             if no converter is registered for the given type
+	 */
+	public JMConvertingTextField(final @NonNull Class<T> type)
+	{
+		this(type, BaseModel.of());
+	}
+
+	/**
+	 * Initializes the text field by adding a document listener.
+	 */
+	@Override
+	protected void onInitialize()
+	{
+		observeDocument();
+	}
+
+	/**
+	 * Sets the converter and updates the text field with the text of the model object.
+	 *
+	 * @param converter
+	 *            the new converter
+	 * @return the current instance of {@link JMConvertingTextField}
+	 */
+	public JMConvertingTextField<T> setConverter(final @NonNull TextConverter<T> converter)
+	{
+		this.converter = converter;
+		setPropertyModel(getPropertyModel());
+		return this;
+	}
+
+	/**
+	 * Checks if the current text could be converted into a model object.
+	 *
+	 * @return true if the current text could be converted, false if the model was left untouched
+	 */
+	public boolean isConversionValid()
+	{
+		return this.valid;
+	}
+
+	/**
+	 * Converts the current text and pushes it into the property model if the conversion succeeds
+	 * and the converted object is not equal to the current model object.
+	 */
+	@Override
+	protected void updatePropertyModel()
+	{
+		final IModel<T> propertyModel = getPropertyModel();
+		if (isReplacingText() || propertyModel == null || this.converter == null)
+		{
+			return;
+		}
+		final T object;
+		try
+		{
+			object = toGenericObject(getText());
+		}
+		catch (IllegalArgumentException exception)
+		{
+			this.valid = false;
+			return;
+		}
+		this.valid = true;
+		Models.setObjectIfChanged(propertyModel, object);
+	}
+
+	/**
+	 * Converts the given text with the converter.
+	 *
+	 * @param text
+	 *            the text to convert
+	 * @return the converted object or <code>null</code> if the text is empty
+	 * @throws IllegalArgumentException
+	 *             if the text can not be converted
+	 */
+	@Override
+	public T toGenericObject(String text)
+	{
+		if (text == null || text.isEmpty())
+		{
+			return null;
+		}
+		return this.converter.toObject(text);
+	}
+
+	/**
+	 * Converts the given object with the converter.
+	 *
+	 * @param propertyModelObject
+	 *            the object to convert
+	 * @return the text representation of the object or an empty text for <code>null</code>
+	 */
+	@Override
+	public String toText(T propertyModelObject)
+	{
+		if (propertyModelObject == null || this.converter == null)
+		{
+			return "";
+		}
+		return this.converter.toText(propertyModelObject);
+	}
+}
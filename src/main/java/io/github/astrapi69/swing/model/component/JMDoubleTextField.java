@@ -0,0 +1,269 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import java.math.BigDecimal;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.DoubleChangeListener;
+import io.github.astrapi69.swing.model.component.binding.DoubleModel;
+import io.github.astrapi69.swing.model.component.binding.WeakBindingRegistry;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link JMDoubleTextField} provides a text field component for handling primitive double
+ * values. If the property model is a {@link DoubleModel} the value is parsed directly from the
+ * document and written into the model without any boxing, and the changes of the model from any
+ * thread are reflected in the view at most once per frame. Other models of type {@link Double} are
+ * supported as well but box the value. An empty text or a single sign results in the value 0, a
+ * text that can not be converted leaves the model untouched.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JMDoubleTextField extends JMPrimitiveTextField<Double>
+{
+
+	/** The listener that schedules a view update on a change of the model. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final DoubleChangeListener modelChangeListener = newValue -> onModelChanged();
+
+	/**
+	 * Constructs a new <code>JMDoubleTextField</code> with the specified property model.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	public JMDoubleTextField(final @NonNull DoubleModel propertyModel)
+	{
+		super(propertyModel);
+		setPropertyModel(propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMDoubleTextField</code> with the specified property model and
+	 * columns.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMDoubleTextField(final @NonNull DoubleModel propertyModel, int columns)
+	{
+		this(propertyModel);
+		setColumns(columns);
+	}
+
+	/**
+	 * Constructs a new <code>JMDoubleTextField</code>. A default {@link DoubleModel} with the value
+	 * 0 is created and the number of columns is set to 0.
+	 */
+	public JMDoubleTextField()
+	{
+		this(DoubleModel.of());
+	}
+
+	/**
+	 * Constructs a new <code>JMDoubleTextField</code> initialized with the specified columns. A
+	 * default {@link DoubleModel} with the value 0 is created.
+	 *
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMDoubleTextField(int columns)
+	{
+		this(DoubleModel.of(), columns);
+	}
+
+	/**
+	 * Initializes the text field by setting a document that allows only number values and adding a
+	 * document listener.
+	 */
+	@Override
+	protected void onInitialize()
+	{
+		setDocument(new DecimalNumberValuesDocument());
+		observeDocument();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the given model is a {@link DoubleModel} its changes are reflected in the view.
+	 */
+	@Override
+	public JMDoubleTextField setPropertyModel(final @NonNull IModel<Double> propertyModel)
+	{
+		super.setPropertyModel(propertyModel);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected WeakBindingRegistry.Binding observeModel(final IModel<Double> propertyModel)
+	{
+		if (propertyModel instanceof DoubleModel)
+		{
+			return WeakBindingRegistry.bind((DoubleModel)propertyModel, this.modelChangeListener,
+				this);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The value is only boxed if the model is not a {@link DoubleModel}.
+	 */
+	@Override
+	protected void updatePropertyModel(final boolean empty)
+	{
+		final IModel<Double> propertyModel = getPropertyModel();
+		final double value = empty ? 0.0d : getParser().getDoubleValue();
+		if (propertyModel instanceof DoubleModel)
+		{
+			((DoubleModel)propertyModel).setDouble(value);
+		}
+		else
+		{
+			final Double current = propertyModel.getObject();
+			if (current == null || !(Double.compare(current, value) == 0))
+			{
+				propertyModel.setObject(value);
+			}
+		}
+	}
+
+	/**
+	 * Updates the text with the given value if the current text does not already represent it.
+	 * Must be called on the event dispatch thread.
+	 *
+	 * @param value
+	 *            the value to show
+	 */
+	protected void updateView(final double value)
+	{
+		switch (parseDocument())
+		{
+			case VALID :
+				if (Double.compare(getParser().getDoubleValue(), value) == 0)
+				{
+					return;
+				}
+				break;
+			case EMPTY :
+				if (Double.compare(value, 0.0d) == 0)
+				{
+					return;
+				}
+				break;
+			default :
+				break;
+		}
+		setText(toText(value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected DocumentNumberParser.Result parse(final DocumentNumberParser parser)
+	{
+		return parser.parseDouble(getDocument());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateViewFromModel()
+	{
+		final IModel<Double> propertyModel = getPropertyModel();
+		if (propertyModel instanceof DoubleModel)
+		{
+			updateView(((DoubleModel)propertyModel).getDouble());
+		}
+	}
+
+	/**
+	 * Converts the given double value to a plain text without an exponent, because the document
+	 * accepts only digits, a decimal point and a leading sign. A value that is not a number or
+	 * infinite results in an empty text.
+	 *
+	 * @param value
+	 *            the value to convert
+	 * @return the text representation of the value
+	 */
+	public static String toText(final double value)
+	{
+		if (Double.isNaN(value) || Double.isInfinite(value))
+		{
+			return "";
+		}
+		return BigDecimal.valueOf(value).toPlainString();
+	}
+
+	/**
+	 * Converts the given text to a {@link Double} object.
+	 *
+	 * @param text
+	 *            the text to convert
+	 * @return the converted {@link Double} object or <code>null</code> if the text is empty or
+	 *         contains only a sign
+	 */
+	@Override
+	public Double toGenericObject(String text)
+	{
+		if (text == null || text.isEmpty() || "-".equals(text) || ".".equals(text)
+			|| "-.".equals(text))
+		{
+			return null;
+		}
+		return Double.valueOf(text);
+	}
+
+	/**
+	 * Converts the given {@link Double} object to its text representation.
+	 *
+	 * @param propertyModelObject
+	 *            the {@link Double} object to convert
+	 * @return the text representation of the {@link Double} object or an empty text for
+	 *         <code>null</code>
+	 */
+	@Override
+	public String toText(Double propertyModelObject)
+	{
+		return propertyModelObject == null ? "" : toText(propertyModelObject.doubleValue());
+	}
+}
@@ -0,0 +1,354 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.FixedScaleDecimalModel;
+import io.github.astrapi69.swing.model.component.binding.LongChangeListener;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.WeakBindingRegistry;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link JMFixedScaleDecimalTextField} provides a text field component for decimal
+ * values with a fixed number of fraction digits, for instance currency amounts. If the property
+ * model is a {@link FixedScaleDecimalModel} the unscaled value is parsed directly from the document
+ * and written into the model without creating a {@link BigDecimal}, and the changes of the model
+ * from any thread are reflected in the view at most once per frame. Other models of type
+ * {@link BigDecimal} are supported as well. An empty text or a single sign results in the value 0,
+ * a text with more fraction digits than the scale or out of the range of the unscaled long leaves
+ * the model untouched.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JMFixedScaleDecimalTextField extends JMPrimitiveTextField<BigDecimal>
+{
+
+	/** The default scale of two fraction digits as used by most currencies. */
+	public static final int DEFAULT_SCALE = 2;
+
+	/** The maximum length of a formatted value, 19 digits, the decimal point and the sign. */
+	public static final int MAXIMUM_TEXT_LENGTH = 21;
+
+	/**
+	 * The number of fraction digits, taken from a {@link FixedScaleDecimalModel} or set with
+	 * {@link #setScale(int)} for other models.
+	 */
+	int scale;
+
+	/** The reused buffer for formatting a value. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final char[] textBuffer = new char[MAXIMUM_TEXT_LENGTH];
+
+	/** The listener that schedules a view update on a change of the model. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final LongChangeListener modelChangeListener = newValue -> onModelChanged();
+
+	/**
+	 * Constructs a new <code>JMFixedScaleDecimalTextField</code> with the specified property
+	 * model.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	public JMFixedScaleDecimalTextField(final @NonNull FixedScaleDecimalModel propertyModel)
+	{
+		super(propertyModel);
+		setPropertyModel(propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMFixedScaleDecimalTextField</code> with the specified property model
+	 * and columns.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMFixedScaleDecimalTextField(final @NonNull FixedScaleDecimalModel propertyModel,
+		int columns)
+	{
+		this(propertyModel);
+		setColumns(columns);
+	}
+
+	/**
+	 * Constructs a new <code>JMFixedScaleDecimalTextField</code>. A default
+	 * {@link FixedScaleDecimalModel} with the value 0 and the {@link #DEFAULT_SCALE} is created
+	 * and the number of columns is set to 0.
+	 */
+	public JMFixedScaleDecimalTextField()
+	{
+		this(FixedScaleDecimalModel.of(DEFAULT_SCALE));
+	}
+
+	/**
+	 * Constructs a new <code>JMFixedScaleDecimalTextField</code> initialized with the specified
+	 * columns. A default {@link FixedScaleDecimalModel} with the value 0 and the
+	 * {@link #DEFAULT_SCALE} is created.
+	 *
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMFixedScaleDecimalTextField(int columns)
+	{
+		this(FixedScaleDecimalModel.of(DEFAULT_SCALE), columns);
+	}
+
+	/**
+	 * Formats the given unscaled value with the given scale into the given buffer without creating
+	 * any object. The text is written to the start of the buffer.
+	 *
+	 * @param unscaledValue
+	 *            the unscaled value
+	 * @param scale
+	 *            the number of fraction digits
+	 * @param buffer
+	 *            the buffer with at least {@link #MAXIMUM_TEXT_LENGTH} characters
+	 * @return the length of the text
+	 */
+	public static int format(final long unscaledValue, final int scale, final char[] buffer)
+	{
+		if (buffer.length < MAXIMUM_TEXT_LENGTH)
+		{
+			throw new IllegalArgumentException(
+				"buffer must have at least " + MAXIMUM_TEXT_LENGTH + " characters");
+		}
+		// the digits are taken from the negative value, so Long.MIN_VALUE needs no special case
+		long remaining = unscaledValue < 0 ? unscaledValue : -unscaledValue;
+		int position = buffer.length;
+		int digits = 0;
+		do
+		{
+			buffer[--position] = (char)('0' - remaining % 10);
+			remaining /= 10;
+			digits++;
+			if (digits == scale)
+			{
+				buffer[--position] = '.';
+			}
+		}
+		while (remaining != 0 || digits <= scale);
+		if (unscaledValue < 0)
+		{
+			buffer[--position] = '-';
+		}
+		final int length = buffer.length - position;
+		System.arraycopy(buffer, position, buffer, 0, length);
+		return length;
+	}
+
+	/**
+	 * Initializes the text field by setting a document that allows only decimal number values and
+	 * adding a document listener.
+	 */
+	@Override
+	protected void onInitialize()
+	{
+		setDocument(new DecimalNumberValuesDocument());
+		observeDocument();
+	}
+
+	/**
+	 * Sets the number of fraction digits that is used with models that are not a
+	 * {@link FixedScaleDecimalModel}. A {@link FixedScaleDecimalModel} defines its own scale.
+	 *
+	 * @param scale
+	 *            the number of fraction digits between 0 and
+	 *            {@link FixedScaleDecimalModel#MAXIMUM_SCALE}
+	 * @return the current instance of {@link JMFixedScaleDecimalTextField}
+	 */
+	public JMFixedScaleDecimalTextField setScale(final int scale)
+	{
+		if (scale < 0 || FixedScaleDecimalModel.MAXIMUM_SCALE < scale)
+		{
+			throw new IllegalArgumentException("scale must be between 0 and "
+				+ FixedScaleDecimalModel.MAXIMUM_SCALE + ": " + scale);
+		}
+		if (getPropertyModel() instanceof FixedScaleDecimalModel)
+		{
+			throw new IllegalArgumentException(
+				"the scale is defined by the FixedScaleDecimalModel of this text field");
+		}
+		this.scale = scale;
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the given model is a {@link FixedScaleDecimalModel} its scale is taken and its changes
+	 * are reflected in the view.
+	 */
+	@Override
+	public JMFixedScaleDecimalTextField setPropertyModel(
+		final @NonNull IModel<BigDecimal> propertyModel)
+	{
+		if (propertyModel instanceof FixedScaleDecimalModel)
+		{
+			this.scale = ((FixedScaleDecimalModel)propertyModel).getScale();
+		}
+		super.setPropertyModel(propertyModel);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected WeakBindingRegistry.Binding observeModel(final IModel<BigDecimal> propertyModel)
+	{
+		if (propertyModel instanceof FixedScaleDecimalModel)
+		{
+			return WeakBindingRegistry.bind((FixedScaleDecimalModel)propertyModel,
+				this.modelChangeListener, this);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A {@link BigDecimal} is only created if the model is not a {@link FixedScaleDecimalModel}.
+	 */
+	@Override
+	protected void updatePropertyModel(final boolean empty)
+	{
+		final IModel<BigDecimal> propertyModel = getPropertyModel();
+		final long unscaledValue = empty ? 0L : getParser().getValue();
+		if (propertyModel instanceof FixedScaleDecimalModel)
+		{
+			((FixedScaleDecimalModel)propertyModel).setUnscaledValue(unscaledValue);
+		}
+		else
+		{
+			Models.setObjectIfChanged(propertyModel, BigDecimal.valueOf(unscaledValue, this.scale));
+		}
+	}
+
+	/**
+	 * Updates the text with the given unscaled value if the current text does not already
+	 * represent it. Must be called on the event dispatch thread.
+	 *
+	 * @param unscaledValue
+	 *            the unscaled value to show
+	 */
+	protected void updateView(final long unscaledValue)
+	{
+		switch (parseDocument())
+		{
+			case VALID :
+				if (getParser().getValue() == unscaledValue)
+				{
+					return;
+				}
+				break;
+			case EMPTY :
+				if (unscaledValue == 0L)
+				{
+					return;
+				}
+				break;
+			default :
+				break;
+		}
+		final int length = format(unscaledValue, this.scale, this.textBuffer);
+		setText(new String(this.textBuffer, 0, length));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected DocumentNumberParser.Result parse(final DocumentNumberParser parser)
+	{
+		return parser.parseFixedScale(getDocument(), this.scale);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateViewFromModel()
+	{
+		final IModel<BigDecimal> propertyModel = getPropertyModel();
+		if (propertyModel instanceof FixedScaleDecimalModel)
+		{
+			updateView(((FixedScaleDecimalModel)propertyModel).getUnscaledValue());
+		}
+	}
+
+	/**
+	 * Converts the given text to a {@link BigDecimal} object with the scale of this text field.
+	 *
+	 * @param text
+	 *            the text to convert
+	 * @return the converted {@link BigDecimal} object or <code>null</code> if the text contains no
+	 *         digit or more fraction digits than the scale of this text field
+	 */
+	@Override
+	public BigDecimal toGenericObject(String text)
+	{
+		if (text == null || text.isEmpty() || "-".equals(text) || ".".equals(text)
+			|| "-.".equals(text))
+		{
+			return null;
+		}
+		try
+		{
+			return new BigDecimal(text).setScale(this.scale, RoundingMode.UNNECESSARY);
+		}
+		catch (ArithmeticException exception)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Converts the given {@link BigDecimal} object to its plain text representation.
+	 *
+	 * @param propertyModelObject
+	 *            the {@link BigDecimal} object to convert
+	 * @return the text representation of the {@link BigDecimal} object or an empty text for
+	 *         <code>null</code>
+	 */
+	@Override
+	public String toText(BigDecimal propertyModelObject)
+	{
+		return propertyModelObject == null ? "" : propertyModelObject.toPlainString();
+	}
+}
@@ -29,8 +29,7 @@ import javax.swing.event.DocumentEvent;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import io.github.astrapi69.swing.model.component.document.DocumentTexts;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -47,28 +46,15 @@ import lombok.experimental.FieldDefaults;
 public class JMFormattedTextField extends JFormattedTextField
 {
 
-	/** The model. */
-	IModel<String> propertyModel = BaseModel.of();
+	/** The model, created on the first call of {@link #getPropertyModel()} if none was given. */
+	IModel<String> propertyModel;
 
 	/**
-	 * Initializes the formatted text field and adds a document listener to update the model when
-	 * the text changes.
+	 * Initializes the formatted text field and registers the shared listener that updates the model
+	 * when the text changes.
 	 */
 	{
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
-		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMFormattedTextField.this.propertyModel != null)
-				{
-					JMFormattedTextField.this.propertyModel.setObject(text);
-				}
-			}
-		});
+		SharedComponentListener.register(getDocument(), this);
 	}
 
 	/**
@@ -101,7 +87,6 @@ public class JMFormattedTextField extends JFormattedTextField
 	public JMFormattedTextField(String text)
 	{
 		super(text);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -117,7 +102,6 @@ public class JMFormattedTextField extends JFormattedTextField
 	{
 		super(text);
 		setColumns(columns);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -142,6 +126,35 @@ public class JMFormattedTextField extends JFormattedTextField
 		super(value);
 	}
 
+	/**
+	 * Gets the property model. If no model was given a default model is created with the current
+	 * text.
+	 *
+	 * @return the property model
+	 */
+	public IModel<String> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of(DocumentTexts.getText(getDocument()));
+		}
+		return this.propertyModel;
+	}
+
+	/**
+	 * Called from the shared listener for every change of the document.
+	 *
+	 * @param documentEvent
+	 *            the document event
+	 */
+	void onDocumentChanged(final DocumentEvent documentEvent)
+	{
+		if (this.propertyModel != null)
+		{
+			this.propertyModel.setObject(DocumentTexts.getText(documentEvent.getDocument()));
+		}
+	}
+
 	/**
 	 * Sets the property model and updates the formatted text field's text.
 	 *
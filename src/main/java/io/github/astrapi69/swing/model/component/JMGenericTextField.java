@@ -28,6 +28,11 @@ import javax.swing.JTextField;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.BindingActivation;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.WeakBindingRegistry;
+import io.github.astrapi69.swing.model.component.document.DocumentTexts;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -47,8 +52,30 @@ import lombok.experimental.FieldDefaults;
 public abstract class JMGenericTextField<T> extends JTextField
 {
 
-	/** The model. */
-	IModel<T> propertyModel = BaseModel.of();
+	/** The model, a default model is only created if no model is given to the constructor. */
+	IModel<T> propertyModel;
+
+	/**
+	 * The flag that is set while the text is replaced. The events of the document are ignored
+	 * during the replacement, so a replacement results in one model update and not in two.
+	 */
+	@Getter(AccessLevel.PROTECTED)
+	@EqualsAndHashCode.Exclude
+	boolean replacingText;
+
+	/** The activation of the observation of the property model. */
+	@EqualsAndHashCode.Exclude
+	final BindingActivation bindingActivation = ModelViewBinding.getDefaultActivation();
+
+	/** The flag if the property model is observed. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	boolean modelObserved;
+
+	/** The registration at the observed property model or null. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	WeakBindingRegistry.Binding modelBinding;
 
 	/**
 	 * Init block to call the {@link #onInitialize()} method.
@@ -87,7 +114,7 @@ public abstract class JMGenericTextField<T> extends JTextField
 	public JMGenericTextField(String text)
 	{
 		super(text);
-		this.propertyModel.setObject(toGenericObject(text));
+		this.propertyModel = BaseModel.of(toGenericObject(text));
 	}
 
 	/**
@@ -101,7 +128,7 @@ public abstract class JMGenericTextField<T> extends JTextField
 	public JMGenericTextField(String text, int columns)
 	{
 		super(text, columns);
-		this.propertyModel.setObject(toGenericObject(text));
+		this.propertyModel = BaseModel.of(toGenericObject(text));
 	}
 
 	/**
@@ -124,11 +151,183 @@ public abstract class JMGenericTextField<T> extends JTextField
 	 */
 	public JMGenericTextField setPropertyModel(final @NonNull IModel<T> propertyModel)
 	{
+		stopObservingModel();
 		this.propertyModel = propertyModel;
-		setText(toText(this.propertyModel.getObject()));
+		final boolean replacing = this.replacingText;
+		this.replacingText = true;
+		try
+		{
+			super.setText(toText(this.propertyModel.getObject()));
+		}
+		finally
+		{
+			this.replacingText = replacing;
+		}
+		if (this.bindingActivation == BindingActivation.IMMEDIATE || isDisplayable())
+		{
+			startObservingModel();
+		}
 		return this;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the old text and the insertion of the new text result in one model update.
+	 */
+	@Override
+	public void setText(final String text)
+	{
+		if (this.replacingText)
+		{
+			super.setText(text);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.setText(text);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		updatePropertyModel();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the selected text and the insertion of the content result in one model
+	 * update.
+	 */
+	@Override
+	public void replaceSelection(final String content)
+	{
+		if (this.replacingText)
+		{
+			super.replaceSelection(content);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.replaceSelection(content);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		updatePropertyModel();
+	}
+
+	/**
+	 * Converts the current text and pushes it into the property model if the converted object is
+	 * not equal to the current model object. Does nothing while the text is replaced, the model is
+	 * updated once after the replacement.
+	 */
+	protected void updatePropertyModel()
+	{
+		if (this.replacingText || this.propertyModel == null)
+		{
+			return;
+		}
+		Models.setObjectIfChanged(this.propertyModel,
+			toGenericObject(DocumentTexts.getText(getDocument())));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * With the {@link BindingActivation#ON_DISPLAY} the property model is observed from now on and
+	 * the view is synchronized with it.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.bindingActivation == BindingActivation.ON_DISPLAY && !this.modelObserved)
+		{
+			startObservingModel();
+			synchronizeView();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * With the {@link BindingActivation#ON_DISPLAY} the property model is no longer observed.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.bindingActivation == BindingActivation.ON_DISPLAY)
+		{
+			stopObservingModel();
+		}
+		super.removeNotify();
+	}
+
+	/**
+	 * Starts to observe the given property model, so that its changes are reflected in the view.
+	 * Called when the property model is set and, with the {@link BindingActivation#ON_DISPLAY},
+	 * when this text field is displayed. Subclasses for an observable model register their
+	 * listener with the {@link WeakBindingRegistry}, so the model does not keep this text field
+	 * reachable. The registration is removed when the property model is replaced and, with the
+	 * {@link BindingActivation#ON_DISPLAY}, when this text field is no longer displayed. The
+	 * default implementation does nothing.
+	 *
+	 * @param propertyModel
+	 *            the property model
+	 * @return the registration at the property model or null if the model is not observed
+	 */
+	protected WeakBindingRegistry.Binding observeModel(final IModel<T> propertyModel)
+	{
+		return null;
+	}
+
+	/**
+	 * Synchronizes the view with the property model when this text field is displayed again with
+	 * the {@link BindingActivation#ON_DISPLAY}, because changes of the model were not observed in
+	 * the meantime. The default implementation does nothing.
+	 */
+	protected void synchronizeView()
+	{
+	}
+
+	private void startObservingModel()
+	{
+		if (!this.modelObserved && this.propertyModel != null)
+		{
+			this.modelObserved = true;
+			this.modelBinding = observeModel(this.propertyModel);
+		}
+	}
+
+	private void stopObservingModel()
+	{
+		if (this.modelObserved)
+		{
+			this.modelObserved = false;
+			if (this.modelBinding != null)
+			{
+				this.modelBinding.unbind();
+				this.modelBinding = null;
+			}
+		}
+	}
+
+	/**
+	 * Registers this text field for the changes of its current document, so that every change
+	 * updates the property model with {@link #updatePropertyModel()}. The listener is shared by all
+	 * text fields, so no listener is created per text field. Subclasses call this method in
+	 * {@link #onInitialize()} after the document is set.
+	 */
+	protected void observeDocument()
+	{
+		SharedComponentListener.register(getDocument(), this);
+	}
+
 	/**
 	 * Called during initialization.
 	 */
@@ -0,0 +1,251 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.IntChangeListener;
+import io.github.astrapi69.swing.model.component.binding.IntModel;
+import io.github.astrapi69.swing.model.component.binding.WeakBindingRegistry;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link JMIntTextField} provides a text field component for handling primitive int
+ * values. If the property model is an {@link IntModel} the value is parsed directly from the
+ * document and written into the model without any boxing, and the changes of the model from any
+ * thread are reflected in the view at most once per frame. Other models of type {@link Integer} are
+ * supported as well but box the value. An empty text or a single sign results in the value 0, a
+ * text that can not be converted leaves the model untouched.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JMIntTextField extends JMPrimitiveTextField<Integer>
+{
+
+	/** The regular expression for the allowed input, digits with an optional leading sign. */
+	public static final String INTEGER_REGEX = IntegerNumberValuesDocument.DEFAULT_REGEX;
+
+	/** The listener that schedules a view update on a change of the model. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final IntChangeListener modelChangeListener = newValue -> onModelChanged();
+
+	/**
+	 * Constructs a new <code>JMIntTextField</code> with the specified property model.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	public JMIntTextField(final @NonNull IntModel propertyModel)
+	{
+		super(propertyModel);
+		setPropertyModel(propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMIntTextField</code> with the specified property model and
+	 * columns.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMIntTextField(final @NonNull IntModel propertyModel, int columns)
+	{
+		this(propertyModel);
+		setColumns(columns);
+	}
+
+	/**
+	 * Constructs a new <code>JMIntTextField</code>. A default {@link IntModel} with the value 0
+	 * is created and the number of columns is set to 0.
+	 */
+	public JMIntTextField()
+	{
+		this(IntModel.of());
+	}
+
+	/**
+	 * Constructs a new <code>JMIntTextField</code> initialized with the specified columns. A
+	 * default {@link IntModel} with the value 0 is created.
+	 *
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMIntTextField(int columns)
+	{
+		this(IntModel.of(), columns);
+	}
+
+	/**
+	 * Initializes the text field by setting a document that allows only number values and adding a
+	 * document listener.
+	 */
+	@Override
+	protected void onInitialize()
+	{
+		setDocument(new IntegerNumberValuesDocument());
+		observeDocument();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the given model is an {@link IntModel} its changes are reflected in the view.
+	 */
+	@Override
+	public JMIntTextField setPropertyModel(final @NonNull IModel<Integer> propertyModel)
+	{
+		super.setPropertyModel(propertyModel);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected WeakBindingRegistry.Binding observeModel(final IModel<Integer> propertyModel)
+	{
+		if (propertyModel instanceof IntModel)
+		{
+			return WeakBindingRegistry.bind((IntModel)propertyModel, this.modelChangeListener,
+				this);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The value is only boxed if the model is not an {@link IntModel}.
+	 */
+	@Override
+	protected void updatePropertyModel(final boolean empty)
+	{
+		final IModel<Integer> propertyModel = getPropertyModel();
+		final int value = empty ? 0 : (int)getParser().getValue();
+		if (propertyModel instanceof IntModel)
+		{
+			((IntModel)propertyModel).setInt(value);
+		}
+		else
+		{
+			final Integer current = propertyModel.getObject();
+			if (current == null || !(current == value))
+			{
+				propertyModel.setObject(value);
+			}
+		}
+	}
+
+	/**
+	 * Updates the text with the given value if the current text does not already represent it.
+	 * Must be called on the event dispatch thread.
+	 *
+	 * @param value
+	 *            the value to show
+	 */
+	protected void updateView(final int value)
+	{
+		switch (parseDocument())
+		{
+			case VALID :
+				if ((int)getParser().getValue() == value)
+				{
+					return;
+				}
+				break;
+			case EMPTY :
+				if (value == 0)
+				{
+					return;
+				}
+				break;
+			default :
+				break;
+		}
+		setText(Integer.toString(value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected DocumentNumberParser.Result parse(final DocumentNumberParser parser)
+	{
+		return parser.parseInt(getDocument());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateViewFromModel()
+	{
+		final IModel<Integer> propertyModel = getPropertyModel();
+		if (propertyModel instanceof IntModel)
+		{
+			updateView(((IntModel)propertyModel).getInt());
+		}
+	}
+
+	/**
+	 * Converts the given text to an {@link Integer} object.
+	 *
+	 * @param text
+	 *            the text to convert
+	 * @return the converted {@link Integer} object or <code>null</code> if the text is empty or
+	 *         contains only a sign
+	 */
+	@Override
+	public Integer toGenericObject(String text)
+	{
+		if (text == null || text.isEmpty() || "-".equals(text) || "+".equals(text))
+		{
+			return null;
+		}
+		return Integer.valueOf(text);
+	}
+
+	/**
+	 * Converts the given {@link Integer} object to its text representation.
+	 *
+	 * @param propertyModelObject
+	 *            the {@link Integer} object to convert
+	 * @return the text representation of the {@link Integer} object or an empty text for
+	 *         <code>null</code>
+	 */
+	@Override
+	public String toText(Integer propertyModelObject)
+	{
+		return propertyModelObject == null ? "" : propertyModelObject.toString();
+	}
+}
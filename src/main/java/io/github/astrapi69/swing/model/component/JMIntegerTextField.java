@@ -24,12 +24,10 @@
  */
 package io.github.astrapi69.swing.model.component;
 
-import javax.swing.event.DocumentEvent;
-
 import io.github.astrapi69.model.api.IModel;
 import io.github.astrapi69.swing.document.NumberValuesDocument;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -38,7 +36,10 @@ import lombok.experimental.FieldDefaults;
 
 /**
  * The class {@link JMIntegerTextField} provides a text field component for handling {@link Integer}
- * values.
+ * values. On every edit the value is parsed directly from the document without creating a
+ * {@link String}, and the model is only written if the parsed value has changed. An empty text or
+ * a single sign results in a <code>null</code> model object, a text that is out of the range of
+ * an int leaves the model object untouched and is reported by {@link #isOverflow()}.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -46,6 +47,18 @@ import lombok.experimental.FieldDefaults;
 public class JMIntegerTextField extends JMGenericTextField<Integer>
 {
 
+	/**
+	 * The parser of the document, created on first use because the document listener is added
+	 * before the fields of this class are initialized.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	DocumentNumberParser parser;
+
+	/** The flag if the current text is a number that is out of the range of an int. */
+	@EqualsAndHashCode.Exclude
+	boolean overflow;
+
 	/**
 	 * Constructs a new <code>JMIntegerTextField</code> with the specified property model.
 	 *
@@ -112,20 +125,43 @@ public class JMIntegerTextField extends JMGenericTextField<Integer>
 	protected void onInitialize()
 	{
 		setDocument(new NumberValuesDocument());
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
+		observeDocument();
+	}
+
+	/**
+	 * Parses the document and pushes the int value into the property model if it differs from the
+	 * current model object. The value is only boxed if the model is written.
+	 */
+	@Override
+	protected void updatePropertyModel()
+	{
+		final IModel<Integer> propertyModel = getPropertyModel();
+		if (isReplacingText() || propertyModel == null)
 		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMIntegerTextField.this.getPropertyModel() != null)
+			return;
+		}
+		if (this.parser == null)
+		{
+			this.parser = new DocumentNumberParser();
+		}
+		final DocumentNumberParser.Result result = this.parser.parseInt(getDocument());
+		this.overflow = result == DocumentNumberParser.Result.OVERFLOW;
+		switch (result)
+		{
+			case VALID :
+				final int value = (int)this.parser.getValue();
+				final Integer current = propertyModel.getObject();
+				if (current == null || current != value)
 				{
-					JMIntegerTextField.this.getPropertyModel().setObject(toGenericObject(text));
+					propertyModel.setObject(value);
 				}
-			}
-		});
+				break;
+			case EMPTY :
+				Models.setObjectIfChanged(propertyModel, null);
+				break;
+			default :
+				break;
+		}
 	}
 
 	/**
@@ -133,11 +169,16 @@ public class JMIntegerTextField extends JMGenericTextField<Integer>
 	 *
 	 * @param text
 	 *            the text to convert
-	 * @return the converted {@link Integer} object
+	 * @return the converted {@link Integer} object or <code>null</code> if the text is empty or
+	 *         contains only a sign
 	 */
 	@Override
 	public Integer toGenericObject(String text)
 	{
+		if (text == null || text.isEmpty() || "-".equals(text) || "+".equals(text))
+		{
+			return null;
+		}
 		return Integer.valueOf(text);
 	}
 
@@ -146,11 +187,12 @@ public class JMIntegerTextField extends JMGenericTextField<Integer>
 	 *
 	 * @param propertyModelObject
 	 *            the {@link Integer} object to convert
-	 * @return the text representation of the {@link Integer} object
+	 * @return the text representation of the {@link Integer} object or an empty text for
+	 *         <code>null</code>
 	 */
 	@Override
 	public String toText(Integer propertyModelObject)
 	{
-		return propertyModelObject.toString();
+		return propertyModelObject == null ? "" : propertyModelObject.toString();
 	}
 }
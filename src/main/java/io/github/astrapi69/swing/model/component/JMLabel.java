@@ -28,6 +28,8 @@ import javax.swing.*;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
 import io.github.astrapi69.swing.model.label.LabelModel;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -36,18 +38,30 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
 /**
- * The class {@link JMLabel} provides a label component with an associated model.
+ * The class {@link JMLabel} provides a label component with an associated model. If the property
+ * model is an {@link ObservableModel} its later changes are reflected in the label. A
+ * {@link LabelModel} that is changed in place is reflected after
+ * {@link ObservableModel#fireModelChanged(Object)}.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class JMLabel extends JLabel
 {
-	/** The model. */
-	IModel<LabelModel> propertyModel = BaseModel.of(LabelModel.builder().build());
+	/** The model, the default model is created on first use. */
+	IModel<LabelModel> propertyModel;
 
 	/**
-	 * Constructs a new <code>JMLabel</code> with the specified text.
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	ModelViewBinding<LabelModel> modelViewBinding;
+
+	/**
+	 * Constructs a new <code>JMLabel</code> with the specified text. The default model is created
+	 * with the current text on first use.
 	 *
 	 * @param text
 	 *            the text to be displayed by the label
@@ -55,7 +69,6 @@ public class JMLabel extends JLabel
 	public JMLabel(String text)
 	{
 		super(text);
-		propertyModel.getObject().setText(text);
 	}
 
 	/**
@@ -130,6 +143,22 @@ public class JMLabel extends JLabel
 		super(text, icon, horizontalAlignment);
 	}
 
+	/**
+	 * Gets the property model. If no property model was set a default model with the current text,
+	 * icon and horizontal alignment is created, so a label that is never bound holds no model.
+	 *
+	 * @return the property model
+	 */
+	public IModel<LabelModel> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of(LabelModel.builder().text(getText()).icon(getIcon())
+				.horizontalAlignment(getHorizontalAlignment()).build());
+		}
+		return this.propertyModel;
+	}
+
 	/**
 	 * Sets the property model and updates the label's text, icon, and horizontal alignment.
 	 *
@@ -140,7 +169,25 @@ public class JMLabel extends JLabel
 	public JMLabel setPropertyModel(final @NonNull IModel<LabelModel> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		LabelModel labelModel = this.propertyModel.getObject();
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
+		return this;
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed.
+	 *
+	 * @param labelModel
+	 *            the new label model
+	 */
+	protected void updateView(final LabelModel labelModel)
+	{
+		if (labelModel == null)
+		{
+			return;
+		}
 		if (labelModel.getText() != null && !labelModel.getText().equals(getText()))
 		{
 			setText(labelModel.getText());
@@ -154,6 +201,35 @@ public class JMLabel extends JLabel
 		{
 			setHorizontalAlignment(labelModel.getHorizontalAlignment());
 		}
-		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
 	}
 }
@@ -0,0 +1,251 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.LongChangeListener;
+import io.github.astrapi69.swing.model.component.binding.LongModel;
+import io.github.astrapi69.swing.model.component.binding.WeakBindingRegistry;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link JMLongTextField} provides a text field component for handling primitive long
+ * values. If the property model is a {@link LongModel} the value is parsed directly from the
+ * document and written into the model without any boxing, and the changes of the model from any
+ * thread are reflected in the view at most once per frame. Other models of type {@link Long} are
+ * supported as well but box the value. An empty text or a single sign results in the value 0, a
+ * text that can not be converted leaves the model untouched.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class JMLongTextField extends JMPrimitiveTextField<Long>
+{
+
+	/** The regular expression for the allowed input, digits with an optional leading sign. */
+	public static final String INTEGER_REGEX = IntegerNumberValuesDocument.DEFAULT_REGEX;
+
+	/** The listener that schedules a view update on a change of the model. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final LongChangeListener modelChangeListener = newValue -> onModelChanged();
+
+	/**
+	 * Constructs a new <code>JMLongTextField</code> with the specified property model.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	public JMLongTextField(final @NonNull LongModel propertyModel)
+	{
+		super(propertyModel);
+		setPropertyModel(propertyModel);
+	}
+
+	/**
+	 * Constructs a new <code>JMLongTextField</code> with the specified property model and
+	 * columns.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMLongTextField(final @NonNull LongModel propertyModel, int columns)
+	{
+		this(propertyModel);
+		setColumns(columns);
+	}
+
+	/**
+	 * Constructs a new <code>JMLongTextField</code>. A default {@link LongModel} with the value 0
+	 * is created and the number of columns is set to 0.
+	 */
+	public JMLongTextField()
+	{
+		this(LongModel.of());
+	}
+
+	/**
+	 * Constructs a new <code>JMLongTextField</code> initialized with the specified columns. A
+	 * default {@link LongModel} with the value 0 is created.
+	 *
+	 * @param columns
+	 *            the number of columns to use to calculate the preferred width
+	 */
+	public JMLongTextField(int columns)
+	{
+		this(LongModel.of(), columns);
+	}
+
+	/**
+	 * Initializes the text field by setting a document that allows only number values and adding a
+	 * document listener.
+	 */
+	@Override
+	protected void onInitialize()
+	{
+		setDocument(new IntegerNumberValuesDocument());
+		observeDocument();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the given model is a {@link LongModel} its changes are reflected in the view.
+	 */
+	@Override
+	public JMLongTextField setPropertyModel(final @NonNull IModel<Long> propertyModel)
+	{
+		super.setPropertyModel(propertyModel);
+		return this;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected WeakBindingRegistry.Binding observeModel(final IModel<Long> propertyModel)
+	{
+		if (propertyModel instanceof LongModel)
+		{
+			return WeakBindingRegistry.bind((LongModel)propertyModel, this.modelChangeListener,
+				this);
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The value is only boxed if the model is not a {@link LongModel}.
+	 */
+	@Override
+	protected void updatePropertyModel(final boolean empty)
+	{
+		final IModel<Long> propertyModel = getPropertyModel();
+		final long value = empty ? 0L : getParser().getValue();
+		if (propertyModel instanceof LongModel)
+		{
+			((LongModel)propertyModel).setLong(value);
+		}
+		else
+		{
+			final Long current = propertyModel.getObject();
+			if (current == null || !(current == value))
+			{
+				propertyModel.setObject(value);
+			}
+		}
+	}
+
+	/**
+	 * Updates the text with the given value if the current text does not already represent it.
+	 * Must be called on the event dispatch thread.
+	 *
+	 * @param value
+	 *            the value to show
+	 */
+	protected void updateView(final long value)
+	{
+		switch (parseDocument())
+		{
+			case VALID :
+				if (getParser().getValue() == value)
+				{
+					return;
+				}
+				break;
+			case EMPTY :
+				if (value == 0L)
+				{
+					return;
+				}
+				break;
+			default :
+				break;
+		}
+		setText(Long.toString(value));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected DocumentNumberParser.Result parse(final DocumentNumberParser parser)
+	{
+		return parser.parseLong(getDocument());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateViewFromModel()
+	{
+		final IModel<Long> propertyModel = getPropertyModel();
+		if (propertyModel instanceof LongModel)
+		{
+			updateView(((LongModel)propertyModel).getLong());
+		}
+	}
+
+	/**
+	 * Converts the given text to a {@link Long} object.
+	 *
+	 * @param text
+	 *            the text to convert
+	 * @return the converted {@link Long} object or <code>null</code> if the text is empty or
+	 *         contains only a sign
+	 */
+	@Override
+	public Long toGenericObject(String text)
+	{
+		if (text == null || text.isEmpty() || "-".equals(text) || "+".equals(text))
+		{
+			return null;
+		}
+		return Long.valueOf(text);
+	}
+
+	/**
+	 * Converts the given {@link Long} object to its text representation.
+	 *
+	 * @param propertyModelObject
+	 *            the {@link Long} object to convert
+	 * @return the text representation of the {@link Long} object or an empty text for
+	 *         <code>null</code>
+	 */
+	@Override
+	public String toText(Long propertyModelObject)
+	{
+		return propertyModelObject == null ? "" : propertyModelObject.toString();
+	}
+}
@@ -24,13 +24,19 @@
  */
 package io.github.astrapi69.swing.model.component;
 
+import java.util.Arrays;
+
 import javax.swing.JPasswordField;
 import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.Document;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
+import io.github.astrapi69.swing.model.component.binding.BindingActivation;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.SecretModel;
+import io.github.astrapi69.swing.model.component.document.SecretBuffer;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -39,6 +45,13 @@ import lombok.experimental.FieldDefaults;
 
 /**
  * The class {@link JMPasswordField} provides a password field component with an associated model.
+ * If the model is a {@link SecretModel} the password is kept in one reusable {@link SecretBuffer}
+ * that is updated incrementally from the document events, and the model is notified with the
+ * buffer as a view over the password. No copy of the password is created on a keystroke and a
+ * superseded array of the buffer is zeroed immediately. Any other model receives a new copy of the
+ * password on every change. With the {@link BindingActivation#ON_DISPLAY} the document is only
+ * observed while the password field is displayable and the model is synchronized with the
+ * password when the password field is displayed again.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -46,30 +59,34 @@ import lombok.experimental.FieldDefaults;
 public class JMPasswordField extends JPasswordField
 {
 
-	/** The model. */
-	IModel<char[]> propertyModel = BaseModel.of();
+	/** The model, created on the first call of {@link #getPropertyModel()} if none was given. */
+	IModel<char[]> propertyModel;
+
+	/** The buffer of the password if the model is a {@link SecretModel}, otherwise null. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	SecretBuffer secretBuffer;
+
+	/** The activation that defines when the document is observed. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final BindingActivation activation = ModelViewBinding.getDefaultActivation();
+
+	/** The document listener of the shared listener while the document is observed. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	DocumentListener documentListener;
 
 	/**
-	 * Initializes the password field and adds a document listener to update the model when the text
-	 * changes.
+	 * Initializes the password field and registers the shared listener that updates the model when
+	 * the text changes. With the {@link BindingActivation#ON_DISPLAY} the registration is deferred
+	 * until the password field is displayed.
 	 */
 	{
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
+		if (this.activation == BindingActivation.IMMEDIATE)
 		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				char[] password = getPassword();
-				if (JMPasswordField.this.propertyModel != null)
-				{
-					JMPasswordField.this.propertyModel.setObject(password);
-				}
-				else
-				{
-					setPropertyModel(BaseModel.of(password));
-				}
-			}
-		});
+			this.documentListener = SharedComponentListener.register(getDocument(), this);
+		}
 	}
 
 	/**
@@ -81,6 +98,10 @@ public class JMPasswordField extends JPasswordField
 	public JMPasswordField(final @NonNull IModel<char[]> propertyModel)
 	{
 		this.propertyModel = propertyModel;
+		if (propertyModel instanceof SecretModel)
+		{
+			this.secretBuffer = new SecretBuffer();
+		}
 	}
 
 	/**
@@ -157,7 +178,24 @@ public class JMPasswordField extends JPasswordField
 	}
 
 	/**
-	 * Sets the property model and updates the password field's text.
+	 * Gets the property model. If no model was given a default model is created with a copy of the
+	 * current password.
+	 *
+	 * @return the property model
+	 */
+	public IModel<char[]> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of(getPassword());
+		}
+		return this.propertyModel;
+	}
+
+	/**
+	 * Sets the property model and updates the password field's text. If the given model is a
+	 * {@link SecretModel} the password is loaded into the buffer and the model is set to the
+	 * buffer, otherwise the buffer is zeroed and released.
 	 *
 	 * @param propertyModel
 	 *            the new property model
@@ -166,11 +204,158 @@ public class JMPasswordField extends JPasswordField
 	public JMPasswordField setPropertyModel(final @NonNull IModel<char[]> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		char[] object = this.propertyModel.getObject();
+		if (!(propertyModel instanceof SecretModel secretModel))
+		{
+			wipeSecretBuffer();
+			char[] object = this.propertyModel.getObject();
+			if (object != null && 0 < object.length)
+			{
+				setText(String.valueOf(object));
+			}
+			return this;
+		}
+		if (this.secretBuffer == null)
+		{
+			this.secretBuffer = new SecretBuffer();
+		}
+		this.secretBuffer.load(getDocument());
+		char[] object = secretModel.getObject();
 		if (object != null && 0 < object.length)
 		{
 			setText(String.valueOf(object));
+			Arrays.fill(object, '\0');
+			if (this.documentListener == null)
+			{
+				// the document is not observed yet, so the buffer does not follow the new text
+				this.secretBuffer.load(getDocument());
+			}
 		}
+		secretModel.setSecret(this.secretBuffer);
 		return this;
 	}
+
+	/**
+	 * Zeroes the password in the buffer and in the document of this password field.
+	 */
+	public void wipePassword()
+	{
+		setText("");
+		if (this.secretBuffer != null)
+		{
+			this.secretBuffer.wipe();
+		}
+	}
+
+	/**
+	 * Called from the shared listener for every change of the document. Without a model nothing is
+	 * copied, so an unbound password field does not create a copy of the password on a keystroke.
+	 *
+	 * @param documentEvent
+	 *            the document event
+	 */
+	void onDocumentChanged(final DocumentEvent documentEvent)
+	{
+		if (this.secretBuffer != null)
+		{
+			onSecretChanged(documentEvent);
+			return;
+		}
+		if (this.propertyModel != null)
+		{
+			this.propertyModel.setObject(getPassword());
+		}
+	}
+
+	/**
+	 * Called for every change of the document if the model is a {@link SecretModel}. Applies the
+	 * change to the buffer and notifies the model with the buffer.
+	 *
+	 * @param documentEvent
+	 *            the document event
+	 */
+	protected void onSecretChanged(final DocumentEvent documentEvent)
+	{
+		final int offset = documentEvent.getOffset();
+		final int length = documentEvent.getLength();
+		if (documentEvent.getType() == DocumentEvent.EventType.INSERT)
+		{
+			this.secretBuffer.insert(offset, documentEvent.getDocument(), offset, length);
+		}
+		else if (documentEvent.getType() == DocumentEvent.EventType.REMOVE)
+		{
+			this.secretBuffer.remove(offset, length);
+		}
+		else
+		{
+			return;
+		}
+		((SecretModel)this.propertyModel).setSecret(this.secretBuffer);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Registers the shared listener on the document if the registration was deferred, and
+	 * synchronizes the model with the password that may have changed in the meantime.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.documentListener == null)
+		{
+			this.documentListener = SharedComponentListener.register(getDocument(), this);
+			synchronizeModel();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Removes the shared listener from the document with the {@link BindingActivation#ON_DISPLAY}.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.activation == BindingActivation.ON_DISPLAY && this.documentListener != null)
+		{
+			getDocument().removeDocumentListener(this.documentListener);
+			this.documentListener = null;
+		}
+		super.removeNotify();
+	}
+
+	/**
+	 * Synchronizes the model with the current password. A model that holds already the current
+	 * password is not changed.
+	 */
+	private void synchronizeModel()
+	{
+		if (this.secretBuffer != null)
+		{
+			this.secretBuffer.load(getDocument());
+			((SecretModel)this.propertyModel).setSecret(this.secretBuffer);
+			return;
+		}
+		if (this.propertyModel == null)
+		{
+			return;
+		}
+		char[] password = getPassword();
+		if (Arrays.equals(password, this.propertyModel.getObject()))
+		{
+			Arrays.fill(password, '\0');
+			return;
+		}
+		this.propertyModel.setObject(password);
+	}
+
+	private void wipeSecretBuffer()
+	{
+		if (this.secretBuffer != null)
+		{
+			this.secretBuffer.wipe();
+			this.secretBuffer = null;
+		}
+	}
 }
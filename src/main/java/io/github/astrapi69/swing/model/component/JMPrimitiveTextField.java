@@ -0,0 +1,205 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+import io.github.astrapi69.swing.model.component.document.DocumentNumberParser;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The abstract class {@link JMPrimitiveTextField} provides the base of the text field components
+ * for primitive number models. The document is parsed with a reused {@link DocumentNumberParser}
+ * and the parsed value is written into the model by the subclass without any boxing. The changes
+ * of the model from any thread are reflected in the view at most once per frame, except the
+ * changes that this text field makes itself.
+ *
+ * @param <T>
+ *            the type of the model object
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public abstract class JMPrimitiveTextField<T> extends JMGenericTextField<T>
+{
+
+	/**
+	 * The parser of the document, created on first use because the document listener is added
+	 * before the fields of this class are initialized.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	DocumentNumberParser parser;
+
+	/** The flag if the current text is a number that is out of the range of the value type. */
+	@EqualsAndHashCode.Exclude
+	boolean overflow;
+
+	/** The thread that currently writes the model, its own changes are not reflected back. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	Thread updatingThread;
+
+	/** The flag if a view update is scheduled, also the key of the scheduled view update. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final AtomicBoolean viewUpdatePending = new AtomicBoolean();
+
+	/** The task that updates the view on the event dispatch thread. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final Runnable viewUpdate = this::flushViewUpdate;
+
+	/**
+	 * Constructs a new <code>JMPrimitiveTextField</code> with the specified property model.
+	 *
+	 * @param propertyModel
+	 *            the model of the value
+	 */
+	protected JMPrimitiveTextField(final @NonNull IModel<T> propertyModel)
+	{
+		super(propertyModel);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void synchronizeView()
+	{
+		flushViewUpdate();
+	}
+
+	/**
+	 * Parses the document and pushes the value into the property model. A text that can not be
+	 * converted leaves the model untouched, the changes of the model made here are not reflected
+	 * back into the view.
+	 */
+	@Override
+	protected void updatePropertyModel()
+	{
+		if (isReplacingText() || getPropertyModel() == null)
+		{
+			return;
+		}
+		final DocumentNumberParser.Result result = parseDocument();
+		if (result != DocumentNumberParser.Result.VALID
+			&& result != DocumentNumberParser.Result.EMPTY)
+		{
+			return;
+		}
+		this.updatingThread = Thread.currentThread();
+		try
+		{
+			updatePropertyModel(result == DocumentNumberParser.Result.EMPTY);
+		}
+		finally
+		{
+			this.updatingThread = null;
+		}
+	}
+
+	/**
+	 * Writes the value of the last parse into the property model if it differs from the current
+	 * value. The value is taken from {@link #getParser()} or is 0 if the text is empty.
+	 *
+	 * @param empty
+	 *            the flag if the text is empty or contains only a sign
+	 */
+	protected abstract void updatePropertyModel(boolean empty);
+
+	/**
+	 * Parses the document with the given parser into the value type of this text field.
+	 *
+	 * @param parser
+	 *            the parser of this text field
+	 * @return the result of the parse
+	 */
+	protected abstract DocumentNumberParser.Result parse(DocumentNumberParser parser);
+
+	/**
+	 * Applies the current value of the property model to the view if it is a primitive number
+	 * model. Called on the event dispatch thread.
+	 */
+	protected abstract void updateViewFromModel();
+
+	/**
+	 * Gets the parser of the document that holds the value of the last parse.
+	 *
+	 * @return the parser of the document
+	 */
+	protected final DocumentNumberParser getParser()
+	{
+		if (this.parser == null)
+		{
+			this.parser = new DocumentNumberParser();
+		}
+		return this.parser;
+	}
+
+	/**
+	 * Parses the document and updates the overflow flag.
+	 *
+	 * @return the result of the parse
+	 */
+	protected final DocumentNumberParser.Result parseDocument()
+	{
+		final DocumentNumberParser.Result result = parse(getParser());
+		this.overflow = result == DocumentNumberParser.Result.OVERFLOW;
+		return result;
+	}
+
+	/**
+	 * Schedules a view update if the model was not changed by this text field. Called by the
+	 * change listener of the primitive number model from any thread.
+	 */
+	protected final void onModelChanged()
+	{
+		if (this.updatingThread == Thread.currentThread())
+		{
+			return;
+		}
+		if (this.viewUpdatePending.compareAndSet(false, true))
+		{
+			SharedSwingTimer.schedule(this.viewUpdatePending, SharedSwingTimer.FRAME_DELAY,
+				this.viewUpdate);
+		}
+	}
+
+	/**
+	 * Applies the current value of the model to the view.
+	 */
+	private void flushViewUpdate()
+	{
+		this.viewUpdatePending.set(false);
+		updateViewFromModel();
+	}
+}
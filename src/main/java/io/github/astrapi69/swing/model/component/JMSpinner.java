@@ -24,6 +24,8 @@
  */
 package io.github.astrapi69.swing.model.component;
 
+import java.util.Objects;
+
 import javax.swing.JComponent;
 import javax.swing.JFormattedTextField;
 import javax.swing.JSpinner;
@@ -33,21 +35,31 @@ import javax.swing.text.DefaultFormatter;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
 import lombok.NonNull;
 
 /**
- * The class {@link JMSpinner} provides a spinner component with an associated model.
+ * The class {@link JMSpinner} provides a spinner component with an associated model. If the
+ * property model is an {@link ObservableModel} its later changes are reflected in the value.
  *
  * @param <T>
  *            the type of the value in the spinner
  */
 public class JMSpinner<T> extends JSpinner
 {
-	/** The model. */
-	IModel<T> propertyModel = BaseModel.of();
+	/** The model, the default model is created on first use. */
+	IModel<T> propertyModel;
+
+	/**
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	ModelViewBinding<T> modelViewBinding;
 
 	/**
-	 * Initializes the spinner and sets the formatter to commit on valid edits. Adds a change
+	 * Initializes the spinner and sets the formatter to commit on valid edits. Registers the shared
 	 * listener to update the model when the spinner's value changes.
 	 */
 	{
@@ -55,12 +67,7 @@ public class JMSpinner<T> extends JSpinner
 		JFormattedTextField field = (JFormattedTextField)comp.getComponent(0);
 		DefaultFormatter formatter = (DefaultFormatter)field.getFormatter();
 		formatter.setCommitsOnValidEdit(true);
-		addChangeListener(e -> {
-			JSpinner s = (JSpinner)e.getSource();
-			@SuppressWarnings("unchecked")
-			T value = (T)s.getValue();
-			propertyModel.setObject(value);
-		});
+		addChangeListener(SharedComponentListener.INSTANCE);
 	}
 
 	/**
@@ -118,7 +125,25 @@ public class JMSpinner<T> extends JSpinner
 	{
 		super(model);
 		this.propertyModel = propertyModel;
-		getModel().setValue(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
+	}
+
+	/**
+	 * Gets the property model. If no property model was set a default model with the current value
+	 * is created, so a spinner that is never bound holds no model.
+	 *
+	 * @return the property model
+	 */
+	@SuppressWarnings("unchecked")
+	public IModel<T> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of((T)getValue());
+		}
+		return this.propertyModel;
 	}
 
 	/**
@@ -131,7 +156,67 @@ public class JMSpinner<T> extends JSpinner
 	public JMSpinner<T> setPropertyModel(final @NonNull IModel<T> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		getModel().setValue(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 		return this;
 	}
+
+	/**
+	 * Called by the shared listener when the value has changed. Pushes the value into the property
+	 * model if a property model exists.
+	 */
+	@SuppressWarnings("unchecked")
+	void onValueChanged()
+	{
+		if (this.propertyModel != null)
+		{
+			Models.setObjectIfChanged(this.propertyModel, (T)getValue());
+		}
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	protected void updateView(final T value)
+	{
+		if (value != null && !Objects.equals(getValue(), value))
+		{
+			setValue(value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
+	}
 }
@@ -24,11 +24,7 @@
  */
 package io.github.astrapi69.swing.model.component;
 
-import javax.swing.event.DocumentEvent;
-
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -110,20 +106,7 @@ public class JMStringTextField extends JMGenericTextField<String>
 	@Override
 	protected void onInitialize()
 	{
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
-		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMStringTextField.this.getPropertyModel() != null)
-				{
-					JMStringTextField.this.getPropertyModel().setObject(toGenericObject(text));
-				}
-			}
-		});
+		observeDocument();
 	}
 
 	/**
@@ -24,12 +24,32 @@
  */
 package io.github.astrapi69.swing.model.component;
 
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 import javax.swing.JTextArea;
+import javax.swing.SwingUtilities;
 import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
+import io.github.astrapi69.swing.model.component.binding.DocumentTextModel;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+import io.github.astrapi69.swing.model.component.binding.TextBindingMode;
+import io.github.astrapi69.swing.model.component.binding.TextEdit;
+import io.github.astrapi69.swing.model.component.document.DocumentTexts;
+import io.github.astrapi69.swing.model.component.document.MappedFileDocument;
+import io.github.astrapi69.swing.model.component.document.MappedFileRange;
+import io.github.astrapi69.swing.model.component.document.MappedFileTextAreaUI;
+import io.github.astrapi69.swing.model.component.document.Rope;
+import io.github.astrapi69.swing.model.component.document.RopeDocument;
 import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
@@ -38,7 +58,13 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
 /**
- * The class {@link JMTextArea} provides a text area component with an associated model.
+ * The class {@link JMTextArea} provides a text area component with an associated model. With the
+ * binding mode {@link TextBindingMode#EDITS} the text area pushes only the edits as
+ * {@link TextEdit} into an edit model instead of copying the whole text into the property model on
+ * every change. With a file range model the text area shows a read-only memory-mapped file range.
+ * With the binding mode {@link TextBindingMode#APPENDS} the text area works as bounded log console
+ * that can be fed from any thread with {@link #appendAsync(String)}. If the property model is an
+ * {@link ObservableModel} its later changes are reflected in the text.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -46,28 +72,81 @@ import lombok.experimental.FieldDefaults;
 public class JMTextArea extends JTextArea
 {
 
-	/** The model. */
-	IModel<String> propertyModel = BaseModel.of();
+	/** The constant for the delay in milliseconds of the flush of the queued appends. */
+	public static final int APPEND_FLUSH_DELAY = SharedSwingTimer.FRAME_DELAY;
+
+	/** The model, the default model is created on first use. */
+	IModel<String> propertyModel;
+
+	/** The model that receives the edits in the binding mode {@link TextBindingMode#EDITS}. */
+	IModel<TextEdit> editModel;
+
+	/** The binding mode that defines what is pushed into the models on a change. */
+	TextBindingMode bindingMode = TextBindingMode.TEXT;
+
+	/** The lazy model for the whole text, created on first use. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	DocumentTextModel documentTextModel;
+
+	/**
+	 * The model that receives the snapshots in the binding mode {@link TextBindingMode#SNAPSHOT}.
+	 */
+	IModel<CharSequence> snapshotModel;
+
+	/** The model of the file range that is shown read-only from a memory-mapped file. */
+	IModel<MappedFileRange> fileRangeModel;
+
+	/** The model that receives the appended chunks in the binding mode APPENDS. */
+	IModel<CharSequence> appendModel;
+
+	/** The maximum number of lines that are kept or zero for an unbounded number of lines. */
+	int maximumLineCount;
+
+	/** The texts that are queued by {@link #appendAsync(String)} and not yet appended. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final ConcurrentLinkedQueue<String> pendingAppends = new ConcurrentLinkedQueue<>();
+
+	/** The flag if a flush of the queued texts is scheduled. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final AtomicBoolean appendFlushScheduled = new AtomicBoolean();
+
+	/** The reused buffer for joining the queued texts. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final StringBuilder appendBuffer = new StringBuilder();
+
+	/**
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	ModelViewBinding<String> modelViewBinding;
 
 	/**
-	 * Initializes the text area and adds a document listener to update the model when the text
-	 * changes.
+	 * The flag that is set while the text is replaced. The events of the document are ignored
+	 * during the replacement, so a replacement results in one model update and not in two. Only
+	 * the binding mode {@link TextBindingMode#EDITS} receives the single edits.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	boolean replacingText;
+
+	/** The document listener of the shared listener that is registered on the document. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	DocumentListener documentListener;
+
+	/**
+	 * Initializes the text area and registers the shared listener to update the model when the
+	 * text changes and to follow a replacement of the document.
 	 */
 	{
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
-		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMTextArea.this.propertyModel != null)
-				{
-					JMTextArea.this.propertyModel.setObject(text);
-				}
-			}
-		});
+		this.documentListener = SharedComponentListener.register(getDocument(), this);
+		addPropertyChangeListener("document", SharedComponentListener.INSTANCE);
 	}
 
 	/**
@@ -87,10 +166,13 @@ public class JMTextArea extends JTextArea
 	public JMTextArea(final @NonNull IModel<String> propertyModel)
 	{
 		this.propertyModel = propertyModel;
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
 	}
 
 	/**
-	 * Constructs a new <code>JMTextArea</code> with the specified text.
+	 * Constructs a new <code>JMTextArea</code> with the specified text. The default model is
+	 * created with the current text on first use.
 	 *
 	 * @param text
 	 *            the text to be displayed
@@ -98,7 +180,6 @@ public class JMTextArea extends JTextArea
 	public JMTextArea(String text)
 	{
 		super(text);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -116,7 +197,7 @@ public class JMTextArea extends JTextArea
 
 	/**
 	 * Constructs a new <code>JMTextArea</code> with the specified text and number of rows and
-	 * columns.
+	 * columns. The default model is created with the current text on first use.
 	 *
 	 * @param text
 	 *            the text to be displayed
@@ -128,7 +209,6 @@ public class JMTextArea extends JTextArea
 	public JMTextArea(String text, int rows, int columns)
 	{
 		super(text, rows, columns);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -149,6 +229,24 @@ public class JMTextArea extends JTextArea
 		super(doc, text, rows, columns);
 	}
 
+	/**
+	 * Gets the property model. If no property model was set a default model with the current text
+	 * is created, so a text area that is never bound holds no model and does not copy its text on
+	 * a change. The default model of a memory-mapped file range is empty.
+	 *
+	 * @return the property model
+	 */
+	public IModel<String> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = isMappedFileRange()
+				? BaseModel.of()
+				: BaseModel.of(DocumentTexts.getText(getDocument()));
+		}
+		return this.propertyModel;
+	}
+
 	/**
 	 * Sets the property model and updates the text area's text.
 	 *
@@ -159,7 +257,616 @@ public class JMTextArea extends JTextArea
 	public JMTextArea setPropertyModel(final @NonNull IModel<String> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		setText(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the old text and the insertion of the new text result in one model update.
+	 * The text of a memory-mapped file range is not changed.
+	 */
+	@Override
+	public void setText(final String text)
+	{
+		if (isMappedFileRange())
+		{
+			return;
+		}
+		// the binding mode is null while the constructor of the super class sets the initial text
+		if (this.replacingText || this.bindingMode == null)
+		{
+			super.setText(text);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.setText(text);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		onTextChanged(getDocument());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the selected text and the insertion of the content result in one model
+	 * update. The text of a memory-mapped file range is not changed.
+	 */
+	@Override
+	public void replaceSelection(final String content)
+	{
+		if (isMappedFileRange())
+		{
+			return;
+		}
+		if (this.replacingText)
+		{
+			super.replaceSelection(content);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.replaceSelection(content);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		onTextChanged(getDocument());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the old text and the insertion of the new text result in one model update.
+	 * The text of a memory-mapped file range is not changed.
+	 */
+	@Override
+	public void replaceRange(final String str, final int start, final int end)
+	{
+		if (isMappedFileRange())
+		{
+			return;
+		}
+		if (this.replacingText)
+		{
+			super.replaceRange(str, start, end);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.replaceRange(str, start, end);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		onTextChanged(getDocument());
+	}
+
+	/**
+	 * Sets the edit model and switches the binding mode to {@link TextBindingMode#EDITS}. From now
+	 * on every change of the document is pushed as {@link TextEdit} into the given edit model and
+	 * the whole text is no more copied into the property model.
+	 *
+	 * @param editModel
+	 *            the new edit model
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setEditModel(final @NonNull IModel<TextEdit> editModel)
+	{
+		this.editModel = editModel;
+		this.bindingMode = TextBindingMode.EDITS;
+		return this;
+	}
+
+	/**
+	 * Sets the binding mode that defines what is pushed into the models on a change.
+	 *
+	 * @param bindingMode
+	 *            the new binding mode
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setBindingMode(final @NonNull TextBindingMode bindingMode)
+	{
+		this.bindingMode = bindingMode;
+		return this;
+	}
+
+	/**
+	 * Sets the snapshot model and switches the binding mode to {@link TextBindingMode#SNAPSHOT}. If
+	 * the current document is not a {@link RopeDocument} its text is moved into a new
+	 * {@link RopeDocument}. From now on every change of the document pushes an immutable
+	 * {@link Rope} snapshot of the whole text into the given snapshot model without copying the
+	 * text.
+	 *
+	 * @param snapshotModel
+	 *            the new snapshot model
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setSnapshotModel(final @NonNull IModel<CharSequence> snapshotModel)
+	{
+		this.snapshotModel = snapshotModel;
+		this.bindingMode = TextBindingMode.SNAPSHOT;
+		useRopeDocument();
+		onSnapshot(getDocument());
+		return this;
+	}
+
+	/**
+	 * Sets the append model and switches the binding mode to {@link TextBindingMode#APPENDS}. If
+	 * the current document is not a {@link RopeDocument} its text is moved into a new
+	 * {@link RopeDocument}, so removing the oldest lines does not move the whole text. From now on
+	 * the chunks that are appended with {@link #appendAsync(String)} are pushed into the given
+	 * append model, the whole text is never copied.
+	 *
+	 * @param appendModel
+	 *            the new append model
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setAppendModel(final @NonNull IModel<CharSequence> appendModel)
+	{
+		this.appendModel = appendModel;
+		this.bindingMode = TextBindingMode.APPENDS;
+		useRopeDocument();
+		return this;
+	}
+
+	/**
+	 * Sets the maximum number of lines that are kept. If more lines are appended the oldest lines
+	 * are removed. Zero means that the number of lines is unbounded.
+	 *
+	 * @param maximumLineCount
+	 *            the maximum number of lines or zero
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setMaximumLineCount(final int maximumLineCount)
+	{
+		if (maximumLineCount < 0)
+		{
+			throw new IllegalArgumentException(
+				"The maximum line count must not be negative: " + maximumLineCount);
+		}
+		this.maximumLineCount = maximumLineCount;
+		if (SwingUtilities.isEventDispatchThread())
+		{
+			removeOldestLines();
+		}
+		return this;
+	}
+
+	/**
+	 * Queues the given text to be appended at the end of the document. This method can be called
+	 * from any thread and does not block. The queued texts are appended together on the event
+	 * dispatch thread at most once per {@link #APPEND_FLUSH_DELAY} milliseconds.
+	 *
+	 * @param text
+	 *            the text to append
+	 */
+	public void appendAsync(final @NonNull String text)
+	{
+		if (text.isEmpty())
+		{
+			return;
+		}
+		this.pendingAppends.offer(text);
+		if (this.appendFlushScheduled.compareAndSet(false, true))
+		{
+			SharedSwingTimer.schedule(this.pendingAppends, APPEND_FLUSH_DELAY,
+				this::flushAppends);
+		}
+	}
+
+	/**
+	 * Appends all texts that are queued by {@link #appendAsync(String)} at the end of the document,
+	 * removes the oldest lines that exceed the maximum line count and pushes the appended chunk
+	 * into the append model. The queued texts are discarded while a memory-mapped file range is
+	 * shown. Must be called on the event dispatch thread.
+	 */
+	public void flushAppends()
+	{
+		this.appendFlushScheduled.set(false);
+		SharedSwingTimer.cancel(this.pendingAppends);
+		if (isMappedFileRange())
+		{
+			this.pendingAppends.clear();
+			return;
+		}
+		String chunk = this.pendingAppends.poll();
+		if (chunk == null)
+		{
+			return;
+		}
+		if (!this.pendingAppends.isEmpty())
+		{
+			this.appendBuffer.append(chunk);
+			for (String next; (next = this.pendingAppends.poll()) != null;)
+			{
+				this.appendBuffer.append(next);
+			}
+			chunk = this.appendBuffer.toString();
+			this.appendBuffer.setLength(0);
+		}
+		final Document document = getDocument();
+		final int keptStart = startOfLastLines(chunk, this.maximumLineCount);
+		final String appended = keptStart == 0 ? chunk : chunk.substring(keptStart);
+		RuntimeExceptionDecorator.decorate(() -> {
+			if (keptStart > 0)
+			{
+				document.remove(0, document.getLength());
+			}
+			document.insertString(document.getLength(), appended, null);
+			return document;
+		});
+		removeOldestLines();
+		if (this.appendModel != null)
+		{
+			this.appendModel.setObject(chunk);
+		}
+	}
+
+	/**
+	 * Removes the oldest lines of the document that exceed the maximum line count with one remove.
+	 */
+	protected void removeOldestLines()
+	{
+		final Document document = getDocument();
+		final Element root = document.getDefaultRootElement();
+		final int excess = root.getElementCount() - this.maximumLineCount;
+		if (this.maximumLineCount == 0 || excess <= 0 || document instanceof MappedFileDocument)
+		{
+			return;
+		}
+		final int end = root.getElement(excess).getStartOffset();
+		RuntimeExceptionDecorator.decorate(() -> {
+			document.remove(0, end);
+			return document;
+		});
+	}
+
+	/**
+	 * Finds the start of the last lines of the given text if the text alone has at least the given
+	 * number of lines, so the lines in front of it would be removed anyway.
+	 *
+	 * @param text
+	 *            the text to append
+	 * @param lineCount
+	 *            the maximum number of lines or zero
+	 * @return the index of the first char that is kept or zero if the whole text is kept
+	 */
+	private static int startOfLastLines(final String text, final int lineCount)
+	{
+		if (lineCount == 0)
+		{
+			return 0;
+		}
+		int lineBreaks = 0;
+		for (int i = text.length() - 1; 0 <= i; i--)
+		{
+			if (text.charAt(i) == '\n' && ++lineBreaks == lineCount)
+			{
+				return i + 1;
+			}
+		}
+		return 0;
+	}
+
+	private void useRopeDocument()
+	{
+		if (!(getDocument() instanceof RopeDocument))
+		{
+			final RopeDocument ropeDocument = new RopeDocument();
+			final String text = getText();
+			RuntimeExceptionDecorator.decorate(() -> {
+				ropeDocument.insertString(0, text, null);
+				return ropeDocument;
+			});
+			setDocument(ropeDocument);
+		}
+	}
+
+	/**
+	 * Sets the file range model and shows the file range of its model object read-only. The file
+	 * range is memory-mapped and only the visible lines are decoded, so even very large files open
+	 * without loading their content to the heap.
+	 *
+	 * @param fileRangeModel
+	 *            the new file range model
+	 * @return the current instance of {@link JMTextArea}
+	 */
+	public JMTextArea setFileRangeModel(final @NonNull IModel<MappedFileRange> fileRangeModel)
+	{
+		this.fileRangeModel = fileRangeModel;
+		final MappedFileRange fileRange = fileRangeModel.getObject();
+		MappedFileDocument document = RuntimeExceptionDecorator
+			.decorate(() -> MappedFileDocument.open(fileRange));
+		setEditable(false);
+		setDocument(document);
+		return this;
+	}
+
+	/**
+	 * Checks if the document is a read-only {@link MappedFileDocument}.
+	 *
+	 * @return true if a memory-mapped file range is shown otherwise false
+	 */
+	private boolean isMappedFileRange()
+	{
+		return getDocument() instanceof MappedFileDocument;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the document is a {@link MappedFileDocument} a {@link MappedFileTextAreaUI} is set
+	 */
+	@Override
+	public void updateUI()
+	{
+		if (getDocument() instanceof MappedFileDocument)
+		{
+			setUI(new MappedFileTextAreaUI());
+			invalidate();
+			return;
+		}
+		super.updateUI();
+	}
+
+	/**
+	 * Gets a model for the whole text of this text area. The text is built lazily on the first
+	 * call of {@link IModel#getObject()} after a change and cached until the next change.
+	 *
+	 * @return the model for the whole text
+	 */
+	public DocumentTextModel getDocumentTextModel()
+	{
+		if (this.documentTextModel == null)
+		{
+			this.documentTextModel = DocumentTextModel.of(this);
+		}
+		return this.documentTextModel;
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed. The new text is not written back into the property
+	 * model. The text of a memory-mapped file range is not changed.
+	 *
+	 * @param text
+	 *            the new text
+	 */
+	protected void updateView(final String text)
+	{
+		if (isMappedFileRange())
+		{
+			return;
+		}
+		final String newText = text != null ? text : "";
+		if (Objects.equals(getText(), newText))
+		{
+			return;
+		}
+		final boolean replacing = this.replacingText;
+		this.replacingText = true;
+		try
+		{
+			super.setText(newText);
+		}
+		finally
+		{
+			this.replacingText = replacing;
+		}
+		if (this.bindingMode != TextBindingMode.TEXT)
+		{
+			onTextChanged(getDocument());
+		}
+	}
+
+	/**
+	 * Called by the shared listener for every change of the document.
+	 *
+	 * @param documentEvent
+	 *            the document event
+	 */
+	void onDocumentChanged(final DocumentEvent documentEvent)
+	{
+		if (this.bindingMode == TextBindingMode.EDITS)
+		{
+			onEdit(documentEvent);
+			return;
+		}
+		if (!this.replacingText)
+		{
+			onTextChanged(documentEvent.getDocument());
+		}
+	}
+
+	/**
+	 * Called by the shared listener when the document is replaced. The shared listener moves to
+	 * the new document and the ui is updated if a {@link MappedFileDocument} is set or removed.
+	 *
+	 * @param oldDocument
+	 *            the replaced document or <code>null</code>
+	 * @param newDocument
+	 *            the new document or <code>null</code>
+	 */
+	void onDocumentReplaced(final Document oldDocument, final Document newDocument)
+	{
+		if (oldDocument != null && this.documentListener != null)
+		{
+			oldDocument.removeDocumentListener(this.documentListener);
+		}
+		this.documentListener = newDocument != null
+			? SharedComponentListener.register(newDocument, this)
+			: null;
+		if (oldDocument instanceof MappedFileDocument
+			|| newDocument instanceof MappedFileDocument)
+		{
+			updateUI();
+		}
+	}
+
+	/**
+	 * Called for every change of the document that is not part of a replacement and once after a
+	 * replacement. Pushes the whole text into the property model or the snapshot into the snapshot
+	 * model depending on the binding mode.
+	 *
+	 * @param document
+	 *            the changed document
+	 */
+	private void onTextChanged(final Document document)
+	{
+		switch (this.bindingMode)
+		{
+			case TEXT :
+				updatePropertyModel(document);
+				break;
+			case SNAPSHOT :
+				onSnapshot(document);
+				break;
+			default :
+				break;
+		}
+	}
+
+	/**
+	 * Pushes the whole text of the given document into the property model. The change of an
+	 * {@link ObservableModel} is not reflected back into the text.
+	 *
+	 * @param document
+	 *            the changed document
+	 */
+	private void updatePropertyModel(final Document document)
+	{
+		if (this.propertyModel == null)
+		{
+			return;
+		}
+		final ModelViewBinding<String> binding = this.modelViewBinding;
+		if (binding != null)
+		{
+			binding.beginModelUpdate();
+		}
+		try
+		{
+			Models.setObjectIfChanged(this.propertyModel, DocumentTexts.getText(document));
+		}
+		finally
+		{
+			if (binding != null)
+			{
+				binding.endModelUpdate();
+			}
+		}
+	}
+
+	/**
+	 * Called in the binding mode {@link TextBindingMode#SNAPSHOT} for every change of the
+	 * document. Pushes the current snapshot of the given document into the snapshot model.
+	 *
+	 * @param document
+	 *            the changed document
+	 */
+	protected void onSnapshot(final Document document)
+	{
+		if (this.snapshotModel == null)
+		{
+			return;
+		}
+		if (document instanceof RopeDocument)
+		{
+			this.snapshotModel.setObject(((RopeDocument)document).getSnapshot());
+		}
+		else
+		{
+			this.snapshotModel.setObject(DocumentTexts.getText(document));
+		}
+	}
+
+	/**
+	 * Called in the binding mode {@link TextBindingMode#EDITS} for every change of the document.
+	 * Creates the {@link TextEdit} from the given event and pushes it into the edit model. Two
+	 * equal edits in a row, for instance a delete at the same offset, are both pushed.
+	 *
+	 * @param documentEvent
+	 *            the document event
+	 */
+	protected void onEdit(final DocumentEvent documentEvent)
+	{
+		if (this.editModel == null)
+		{
+			return;
+		}
+		final int offset = documentEvent.getOffset();
+		final int length = documentEvent.getLength();
+		if (documentEvent.getType() == DocumentEvent.EventType.INSERT)
+		{
+			final Document document = documentEvent.getDocument();
+			String insertedText = DocumentTexts.getText(document, offset, length);
+			pushEdit(TextEdit.insert(offset, insertedText));
+		}
+		else if (documentEvent.getType() == DocumentEvent.EventType.REMOVE)
+		{
+			pushEdit(TextEdit.remove(offset, length));
+		}
+	}
+
+	/**
+	 * Pushes the given edit into the edit model. An {@link ObservableModel} does not notify its
+	 * listeners of an object that is equal to its current object, so its listeners are notified
+	 * explicitly of an edit that is equal to the previous edit.
+	 *
+	 * @param edit
+	 *            the edit to push
+	 */
+	private void pushEdit(final TextEdit edit)
+	{
+		if (this.editModel instanceof ObservableModel<TextEdit> observableModel
+			&& Objects.equals(observableModel.getObject(), edit))
+		{
+			observableModel.fireModelChanged(edit);
+			return;
+		}
+		this.editModel.setObject(edit);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
+	}
 }
@@ -24,13 +24,19 @@
  */
 package io.github.astrapi69.swing.model.component;
 
+import java.util.Objects;
+
 import javax.swing.JTextField;
-import javax.swing.event.DocumentEvent;
 
 import io.github.astrapi69.model.BaseModel;
 import io.github.astrapi69.model.api.IModel;
-import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
-import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import io.github.astrapi69.swing.model.component.binding.BindingActivation;
+import io.github.astrapi69.swing.model.component.binding.CommitPolicy;
+import io.github.astrapi69.swing.model.component.binding.ModelViewBinding;
+import io.github.astrapi69.swing.model.component.binding.Models;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+import io.github.astrapi69.swing.model.component.document.DocumentTexts;
 import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -38,7 +44,10 @@ import lombok.NonNull;
 import lombok.experimental.FieldDefaults;
 
 /**
- * The class {@link JMTextField} provides a text field component with an associated model.
+ * The class {@link JMTextField} provides a text field component with an associated model. When the
+ * text is pushed into the model is defined by the {@link CommitPolicy} of the text field, the
+ * default is {@link CommitPolicy#IMMEDIATE}. If the property model is an {@link ObservableModel}
+ * its later changes are reflected in the text.
  */
 @Getter
 @EqualsAndHashCode(callSuper = true)
@@ -46,28 +55,52 @@ import lombok.experimental.FieldDefaults;
 public class JMTextField extends JTextField
 {
 
-	/** The model. */
-	IModel<String> propertyModel = BaseModel.of();
+	/** The constant for the default quiet period in milliseconds of a debounced commit. */
+	public static final int DEFAULT_COMMIT_DELAY = 300;
+
+	/** The model, the default model is created on first use. */
+	IModel<String> propertyModel;
+
+	/** The policy that defines when the text is pushed into the model. */
+	CommitPolicy commitPolicy = CommitPolicy.IMMEDIATE;
+
+	/** The quiet period in milliseconds for the commit policy {@link CommitPolicy#DEBOUNCED}. */
+	int commitDelay = DEFAULT_COMMIT_DELAY;
+
+	/** The flag that indicates if the text has changed since the last commit. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	boolean dirty;
+
+	/** The task that commits a pending change, created once so scheduling it creates nothing. */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	final Runnable commitTask = this::commit;
+
+	/**
+	 * The binding that reflects the changes of an observable property model in the view, created
+	 * when an observable property model is set.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	ModelViewBinding<String> modelViewBinding;
+
+	/**
+	 * The flag that is set while the text is replaced. The events of the document are ignored
+	 * during the replacement, so a replacement results in one model update and not in two.
+	 */
+	@Getter(AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	boolean replacingText;
 
 	/**
-	 * Initializes the text field and adds a document listener to update the model when the text
-	 * changes.
+	 * Initializes the text field and registers the shared listener to update the model when the
+	 * text changes, on focus lost and on enter depending on the commit policy.
 	 */
 	{
-		getDocument().addDocumentListener(new DocumentListenerAdapter()
-		{
-			@Override
-			public void onDocumentChanged(final DocumentEvent documentEvent)
-			{
-				int currentLength = documentEvent.getDocument().getLength();
-				final String text = RuntimeExceptionDecorator
-					.decorate(() -> documentEvent.getDocument().getText(0, currentLength));
-				if (JMTextField.this.propertyModel != null)
-				{
-					JMTextField.this.propertyModel.setObject(text);
-				}
-			}
-		});
+		SharedComponentListener.register(getDocument(), this);
+		addFocusListener(SharedComponentListener.INSTANCE);
+		addActionListener(SharedComponentListener.INSTANCE);
 	}
 
 	/**
@@ -79,6 +112,7 @@ public class JMTextField extends JTextField
 	public JMTextField(final @NonNull IModel<String> propertyModel)
 	{
 		this.propertyModel = propertyModel;
+		this.modelViewBinding = ModelViewBinding.bind(null, this, this::updateView, propertyModel);
 	}
 
 	/**
@@ -100,7 +134,6 @@ public class JMTextField extends JTextField
 	public JMTextField(String text)
 	{
 		super(text);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -115,7 +148,6 @@ public class JMTextField extends JTextField
 	public JMTextField(String text, int columns)
 	{
 		super(text, columns);
-		this.propertyModel.setObject(text);
 	}
 
 	/**
@@ -152,6 +184,21 @@ public class JMTextField extends JTextField
 		super(doc, text, columns);
 	}
 
+	/**
+	 * Gets the property model. If no property model was set a default model with the current text
+	 * is created, so a text field that is never bound holds no model.
+	 *
+	 * @return the property model
+	 */
+	public IModel<String> getPropertyModel()
+	{
+		if (this.propertyModel == null)
+		{
+			this.propertyModel = BaseModel.of(DocumentTexts.getText(getDocument()));
+		}
+		return this.propertyModel;
+	}
+
 	/**
 	 * Sets the property model and updates the text field's text.
 	 *
@@ -162,7 +209,266 @@ public class JMTextField extends JTextField
 	public JMTextField setPropertyModel(final @NonNull IModel<String> propertyModel)
 	{
 		this.propertyModel = propertyModel;
-		setText(this.propertyModel.getObject());
+		this.modelViewBinding = ModelViewBinding.bind(this.modelViewBinding, this,
+			this::updateView, propertyModel);
+		updateView(this.propertyModel.getObject());
 		return this;
 	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the old text and the insertion of the new text result in one model update.
+	 */
+	@Override
+	public void setText(final String text)
+	{
+		// the commit policy is null while the constructor of the super class sets the initial text
+		if (this.replacingText || this.commitPolicy == null)
+		{
+			super.setText(text);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.setText(text);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		onTextChanged();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The removal of the selected text and the insertion of the content result in one model
+	 * update.
+	 */
+	@Override
+	public void replaceSelection(final String content)
+	{
+		if (this.replacingText)
+		{
+			super.replaceSelection(content);
+			return;
+		}
+		this.replacingText = true;
+		try
+		{
+			super.replaceSelection(content);
+		}
+		finally
+		{
+			this.replacingText = false;
+		}
+		onTextChanged();
+	}
+
+	/**
+	 * Sets the commit policy that defines when the text is pushed into the model. If the new policy
+	 * is {@link CommitPolicy#IMMEDIATE} a pending change is committed immediately.
+	 *
+	 * @param commitPolicy
+	 *            the new commit policy
+	 * @return the current instance of {@link JMTextField}
+	 */
+	public JMTextField setCommitPolicy(final @NonNull CommitPolicy commitPolicy)
+	{
+		this.commitPolicy = commitPolicy;
+		if (commitPolicy == CommitPolicy.IMMEDIATE && this.dirty)
+		{
+			commit();
+		}
+		return this;
+	}
+
+	/**
+	 * Sets the quiet period in milliseconds for the commit policy {@link CommitPolicy#DEBOUNCED}.
+	 *
+	 * @param commitDelay
+	 *            the new quiet period in milliseconds
+	 * @return the current instance of {@link JMTextField}
+	 * @throws IllegalArgumentException
+	 *             if <code>commitDelay</code> &lt; 0
+	 */
+	public JMTextField setCommitDelay(final int commitDelay)
+	{
+		if (commitDelay < 0)
+		{
+			throw new IllegalArgumentException("commitDelay must not be negative");
+		}
+		this.commitDelay = commitDelay;
+		return this;
+	}
+
+	/**
+	 * Checks if the text has changed since the last commit into the model.
+	 *
+	 * @return true if a change is pending otherwise false
+	 */
+	public boolean isCommitPending()
+	{
+		return this.dirty;
+	}
+
+	/**
+	 * Updates the view with the given model object. Called on the event dispatch thread when the
+	 * bound {@link ObservableModel} has changed. The new text is not written back into the model.
+	 * While a commit is pending the text is kept, because the user has typed after the change of
+	 * the model and the pending commit writes the text into the model.
+	 *
+	 * @param text
+	 *            the new text
+	 */
+	protected void updateView(final String text)
+	{
+		if (this.dirty)
+		{
+			return;
+		}
+		final String newText = text != null ? text : "";
+		if (!Objects.equals(getText(), newText))
+		{
+			final boolean replacing = this.replacingText;
+			this.replacingText = true;
+			try
+			{
+				super.setText(newText);
+			}
+			finally
+			{
+				this.replacingText = replacing;
+			}
+		}
+	}
+
+	/**
+	 * Pushes the current text into the property model regardless of the commit policy and cancels
+	 * a pending debounced commit. The model is not changed if it holds already the current text,
+	 * and the change of an {@link ObservableModel} is not reflected back into the text.
+	 */
+	public void commit()
+	{
+		SharedSwingTimer.cancel(this);
+		this.dirty = false;
+		if (this.propertyModel == null)
+		{
+			return;
+		}
+		final ModelViewBinding<String> binding = this.modelViewBinding;
+		if (binding != null)
+		{
+			binding.beginModelUpdate();
+		}
+		try
+		{
+			Models.setObjectIfChanged(this.propertyModel, DocumentTexts.getText(getDocument()));
+		}
+		finally
+		{
+			if (binding != null)
+			{
+				binding.endModelUpdate();
+			}
+		}
+	}
+
+	/**
+	 * Called by the shared listener for every change of the document.
+	 */
+	void onDocumentChanged()
+	{
+		if (!this.replacingText)
+		{
+			onTextChanged();
+		}
+	}
+
+	/**
+	 * Called by the shared listener when this text field loses the focus. A pending change is
+	 * committed with the commit policies {@link CommitPolicy#ON_FOCUS_LOST} and
+	 * {@link CommitPolicy#DEBOUNCED}, with {@link CommitPolicy#ON_ENTER} it stays pending until the
+	 * user presses enter.
+	 */
+	void onFocusLost()
+	{
+		if (this.dirty && (this.commitPolicy == CommitPolicy.ON_FOCUS_LOST
+			|| this.commitPolicy == CommitPolicy.DEBOUNCED))
+		{
+			commit();
+		}
+	}
+
+	/**
+	 * Called by the shared listener when the user presses enter in this text field.
+	 */
+	void onEnter()
+	{
+		if (this.dirty && (this.commitPolicy == CommitPolicy.ON_ENTER
+			|| this.commitPolicy == CommitPolicy.DEBOUNCED))
+		{
+			commit();
+		}
+	}
+
+	/**
+	 * Called when the document of this text field has changed. Depending on the commit policy the
+	 * text is pushed into the model immediately, after the quiet period or marked as pending.
+	 */
+	protected void onTextChanged()
+	{
+		switch (this.commitPolicy)
+		{
+			case IMMEDIATE :
+				commit();
+				break;
+			case DEBOUNCED :
+				this.dirty = true;
+				SharedSwingTimer.schedule(this, this.commitDelay, this.commitTask);
+				break;
+			default :
+				this.dirty = true;
+				break;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Activates the binding that reflects the changes of the property model in the view.
+	 */
+	@Override
+	public void addNotify()
+	{
+		super.addNotify();
+		if (this.modelViewBinding != null)
+		{
+			this.modelViewBinding.activate();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Deactivates the binding that reflects the changes of the property model in the view. With
+	 * the {@link BindingActivation#ON_DISPLAY} a pending change is committed before, because the
+	 * view is synchronized with the model when it is displayed again.
+	 */
+	@Override
+	public void removeNotify()
+	{
+		if (this.modelViewBinding != null)
+		{
+			if (this.dirty
+				&& this.modelViewBinding.getActivation() == BindingActivation.ON_DISPLAY)
+			{
+				commit();
+			}
+			this.modelViewBinding.deactivate();
+		}
+		super.removeNotify();
+	}
 }
@@ -0,0 +1,191 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.awt.event.ItemEvent;
+import java.awt.event.ItemListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+
+import javax.swing.event.ChangeEvent;
+import javax.swing.event.ChangeListener;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+
+import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
+
+/**
+ * The class {@link SharedComponentListener} is the one stateless listener that is shared by all
+ * JM components instead of an own listener instance per component. Focus, action, item, change
+ * and property change events are dispatched to the source of the event.
+ */
+final class SharedComponentListener
+	implements ActionListener, ChangeListener, FocusListener, ItemListener, PropertyChangeListener
+{
+
+	/** The shared instance. */
+	static final SharedComponentListener INSTANCE = new SharedComponentListener();
+
+	private SharedComponentListener()
+	{
+	}
+
+	/**
+	 * Registers the given component for the events of the given document. A document event has no
+	 * component as source, so the document gets one small listener that only holds the component.
+	 *
+	 * @param document
+	 *            the document
+	 * @param owner
+	 *            the component that owns the document
+	 * @return the registered document listener, to remove it if the document is replaced
+	 */
+	static DocumentListener register(final Document document, final Object owner)
+	{
+		final DocumentListener documentListener = new DocumentListenerAdapter()
+		{
+			@Override
+			public void onDocumentChanged(final DocumentEvent documentEvent)
+			{
+				dispatch(owner, documentEvent);
+			}
+		};
+		document.addDocumentListener(documentListener);
+		return documentListener;
+	}
+
+	/**
+	 * Dispatches the given document event to the given component.
+	 *
+	 * @param owner
+	 *            the component
+	 * @param documentEvent
+	 *            the document event
+	 */
+	static void dispatch(final Object owner, final DocumentEvent documentEvent)
+	{
+		if (owner instanceof JMTextField)
+		{
+			((JMTextField)owner).onDocumentChanged();
+		}
+		else if (owner instanceof JMGenericTextField)
+		{
+			((JMGenericTextField<?>)owner).updatePropertyModel();
+		}
+		else if (owner instanceof JMPasswordField)
+		{
+			((JMPasswordField)owner).onDocumentChanged(documentEvent);
+		}
+		else if (owner instanceof JMFormattedTextField)
+		{
+			((JMFormattedTextField)owner).onDocumentChanged(documentEvent);
+		}
+		else if (owner instanceof JMTextArea)
+		{
+			((JMTextArea)owner).onDocumentChanged(documentEvent);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void actionPerformed(final ActionEvent actionEvent)
+	{
+		if (actionEvent.getSource() instanceof JMTextField)
+		{
+			((JMTextField)actionEvent.getSource()).onEnter();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void stateChanged(final ChangeEvent changeEvent)
+	{
+		if (changeEvent.getSource() instanceof JMSpinner)
+		{
+			((JMSpinner<?>)changeEvent.getSource()).onValueChanged();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void focusGained(final FocusEvent focusEvent)
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void focusLost(final FocusEvent focusEvent)
+	{
+		if (focusEvent.getSource() instanceof JMTextField)
+		{
+			((JMTextField)focusEvent.getSource()).onFocusLost();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void propertyChange(final PropertyChangeEvent propertyChangeEvent)
+	{
+		if (propertyChangeEvent.getSource() instanceof JMTextArea
+			&& "document".equals(propertyChangeEvent.getPropertyName()))
+		{
+			((JMTextArea)propertyChangeEvent.getSource()).onDocumentReplaced(
+				(Document)propertyChangeEvent.getOldValue(),
+				(Document)propertyChangeEvent.getNewValue());
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void itemStateChanged(final ItemEvent itemEvent)
+	{
+		final Object source = itemEvent.getSource();
+		if (source instanceof JMCheckBox)
+		{
+			((JMCheckBox)source).onItemStateChanged();
+		}
+		else if (source instanceof JMComboBox)
+		{
+			((JMComboBox<?, ?>)source).onItemStateChanged(itemEvent);
+		}
+	}
+}
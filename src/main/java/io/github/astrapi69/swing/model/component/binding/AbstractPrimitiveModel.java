@@ -0,0 +1,106 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.util.Arrays;
+
+import lombok.NonNull;
+
+/**
+ * The abstract class {@link AbstractPrimitiveModel} holds the listeners of a model for a primitive
+ * value. The listeners are kept in an array that is copied on every change of the listeners, so
+ * notifying the listeners creates no iterator and no other garbage.
+ *
+ * @param <L>
+ *            the type of the listeners
+ */
+public abstract class AbstractPrimitiveModel<L>
+{
+
+	/** The listeners or null if there is no listener. */
+	private transient volatile Object[] listeners;
+
+	/**
+	 * Adds the given listener.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	protected synchronized void addListener(final @NonNull L listener)
+	{
+		final Object[] currentListeners = this.listeners;
+		if (currentListeners == null)
+		{
+			this.listeners = new Object[] { listener };
+			return;
+		}
+		final Object[] newListeners = Arrays.copyOf(currentListeners,
+			currentListeners.length + 1);
+		newListeners[currentListeners.length] = listener;
+		this.listeners = newListeners;
+	}
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	protected synchronized void removeListener(final @NonNull L listener)
+	{
+		final Object[] currentListeners = this.listeners;
+		if (currentListeners == null)
+		{
+			return;
+		}
+		for (int i = 0; i < currentListeners.length; i++)
+		{
+			if (currentListeners[i] == listener)
+			{
+				if (currentListeners.length == 1)
+				{
+					this.listeners = null;
+					return;
+				}
+				final Object[] newListeners = new Object[currentListeners.length - 1];
+				System.arraycopy(currentListeners, 0, newListeners, 0, i);
+				System.arraycopy(currentListeners, i + 1, newListeners, i,
+					currentListeners.length - i - 1);
+				this.listeners = newListeners;
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Gets the current listeners. The returned array must not be modified.
+	 *
+	 * @return the current listeners or null if there is no listener
+	 */
+	protected Object[] getListeners()
+	{
+		return this.listeners;
+	}
+}
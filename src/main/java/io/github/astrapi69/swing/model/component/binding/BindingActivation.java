@@ -0,0 +1,49 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+/**
+ * The enum {@link BindingActivation} defines when a component starts to observe its property
+ * model, so that the changes of the model are reflected in the view.
+ */
+public enum BindingActivation
+{
+
+	/**
+	 * The component observes the model as soon as the model is set, also if the component is never
+	 * displayed. This is the default behavior.
+	 */
+	IMMEDIATE,
+
+	/**
+	 * The component observes the model only while it is displayable, that is from
+	 * <code>addNotify</code> to <code>removeNotify</code>. The model holds no listener of a
+	 * component that is not displayed, so binding many components to one model is cheap and a
+	 * hidden form is not updated at all. When the component is displayed again the view is
+	 * synchronized with the current model object.
+	 */
+	ON_DISPLAY
+
+}
@@ -0,0 +1,56 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+/**
+ * The enum {@link CommitPolicy} defines when a text component pushes the content of its document
+ * into the associated property model.
+ */
+public enum CommitPolicy
+{
+
+	/**
+	 * The model is updated on every change of the document. This is the default behavior.
+	 */
+	IMMEDIATE,
+
+	/**
+	 * The model is updated after the document was not changed for a configurable quiet period. A
+	 * pending update is committed immediately if the component loses the focus or the user presses
+	 * enter.
+	 */
+	DEBOUNCED,
+
+	/**
+	 * The model is updated when the component loses the focus.
+	 */
+	ON_FOCUS_LOST,
+
+	/**
+	 * The model is updated when the user presses enter in the component.
+	 */
+	ON_ENTER
+
+}
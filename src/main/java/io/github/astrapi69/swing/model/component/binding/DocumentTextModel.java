@@ -0,0 +1,140 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
+import javax.swing.text.JTextComponent;
+
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
+import io.github.astrapi69.throwable.RuntimeExceptionDecorator;
+import lombok.NonNull;
+
+/**
+ * The class {@link DocumentTextModel} is a model for the text of a {@link JTextComponent} that
+ * builds the text lazily. The text is only copied out of the document on the first call of
+ * {@link #getObject()} after a change and is cached until the next change of the document.
+ */
+public class DocumentTextModel implements IModel<String>
+{
+
+	/** The text component. */
+	private final JTextComponent textComponent;
+
+	/** The listener that invalidates the cached text. */
+	private final DocumentListener invalidationListener = new DocumentListenerAdapter()
+	{
+		@Override
+		public void onDocumentChanged(final DocumentEvent documentEvent)
+		{
+			DocumentTextModel.this.text = null;
+		}
+	};
+
+	/** The cached text, null if the text has to be read from the document. */
+	private String text;
+
+	/** The document the invalidation listener is registered with. */
+	private Document document;
+
+	/**
+	 * Constructs a new <code>DocumentTextModel</code> for the given text component.
+	 *
+	 * @param textComponent
+	 *            the text component
+	 */
+	public DocumentTextModel(final @NonNull JTextComponent textComponent)
+	{
+		this.textComponent = textComponent;
+		register(textComponent.getDocument());
+		textComponent.addPropertyChangeListener("document",
+			event -> register((Document)event.getNewValue()));
+	}
+
+	/**
+	 * Factory method for create a new {@link DocumentTextModel} for the given text component.
+	 *
+	 * @param textComponent
+	 *            the text component
+	 * @return the new {@link DocumentTextModel}
+	 */
+	public static DocumentTextModel of(final @NonNull JTextComponent textComponent)
+	{
+		return new DocumentTextModel(textComponent);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getObject()
+	{
+		if (this.text == null)
+		{
+			final Document currentDocument = this.document;
+			this.text = RuntimeExceptionDecorator
+				.decorate(() -> currentDocument.getText(0, currentDocument.getLength()));
+		}
+		return this.text;
+	}
+
+	/**
+	 * Sets the given text to the text component.
+	 *
+	 * @param object
+	 *            the new text
+	 */
+	@Override
+	public void setObject(final String object)
+	{
+		this.textComponent.setText(object);
+	}
+
+	/**
+	 * Checks if the text is currently cached.
+	 *
+	 * @return true if the text is cached otherwise false
+	 */
+	public boolean isCached()
+	{
+		return this.text != null;
+	}
+
+	private void register(final Document newDocument)
+	{
+		if (this.document != null)
+		{
+			this.document.removeDocumentListener(this.invalidationListener);
+		}
+		this.document = newDocument;
+		this.text = null;
+		if (newDocument != null)
+		{
+			newDocument.addDocumentListener(this.invalidationListener);
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import io.github.astrapi69.model.api.IModel;
+
+/**
+ * The interface {@link DoubleModel} is a model for a primitive double value. A component that is
+ * bound to a {@link DoubleModel} reads and writes the value with {@link #getDouble()} and
+ * {@link #setDouble(double)} without boxing. The methods of {@link IModel} are implemented for
+ * compatibility and box the value.
+ */
+public interface DoubleModel extends IModel<Double>
+{
+
+	/**
+	 * Factory method for create a new {@link DoubleModel} with the value 0.
+	 *
+	 * @return the new {@link DoubleModel}
+	 */
+	static DoubleModel of()
+	{
+		return new DoubleValueModel();
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleModel} with the given value.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the new {@link DoubleModel}
+	 */
+	static DoubleModel of(final double value)
+	{
+		return new DoubleValueModel(value);
+	}
+
+	/**
+	 * Gets the value.
+	 *
+	 * @return the value
+	 */
+	double getDouble();
+
+	/**
+	 * Sets the value and notifies the listeners if the value has changed.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	void setDouble(double value);
+
+	/**
+	 * Adds the given listener.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	void addDoubleChangeListener(DoubleChangeListener listener);
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	void removeDoubleChangeListener(DoubleChangeListener listener);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	default Double getObject()
+	{
+		return Double.valueOf(getDouble());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A <code>null</code> object sets the value 0.
+	 */
+	@Override
+	default void setObject(final Double object)
+	{
+		setDouble(object == null ? 0.0d : object);
+	}
+}
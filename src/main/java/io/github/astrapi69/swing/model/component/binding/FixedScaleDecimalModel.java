@@ -0,0 +1,252 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import io.github.astrapi69.model.api.IModel;
+import lombok.NonNull;
+
+/**
+ * The class {@link FixedScaleDecimalModel} is a model for a decimal value with a fixed scale, for
+ * instance a currency amount with two fraction digits. The value is stored as an unscaled long, so
+ * reading, writing and adding values creates no garbage. A {@link BigDecimal} is only created at
+ * the boundary of {@link IModel} with {@link #getObject()} and {@link #setObject(BigDecimal)}.
+ * <p>
+ * The value can be changed from any thread, the listeners are notified with the new unscaled value
+ * on the thread that changed the value.
+ */
+public class FixedScaleDecimalModel extends AbstractPrimitiveModel<LongChangeListener>
+	implements IModel<BigDecimal>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The maximum scale, a larger power of ten does not fit into a long. */
+	public static final int MAXIMUM_SCALE = 18;
+
+	/** The number of fraction digits. */
+	private final int scale;
+
+	/** The unscaled value. */
+	private volatile long unscaledValue;
+
+	/**
+	 * Constructs a new <code>FixedScaleDecimalModel</code> with the given unscaled value and scale.
+	 *
+	 * @param unscaledValue
+	 *            the unscaled value
+	 * @param scale
+	 *            the number of fraction digits between 0 and {@link #MAXIMUM_SCALE}
+	 */
+	public FixedScaleDecimalModel(final long unscaledValue, final int scale)
+	{
+		if (scale < 0 || MAXIMUM_SCALE < scale)
+		{
+			throw new IllegalArgumentException(
+				"scale must be between 0 and " + MAXIMUM_SCALE + ": " + scale);
+		}
+		this.unscaledValue = unscaledValue;
+		this.scale = scale;
+	}
+
+	/**
+	 * Factory method for create a new {@link FixedScaleDecimalModel} with the value 0 and the given
+	 * scale.
+	 *
+	 * @param scale
+	 *            the number of fraction digits between 0 and {@link #MAXIMUM_SCALE}
+	 * @return the new {@link FixedScaleDecimalModel}
+	 */
+	public static FixedScaleDecimalModel of(final int scale)
+	{
+		return new FixedScaleDecimalModel(0L, scale);
+	}
+
+	/**
+	 * Factory method for create a new {@link FixedScaleDecimalModel} with the given unscaled value
+	 * and scale.
+	 *
+	 * @param unscaledValue
+	 *            the unscaled value
+	 * @param scale
+	 *            the number of fraction digits between 0 and {@link #MAXIMUM_SCALE}
+	 * @return the new {@link FixedScaleDecimalModel}
+	 */
+	public static FixedScaleDecimalModel of(final long unscaledValue, final int scale)
+	{
+		return new FixedScaleDecimalModel(unscaledValue, scale);
+	}
+
+	/**
+	 * Factory method for create a new {@link FixedScaleDecimalModel} with the given value and
+	 * scale.
+	 *
+	 * @param value
+	 *            the value, it must not have more fraction digits than the scale
+	 * @param scale
+	 *            the number of fraction digits between 0 and {@link #MAXIMUM_SCALE}
+	 * @return the new {@link FixedScaleDecimalModel}
+	 * @throws ArithmeticException
+	 *             if the value needs rounding or does not fit into the model
+	 */
+	public static FixedScaleDecimalModel of(final @NonNull BigDecimal value, final int scale)
+	{
+		FixedScaleDecimalModel model = of(scale);
+		model.setObject(value);
+		return model;
+	}
+
+	/**
+	 * Adds the unscaled values of the given models without creating any {@link BigDecimal}.
+	 *
+	 * @param scale
+	 *            the scale of all models
+	 * @param models
+	 *            the models to add
+	 * @return the sum of the unscaled values with the given scale
+	 * @throws IllegalArgumentException
+	 *             if a model has another scale
+	 * @throws ArithmeticException
+	 *             if the sum does not fit into a long
+	 */
+	public static long sumUnscaledValues(final int scale,
+		final @NonNull Iterable<? extends FixedScaleDecimalModel> models)
+	{
+		long sum = 0L;
+		for (FixedScaleDecimalModel model : models)
+		{
+			if (model.scale != scale)
+			{
+				throw new IllegalArgumentException(
+					"model has the scale " + model.scale + " instead of " + scale);
+			}
+			sum = Math.addExact(sum, model.unscaledValue);
+		}
+		return sum;
+	}
+
+	/**
+	 * Gets the number of fraction digits.
+	 *
+	 * @return the number of fraction digits
+	 */
+	public int getScale()
+	{
+		return this.scale;
+	}
+
+	/**
+	 * Gets the unscaled value.
+	 *
+	 * @return the unscaled value
+	 */
+	public long getUnscaledValue()
+	{
+		return this.unscaledValue;
+	}
+
+	/**
+	 * Sets the unscaled value and notifies the listeners if the value has changed.
+	 *
+	 * @param unscaledValue
+	 *            the new unscaled value
+	 */
+	public void setUnscaledValue(final long unscaledValue)
+	{
+		if (this.unscaledValue == unscaledValue)
+		{
+			return;
+		}
+		this.unscaledValue = unscaledValue;
+		final Object[] listeners = getListeners();
+		if (listeners == null)
+		{
+			return;
+		}
+		for (Object listener : listeners)
+		{
+			((LongChangeListener)listener).longChanged(unscaledValue);
+		}
+	}
+
+	/**
+	 * Adds the given listener that is notified with the new unscaled value.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	public void addUnscaledValueChangeListener(final @NonNull LongChangeListener listener)
+	{
+		addListener(listener);
+	}
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	public void removeUnscaledValueChangeListener(final @NonNull LongChangeListener listener)
+	{
+		removeListener(listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Creates a new {@link BigDecimal} with the scale of this model.
+	 */
+	@Override
+	public BigDecimal getObject()
+	{
+		return BigDecimal.valueOf(this.unscaledValue, this.scale);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A <code>null</code> object sets the value 0.
+	 *
+	 * @throws ArithmeticException
+	 *             if the object has more fraction digits than the scale or does not fit into the
+	 *             model
+	 */
+	@Override
+	public void setObject(final BigDecimal object)
+	{
+		if (object == null)
+		{
+			setUnscaledValue(0L);
+			return;
+		}
+		setUnscaledValue(
+			object.setScale(this.scale, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link IntValueModel} is the default implementation of {@link IntModel} that holds
+ * the value in a volatile field. The value can be changed from any thread, the listeners are
+ * notified on the thread that changed the value.
+ */
+public class IntValueModel extends AbstractPrimitiveModel<IntChangeListener> implements IntModel
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The value. */
+	private volatile int value;
+
+	/**
+	 * Constructs a new <code>IntValueModel</code> with the value 0.
+	 */
+	public IntValueModel()
+	{
+	}
+
+	/**
+	 * Constructs a new <code>IntValueModel</code> with the given value.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public IntValueModel(final int value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getInt()
+	{
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Nothing is changed if the given value is equal to the current value.
+	 */
+	@Override
+	public void setInt(final int value)
+	{
+		if (this.value == value)
+		{
+			return;
+		}
+		this.value = value;
+		final Object[] listeners = getListeners();
+		if (listeners == null)
+		{
+			return;
+		}
+		for (Object listener : listeners)
+		{
+			((IntChangeListener)listener).intChanged(value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addIntChangeListener(final @NonNull IntChangeListener listener)
+	{
+		addListener(listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeIntChangeListener(final @NonNull IntChangeListener listener)
+	{
+		removeListener(listener);
+	}
+}
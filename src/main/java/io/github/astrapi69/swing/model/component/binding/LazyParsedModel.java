@@ -0,0 +1,311 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import io.github.astrapi69.model.api.IModel;
+import lombok.NonNull;
+
+/**
+ * The class {@link LazyParsedModel} is a model whose object is parsed from the text of a
+ * {@link Document} only when it is read. An edit of the document only invalidates the cached
+ * object with {@link #invalidate(Document)}, the text is read and parsed on the next call of
+ * {@link #getObject()} or {@link #isValid()} and cached until the next edit. So typing or pasting
+ * a very long number costs nothing until the value is needed, for instance on submit.
+ * <p>
+ * If a background parse threshold is set, a document with at least this number of characters is
+ * parsed in the background after an edit, so the value is ready when it is read. A text that can
+ * not be parsed results in a <code>null</code> object and {@link #isValid()} returns false.
+ *
+ * @param <T>
+ *            the type of the model object
+ */
+public class LazyParsedModel<T> implements IModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The constant for no background parse. */
+	public static final int NO_BACKGROUND_PARSE = 0;
+
+	/** The function that parses a text to the model object. */
+	private final Function<String, T> parser;
+
+	/** The minimum length of a text that is parsed in the background, 0 for never. */
+	private final int backgroundParseThreshold;
+
+	/** The number of edits, changed on every invalidation and on every set object. */
+	private final AtomicLong edits = new AtomicLong();
+
+	/** The flag if a background parse is scheduled. */
+	private final AtomicBoolean backgroundParseScheduled = new AtomicBoolean();
+
+	/** The document whose text is parsed on the next read. */
+	private transient volatile Document document;
+
+	/** The number of edits that are reflected in the cached object. */
+	private volatile long parsedEdits;
+
+	/** The cached object. */
+	private volatile T object;
+
+	/** The flag if the cached object was parsed successfully. */
+	private volatile boolean valid = true;
+
+	/**
+	 * Constructs a new <code>LazyParsedModel</code> with the given parser and background parse
+	 * threshold.
+	 *
+	 * @param parser
+	 *            the function that parses a text to the model object, it has to throw an
+	 *            {@link IllegalArgumentException} if the text can not be parsed
+	 * @param backgroundParseThreshold
+	 *            the minimum length of a text that is parsed in the background or
+	 *            {@link #NO_BACKGROUND_PARSE}
+	 */
+	public LazyParsedModel(final @NonNull Function<String, T> parser,
+		final int backgroundParseThreshold)
+	{
+		if (backgroundParseThreshold < 0)
+		{
+			throw new IllegalArgumentException(
+				"backgroundParseThreshold must not be negative: " + backgroundParseThreshold);
+		}
+		this.parser = parser;
+		this.backgroundParseThreshold = backgroundParseThreshold;
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyParsedModel} without a background parse.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param parser
+	 *            the function that parses a text to the model object
+	 * @return the new {@link LazyParsedModel}
+	 */
+	public static <T> LazyParsedModel<T> of(final @NonNull Function<String, T> parser)
+	{
+		return new LazyParsedModel<>(parser, NO_BACKGROUND_PARSE);
+	}
+
+	/**
+	 * Factory method for create a new {@link LazyParsedModel} that parses texts with at least the
+	 * given length in the background.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param parser
+	 *            the function that parses a text to the model object
+	 * @param backgroundParseThreshold
+	 *            the minimum length of a text that is parsed in the background
+	 * @return the new {@link LazyParsedModel}
+	 */
+	public static <T> LazyParsedModel<T> of(final @NonNull Function<String, T> parser,
+		final int backgroundParseThreshold)
+	{
+		return new LazyParsedModel<>(parser, backgroundParseThreshold);
+	}
+
+	/**
+	 * Invalidates the cached object after an edit of the given document. The text of the document
+	 * is parsed on the next read, or in the background if the document is long enough.
+	 *
+	 * @param document
+	 *            the edited document
+	 */
+	public void invalidate(final @NonNull Document document)
+	{
+		this.document = document;
+		this.edits.incrementAndGet();
+		if (this.backgroundParseThreshold != NO_BACKGROUND_PARSE
+			&& this.backgroundParseThreshold <= document.getLength())
+		{
+			scheduleBackgroundParse();
+		}
+	}
+
+	/**
+	 * Checks if the text of the last edit is not parsed yet.
+	 *
+	 * @return true if the next read parses the text otherwise false
+	 */
+	public boolean isParsePending()
+	{
+		return this.parsedEdits != this.edits.get();
+	}
+
+	/**
+	 * Checks if the current text could be parsed. The text is parsed if necessary.
+	 *
+	 * @return true if the current text could be parsed otherwise false
+	 */
+	public boolean isValid()
+	{
+		parseIfPending();
+		return this.valid;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The text of the last edit is parsed if necessary.
+	 */
+	@Override
+	public T getObject()
+	{
+		parseIfPending();
+		return this.object;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The given object replaces the cached object until the next edit.
+	 */
+	@Override
+	public synchronized void setObject(final T object)
+	{
+		this.object = object;
+		this.valid = true;
+		this.parsedEdits = this.edits.incrementAndGet();
+	}
+
+	/**
+	 * Parses the text of the document if an edit is not reflected in the cached object. An edit
+	 * during the parse leaves the model pending, so the newer text is parsed on the next read.
+	 */
+	private void parseIfPending()
+	{
+		if (!isParsePending())
+		{
+			return;
+		}
+		synchronized (this)
+		{
+			final long currentEdits = this.edits.get();
+			if (this.parsedEdits == currentEdits)
+			{
+				return;
+			}
+			final String text = readText(this.document);
+			T parsed;
+			boolean parsedValid;
+			try
+			{
+				parsed = this.parser.apply(text);
+				parsedValid = true;
+			}
+			catch (IllegalArgumentException exception)
+			{
+				parsed = null;
+				parsedValid = false;
+			}
+			this.object = parsed;
+			this.valid = parsedValid;
+			this.parsedEdits = currentEdits;
+		}
+	}
+
+	/**
+	 * Schedules a parse in the background if no parse is scheduled yet.
+	 */
+	private void scheduleBackgroundParse()
+	{
+		if (this.backgroundParseScheduled.compareAndSet(false, true))
+		{
+			getBackgroundExecutor().execute(this::backgroundParse);
+		}
+	}
+
+	/**
+	 * Parses the text in the background and reschedules itself if the document was edited during
+	 * the parse.
+	 */
+	private void backgroundParse()
+	{
+		try
+		{
+			parseIfPending();
+		}
+		finally
+		{
+			this.backgroundParseScheduled.set(false);
+		}
+		if (isParsePending())
+		{
+			scheduleBackgroundParse();
+		}
+	}
+
+	/**
+	 * Gets the executor for the background parse.
+	 *
+	 * @return the executor for the background parse
+	 */
+	protected Executor getBackgroundExecutor()
+	{
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Reads the whole text of the given document under its read lock, so the text can be read
+	 * from any thread.
+	 *
+	 * @param document
+	 *            the document
+	 * @return the text of the document
+	 */
+	private static String readText(final Document document)
+	{
+		if (document == null)
+		{
+			return "";
+		}
+		final String[] text = new String[1];
+		document.render(() -> {
+			try
+			{
+				text[0] = document.getText(0, document.getLength());
+			}
+			catch (BadLocationException exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		});
+		return text[0];
+	}
+}
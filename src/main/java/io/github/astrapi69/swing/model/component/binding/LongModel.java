@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import io.github.astrapi69.model.api.IModel;
+
+/**
+ * The interface {@link LongModel} is a model for a primitive long value. A component that is bound
+ * to a {@link LongModel} reads and writes the value with {@link #getLong()} and
+ * {@link #setLong(long)} without boxing. The methods of {@link IModel} are implemented for
+ * compatibility and box the value.
+ */
+public interface LongModel extends IModel<Long>
+{
+
+	/**
+	 * Factory method for create a new {@link LongModel} with the value 0.
+	 *
+	 * @return the new {@link LongModel}
+	 */
+	static LongModel of()
+	{
+		return new LongValueModel();
+	}
+
+	/**
+	 * Factory method for create a new {@link LongModel} with the given value.
+	 *
+	 * @param value
+	 *            the value
+	 * @return the new {@link LongModel}
+	 */
+	static LongModel of(final long value)
+	{
+		return new LongValueModel(value);
+	}
+
+	/**
+	 * Gets the value.
+	 *
+	 * @return the value
+	 */
+	long getLong();
+
+	/**
+	 * Sets the value and notifies the listeners if the value has changed.
+	 *
+	 * @param value
+	 *            the new value
+	 */
+	void setLong(long value);
+
+	/**
+	 * Adds the given listener.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	void addLongChangeListener(LongChangeListener listener);
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	void removeLongChangeListener(LongChangeListener listener);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	default Long getObject()
+	{
+		return Long.valueOf(getLong());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A <code>null</code> object sets the value 0.
+	 */
+	@Override
+	default void setObject(final Long object)
+	{
+		setLong(object == null ? 0L : object);
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link LongValueModel} is the default implementation of {@link LongModel} that holds
+ * the value in a volatile field. The value can be changed from any thread, the listeners are
+ * notified on the thread that changed the value.
+ */
+public class LongValueModel extends AbstractPrimitiveModel<LongChangeListener> implements LongModel
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The value. */
+	private volatile long value;
+
+	/**
+	 * Constructs a new <code>LongValueModel</code> with the value 0.
+	 */
+	public LongValueModel()
+	{
+	}
+
+	/**
+	 * Constructs a new <code>LongValueModel</code> with the given value.
+	 *
+	 * @param value
+	 *            the value
+	 */
+	public LongValueModel(final long value)
+	{
+		this.value = value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long getLong()
+	{
+		return this.value;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Nothing is changed if the given value is equal to the current value.
+	 */
+	@Override
+	public void setLong(final long value)
+	{
+		if (this.value == value)
+		{
+			return;
+		}
+		this.value = value;
+		final Object[] listeners = getListeners();
+		if (listeners == null)
+		{
+			return;
+		}
+		for (Object listener : listeners)
+		{
+			((LongChangeListener)listener).longChanged(value);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addLongChangeListener(final @NonNull LongChangeListener listener)
+	{
+		addListener(listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeLongChangeListener(final @NonNull LongChangeListener listener)
+	{
+		removeListener(listener);
+	}
+}
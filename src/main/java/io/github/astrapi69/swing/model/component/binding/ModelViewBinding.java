@@ -0,0 +1,397 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.awt.Component;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import io.github.astrapi69.model.api.IModel;
+import lombok.NonNull;
+
+/**
+ * The class {@link ModelViewBinding} reflects the changes of an {@link ObservableModel} in a view.
+ * The changes can come from any thread. They are marshalled to the event dispatch thread and
+ * coalesced, only the latest value is applied to the view at most once per
+ * {@link SharedSwingTimer#FRAME_DELAY} milliseconds. So a model that is changed thousands of times
+ * per second results in at most one view update per frame.
+ * <p>
+ * With the {@link BindingActivation#ON_DISPLAY} the binding observes its model only while it is
+ * activated. The component activates the binding in <code>addNotify</code> and deactivates it in
+ * <code>removeNotify</code>, and on activation the view is synchronized with the current model
+ * object.
+ * <p>
+ * The binding is registered at the model through the {@link WeakBindingRegistry}, so the model
+ * references the binding and its component only weakly and does not keep a discarded component
+ * reachable.
+ * <p>
+ * The component writes its own value into the model between {@link #beginModelUpdate()} and
+ * {@link #endModelUpdate()}. This change is not reflected back, so a value that arrives a frame
+ * later can not overwrite what the user typed in the meantime.
+ *
+ * @param <T>
+ *            the type of the model object
+ */
+public final class ModelViewBinding<T> implements ModelChangeListener<T>
+{
+
+	/** The marker for no pending value, a pending value can be null. */
+	private static final Object NO_VALUE = new Object();
+
+	/** The activation of the bindings that are created without an explicit activation. */
+	private static volatile BindingActivation defaultActivation = BindingActivation.IMMEDIATE;
+
+	/** The pending value that is applied to the view with the next update. */
+	private final AtomicReference<Object> pendingValue = new AtomicReference<>(NO_VALUE);
+
+	/** The consumer that applies a value to the view on the event dispatch thread. */
+	private final Consumer<T> viewUpdater;
+
+	/** The activation of this binding. */
+	private final BindingActivation activation;
+
+	/** The owner of this binding for diagnostics or null. */
+	private final Component owner;
+
+	/** The bound model. */
+	private volatile ObservableModel<T> model;
+
+	/** The registration at the bound model while this binding observes it. */
+	private volatile WeakBindingRegistry.Binding registration;
+
+	/** The flag if this binding observes its model. */
+	private volatile boolean active;
+
+	/** The thread that writes the value of the view into the model or null. */
+	private volatile Thread updatingThread;
+
+	private ModelViewBinding(final BindingActivation activation, final Component owner,
+		final Consumer<T> viewUpdater)
+	{
+		this.activation = activation;
+		this.owner = owner;
+		this.viewUpdater = viewUpdater;
+		this.active = activation == BindingActivation.IMMEDIATE;
+	}
+
+	/**
+	 * Factory method for create a new unbound {@link ModelViewBinding} with the default
+	 * activation.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param viewUpdater
+	 *            the consumer that applies a value to the view on the event dispatch thread
+	 * @return the new {@link ModelViewBinding}
+	 */
+	public static <T> ModelViewBinding<T> of(final @NonNull Consumer<T> viewUpdater)
+	{
+		return of(defaultActivation, viewUpdater);
+	}
+
+	/**
+	 * Factory method for create a new unbound {@link ModelViewBinding} with the given activation.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param activation
+	 *            the activation
+	 * @param viewUpdater
+	 *            the consumer that applies a value to the view on the event dispatch thread
+	 * @return the new {@link ModelViewBinding}
+	 */
+	public static <T> ModelViewBinding<T> of(final @NonNull BindingActivation activation,
+		final @NonNull Consumer<T> viewUpdater)
+	{
+		return new ModelViewBinding<>(activation, null, viewUpdater);
+	}
+
+	/**
+	 * Factory method for create a new unbound {@link ModelViewBinding} of the given component
+	 * with the default activation. The component is listed as the owner of the binding in the
+	 * {@link WeakBindingRegistry}.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param owner
+	 *            the component that holds the binding
+	 * @param viewUpdater
+	 *            the consumer that applies a value to the view on the event dispatch thread
+	 * @return the new {@link ModelViewBinding}
+	 */
+	public static <T> ModelViewBinding<T> of(final @NonNull Component owner,
+		final @NonNull Consumer<T> viewUpdater)
+	{
+		return new ModelViewBinding<>(defaultActivation, owner, viewUpdater);
+	}
+
+	/**
+	 * Binds the given binding of the given component to the given model. If the binding does not
+	 * exist yet it is created only if the model is an {@link ObservableModel}, so a component that
+	 * is bound to a model that can not be observed holds no binding at all. A binding that is
+	 * created for a displayable component is activated immediately.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param binding
+	 *            the current binding of the component or null
+	 * @param owner
+	 *            the component
+	 * @param viewUpdater
+	 *            the consumer that applies a value to the view on the event dispatch thread
+	 * @param model
+	 *            the model to bind
+	 * @return the binding of the component or null if the component needs no binding
+	 */
+	public static <T> ModelViewBinding<T> bind(final ModelViewBinding<T> binding,
+		final @NonNull Component owner, final @NonNull Consumer<T> viewUpdater,
+		final IModel<T> model)
+	{
+		if (binding != null)
+		{
+			binding.bind(model);
+			return binding;
+		}
+		if (!(model instanceof ObservableModel))
+		{
+			return null;
+		}
+		final ModelViewBinding<T> newBinding = of(owner, viewUpdater);
+		newBinding.bind(model);
+		if (owner.isDisplayable())
+		{
+			newBinding.activate();
+		}
+		return newBinding;
+	}
+
+	/**
+	 * Gets the activation of the bindings that are created without an explicit activation.
+	 *
+	 * @return the default activation
+	 */
+	public static BindingActivation getDefaultActivation()
+	{
+		return defaultActivation;
+	}
+
+	/**
+	 * Sets the activation of the bindings that are created without an explicit activation. Only
+	 * the components that are created afterwards are affected, so this is typically set once
+	 * before a large form is built.
+	 *
+	 * @param activation
+	 *            the new default activation
+	 */
+	public static void setDefaultActivation(final @NonNull BindingActivation activation)
+	{
+		defaultActivation = activation;
+	}
+
+	/**
+	 * Binds this binding to the given model and unbinds it from the previous model. If the given
+	 * model is not an {@link ObservableModel} this binding stays unbound, because the changes of
+	 * the model can not be observed.
+	 *
+	 * @param model
+	 *            the model to bind
+	 */
+	public void bind(final IModel<T> model)
+	{
+		unbind();
+		if (model instanceof ObservableModel)
+		{
+			ObservableModel<T> observableModel = (ObservableModel<T>)model;
+			if (this.active)
+			{
+				register(observableModel);
+			}
+			this.model = observableModel;
+		}
+	}
+
+	/**
+	 * Unbinds this binding from its model and discards a pending value.
+	 */
+	public void unbind()
+	{
+		unregister();
+		this.model = null;
+		discardPendingValue();
+	}
+
+	/**
+	 * Activates this binding, called from <code>addNotify</code> of the component. With the
+	 * {@link BindingActivation#ON_DISPLAY} the binding starts to observe its model and the view is
+	 * synchronized with the current model object. Must be called on the event dispatch thread.
+	 */
+	public void activate()
+	{
+		if (this.active)
+		{
+			return;
+		}
+		this.active = true;
+		ObservableModel<T> currentModel = this.model;
+		if (currentModel != null)
+		{
+			register(currentModel);
+			this.viewUpdater.accept(currentModel.getObject());
+		}
+	}
+
+	/**
+	 * Deactivates this binding, called from <code>removeNotify</code> of the component. With the
+	 * {@link BindingActivation#ON_DISPLAY} the binding stops to observe its model and discards a
+	 * pending value, with the {@link BindingActivation#IMMEDIATE} nothing is changed.
+	 */
+	public void deactivate()
+	{
+		if (this.activation != BindingActivation.ON_DISPLAY || !this.active)
+		{
+			return;
+		}
+		this.active = false;
+		unregister();
+		discardPendingValue();
+	}
+
+	/**
+	 * Gets the activation of this binding.
+	 *
+	 * @return the activation
+	 */
+	public BindingActivation getActivation()
+	{
+		return this.activation;
+	}
+
+	/**
+	 * Checks if this binding observes its model.
+	 *
+	 * @return true if this binding is bound and active otherwise false
+	 */
+	public boolean isActive()
+	{
+		return this.active && this.model != null;
+	}
+
+	/**
+	 * Checks if this binding is bound to a model.
+	 *
+	 * @return true if this binding is bound to a model otherwise false
+	 */
+	public boolean isBound()
+	{
+		return this.model != null;
+	}
+
+	/**
+	 * Checks if a value is pending to be applied to the view.
+	 *
+	 * @return true if a value is pending otherwise false
+	 */
+	public boolean isPending()
+	{
+		return this.pendingValue.get() != NO_VALUE;
+	}
+
+	/**
+	 * Marks the start of a write of the value of the view into the model by the current thread.
+	 * The changes of the model by this write are not applied to the view, and a pending value is
+	 * discarded because it is superseded by the value of the view. Must be followed by
+	 * {@link #endModelUpdate()} in a finally block.
+	 */
+	public void beginModelUpdate()
+	{
+		if (isPending())
+		{
+			discardPendingValue();
+		}
+		this.updatingThread = Thread.currentThread();
+	}
+
+	/**
+	 * Marks the end of a write of the value of the view into the model.
+	 */
+	public void endModelUpdate()
+	{
+		this.updatingThread = null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Replaces the pending value and schedules the view update if no update is scheduled yet. A
+	 * change by the view itself between {@link #beginModelUpdate()} and {@link #endModelUpdate()}
+	 * is ignored.
+	 */
+	@Override
+	public void modelChanged(final T newValue)
+	{
+		if (this.updatingThread == Thread.currentThread())
+		{
+			return;
+		}
+		if (this.pendingValue.getAndSet(newValue) == NO_VALUE)
+		{
+			SharedSwingTimer.schedule(this, SharedSwingTimer.FRAME_DELAY, this::flush);
+		}
+	}
+
+	/**
+	 * Applies the pending value to the view if any. Must be called on the event dispatch thread.
+	 */
+	@SuppressWarnings("unchecked")
+	public void flush()
+	{
+		Object value = this.pendingValue.getAndSet(NO_VALUE);
+		if (value != NO_VALUE)
+		{
+			this.viewUpdater.accept((T)value);
+		}
+	}
+
+	private void register(final ObservableModel<T> observableModel)
+	{
+		this.registration = WeakBindingRegistry.bind(observableModel, this, this.owner);
+	}
+
+	private void unregister()
+	{
+		WeakBindingRegistry.Binding currentRegistration = this.registration;
+		if (currentRegistration != null)
+		{
+			currentRegistration.unbind();
+			this.registration = null;
+		}
+	}
+
+	private void discardPendingValue()
+	{
+		this.pendingValue.set(NO_VALUE);
+		SharedSwingTimer.cancel(this);
+	}
+}
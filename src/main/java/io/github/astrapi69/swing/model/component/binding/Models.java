@@ -0,0 +1,64 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.util.Objects;
+
+import io.github.astrapi69.model.api.IModel;
+import lombok.NonNull;
+
+/**
+ * The class {@link Models} provides helper methods for writing into models.
+ */
+public final class Models
+{
+
+	private Models()
+	{
+	}
+
+	/**
+	 * Sets the given object into the given model only if it is not equal to the current model
+	 * object. This avoids the notification of model listeners and the recalculation of dependent
+	 * values if nothing has changed.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param model
+	 *            the model
+	 * @param object
+	 *            the new model object
+	 * @return true if the model object was set otherwise false
+	 */
+	public static <T> boolean setObjectIfChanged(final @NonNull IModel<T> model, final T object)
+	{
+		if (Objects.equals(model.getObject(), object))
+		{
+			return false;
+		}
+		model.setObject(object);
+		return true;
+	}
+}
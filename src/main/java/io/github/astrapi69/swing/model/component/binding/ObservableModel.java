@@ -0,0 +1,218 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+import java.util.Arrays;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import lombok.NonNull;
+
+/**
+ * The class {@link ObservableModel} decorates an {@link IModel} and notifies its
+ * {@link ModelChangeListener}s on every call of {@link #setObject(Object)}. A component that is
+ * bound to an {@link ObservableModel} reflects the later changes of the model in the view, from
+ * whatever thread the model is changed.
+ *
+ * @param <T>
+ *            the type of the model object
+ */
+public class ObservableModel<T> implements IModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The decorated model. */
+	private final IModel<T> model;
+
+	/**
+	 * The listeners or null if there is no listener. The array is copied on every change of the
+	 * listeners, so notifying the listeners creates no iterator.
+	 */
+	private transient volatile ModelChangeListener<T>[] listeners;
+
+	/**
+	 * Constructs a new <code>ObservableModel</code> that decorates the given model.
+	 *
+	 * @param model
+	 *            the decorated model
+	 */
+	public ObservableModel(final @NonNull IModel<T> model)
+	{
+		this.model = model;
+	}
+
+	/**
+	 * Factory method for create a new {@link ObservableModel} with an empty {@link BaseModel}.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @return the new {@link ObservableModel}
+	 */
+	public static <T> ObservableModel<T> of()
+	{
+		return new ObservableModel<>(BaseModel.of());
+	}
+
+	/**
+	 * Factory method for create a new {@link ObservableModel} with a {@link BaseModel} that holds
+	 * the given model object.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param object
+	 *            the model object
+	 * @return the new {@link ObservableModel}
+	 */
+	public static <T> ObservableModel<T> of(final T object)
+	{
+		return new ObservableModel<>(BaseModel.of(object));
+	}
+
+	/**
+	 * Factory method for create a new {@link ObservableModel} that decorates the given model.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param model
+	 *            the decorated model
+	 * @return the new {@link ObservableModel}
+	 */
+	public static <T> ObservableModel<T> of(final @NonNull IModel<T> model)
+	{
+		return new ObservableModel<>(model);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T getObject()
+	{
+		return this.model.getObject();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Notifies the listeners after the decorated model is changed. If the given object is equal to
+	 * the current model object nothing is changed and the listeners are not notified.
+	 */
+	@Override
+	public void setObject(final T object)
+	{
+		if (Models.setObjectIfChanged(this.model, object))
+		{
+			fireModelChanged(object);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void detach()
+	{
+		this.model.detach();
+	}
+
+	/**
+	 * Notifies the listeners with the given model object. This can be used if the model object was
+	 * changed in place, because setting the same object again does not notify the listeners.
+	 *
+	 * @param object
+	 *            the current model object
+	 */
+	public void fireModelChanged(final T object)
+	{
+		ModelChangeListener<T>[] currentListeners = this.listeners;
+		if (currentListeners == null)
+		{
+			return;
+		}
+		for (ModelChangeListener<T> listener : currentListeners)
+		{
+			listener.modelChanged(object);
+		}
+	}
+
+	/**
+	 * Adds the given listener.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized void addModelChangeListener(final @NonNull ModelChangeListener<T> listener)
+	{
+		ModelChangeListener<T>[] currentListeners = this.listeners;
+		if (currentListeners == null)
+		{
+			this.listeners = new ModelChangeListener[] { listener };
+			return;
+		}
+		ModelChangeListener<T>[] newListeners = Arrays.copyOf(currentListeners,
+			currentListeners.length + 1);
+		newListeners[currentListeners.length] = listener;
+		this.listeners = newListeners;
+	}
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	@SuppressWarnings("unchecked")
+	public synchronized void removeModelChangeListener(
+		final @NonNull ModelChangeListener<T> listener)
+	{
+		ModelChangeListener<T>[] currentListeners = this.listeners;
+		if (currentListeners == null)
+		{
+			return;
+		}
+		final int length = currentListeners.length;
+		for (int i = 0; i < length; i++)
+		{
+			if (currentListeners[i] == listener)
+			{
+				if (length == 1)
+				{
+					this.listeners = null;
+					return;
+				}
+				ModelChangeListener<T>[] newListeners = new ModelChangeListener[length - 1];
+				System.arraycopy(currentListeners, 0, newListeners, 0, i);
+				System.arraycopy(currentListeners, i + 1, newListeners, i, length - i - 1);
+				this.listeners = newListeners;
+				return;
+			}
+		}
+	}
+}
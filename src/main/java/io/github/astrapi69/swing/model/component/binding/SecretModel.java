@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.nio.CharBuffer;
+
+import io.github.astrapi69.model.api.IModel;
+
+/**
+ * The interface {@link SecretModel} is a model for a secret text such as a password. A component
+ * that is bound to a {@link SecretModel} sets the secret with {@link #setSecret(CharSequence)} as
+ * a view over its own reusable buffer instead of a new char array on every keystroke. The view
+ * always reflects the current text of the component and is zeroed with it. The methods of
+ * {@link IModel} are implemented for compatibility and copy the secret.
+ */
+public interface SecretModel extends IModel<char[]>
+{
+
+	/**
+	 * Factory method for create a new {@link SecretModel} without a secret.
+	 *
+	 * @return the new {@link SecretModel}
+	 */
+	static SecretModel of()
+	{
+		return new SecretValueModel();
+	}
+
+	/**
+	 * Gets the secret.
+	 *
+	 * @return the secret or null
+	 */
+	CharSequence getSecret();
+
+	/**
+	 * Sets the secret and notifies the listeners.
+	 *
+	 * @param secret
+	 *            the new secret or null
+	 */
+	void setSecret(CharSequence secret);
+
+	/**
+	 * Adds the given listener.
+	 *
+	 * @param listener
+	 *            the listener to add
+	 */
+	void addSecretChangeListener(SecretChangeListener listener);
+
+	/**
+	 * Removes the given listener.
+	 *
+	 * @param listener
+	 *            the listener to remove
+	 */
+	void removeSecretChangeListener(SecretChangeListener listener);
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned array is a copy of the secret, the caller is responsible for zeroing it.
+	 */
+	@Override
+	default char[] getObject()
+	{
+		final CharSequence secret = getSecret();
+		if (secret == null)
+		{
+			return null;
+		}
+		final char[] chars = new char[secret.length()];
+		for (int i = 0; i < chars.length; i++)
+		{
+			chars[i] = secret.charAt(i);
+		}
+		return chars;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The given array is wrapped and not copied.
+	 */
+	@Override
+	default void setObject(final char[] object)
+	{
+		setSecret(object == null ? null : CharBuffer.wrap(object));
+	}
+}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.io.Serial;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link SecretValueModel} is the default implementation of {@link SecretModel} that
+ * holds a reference to the secret in a volatile field. The secret is not copied, so if it is a
+ * view over the buffer of a component the model reflects the current text of the component
+ * without any copy of the secret. The listeners are notified on the thread that set the secret.
+ */
+public class SecretValueModel extends AbstractPrimitiveModel<SecretChangeListener>
+	implements SecretModel
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The secret. */
+	private transient volatile CharSequence secret;
+
+	/**
+	 * Constructs a new <code>SecretValueModel</code> without a secret.
+	 */
+	public SecretValueModel()
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public CharSequence getSecret()
+	{
+		return this.secret;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The listeners are notified even if the same sequence is set again, because the content of a
+	 * view can change while the sequence stays the same.
+	 */
+	@Override
+	public void setSecret(final CharSequence secret)
+	{
+		this.secret = secret;
+		final Object[] listeners = getListeners();
+		if (listeners == null)
+		{
+			return;
+		}
+		for (Object listener : listeners)
+		{
+			((SecretChangeListener)listener).secretChanged(secret);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addSecretChangeListener(final @NonNull SecretChangeListener listener)
+	{
+		addListener(listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeSecretChangeListener(final @NonNull SecretChangeListener listener)
+	{
+		removeListener(listener);
+	}
+}
@@ -0,0 +1,231 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link SharedSwingTimer} provides one {@link Timer} that is shared by all components
+ * for delayed tasks. Instead of creating one timer per component, every pending task is registered
+ * with a key and the shared timer is always set to the earliest deadline of all pending tasks.
+ * Scheduling a task with a key that has already a pending task replaces the pending task and
+ * restarts the quiet period, which gives debounce semantics.
+ * <p>
+ * All tasks are executed on the event dispatch thread. Calls from other threads are redirected to
+ * the event dispatch thread.
+ */
+public final class SharedSwingTimer
+{
+
+	/** The constant for the delay in milliseconds of one frame at 60 frames per second. */
+	public static final int FRAME_DELAY = 16;
+
+	/** The pending tasks mapped with their keys, compared by identity. */
+	private static final Map<Object, PendingTask> PENDING_TASKS = new IdentityHashMap<>();
+
+	/** The shared timer, created on first use. */
+	private static Timer timer;
+
+	/** The deadline in nanoseconds the shared timer is currently set to. */
+	private static long timerDeadline;
+
+	/**
+	 * The flag if the shared timer is started and its event is not handled yet. Unlike
+	 * {@link Timer#isRunning()} it stays set while the event is posted but waits for the event
+	 * dispatch thread, so a busy event dispatch thread does not restart the timer on every call.
+	 */
+	private static boolean timerScheduled;
+
+	private SharedSwingTimer()
+	{
+	}
+
+	/**
+	 * Schedules the given task for the given key. If a task is already pending for the given key it
+	 * is replaced and the delay starts again.
+	 *
+	 * @param key
+	 *            the key of the task, compared by identity
+	 * @param delayInMillis
+	 *            the delay in milliseconds
+	 * @param task
+	 *            the task to execute on the event dispatch thread
+	 */
+	public static void schedule(final @NonNull Object key, final int delayInMillis,
+		final @NonNull Runnable task)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> schedule(key, delayInMillis, task));
+			return;
+		}
+		long deadline = System.nanoTime()
+			+ TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayInMillis));
+		PendingTask pendingTask = PENDING_TASKS.get(key);
+		if (pendingTask != null)
+		{
+			// a task that is rescheduled on every keystroke reuses its entry
+			pendingTask.deadline = deadline;
+			pendingTask.task = task;
+		}
+		else
+		{
+			PENDING_TASKS.put(key, new PendingTask(deadline, task));
+		}
+		if (!timerScheduled || deadline - timerDeadline < 0)
+		{
+			startTimer(deadline);
+		}
+	}
+
+	/**
+	 * Cancels the pending task of the given key if any.
+	 *
+	 * @param key
+	 *            the key of the task
+	 * @return true if a pending task was cancelled otherwise false
+	 */
+	public static boolean cancel(final @NonNull Object key)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> cancel(key));
+			return false;
+		}
+		return PENDING_TASKS.remove(key) != null;
+	}
+
+	/**
+	 * Executes the pending task of the given key immediately if any.
+	 *
+	 * @param key
+	 *            the key of the task
+	 * @return true if a pending task was executed otherwise false
+	 */
+	public static boolean flush(final @NonNull Object key)
+	{
+		if (!SwingUtilities.isEventDispatchThread())
+		{
+			SwingUtilities.invokeLater(() -> flush(key));
+			return false;
+		}
+		PendingTask pendingTask = PENDING_TASKS.remove(key);
+		if (pendingTask == null)
+		{
+			return false;
+		}
+		pendingTask.task.run();
+		return true;
+	}
+
+	/**
+	 * Checks if a task is pending for the given key.
+	 *
+	 * @param key
+	 *            the key of the task
+	 * @return true if a task is pending for the given key otherwise false
+	 */
+	public static boolean isPending(final @NonNull Object key)
+	{
+		return PENDING_TASKS.containsKey(key);
+	}
+
+	private static void startTimer(final long deadline)
+	{
+		if (timer == null)
+		{
+			timer = new Timer(0, e -> onTimer());
+			timer.setRepeats(false);
+			// a coalescing timer that is restarted from its own action event can lose the next
+			// event, because the pending event is cancelled after the action event is fired
+			timer.setCoalesce(false);
+		}
+		timerDeadline = deadline;
+		timerScheduled = true;
+		long delayInNanos = Math.max(0L, deadline - System.nanoTime());
+		timer.setInitialDelay((int)TimeUnit.NANOSECONDS.toMillis(delayInNanos));
+		timer.restart();
+	}
+
+	private static void onTimer()
+	{
+		timerScheduled = false;
+		long now = System.nanoTime();
+		PendingTask[] dueTasks = null;
+		int dueCount = 0;
+		long nextDeadline = 0L;
+		boolean hasNextDeadline = false;
+		Iterator<PendingTask> iterator = PENDING_TASKS.values().iterator();
+		while (iterator.hasNext())
+		{
+			PendingTask pendingTask = iterator.next();
+			if (pendingTask.deadline - now <= 0)
+			{
+				if (dueTasks == null)
+				{
+					dueTasks = new PendingTask[PENDING_TASKS.size()];
+				}
+				dueTasks[dueCount++] = pendingTask;
+				iterator.remove();
+			}
+			else if (!hasNextDeadline || pendingTask.deadline - nextDeadline < 0)
+			{
+				nextDeadline = pendingTask.deadline;
+				hasNextDeadline = true;
+			}
+		}
+		if (hasNextDeadline)
+		{
+			startTimer(nextDeadline);
+		}
+		for (int i = 0; i < dueCount; i++)
+		{
+			dueTasks[i].task.run();
+		}
+	}
+
+	/**
+	 * A task with the deadline it is due.
+	 */
+	private static final class PendingTask
+	{
+		long deadline;
+		Runnable task;
+
+		PendingTask(final long deadline, final Runnable task)
+		{
+			this.deadline = deadline;
+			this.task = task;
+		}
+	}
+}
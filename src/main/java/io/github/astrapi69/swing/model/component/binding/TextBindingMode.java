@@ -0,0 +1,60 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+/**
+ * The enum {@link TextBindingMode} defines what a text component pushes into its models when the
+ * document changes.
+ */
+public enum TextBindingMode
+{
+
+	/**
+	 * The whole text of the document is pushed into the property model on every change. This is the
+	 * default behavior.
+	 */
+	TEXT,
+
+	/**
+	 * Only the edit itself is pushed as {@link TextEdit} into the edit model. The whole text is
+	 * never copied on a change and can be obtained lazily from a {@link DocumentTextModel}.
+	 */
+	EDITS,
+
+	/**
+	 * An immutable snapshot of the whole text is pushed into the snapshot model on every change.
+	 * With a {@link io.github.astrapi69.swing.model.component.document.RopeDocument} the snapshot
+	 * shares its storage with the document, so the text is never copied.
+	 */
+	SNAPSHOT,
+
+	/**
+	 * Only the appended chunks are pushed into the append model. The chunks are queued from any
+	 * thread and appended in batches on the event dispatch thread, changes of the document itself
+	 * are not pushed.
+	 */
+	APPENDS
+
+}
@@ -0,0 +1,88 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The class {@link TextEdit} describes one edit of a document as the offset, the length of the
+ * removed text and the inserted text. Consumers can apply a stream of edits incrementally to their
+ * own representation of the text instead of receiving a full copy of the text for every change.
+ */
+@Value
+public class TextEdit
+{
+
+	/** The offset in the document where the edit took place. */
+	int offset;
+
+	/** The length of the text that was removed at the offset. */
+	int removedLength;
+
+	/** The text that was inserted at the offset, an empty string if nothing was inserted. */
+	@NonNull
+	String insertedText;
+
+	/**
+	 * Factory method for create a new {@link TextEdit} that describes an insertion.
+	 *
+	 * @param offset
+	 *            the offset of the insertion
+	 * @param insertedText
+	 *            the inserted text
+	 * @return the new {@link TextEdit}
+	 */
+	public static TextEdit insert(final int offset, final @NonNull String insertedText)
+	{
+		return new TextEdit(offset, 0, insertedText);
+	}
+
+	/**
+	 * Factory method for create a new {@link TextEdit} that describes a removal.
+	 *
+	 * @param offset
+	 *            the offset of the removal
+	 * @param removedLength
+	 *            the length of the removed text
+	 * @return the new {@link TextEdit}
+	 */
+	public static TextEdit remove(final int offset, final int removedLength)
+	{
+		return new TextEdit(offset, removedLength, "");
+	}
+
+	/**
+	 * Applies this edit to the given {@link StringBuilder} that holds the text before the edit.
+	 *
+	 * @param text
+	 *            the text before the edit
+	 * @return the given {@link StringBuilder} that holds now the text after the edit
+	 */
+	public StringBuilder applyTo(final @NonNull StringBuilder text)
+	{
+		return text.replace(this.offset, this.offset + this.removedLength, this.insertedText);
+	}
+}
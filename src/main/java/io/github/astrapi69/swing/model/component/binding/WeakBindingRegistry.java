@@ -0,0 +1,382 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link WeakBindingRegistry} registers the listeners of components at models that
+ * outlive the components, for instance application scoped models that are bound to the fields of
+ * a dialog. The model holds only a small proxy that references the listener weakly, so the model
+ * never keeps a discarded component reachable. The listener itself must be held strongly by its
+ * component, then it lives exactly as long as the component.
+ * <p>
+ * When a listener is garbage collected its {@link Binding} is enqueued in a
+ * {@link ReferenceQueue}. The stale bindings are purged and their proxies removed from the
+ * models with every operation of this registry, the same way as the stale entries of a
+ * {@link java.util.WeakHashMap}. The live bindings can be listed per model for diagnostics.
+ */
+public final class WeakBindingRegistry
+{
+
+	/** The queue of the bindings whose listener was garbage collected. */
+	private static final ReferenceQueue<Object> STALE_BINDINGS = new ReferenceQueue<>();
+
+	/** The registered bindings, compared by identity. */
+	private static final Set<Binding> BINDINGS = ConcurrentHashMap.newKeySet();
+
+	private WeakBindingRegistry()
+	{
+	}
+
+	/**
+	 * Registers the given listener weakly at the given observable model.
+	 *
+	 * @param <T>
+	 *            the type of the model object
+	 * @param model
+	 *            the model
+	 * @param listener
+	 *            the listener, must be held strongly by the owner
+	 * @param owner
+	 *            the owner of the listener for diagnostics, typically the component, or null
+	 * @return the new binding
+	 */
+	public static <T> Binding bind(final @NonNull ObservableModel<T> model,
+		final @NonNull ModelChangeListener<T> listener, final Object owner)
+	{
+		return register(model, listener, owner, WeakBindingRegistry::modelChangeProxy,
+			model::addModelChangeListener, model::removeModelChangeListener);
+	}
+
+	/**
+	 * Registers the given listener weakly at the given int model.
+	 *
+	 * @param model
+	 *            the model
+	 * @param listener
+	 *            the listener, must be held strongly by the owner
+	 * @param owner
+	 *            the owner of the listener for diagnostics, typically the component, or null
+	 * @return the new binding
+	 */
+	public static Binding bind(final @NonNull IntModel model,
+		final @NonNull IntChangeListener listener, final Object owner)
+	{
+		return register(model, listener, owner, WeakBindingRegistry::intProxy,
+			model::addIntChangeListener, model::removeIntChangeListener);
+	}
+
+	/**
+	 * Registers the given listener weakly at the given long model.
+	 *
+	 * @param model
+	 *            the model
+	 * @param listener
+	 *            the listener, must be held strongly by the owner
+	 * @param owner
+	 *            the owner of the listener for diagnostics, typically the component, or null
+	 * @return the new binding
+	 */
+	public static Binding bind(final @NonNull LongModel model,
+		final @NonNull LongChangeListener listener, final Object owner)
+	{
+		return register(model, listener, owner, WeakBindingRegistry::longProxy,
+			model::addLongChangeListener, model::removeLongChangeListener);
+	}
+
+	/**
+	 * Registers the given listener weakly at the given double model.
+	 *
+	 * @param model
+	 *            the model
+	 * @param listener
+	 *            the listener, must be held strongly by the owner
+	 * @param owner
+	 *            the owner of the listener for diagnostics, typically the component, or null
+	 * @return the new binding
+	 */
+	public static Binding bind(final @NonNull DoubleModel model,
+		final @NonNull DoubleChangeListener listener, final Object owner)
+	{
+		return register(model, listener, owner, WeakBindingRegistry::doubleProxy,
+			model::addDoubleChangeListener, model::removeDoubleChangeListener);
+	}
+
+	/**
+	 * Registers the given listener weakly at the given fixed scale decimal model for the changes
+	 * of the unscaled value.
+	 *
+	 * @param model
+	 *            the model
+	 * @param listener
+	 *            the listener, must be held strongly by the owner
+	 * @param owner
+	 *            the owner of the listener for diagnostics, typically the component, or null
+	 * @return the new binding
+	 */
+	public static Binding bind(final @NonNull FixedScaleDecimalModel model,
+		final @NonNull LongChangeListener listener, final Object owner)
+	{
+		return register(model, listener, owner, WeakBindingRegistry::longProxy,
+			model::addUnscaledValueChangeListener, model::removeUnscaledValueChangeListener);
+	}
+
+	/**
+	 * Gets the live bindings of the given model.
+	 *
+	 * @param model
+	 *            the model
+	 * @return the live bindings of the given model
+	 */
+	public static List<Binding> getBindings(final @NonNull Object model)
+	{
+		purge();
+		final List<Binding> bindings = new ArrayList<>();
+		for (Binding binding : BINDINGS)
+		{
+			if (binding.model == model && !binding.isStale())
+			{
+				bindings.add(binding);
+			}
+		}
+		return bindings;
+	}
+
+	/**
+	 * Gets the live bindings of all models, mapped with their models by identity.
+	 *
+	 * @return the live bindings per model
+	 */
+	public static Map<Object, List<Binding>> getBindingsPerModel()
+	{
+		purge();
+		final Map<Object, List<Binding>> bindingsPerModel = new IdentityHashMap<>();
+		for (Binding binding : BINDINGS)
+		{
+			if (!binding.isStale())
+			{
+				bindingsPerModel.computeIfAbsent(binding.model, model -> new ArrayList<>())
+					.add(binding);
+			}
+		}
+		return bindingsPerModel;
+	}
+
+	/**
+	 * Gets the number of the registered bindings after the stale bindings are purged.
+	 *
+	 * @return the number of the registered bindings
+	 */
+	public static int size()
+	{
+		purge();
+		return BINDINGS.size();
+	}
+
+	/**
+	 * Removes the bindings whose listener was garbage collected from their models.
+	 *
+	 * @return the number of the purged bindings
+	 */
+	public static int purge()
+	{
+		int purged = 0;
+		Reference<?> reference;
+		while ((reference = STALE_BINDINGS.poll()) != null)
+		{
+			if (((Binding)reference).detach())
+			{
+				purged++;
+			}
+		}
+		return purged;
+	}
+
+	private static <T> ModelChangeListener<T> modelChangeProxy(final Binding binding)
+	{
+		return newValue -> {
+			final ModelChangeListener<T> target = binding.getListener();
+			if (target != null)
+			{
+				target.modelChanged(newValue);
+			}
+		};
+	}
+
+	private static IntChangeListener intProxy(final Binding binding)
+	{
+		return newValue -> {
+			final IntChangeListener target = binding.getListener();
+			if (target != null)
+			{
+				target.intChanged(newValue);
+			}
+		};
+	}
+
+	private static LongChangeListener longProxy(final Binding binding)
+	{
+		return newValue -> {
+			final LongChangeListener target = binding.getListener();
+			if (target != null)
+			{
+				target.longChanged(newValue);
+			}
+		};
+	}
+
+	private static DoubleChangeListener doubleProxy(final Binding binding)
+	{
+		return newValue -> {
+			final DoubleChangeListener target = binding.getListener();
+			if (target != null)
+			{
+				target.doubleChanged(newValue);
+			}
+		};
+	}
+
+	private static <L> Binding register(final Object model, final L listener, final Object owner,
+		final Function<Binding, L> proxyFactory, final Consumer<L> adder,
+		final Consumer<L> remover)
+	{
+		purge();
+		final Binding binding = new Binding(model, listener, owner);
+		final L proxy = proxyFactory.apply(binding);
+		binding.remover = () -> remover.accept(proxy);
+		BINDINGS.add(binding);
+		adder.accept(proxy);
+		return binding;
+	}
+
+	/**
+	 * The class {@link Binding} is the registration of one listener at one model. It references
+	 * the listener and its owner weakly and the model strongly.
+	 */
+	public static final class Binding extends WeakReference<Object>
+	{
+
+		/** The model. */
+		private final Object model;
+
+		/** The owner of the listener or null. */
+		private final WeakReference<Object> owner;
+
+		/** The task that removes the proxy from the model. */
+		private Runnable remover;
+
+		private Binding(final Object model, final Object listener, final Object owner)
+		{
+			super(listener, STALE_BINDINGS);
+			this.model = model;
+			this.owner = owner != null ? new WeakReference<>(owner) : null;
+		}
+
+		/**
+		 * Gets the model.
+		 *
+		 * @return the model
+		 */
+		public Object getModel()
+		{
+			return this.model;
+		}
+
+		/**
+		 * Gets the listener.
+		 *
+		 * @param <L>
+		 *            the type of the listener
+		 * @return the listener or null if it was garbage collected
+		 */
+		@SuppressWarnings("unchecked")
+		public <L> L getListener()
+		{
+			return (L)get();
+		}
+
+		/**
+		 * Gets the owner of the listener.
+		 *
+		 * @return the owner or null if it was not given or was garbage collected
+		 */
+		public Object getOwner()
+		{
+			return this.owner != null ? this.owner.get() : null;
+		}
+
+		/**
+		 * Checks if the listener was garbage collected.
+		 *
+		 * @return true if the listener was garbage collected otherwise false
+		 */
+		public boolean isStale()
+		{
+			return get() == null;
+		}
+
+		/**
+		 * Removes the listener from the model and this binding from the registry.
+		 */
+		public void unbind()
+		{
+			clear();
+			detach();
+		}
+
+		private boolean detach()
+		{
+			if (!BINDINGS.remove(this))
+			{
+				return false;
+			}
+			this.remover.run();
+			return true;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public String toString()
+		{
+			return "Binding[model=" + this.model + ", owner=" + getOwner() + ", listener=" + get()
+				+ "]";
+		}
+	}
+}
@@ -0,0 +1,432 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+import javax.swing.AbstractListModel;
+import javax.swing.DefaultComboBoxModel;
+import javax.swing.MutableComboBoxModel;
+import javax.swing.SwingUtilities;
+
+import lombok.NonNull;
+
+/**
+ * The abstract class {@link AbstractIndexedComboBoxModel} is a mutable combo box model with the
+ * behavior of {@link DefaultComboBoxModel} whose subclasses keep an index from the items to their
+ * positions. The subclasses are notified of every insertion and removal to keep their index
+ * consistent, and {@link #indexOf(Object)} as well as {@link #removeElement(Object)} use the index
+ * instead of a linear scan.
+ * <p>
+ * The items can be replaced with {@link #reconcile(List)} that applies only the difference between
+ * the current and the new items, so a refresh of reference data fires a few events for the
+ * changed ranges instead of a full reset and keeps the selection.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public abstract class AbstractIndexedComboBoxModel<T> extends AbstractListModel<T>
+	implements IndexedComboBoxModel<T>, MutableComboBoxModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The items. */
+	private final List<T> items = new ArrayList<>();
+
+	/** The selected item. */
+	private Object selectedItem;
+
+	/** The number of modifications of the items, detects changes during a reconciliation. */
+	private int modificationCount;
+
+	/** The generation of the last reconciliation, a newer reconciliation supersedes older ones. */
+	private int reconcileGeneration;
+
+	/**
+	 * Constructs a new empty <code>AbstractIndexedComboBoxModel</code>.
+	 */
+	protected AbstractIndexedComboBoxModel()
+	{
+	}
+
+	/**
+	 * Gets the index of the given item from the index of the subclass. The returned index has to
+	 * be the position of the first occurrence of the item.
+	 *
+	 * @param item
+	 *            the item, never null
+	 * @return the index of the given item or -1 if the item is not an element of this model
+	 */
+	protected abstract int lookup(Object item);
+
+	/**
+	 * Called after the items of the given range were inserted. The items after the range have
+	 * moved by the size of the range.
+	 *
+	 * @param index0
+	 *            the index of the first inserted item
+	 * @param index1
+	 *            the index of the last inserted item
+	 */
+	protected abstract void onInserted(int index0, int index1);
+
+	/**
+	 * Called after the given items were removed from the given index. The items after the removed
+	 * items have moved by the number of the removed items.
+	 *
+	 * @param index0
+	 *            the index of the first removed item
+	 * @param removedItems
+	 *            the removed items
+	 */
+	protected abstract void onRemoved(int index0, List<T> removedItems);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(final Object item)
+	{
+		return item == null ? items.indexOf(null) : lookup(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSize()
+	{
+		return items.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T getElementAt(final int index)
+	{
+		return index < 0 || items.size() <= index ? null : items.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getSelectedItem()
+	{
+		return selectedItem;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSelectedItem(final Object item)
+	{
+		if (!Objects.equals(selectedItem, item))
+		{
+			selectedItem = item;
+			fireContentsChanged(this, -1, -1);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The first added item is selected if no item is selected.
+	 */
+	@Override
+	public void addElement(final T item)
+	{
+		final int index = items.size();
+		items.add(item);
+		modificationCount++;
+		onInserted(index, index);
+		fireIntervalAdded(this, index, index);
+		if (items.size() == 1 && selectedItem == null && item != null)
+		{
+			setSelectedItem(item);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void insertElementAt(final T item, final int index)
+	{
+		items.add(index, item);
+		modificationCount++;
+		onInserted(index, index);
+		fireIntervalAdded(this, index, index);
+	}
+
+	/**
+	 * Adds all given items at the end of this model with one event.
+	 *
+	 * @param newItems
+	 *            the items to add
+	 */
+	public void addAll(final @NonNull Collection<? extends T> newItems)
+	{
+		addAll(items.size(), newItems);
+	}
+
+	/**
+	 * Inserts all given items at the given index with one event.
+	 *
+	 * @param index
+	 *            the index of the first inserted item
+	 * @param newItems
+	 *            the items to insert
+	 */
+	public void addAll(final int index, final @NonNull Collection<? extends T> newItems)
+	{
+		if (index < 0 || items.size() < index)
+		{
+			throw new IllegalArgumentException("index out of range: " + index);
+		}
+		if (newItems.isEmpty())
+		{
+			return;
+		}
+		items.addAll(index, newItems);
+		modificationCount++;
+		final int index1 = index + newItems.size() - 1;
+		onInserted(index, index1);
+		fireIntervalAdded(this, index, index1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the removed item is selected, the previous item or else the next item is selected.
+	 */
+	@Override
+	public void removeElementAt(final int index)
+	{
+		if (getElementAt(index) == selectedItem)
+		{
+			if (index == 0)
+			{
+				setSelectedItem(items.size() == 1 ? null : getElementAt(index + 1));
+			}
+			else
+			{
+				setSelectedItem(getElementAt(index - 1));
+			}
+		}
+		final T removed = items.remove(index);
+		modificationCount++;
+		onRemoved(index, List.of(removed));
+		fireIntervalRemoved(this, index, index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeElement(final Object item)
+	{
+		final int index = indexOf(item);
+		if (index != -1)
+		{
+			removeElementAt(index);
+		}
+	}
+
+	/**
+	 * Removes all items and clears the selection.
+	 */
+	public void removeAllElements()
+	{
+		selectedItem = null;
+		if (items.isEmpty())
+		{
+			return;
+		}
+		final int lastIndex = items.size() - 1;
+		final List<T> removed = new ArrayList<>(items);
+		items.clear();
+		modificationCount++;
+		onRemoved(0, removed);
+		fireIntervalRemoved(this, 0, lastIndex);
+	}
+
+	/**
+	 * Replaces the items of this model with the given items by applying only the difference. The
+	 * difference is computed with a {@link ListDiff} on the calling thread and applied with one
+	 * event per changed, removed or inserted range. Items that are equal to a current item keep
+	 * the current instance, and the selected item is kept without an event if it is an element of
+	 * the new items, otherwise the selection is cleared. A pending
+	 * {@link #reconcileAsync(List)} is superseded.
+	 *
+	 * @param newItems
+	 *            the new items
+	 * @return the number of applied edits
+	 */
+	public int reconcile(final @NonNull List<? extends T> newItems)
+	{
+		reconcileGeneration++;
+		final List<ItemEdit> edits = ListDiff.diff(items, newItems);
+		apply(edits, newItems);
+		return edits.size();
+	}
+
+	/**
+	 * Replaces the items of this model with the given items like {@link #reconcile(List)}, but
+	 * computes the difference in the background and applies it on the event dispatch thread. If
+	 * the items are modified in the meantime the difference is computed again, and if another
+	 * reconciliation is started before the difference is applied the returned future is cancelled.
+	 * Has to be called on the event dispatch thread.
+	 *
+	 * @param newItems
+	 *            the new items
+	 * @return the future that completes with the number of applied edits
+	 */
+	public CompletableFuture<Integer> reconcileAsync(final @NonNull List<? extends T> newItems)
+	{
+		final CompletableFuture<Integer> result = new CompletableFuture<>();
+		submitReconcile(++reconcileGeneration, new ArrayList<>(newItems), result);
+		return result;
+	}
+
+	/**
+	 * Gets the executor that computes the differences of {@link #reconcileAsync(List)}. The
+	 * default executor is the one that loads the items of an {@link AsyncComboBoxModel}.
+	 *
+	 * @return the executor that computes the differences
+	 */
+	protected ExecutorService getReconcileExecutor()
+	{
+		return ItemLoaderExecutor.getExecutor();
+	}
+
+	/**
+	 * Computes the difference between a snapshot of the current items and the given new items in
+	 * the background and applies it on the event dispatch thread.
+	 *
+	 * @param generation
+	 *            the generation of the reconciliation
+	 * @param newItems
+	 *            the new items
+	 * @param result
+	 *            the future that completes with the number of applied edits
+	 */
+	private void submitReconcile(final int generation, final List<T> newItems,
+		final CompletableFuture<Integer> result)
+	{
+		final List<T> snapshot = new ArrayList<>(items);
+		final int snapshotModificationCount = modificationCount;
+		getReconcileExecutor().execute(() -> {
+			final List<ItemEdit> edits;
+			try
+			{
+				edits = ListDiff.diff(snapshot, newItems);
+			}
+			catch (final RuntimeException exception)
+			{
+				result.completeExceptionally(exception);
+				return;
+			}
+			SwingUtilities.invokeLater(() -> {
+				if (generation != reconcileGeneration)
+				{
+					result.cancel(false);
+				}
+				else if (snapshotModificationCount != modificationCount)
+				{
+					submitReconcile(generation, newItems, result);
+				}
+				else
+				{
+					apply(edits, newItems);
+					result.complete(edits.size());
+				}
+			});
+		});
+	}
+
+	/**
+	 * Applies the given edits in their order and fires one event per edit, then clears the
+	 * selection if the selected item is no longer an element.
+	 *
+	 * @param edits
+	 *            the edits
+	 * @param newItems
+	 *            the new items the edits refer to
+	 */
+	private void apply(final List<ItemEdit> edits, final List<? extends T> newItems)
+	{
+		for (final ItemEdit edit : edits)
+		{
+			final int index = edit.getIndex();
+			final int lastIndex = edit.getLastIndex();
+			final List<? extends T> newRange = edit.getNewIndex() < 0
+				? List.of()
+				: newItems.subList(edit.getNewIndex(), edit.getNewIndex() + edit.getLength());
+			modificationCount++;
+			switch (edit.getType())
+			{
+				case INSERTED :
+					items.addAll(index, newRange);
+					onInserted(index, lastIndex);
+					fireIntervalAdded(this, index, lastIndex);
+					break;
+				case REMOVED :
+					final List<T> removedRange = items.subList(index, lastIndex + 1);
+					final List<T> removed = new ArrayList<>(removedRange);
+					removedRange.clear();
+					onRemoved(index, removed);
+					fireIntervalRemoved(this, index, lastIndex);
+					break;
+				case CHANGED :
+					final List<T> replaced = new ArrayList<>(items.subList(index, lastIndex + 1));
+					for (int i = 0; i < newRange.size(); i++)
+					{
+						items.set(index + i, newRange.get(i));
+					}
+					// a replacement is reported to the index as removal and insertion
+					onRemoved(index, replaced);
+					onInserted(index, lastIndex);
+					fireContentsChanged(this, index, lastIndex);
+					break;
+			}
+		}
+		if (selectedItem != null && indexOf(selectedItem) == -1)
+		{
+			setSelectedItem(null);
+		}
+	}
+}
@@ -0,0 +1,450 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import javax.swing.AbstractListModel;
+import javax.swing.SwingUtilities;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+import lombok.NonNull;
+
+/**
+ * The class {@link AsyncComboBoxModel} is a combo box model whose items are loaded in the
+ * background from an {@link ItemSource}. On a runtime with virtual threads every load runs on its
+ * own virtual thread. The items are streamed into the model in batches and every batch is
+ * published with one event on the event dispatch thread. A new load cancels the load that is
+ * running and the items of a superseded load are never published.
+ * <p>
+ * The selected item survives a load. It is kept as pending selection while the items are loaded
+ * and restored as soon as it appears in a published batch. An item that is selected during a load,
+ * for instance from the property model of a {@link JMComboBox}, becomes the pending selection if it
+ * is not loaded yet. Like the Swing models this model has to be used on the event dispatch thread.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class AsyncComboBoxModel<T> extends AbstractListModel<T> implements IndexedComboBoxModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The constant for the default number of items per batch. */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/** The constant for the default time in milliseconds until an incomplete batch is published. */
+	public static final long DEFAULT_BATCH_DELAY = 50L;
+
+	/** The loaded items. */
+	private final List<T> items = new ArrayList<>();
+
+	/** The maximum number of items per batch. */
+	private final int batchSize;
+
+	/** The time in milliseconds until an incomplete batch is published. */
+	private final long batchDelay;
+
+	/** The number of the current load, a load with another number is superseded. */
+	private volatile long generation;
+
+	/** The load that is running or null. */
+	private transient Loading loading;
+
+	/** The selected item. */
+	private Object selectedItem;
+
+	/** The item that is selected as soon as it is loaded or null. */
+	private Object pendingSelection;
+
+	/**
+	 * Constructs a new <code>AsyncComboBoxModel</code> with the default batch size and delay.
+	 */
+	public AsyncComboBoxModel()
+	{
+		this(DEFAULT_BATCH_SIZE, DEFAULT_BATCH_DELAY);
+	}
+
+	/**
+	 * Constructs a new <code>AsyncComboBoxModel</code> with the given batch size and delay.
+	 *
+	 * @param batchSize
+	 *            the maximum number of items per batch
+	 * @param batchDelay
+	 *            the time in milliseconds until an incomplete batch is published
+	 */
+	public AsyncComboBoxModel(final int batchSize, final long batchDelay)
+	{
+		if (batchSize < 1)
+		{
+			throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+		}
+		if (batchDelay < 0)
+		{
+			throw new IllegalArgumentException("batchDelay must not be negative: " + batchDelay);
+		}
+		this.batchSize = batchSize;
+		this.batchDelay = batchDelay;
+	}
+
+	/**
+	 * Loads the items from the given source in the background. A running load is cancelled, the
+	 * current items are removed and the selected item becomes the pending selection. The returned
+	 * future is completed with the number of items on the event dispatch thread after the last
+	 * batch is published. It is completed exceptionally with a {@link CancellationException} if the
+	 * load is superseded or cancelled, or with the exception of the source.
+	 *
+	 * @param source
+	 *            the source of the items
+	 * @return the future of the load
+	 */
+	public CompletableFuture<Integer> load(final @NonNull ItemSource<? extends T> source)
+	{
+		cancelLoading();
+		if (!items.isEmpty())
+		{
+			final int lastIndex = items.size() - 1;
+			items.clear();
+			fireIntervalRemoved(this, 0, lastIndex);
+		}
+		if (selectedItem != null)
+		{
+			pendingSelection = selectedItem;
+			selectedItem = null;
+			fireContentsChanged(this, -1, -1);
+		}
+		final Loading newLoading = new Loading(++generation, source);
+		loading = newLoading;
+		newLoading.task = getLoaderExecutor().submit(newLoading);
+		return newLoading.result;
+	}
+
+	/**
+	 * Cancels the running load if any. The items that are published so far are kept.
+	 *
+	 * @return true if a load was cancelled otherwise false
+	 */
+	public boolean cancelLoading()
+	{
+		final Loading current = loading;
+		if (current == null)
+		{
+			return false;
+		}
+		generation++;
+		loading = null;
+		current.task.cancel(true);
+		SharedSwingTimer.cancel(current);
+		current.result.completeExceptionally(new CancellationException("Load cancelled"));
+		return true;
+	}
+
+	/**
+	 * Checks if a load is running
+	 *
+	 * @return true if a load is running otherwise false
+	 */
+	public boolean isLoading()
+	{
+		return loading != null;
+	}
+
+	/**
+	 * Gets the item that is selected as soon as it is loaded
+	 *
+	 * @return the pending selection or null
+	 */
+	public Object getPendingSelection()
+	{
+		return pendingSelection;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSize()
+	{
+		return items.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T getElementAt(final int index)
+	{
+		return index < 0 || items.size() <= index ? null : items.get(index);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int indexOf(final Object item)
+	{
+		return item == null ? -1 : items.indexOf(item);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getSelectedItem()
+	{
+		return selectedItem;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * During a load an item that is not loaded yet becomes the pending selection.
+	 */
+	@Override
+	public void setSelectedItem(final Object item)
+	{
+		Object selection = item;
+		if (loading != null && item != null && indexOf(item) == -1)
+		{
+			pendingSelection = item;
+			selection = null;
+		}
+		else
+		{
+			pendingSelection = null;
+		}
+		if (!Objects.equals(selectedItem, selection))
+		{
+			selectedItem = selection;
+			fireContentsChanged(this, -1, -1);
+		}
+	}
+
+	/**
+	 * Gets the executor that runs the loads. The default executor runs every load on its own
+	 * virtual thread if the runtime supports virtual threads, otherwise on a cached pool of daemon
+	 * threads.
+	 *
+	 * @return the executor that runs the loads
+	 */
+	protected ExecutorService getLoaderExecutor()
+	{
+		return ItemLoaderExecutor.getExecutor();
+	}
+
+	/**
+	 * Appends the given batch of the load with the given number if the load is not superseded.
+	 */
+	private void publish(final long loadGeneration, final List<T> batch)
+	{
+		if (loadGeneration != generation || batch.isEmpty())
+		{
+			return;
+		}
+		final int firstIndex = items.size();
+		items.addAll(batch);
+		fireIntervalAdded(this, firstIndex, items.size() - 1);
+		if (pendingSelection != null)
+		{
+			final int index = batch.indexOf(pendingSelection);
+			if (index != -1)
+			{
+				pendingSelection = null;
+				selectedItem = batch.get(index);
+				fireContentsChanged(this, -1, -1);
+			}
+		}
+	}
+
+	/**
+	 * Completes the load with the given number if the load is not superseded.
+	 */
+	private void complete(final long loadGeneration, final Throwable failure)
+	{
+		if (loadGeneration != generation)
+		{
+			return;
+		}
+		final Loading current = loading;
+		loading = null;
+		pendingSelection = null;
+		SharedSwingTimer.cancel(current);
+		if (failure != null)
+		{
+			current.result.completeExceptionally(failure);
+		}
+		else
+		{
+			current.result.complete(items.size());
+		}
+	}
+
+	/**
+	 * The class {@link Loading} runs one load on the loader thread and collects the items in a
+	 * queue. The collected items are taken from the queue on the event dispatch thread, so they are
+	 * always published in the loaded order. A full batch is published as soon as it is collected,
+	 * the remaining items when the oldest of them has waited for the batch delay and when the load
+	 * is finished.
+	 */
+	private final class Loading implements Runnable, Consumer<T>
+	{
+
+		/** The number of this load. */
+		final long loadGeneration;
+
+		/** The source of the items. */
+		final ItemSource<? extends T> source;
+
+		/** The future of this load. */
+		final CompletableFuture<Integer> result = new CompletableFuture<>();
+
+		/** The collected items that are not published yet. */
+		final Queue<T> collected = new ConcurrentLinkedQueue<>();
+
+		/** The number of collected items, counted after an item is added to the queue. */
+		final AtomicInteger collectedCount = new AtomicInteger();
+
+		/** The flag if the publishing of the full batches is requested. */
+		final AtomicBoolean batchesRequested = new AtomicBoolean();
+
+		/** The flag if the publishing of all collected items is scheduled after the delay. */
+		final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+		/** The task that publishes the full batches on the event dispatch thread. */
+		final Runnable publishBatches = () -> publishCollected(false);
+
+		/** The task that publishes all collected items on the event dispatch thread. */
+		final Runnable flush = () -> publishCollected(true);
+
+		/** The task of this load on the executor. */
+		Future<?> task;
+
+		Loading(final long loadGeneration, final ItemSource<? extends T> source)
+		{
+			this.loadGeneration = loadGeneration;
+			this.source = source;
+		}
+
+		@Override
+		public void run()
+		{
+			Throwable failure = null;
+			try
+			{
+				source.load(this);
+				checkCurrent();
+				SwingUtilities.invokeLater(flush);
+			}
+			catch (CancellationException exception)
+			{
+				return;
+			}
+			catch (InterruptedException exception)
+			{
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (Exception exception)
+			{
+				failure = exception;
+			}
+			final Throwable loadFailure = failure;
+			SwingUtilities.invokeLater(() -> complete(loadGeneration, loadFailure));
+		}
+
+		@Override
+		public void accept(final T item)
+		{
+			checkCurrent();
+			collected.add(item);
+			if (flushScheduled.compareAndSet(false, true))
+			{
+				SharedSwingTimer.schedule(this, (int)Math.min(batchDelay, Integer.MAX_VALUE),
+					flush);
+			}
+			if (batchSize <= collectedCount.incrementAndGet()
+				&& batchesRequested.compareAndSet(false, true))
+			{
+				SwingUtilities.invokeLater(publishBatches);
+			}
+		}
+
+		private void checkCurrent()
+		{
+			if (loadGeneration != generation || Thread.currentThread().isInterrupted())
+			{
+				throw new CancellationException("Load superseded");
+			}
+		}
+
+		/**
+		 * Publishes the collected items with one event per batch. The flags are reset before the
+		 * queue is read, so an item that is collected in the meantime is either published here or
+		 * requests the next publishing.
+		 *
+		 * @param all
+		 *            true to publish all collected items, false to publish only the full batches
+		 */
+		private void publishCollected(final boolean all)
+		{
+			if (all)
+			{
+				flushScheduled.set(false);
+			}
+			batchesRequested.set(false);
+			if (loading != this)
+			{
+				collected.clear();
+				return;
+			}
+			while (batchSize <= collectedCount.get() || all && !collected.isEmpty())
+			{
+				final List<T> batch = new ArrayList<>(batchSize);
+				T item;
+				while (batch.size() < batchSize && (item = collected.poll()) != null)
+				{
+					batch.add(item);
+				}
+				collectedCount.addAndGet(-batch.size());
+				publish(loadGeneration, batch);
+			}
+		}
+	}
+}
@@ -0,0 +1,519 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.Objects;
+
+import javax.accessibility.Accessible;
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.plaf.basic.ComboPopup;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link CellMetricsCache} selects the prototype display value of a combo box
+ * automatically. Without a prototype the look and feel renders and measures every item to compute
+ * the preferred size of the combo box and the width of the popup, on the first layout and again
+ * after every change of the model. This cache measures only a sample of the items with the
+ * renderer of the combo box and sets the widest measured item as prototype, so the look and feel
+ * and the list in the popup measure one cell.
+ * <p>
+ * The measured widths are cached by item index and kept consistent on the events of the model: an
+ * added or changed range is sampled with the same density as the whole model, a removed range
+ * drops its widths, and if the widest item is removed the next widest cached item becomes the
+ * prototype without measuring again. The share of samples of a small range is carried over to the
+ * next range until it adds up to one item, so a model that is filled item by item measures only a
+ * few of its items, and the cache drops every second width if it holds more than twice the sample
+ * size. The whole model is sampled again if the combo box gets
+ * another model, renderer or font. An item that is not sampled may be wider than the prototype
+ * and is truncated in the popup, the sample size trades the accuracy against the number of
+ * measured cells.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class CellMetricsCache<T> implements ListDataListener, PropertyChangeListener
+{
+
+	/** The constant for the default number of items that are measured from a model. */
+	public static final int DEFAULT_SAMPLE_SIZE = 64;
+
+	/** The combo box. */
+	private final JComboBox<T> comboBox;
+
+	/** The number of items that are measured from a model. */
+	private final int sampleSize;
+
+	/** The observed model. */
+	private ComboBoxModel<T> model;
+
+	/** The list that is passed to the renderer if the look and feel has no popup list. */
+	private JList<T> measuringList;
+
+	/** The indices of the measured items in ascending order. */
+	private int[] indices = new int[DEFAULT_SAMPLE_SIZE];
+
+	/** The widths of the measured items in the order of the indices, -1 for a null item. */
+	private int[] widths = new int[DEFAULT_SAMPLE_SIZE];
+
+	/** The number of measured items. */
+	private int count;
+
+	/** The index of the widest measured item or -1. */
+	private int widestIndex = -1;
+
+	/** The width of the widest measured item or -1. */
+	private int widestWidth = -1;
+
+	/** The share of samples that is carried over to the next sampled range, less than one. */
+	private double sampleCredit;
+
+	/**
+	 * Constructs a new <code>CellMetricsCache</code> for the given combo box and sample size.
+	 *
+	 * @param comboBox
+	 *            the combo box
+	 * @param sampleSize
+	 *            the number of items that are measured from a model
+	 */
+	public CellMetricsCache(final @NonNull JComboBox<T> comboBox, final int sampleSize)
+	{
+		if (sampleSize < 1)
+		{
+			throw new IllegalArgumentException("sampleSize must be positive: " + sampleSize);
+		}
+		this.comboBox = comboBox;
+		this.sampleSize = sampleSize;
+	}
+
+	/**
+	 * Factory method for create a new {@link CellMetricsCache} with the default sample size and
+	 * installs it in the given combo box
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param comboBox
+	 *            the combo box
+	 * @return the new {@link CellMetricsCache}
+	 */
+	public static <T> CellMetricsCache<T> install(final @NonNull JComboBox<T> comboBox)
+	{
+		return install(comboBox, DEFAULT_SAMPLE_SIZE);
+	}
+
+	/**
+	 * Factory method for create a new {@link CellMetricsCache} with the given sample size and
+	 * installs it in the given combo box
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param comboBox
+	 *            the combo box
+	 * @param sampleSize
+	 *            the number of items that are measured from a model
+	 * @return the new {@link CellMetricsCache}
+	 */
+	public static <T> CellMetricsCache<T> install(final @NonNull JComboBox<T> comboBox,
+		final int sampleSize)
+	{
+		final CellMetricsCache<T> cache = new CellMetricsCache<>(comboBox, sampleSize);
+		comboBox.addPropertyChangeListener("model", cache);
+		comboBox.addPropertyChangeListener("renderer", cache);
+		comboBox.addPropertyChangeListener("font", cache);
+		cache.observe(comboBox.getModel());
+		return cache;
+	}
+
+	/**
+	 * Removes this cache from the combo box. The prototype display value is left as it is.
+	 */
+	public void uninstall()
+	{
+		comboBox.removePropertyChangeListener("model", this);
+		comboBox.removePropertyChangeListener("renderer", this);
+		comboBox.removePropertyChangeListener("font", this);
+		if (model != null)
+		{
+			model.removeListDataListener(this);
+			model = null;
+		}
+		clear();
+	}
+
+	/**
+	 * Gets the number of items whose width is cached
+	 *
+	 * @return the number of items whose width is cached
+	 */
+	public int getCachedCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Gets the cached width of the item at the given index
+	 *
+	 * @param index
+	 *            the index of the item
+	 * @return the cached width or -1 if the item is not measured or null
+	 */
+	public int getWidth(final int index)
+	{
+		final int position = Arrays.binarySearch(indices, 0, count, index);
+		return position < 0 ? -1 : widths[position];
+	}
+
+	/**
+	 * Gets the width of the widest measured item
+	 *
+	 * @return the width of the widest measured item or -1 if no item is measured
+	 */
+	public int getWidestWidth()
+	{
+		return widestWidth;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public void propertyChange(final PropertyChangeEvent event)
+	{
+		if ("model".equals(event.getPropertyName()))
+		{
+			observe((ComboBoxModel<T>)event.getNewValue());
+		}
+		else
+		{
+			resample();
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void intervalAdded(final ListDataEvent event)
+	{
+		if (event.getSource() != model)
+		{
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.max(event.getIndex0(), event.getIndex1());
+		final int length = index1 - index0 + 1;
+		for (int i = count - 1; 0 <= i && index0 <= indices[i]; i--)
+		{
+			indices[i] += length;
+		}
+		if (index0 <= widestIndex)
+		{
+			widestIndex += length;
+		}
+		sample(index0, index1);
+		thin();
+		updatePrototype();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void intervalRemoved(final ListDataEvent event)
+	{
+		if (event.getSource() != model)
+		{
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.max(event.getIndex0(), event.getIndex1());
+		final int length = index1 - index0 + 1;
+		final int from = lowerBound(index0);
+		final int to = lowerBound(index1 + 1);
+		System.arraycopy(indices, to, indices, from, count - to);
+		System.arraycopy(widths, to, widths, from, count - to);
+		count -= to - from;
+		for (int i = from; i < count; i++)
+		{
+			indices[i] -= length;
+		}
+		if (index1 < widestIndex)
+		{
+			widestIndex -= length;
+		}
+		else if (index0 <= widestIndex)
+		{
+			updateWidest();
+		}
+		if (count == 0)
+		{
+			sample(0, model.getSize() - 1);
+		}
+		updatePrototype();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void contentsChanged(final ListDataEvent event)
+	{
+		if (event.getSource() != model || event.getIndex0() < 0 || event.getIndex1() < 0)
+		{
+			// a change of the selected item
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.max(event.getIndex0(), event.getIndex1());
+		final int from = lowerBound(index0);
+		final int to = lowerBound(index1 + 1);
+		System.arraycopy(indices, to, indices, from, count - to);
+		System.arraycopy(widths, to, widths, from, count - to);
+		count -= to - from;
+		if (index0 <= widestIndex && widestIndex <= index1)
+		{
+			updateWidest();
+		}
+		sample(index0, index1);
+		thin();
+		updatePrototype();
+	}
+
+	/**
+	 * Observes the given model instead of the current model and samples it.
+	 *
+	 * @param newModel
+	 *            the new model or null
+	 */
+	private void observe(final ComboBoxModel<T> newModel)
+	{
+		if (model != null)
+		{
+			model.removeListDataListener(this);
+		}
+		model = newModel;
+		if (model != null)
+		{
+			model.addListDataListener(this);
+		}
+		resample();
+	}
+
+	/**
+	 * Drops all cached widths, samples the whole model and updates the prototype.
+	 */
+	private void resample()
+	{
+		clear();
+		if (model != null)
+		{
+			sample(0, model.getSize() - 1);
+		}
+		updatePrototype();
+	}
+
+	/**
+	 * Drops all cached widths.
+	 */
+	private void clear()
+	{
+		count = 0;
+		widestIndex = -1;
+		widestWidth = -1;
+		sampleCredit = 0.0d;
+	}
+
+	/**
+	 * Measures evenly distributed items of the given range. A range of the whole model gets the
+	 * sample size, a smaller range gets the same share of samples as of items. The fraction of the
+	 * share that is not measured is carried over to the next range.
+	 *
+	 * @param index0
+	 *            the index of the first item of the range
+	 * @param index1
+	 *            the index of the last item of the range
+	 */
+	private void sample(final int index0, final int index1)
+	{
+		final int length = index1 - index0 + 1;
+		if (length < 1)
+		{
+			return;
+		}
+		final double share = sampleCredit
+			+ (double)sampleSize * length / Math.max(length, model.getSize());
+		final int samples = (int)Math.min(length, (long)share);
+		sampleCredit = samples == length ? 0.0d : share - samples;
+		final JList<T> list = getMeasuringList();
+		final ListCellRenderer<? super T> renderer = comboBox.getRenderer();
+		for (int k = 0; k < samples; k++)
+		{
+			final int index = samples == 1
+				? index0
+				: index0 + (int)((long)k * (length - 1) / (samples - 1));
+			measure(list, renderer, index);
+		}
+	}
+
+	/**
+	 * Measures the item at the given index with the given renderer and caches its width.
+	 *
+	 * @param list
+	 *            the list that is passed to the renderer
+	 * @param renderer
+	 *            the renderer
+	 * @param index
+	 *            the index of the item
+	 */
+	private void measure(final JList<T> list, final ListCellRenderer<? super T> renderer,
+		final int index)
+	{
+		int position = Arrays.binarySearch(indices, 0, count, index);
+		if (0 <= position)
+		{
+			return;
+		}
+		position = -position - 1;
+		final T item = model.getElementAt(index);
+		final int width = item == null || renderer == null
+			? -1
+			: renderer.getListCellRendererComponent(list, item, -1, false, false)
+				.getPreferredSize().width;
+		if (count == indices.length)
+		{
+			indices = Arrays.copyOf(indices, count * 2);
+			widths = Arrays.copyOf(widths, count * 2);
+		}
+		System.arraycopy(indices, position, indices, position + 1, count - position);
+		System.arraycopy(widths, position, widths, position + 1, count - position);
+		indices[position] = index;
+		widths[position] = width;
+		count++;
+		if (widestWidth < width)
+		{
+			widestIndex = index;
+			widestWidth = width;
+		}
+	}
+
+	/**
+	 * Drops every second cached width except the width of the widest item if more than twice the
+	 * sample size of widths are cached.
+	 */
+	private void thin()
+	{
+		if (count <= 2 * sampleSize)
+		{
+			return;
+		}
+		int kept = 0;
+		for (int i = 0; i < count; i++)
+		{
+			if (i % 2 == 0 || indices[i] == widestIndex)
+			{
+				indices[kept] = indices[i];
+				widths[kept] = widths[i];
+				kept++;
+			}
+		}
+		count = kept;
+	}
+
+	/**
+	 * Sets the widest cached item as widest item.
+	 */
+	private void updateWidest()
+	{
+		widestIndex = -1;
+		widestWidth = -1;
+		for (int i = 0; i < count; i++)
+		{
+			if (widestWidth < widths[i])
+			{
+				widestIndex = indices[i];
+				widestWidth = widths[i];
+			}
+		}
+	}
+
+	/**
+	 * Sets the widest item as prototype display value of the combo box if it has changed.
+	 */
+	private void updatePrototype()
+	{
+		final T prototype = model == null || widestIndex < 0
+			? null
+			: model.getElementAt(widestIndex);
+		if (!Objects.equals(prototype, comboBox.getPrototypeDisplayValue()))
+		{
+			comboBox.setPrototypeDisplayValue(prototype);
+		}
+	}
+
+	/**
+	 * Gets the position of the first cached index that is not less than the given index.
+	 *
+	 * @param index
+	 *            the index
+	 * @return the position in the cached indices
+	 */
+	private int lowerBound(final int index)
+	{
+		final int position = Arrays.binarySearch(indices, 0, count, index);
+		return position < 0 ? -position - 1 : position;
+	}
+
+	/**
+	 * Gets the list that is passed to the renderer, the list of the popup if the look and feel
+	 * has one.
+	 *
+	 * @return the list that is passed to the renderer
+	 */
+	@SuppressWarnings("unchecked")
+	private JList<T> getMeasuringList()
+	{
+		final Accessible popup = comboBox.getUI() != null
+			? comboBox.getUI().getAccessibleChild(comboBox, 0)
+			: null;
+		if (popup instanceof ComboPopup comboPopup)
+		{
+			return (JList<T>)comboPopup.getList();
+		}
+		if (measuringList == null)
+		{
+			measuringList = new JList<>();
+		}
+		return measuringList;
+	}
+}
@@ -0,0 +1,178 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link EnumComboBoxModel} is a mutable combo box model for enum constants that keeps
+ * the index of the first occurrence of each constant in an array indexed by the ordinal. A lookup
+ * needs no hashing at all and the array is only rebuilt on the next lookup after an insertion or
+ * removal in the middle of the model.
+ *
+ * @param <E>
+ *            the type of the enum
+ */
+public class EnumComboBoxModel<E extends Enum<E>> extends AbstractIndexedComboBoxModel<E>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The class of the enum. */
+	private final Class<E> enumClass;
+
+	/** The index of the first occurrence of each constant by its ordinal or -1. */
+	private final int[] positions;
+
+	/** The flag that indicates whether the positions have to be rebuilt before a lookup. */
+	private boolean dirty;
+
+	/**
+	 * Constructs a new <code>EnumComboBoxModel</code> with the given constants and selects the
+	 * first constant.
+	 *
+	 * @param enumClass
+	 *            the class of the enum
+	 * @param constants
+	 *            the constants
+	 */
+	public EnumComboBoxModel(final @NonNull Class<E> enumClass,
+		final @NonNull Collection<? extends E> constants)
+	{
+		this.enumClass = enumClass;
+		this.positions = new int[enumClass.getEnumConstants().length];
+		Arrays.fill(this.positions, -1);
+		addAll(constants);
+		if (0 < getSize())
+		{
+			setSelectedItem(getElementAt(0));
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link EnumComboBoxModel} with all constants of the given
+	 * enum class
+	 *
+	 * @param <E>
+	 *            the type of the enum
+	 * @param enumClass
+	 *            the class of the enum
+	 * @return the new {@link EnumComboBoxModel}
+	 */
+	public static <E extends Enum<E>> EnumComboBoxModel<E> of(final @NonNull Class<E> enumClass)
+	{
+		return new EnumComboBoxModel<>(enumClass, Arrays.asList(enumClass.getEnumConstants()));
+	}
+
+	/**
+	 * Factory method for create a new {@link EnumComboBoxModel} with the given constants
+	 *
+	 * @param <E>
+	 *            the type of the enum
+	 * @param enumClass
+	 *            the class of the enum
+	 * @param constants
+	 *            the constants
+	 * @return the new {@link EnumComboBoxModel}
+	 */
+	public static <E extends Enum<E>> EnumComboBoxModel<E> of(final @NonNull Class<E> enumClass,
+		final @NonNull Collection<? extends E> constants)
+	{
+		return new EnumComboBoxModel<>(enumClass, constants);
+	}
+
+	/**
+	 * Gets the class of the enum
+	 *
+	 * @return the class of the enum
+	 */
+	public Class<E> getEnumClass()
+	{
+		return enumClass;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int lookup(final Object item)
+	{
+		if (!enumClass.isInstance(item))
+		{
+			return -1;
+		}
+		if (dirty)
+		{
+			Arrays.fill(positions, -1);
+			for (int i = getSize() - 1; 0 <= i; i--)
+			{
+				final E constant = getElementAt(i);
+				if (constant != null)
+				{
+					positions[constant.ordinal()] = i;
+				}
+			}
+			dirty = false;
+		}
+		return positions[enumClass.cast(item).ordinal()];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void onInserted(final int index0, final int index1)
+	{
+		if (dirty || index1 != getSize() - 1)
+		{
+			dirty = true;
+			return;
+		}
+		for (int i = index0; i <= index1; i++)
+		{
+			final E constant = getElementAt(i);
+			if (constant != null && positions[constant.ordinal()] == -1)
+			{
+				positions[constant.ordinal()] = i;
+			}
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void onRemoved(final int index0, final List<E> removedItems)
+	{
+		dirty = true;
+	}
+}
@@ -0,0 +1,651 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.awt.Component;
+import java.awt.event.ActionListener;
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxEditor;
+import javax.swing.JComboBox;
+import javax.swing.SwingUtilities;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.JTextComponent;
+
+import io.github.astrapi69.swing.listener.document.DocumentListenerAdapter;
+import lombok.NonNull;
+
+/**
+ * The class {@link FilteredComboBoxModel} is a combo box model that shows the items of a large
+ * item set that match a filter. The filter is evaluated in the background on a
+ * {@link ForkJoinPool}: the items are split into chunks that are filtered by a parallel stream,
+ * and only the final filtered view is published to the event dispatch thread. A new filter cancels
+ * the evaluation of the previous one, so the chunks of a stale filter are skipped while the user
+ * keeps typing.
+ * <p>
+ * The filtered view is kept as an array of the indices of the matching items. A filter text that
+ * contains the text of the published view is only evaluated against the items of this view, so
+ * narrowing the filter by typing more characters gets faster with every key. The selected item is
+ * kept when the view changes, even if it does not match the filter.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class FilteredComboBoxModel<T> extends AbstractListModel<T>
+	implements IndexedComboBoxModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The constant for the default number of items that are filtered by one task. */
+	public static final int DEFAULT_CHUNK_SIZE = 16_384;
+
+	/** The function that returns the display string of an item. */
+	private final transient Function<? super T, String> displayFunction;
+
+	/** The number of items that are filtered by one task. */
+	private final int chunkSize;
+
+	/** The item set of the published view, replaced only together with the view. */
+	private List<T> items;
+
+	/** The item set that is given last, new filters are evaluated against it. */
+	private List<T> latestItems;
+
+	/** The indices of the items in the view or null if the view shows all items. */
+	private int[] view;
+
+	/** The number of items in the view. */
+	private int viewSize;
+
+	/** The filter text of the view or null if the view is not filtered by a text. */
+	private String viewText;
+
+	/** The filter of the view or null if the view shows all items. */
+	private transient Predicate<? super T> viewFilter;
+
+	/** The selected item. */
+	private Object selectedItem;
+
+	/** The generation of the current filter, a newer filter cancels the older ones. */
+	private volatile long generation;
+
+	/** The result of the evaluation of the current filter or null. */
+	private transient CompletableFuture<Integer> pendingResult;
+
+	/** The flag that indicates whether a view is published. */
+	private transient boolean publishing;
+
+	/**
+	 * Constructs a new <code>FilteredComboBoxModel</code> with the given items, display function
+	 * and chunk size.
+	 *
+	 * @param items
+	 *            the items
+	 * @param displayFunction
+	 *            the function that returns the display string of an item
+	 * @param chunkSize
+	 *            the number of items that are filtered by one task
+	 */
+	public FilteredComboBoxModel(final @NonNull List<? extends T> items,
+		final @NonNull Function<? super T, String> displayFunction, final int chunkSize)
+	{
+		if (chunkSize < 1)
+		{
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		this.items = Collections.unmodifiableList(new ArrayList<>(items));
+		this.latestItems = this.items;
+		this.displayFunction = displayFunction;
+		this.chunkSize = chunkSize;
+		this.viewSize = this.items.size();
+	}
+
+	/**
+	 * Factory method for create a new {@link FilteredComboBoxModel} that filters the string value
+	 * of the given items
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @return the new {@link FilteredComboBoxModel}
+	 */
+	public static <T> FilteredComboBoxModel<T> of(final @NonNull List<? extends T> items)
+	{
+		return new FilteredComboBoxModel<>(items, String::valueOf, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Factory method for create a new {@link FilteredComboBoxModel} that filters the display
+	 * strings of the given items
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @param displayFunction
+	 *            the function that returns the display string of an item
+	 * @return the new {@link FilteredComboBoxModel}
+	 */
+	public static <T> FilteredComboBoxModel<T> of(final @NonNull List<? extends T> items,
+		final @NonNull Function<? super T, String> displayFunction)
+	{
+		return new FilteredComboBoxModel<>(items, displayFunction, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * Makes the given combo box editable and filters its model with the text of the editor. The
+	 * editor of the combo box is wrapped, so only the text typed by the user changes the filter,
+	 * not the selected item that is shown in the editor, and the look and feel does not replace
+	 * the typed text with the selected item when it is notified of a new view. The popup is shown
+	 * when a filtered view is published while the editor has the focus.
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param comboBox
+	 *            the combo box with a {@link FilteredComboBoxModel}
+	 * @return the model of the combo box
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> FilteredComboBoxModel<T> install(final @NonNull JComboBox<T> comboBox)
+	{
+		if (!(comboBox.getModel() instanceof FilteredComboBoxModel))
+		{
+			throw new IllegalArgumentException(
+				"the model of the combo box is not a FilteredComboBoxModel");
+		}
+		final FilteredComboBoxModel<T> model = (FilteredComboBoxModel<T>)comboBox.getModel();
+		comboBox.setEditable(true);
+		final FilterEditor filterEditor = new FilterEditor(comboBox.getEditor(), model);
+		comboBox.setEditor(filterEditor);
+		final JTextComponent editor = (JTextComponent)filterEditor.getEditorComponent();
+		editor.getDocument().addDocumentListener(new DocumentListenerAdapter()
+		{
+			@Override
+			public void onDocumentChanged(final DocumentEvent documentEvent)
+			{
+				if (filterEditor.settingItem)
+				{
+					return;
+				}
+				model.setFilterText(editor.getText()).thenRun(() -> {
+					if (editor.isFocusOwner() && 0 < model.getSize())
+					{
+						comboBox.showPopup();
+					}
+				});
+			}
+		});
+		return model;
+	}
+
+	/**
+	 * Gets the number of items in the item set that is given last
+	 *
+	 * @return the number of items in the item set
+	 */
+	public int getItemCount()
+	{
+		return latestItems.size();
+	}
+
+	/**
+	 * Replaces the item set and evaluates the filter of the current view against the new items.
+	 * The current view and its items are shown until the new view is published.
+	 *
+	 * @param newItems
+	 *            the new items
+	 * @return the future that completes with the size of the view when it is published
+	 */
+	public CompletableFuture<Integer> setItems(final @NonNull List<? extends T> newItems)
+	{
+		latestItems = Collections.unmodifiableList(new ArrayList<>(newItems));
+		return evaluate(viewText, viewFilter, latestItems, null, latestItems.size());
+	}
+
+	/**
+	 * Filters the items whose display string contains the given text, ignoring the case. An empty
+	 * text shows all items.
+	 *
+	 * @param text
+	 *            the filter text or null
+	 * @return the future that completes with the size of the view when it is published, or is
+	 *         cancelled if another filter is set before
+	 */
+	public CompletableFuture<Integer> setFilterText(final String text)
+	{
+		if (text == null || text.isEmpty())
+		{
+			return evaluate(null, null, latestItems, null, latestItems.size());
+		}
+		final boolean published = items == latestItems;
+		if (published && text.equals(viewText) && !isFiltering())
+		{
+			return CompletableFuture.completedFuture(viewSize);
+		}
+		if (published && viewText != null && containsIgnoreCase(text, viewText))
+		{
+			// every match of the new text matches the text of the view
+			return evaluate(text, item -> containsIgnoreCase(display(item), text), items, view,
+				viewSize);
+		}
+		return evaluate(text, item -> containsIgnoreCase(display(item), text), latestItems, null,
+			latestItems.size());
+	}
+
+	/**
+	 * Filters the items that match the given filter.
+	 *
+	 * @param filter
+	 *            the filter that is evaluated on the threads of the pool or null to show all
+	 *            items
+	 * @return the future that completes with the size of the view when it is published, or is
+	 *         cancelled if another filter is set before
+	 */
+	public CompletableFuture<Integer> setFilter(final Predicate<? super T> filter)
+	{
+		return evaluate(null, filter, latestItems, null, latestItems.size());
+	}
+
+	/**
+	 * Cancels the evaluation of the current filter, the current view is kept.
+	 */
+	public void cancelFiltering()
+	{
+		generation++;
+		if (pendingResult != null)
+		{
+			pendingResult.cancel(false);
+			pendingResult = null;
+		}
+	}
+
+	/**
+	 * Checks if a filter is evaluated
+	 *
+	 * @return true if a filter is evaluated
+	 */
+	public boolean isFiltering()
+	{
+		return pendingResult != null && !pendingResult.isDone();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The view is scanned for the item.
+	 */
+	@Override
+	public int indexOf(final Object item)
+	{
+		for (int i = 0; i < viewSize; i++)
+		{
+			if (Objects.equals(item, getElementAt(i)))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSize()
+	{
+		return viewSize;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public T getElementAt(final int index)
+	{
+		if (index < 0 || viewSize <= index)
+		{
+			return null;
+		}
+		return items.get(view == null ? index : view[index]);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getSelectedItem()
+	{
+		return selectedItem;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSelectedItem(final Object item)
+	{
+		if (!Objects.equals(selectedItem, item))
+		{
+			selectedItem = item;
+			fireContentsChanged(this, -1, -1);
+		}
+	}
+
+	/**
+	 * Gets the pool that evaluates the filters. The default pool is the common pool.
+	 *
+	 * @return the pool that evaluates the filters
+	 */
+	protected ForkJoinPool getFilterPool()
+	{
+		return ForkJoinPool.commonPool();
+	}
+
+	/**
+	 * Starts the evaluation of the given filter against the given base view of the given item set
+	 * and cancels the evaluation of the previous filter.
+	 *
+	 * @param text
+	 *            the filter text or null
+	 * @param filter
+	 *            the filter or null to show all items
+	 * @param filteredItems
+	 *            the item set that is published with the view
+	 * @param base
+	 *            the indices of the items to filter or null for all items
+	 * @param baseSize
+	 *            the number of items to filter
+	 * @return the future that completes with the size of the view when it is published
+	 */
+	private CompletableFuture<Integer> evaluate(final String text,
+		final Predicate<? super T> filter, final List<T> filteredItems, final int[] base,
+		final int baseSize)
+	{
+		cancelFiltering();
+		final long filterGeneration = generation;
+		final CompletableFuture<Integer> result = new CompletableFuture<>();
+		if (filter == null)
+		{
+			publish(filterGeneration, filteredItems, text, null, null, filteredItems.size(),
+				result);
+			return result;
+		}
+		pendingResult = result;
+		getFilterPool().execute(() -> {
+			try
+			{
+				final int[] matches = filter(filterGeneration, filteredItems, filter, base,
+					baseSize);
+				SwingUtilities.invokeLater(() -> publish(filterGeneration, filteredItems, text,
+					filter, matches, matches.length, result));
+			}
+			catch (final CancellationException exception)
+			{
+				result.cancel(false);
+			}
+			catch (final RuntimeException exception)
+			{
+				result.completeExceptionally(exception);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Filters the given items in chunks with a parallel stream. Every chunk checks before it
+	 * starts if the filter is still current.
+	 *
+	 * @param filterGeneration
+	 *            the generation of the filter
+	 * @param filteredItems
+	 *            the item set
+	 * @param filter
+	 *            the filter
+	 * @param base
+	 *            the indices of the items to filter or null for all items
+	 * @param baseSize
+	 *            the number of items to filter
+	 * @return the indices of the matching items in ascending order
+	 */
+	private int[] filter(final long filterGeneration, final List<T> filteredItems,
+		final Predicate<? super T> filter, final int[] base, final int baseSize)
+	{
+		final int chunks = (baseSize + chunkSize - 1) / chunkSize;
+		final int[][] parts = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+			if (filterGeneration != generation)
+			{
+				throw new CancellationException();
+			}
+			final int from = chunk * chunkSize;
+			final int to = Math.min(baseSize, from + chunkSize);
+			final int[] part = new int[to - from];
+			int count = 0;
+			for (int i = from; i < to; i++)
+			{
+				final int index = base == null ? i : base[i];
+				if (filter.test(filteredItems.get(index)))
+				{
+					part[count++] = index;
+				}
+			}
+			return count == part.length ? part : Arrays.copyOf(part, count);
+		}).toArray(int[][]::new);
+		int size = 0;
+		for (final int[] part : parts)
+		{
+			size += part.length;
+		}
+		final int[] matches = new int[size];
+		int position = 0;
+		for (final int[] part : parts)
+		{
+			System.arraycopy(part, 0, matches, position, part.length);
+			position += part.length;
+		}
+		return matches;
+	}
+
+	/**
+	 * Publishes the given view and its item set if its filter is still current and fires the
+	 * events for the changed size and contents.
+	 *
+	 * @param filterGeneration
+	 *            the generation of the filter
+	 * @param publishedItems
+	 *            the item set of the view
+	 * @param text
+	 *            the filter text or null
+	 * @param filter
+	 *            the filter or null for all items
+	 * @param matches
+	 *            the indices of the matching items or null for all items
+	 * @param size
+	 *            the number of items in the view
+	 * @param result
+	 *            the future that completes with the size of the view
+	 */
+	private void publish(final long filterGeneration, final List<T> publishedItems,
+		final String text, final Predicate<? super T> filter, final int[] matches, final int size,
+		final CompletableFuture<Integer> result)
+	{
+		if (filterGeneration != generation)
+		{
+			result.cancel(false);
+			return;
+		}
+		pendingResult = null;
+		final int oldSize = viewSize;
+		items = publishedItems;
+		view = matches;
+		viewSize = size;
+		viewText = text;
+		viewFilter = filter;
+		publishing = true;
+		try
+		{
+			if (size < oldSize)
+			{
+				fireIntervalRemoved(this, size, oldSize - 1);
+			}
+			else if (oldSize < size)
+			{
+				fireIntervalAdded(this, oldSize, size - 1);
+			}
+			final int changed = Math.min(oldSize, size);
+			if (0 < changed)
+			{
+				fireContentsChanged(this, 0, changed - 1);
+			}
+		}
+		finally
+		{
+			publishing = false;
+		}
+		result.complete(size);
+	}
+
+	/**
+	 * Gets the display string of the given item.
+	 *
+	 * @param item
+	 *            the item
+	 * @return the display string of the given item
+	 */
+	private String display(final T item)
+	{
+		final String display = displayFunction.apply(item);
+		return display == null ? "" : display;
+	}
+
+	/**
+	 * Checks if the given text contains the given part, ignoring the case, without creating a
+	 * lower case copy of the text.
+	 *
+	 * @param text
+	 *            the text
+	 * @param part
+	 *            the part
+	 * @return true if the text contains the part
+	 */
+	private static boolean containsIgnoreCase(final String text, final String part)
+	{
+		final int last = text.length() - part.length();
+		for (int i = 0; i <= last; i++)
+		{
+			if (text.regionMatches(true, i, part, 0, part.length()))
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+	/**
+	 * The class {@link FilterEditor} delegates to the editor of a combo box, marks the changes of
+	 * the text by a new item and ignores the item that the look and feel sets while a view is
+	 * published.
+	 */
+	private static class FilterEditor implements ComboBoxEditor
+	{
+
+		/** The editor of the combo box. */
+		private final ComboBoxEditor delegate;
+
+		/** The filtered model. */
+		private final FilteredComboBoxModel<?> model;
+
+		/** The flag that indicates whether the text is changed by a new item. */
+		private boolean settingItem;
+
+		private FilterEditor(final ComboBoxEditor delegate, final FilteredComboBoxModel<?> model)
+		{
+			this.delegate = delegate;
+			this.model = model;
+		}
+
+		@Override
+		public Component getEditorComponent()
+		{
+			return delegate.getEditorComponent();
+		}
+
+		@Override
+		public void setItem(final Object item)
+		{
+			if (model.publishing)
+			{
+				return;
+			}
+			settingItem = true;
+			try
+			{
+				delegate.setItem(item);
+			}
+			finally
+			{
+				settingItem = false;
+			}
+		}
+
+		@Override
+		public Object getItem()
+		{
+			return delegate.getItem();
+		}
+
+		@Override
+		public void selectAll()
+		{
+			delegate.selectAll();
+		}
+
+		@Override
+		public void addActionListener(final ActionListener listener)
+		{
+			delegate.addActionListener(listener);
+		}
+
+		@Override
+		public void removeActionListener(final ActionListener listener)
+		{
+			delegate.removeActionListener(listener);
+		}
+	}
+}
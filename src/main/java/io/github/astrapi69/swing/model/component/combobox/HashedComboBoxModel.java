@@ -0,0 +1,211 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link HashedComboBoxModel} is a mutable combo box model that keeps a hash index from
+ * each item to the index of its first occurrence, so {@link #indexOf(Object)} and with it the
+ * selection of an item in a {@link io.github.astrapi69.swing.model.component.JMComboBox} takes
+ * constant time instead of a scan over the model.
+ * <p>
+ * Appended items are indexed immediately. An insertion or removal in the middle only marks the
+ * index as valid up to the changed position and the rest is reindexed on the next lookup, so a
+ * series of changes costs one reindex. The items have to implement {@link Object#hashCode()}
+ * consistently with {@link Object#equals(Object)} and must not change their hash code while they
+ * are elements of this model.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class HashedComboBoxModel<T> extends AbstractIndexedComboBoxModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The index of the first occurrence of each item that is indexed. */
+	private final Map<Object, Integer> index = new HashMap<>();
+
+	/** The number of leading items whose entries in the index are valid. */
+	private int validUpTo;
+
+	/**
+	 * Constructs a new empty <code>HashedComboBoxModel</code>.
+	 */
+	public HashedComboBoxModel()
+	{
+	}
+
+	/**
+	 * Constructs a new <code>HashedComboBoxModel</code> with the given items and selects the first
+	 * item.
+	 *
+	 * @param items
+	 *            the items
+	 */
+	public HashedComboBoxModel(final @NonNull Collection<? extends T> items)
+	{
+		addAll(items);
+		if (0 < getSize())
+		{
+			setSelectedItem(getElementAt(0));
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link HashedComboBoxModel} with the given items
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @return the new {@link HashedComboBoxModel}
+	 */
+	@SafeVarargs
+	public static <T> HashedComboBoxModel<T> of(final @NonNull T... items)
+	{
+		return new HashedComboBoxModel<>(Arrays.asList(items));
+	}
+
+	/**
+	 * Factory method for create a new {@link HashedComboBoxModel} with the given items
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @return the new {@link HashedComboBoxModel}
+	 */
+	public static <T> HashedComboBoxModel<T> of(final @NonNull Collection<? extends T> items)
+	{
+		return new HashedComboBoxModel<>(items);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected int lookup(final Object item)
+	{
+		if (validUpTo < getSize())
+		{
+			reindex();
+		}
+		final Integer position = index.get(item);
+		return position == null ? -1 : position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void onInserted(final int index0, final int index1)
+	{
+		if (index0 == validUpTo && index1 == getSize() - 1)
+		{
+			for (int i = index0; i <= index1; i++)
+			{
+				putIfAbsent(getElementAt(i), i);
+			}
+			validUpTo = index1 + 1;
+		}
+		else
+		{
+			validUpTo = Math.min(validUpTo, index0);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void onRemoved(final int index0, final List<T> removedItems)
+	{
+		if (getSize() == 0)
+		{
+			index.clear();
+			validUpTo = 0;
+			return;
+		}
+		validUpTo = Math.min(validUpTo, index0);
+		for (final T item : removedItems)
+		{
+			final Integer position = item == null ? null : index.get(item);
+			if (position != null && validUpTo <= position)
+			{
+				index.remove(item);
+			}
+		}
+	}
+
+	/**
+	 * Reindexes the items after the valid part of the index. The entries of these items are
+	 * removed first unless they point into the valid part, then the first occurrences are put.
+	 */
+	private void reindex()
+	{
+		final int size = getSize();
+		for (int i = validUpTo; i < size; i++)
+		{
+			final T item = getElementAt(i);
+			final Integer position = item == null ? null : index.get(item);
+			if (position != null && validUpTo <= position)
+			{
+				index.remove(item);
+			}
+		}
+		for (int i = validUpTo; i < size; i++)
+		{
+			putIfAbsent(getElementAt(i), i);
+		}
+		validUpTo = size;
+	}
+
+	/**
+	 * Puts the given position for the given item if the item is not indexed yet.
+	 *
+	 * @param item
+	 *            the item
+	 * @param position
+	 *            the position of the item
+	 */
+	private void putIfAbsent(final T item, final int position)
+	{
+		if (item != null)
+		{
+			index.putIfAbsent(item, position);
+		}
+	}
+}
@@ -0,0 +1,50 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import javax.swing.ComboBoxModel;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * The interface {@link IndexedComboBoxModel} is a {@link ComboBoxModel} that finds the index of an
+ * item without a linear scan over its elements. {@link JMComboBox} uses the index to select an
+ * item and to get the selected index, so a large model is not iterated on a selection.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public interface IndexedComboBoxModel<T> extends ComboBoxModel<T>
+{
+
+	/**
+	 * Gets the index of the given item
+	 *
+	 * @param item
+	 *            the item
+	 * @return the index of the given item or -1 if the item is not an element of this model
+	 */
+	int indexOf(Object item);
+}
@@ -0,0 +1,543 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.awt.AWTEvent;
+import java.awt.EventQueue;
+import java.awt.event.InputEvent;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Function;
+
+import javax.swing.ComboBoxModel;
+import javax.swing.JComboBox;
+import javax.swing.ListModel;
+import javax.swing.UIManager;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link IndexedKeySelectionManager} is a type-ahead key selection manager for a combo
+ * box with many items. It behaves like the default key selection manager of the basic look and
+ * feel: the typed keys are collected to a prefix while they are typed in quick succession and a
+ * repeated first key cycles through the items with this letter. The default manager converts
+ * every item to a string on every key, this manager builds an index of the display strings once
+ * and resolves a key with a binary search for the prefix.
+ * <p>
+ * The index is a sorted array of the item indices ordered by their upper case display strings. It
+ * is built on the first key and updated incrementally on the events of the combo box model, only
+ * the added or changed items are converted to a string. The index is dropped if the combo box gets
+ * another model or this manager is replaced.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class IndexedKeySelectionManager<T>
+	implements JComboBox.KeySelectionManager, ListDataListener, PropertyChangeListener
+{
+
+	/** The constant for the default time in milliseconds in which typed keys form a prefix. */
+	public static final long DEFAULT_TIME_FACTOR = 1000L;
+
+	/** The combo box. */
+	private final JComboBox<T> comboBox;
+
+	/** The function that returns the display string of an item. */
+	private final Function<? super T, String> displayFunction;
+
+	/** The time in milliseconds in which typed keys form a prefix. */
+	private final long timeFactor;
+
+	/** The indexed model or null if no index is built. */
+	private ListModel<?> indexedModel;
+
+	/** The upper case display strings by item index, null for an item without display string. */
+	private List<String> keys;
+
+	/** The item indices with a display string ordered by display string and index. */
+	private int[] order;
+
+	/** The number of used entries in the order. */
+	private int orderSize;
+
+	/** The prefix that is searched. */
+	private String prefix = "";
+
+	/** The keys that are typed in quick succession. */
+	private String typedString = "";
+
+	/** The time of the last key. */
+	private long lastTime;
+
+	/** The index of the last selected item, a hint for the selected index. */
+	private int lastSelectedIndex = -1;
+
+	/**
+	 * Constructs a new <code>IndexedKeySelectionManager</code> for the given combo box and display
+	 * function.
+	 *
+	 * @param comboBox
+	 *            the combo box
+	 * @param displayFunction
+	 *            the function that returns the display string of an item
+	 */
+	public IndexedKeySelectionManager(final @NonNull JComboBox<T> comboBox,
+		final @NonNull Function<? super T, String> displayFunction)
+	{
+		this.comboBox = comboBox;
+		this.displayFunction = displayFunction;
+		Object timeFactorValue = UIManager.get("ComboBox.timeFactor");
+		this.timeFactor = timeFactorValue instanceof Long
+			? (Long)timeFactorValue
+			: DEFAULT_TIME_FACTOR;
+		comboBox.addPropertyChangeListener("model", this);
+	}
+
+	/**
+	 * Factory method for create a new {@link IndexedKeySelectionManager} that uses the string
+	 * value of the items and installs it in the given combo box
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param comboBox
+	 *            the combo box
+	 * @return the new {@link IndexedKeySelectionManager}
+	 */
+	public static <T> IndexedKeySelectionManager<T> install(final @NonNull JComboBox<T> comboBox)
+	{
+		return install(comboBox, String::valueOf);
+	}
+
+	/**
+	 * Factory method for create a new {@link IndexedKeySelectionManager} with the given display
+	 * function and installs it in the given combo box
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param comboBox
+	 *            the combo box
+	 * @param displayFunction
+	 *            the function that returns the display string of an item
+	 * @return the new {@link IndexedKeySelectionManager}
+	 */
+	public static <T> IndexedKeySelectionManager<T> install(final @NonNull JComboBox<T> comboBox,
+		final @NonNull Function<? super T, String> displayFunction)
+	{
+		IndexedKeySelectionManager<T> keySelectionManager = new IndexedKeySelectionManager<>(
+			comboBox, displayFunction);
+		comboBox.setKeySelectionManager(keySelectionManager);
+		return keySelectionManager;
+	}
+
+	/**
+	 * Checks if the index is built
+	 *
+	 * @return true if the index is built otherwise false
+	 */
+	public boolean isIndexed()
+	{
+		return indexedModel != null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int selectionForKey(final char aKey, final ComboBoxModel<?> aModel)
+	{
+		if (indexedModel != aModel)
+		{
+			buildIndex(aModel);
+		}
+		final long time = getCurrentTime();
+		if (lastTime == 0L)
+		{
+			prefix = "";
+			typedString = "";
+		}
+		int startIndex = getSelectedIndex(aModel);
+		if (time - lastTime < timeFactor)
+		{
+			typedString += aKey;
+			if (prefix.length() == 1 && aKey == prefix.charAt(0))
+			{
+				// a repeated first key moves to the next item with the same letter
+				startIndex++;
+			}
+			else
+			{
+				prefix = typedString;
+			}
+		}
+		else
+		{
+			startIndex++;
+			typedString = String.valueOf(aKey);
+			prefix = typedString;
+		}
+		lastTime = time;
+		if (startIndex < 0 || aModel.getSize() <= startIndex)
+		{
+			startIndex = 0;
+		}
+		final int index = nextMatch(prefix, startIndex);
+		if (index != -1)
+		{
+			lastSelectedIndex = index;
+		}
+		return index;
+	}
+
+	/**
+	 * Gets the index of the next item whose display string starts with the given prefix, ignoring
+	 * case. The search starts at the given index and wraps around.
+	 *
+	 * @param searchPrefix
+	 *            the prefix
+	 * @param startIndex
+	 *            the index to start with
+	 * @return the index of the next matching item or -1 if no item matches
+	 */
+	public int nextMatch(final @NonNull String searchPrefix, final int startIndex)
+	{
+		if (indexedModel == null)
+		{
+			buildIndex(comboBox.getModel());
+		}
+		final String key = toKey(searchPrefix);
+		final int first = lowerBound(key);
+		int next = -1;
+		int lowest = -1;
+		for (int i = first; i < orderSize && keys.get(order[i]).startsWith(key); i++)
+		{
+			final int index = order[i];
+			if (index == startIndex)
+			{
+				return index;
+			}
+			if (startIndex < index && (next == -1 || index < next))
+			{
+				next = index;
+			}
+			if (lowest == -1 || index < lowest)
+			{
+				lowest = index;
+			}
+		}
+		return next != -1 ? next : lowest;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void intervalAdded(final ListDataEvent event)
+	{
+		if (!isCurrent(event))
+		{
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.max(event.getIndex0(), event.getIndex1());
+		final int count = index1 - index0 + 1;
+		for (int i = 0; i < orderSize; i++)
+		{
+			if (index0 <= order[i])
+			{
+				order[i] += count;
+			}
+		}
+		final List<String> addedKeys = new ArrayList<>(count);
+		for (int index = index0; index <= index1; index++)
+		{
+			addedKeys.add(keyAt(index));
+		}
+		keys.addAll(index0, addedKeys);
+		mergeIntoOrder(index0, index1);
+		shiftLastSelectedIndex(index0, count);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void intervalRemoved(final ListDataEvent event)
+	{
+		if (!isCurrent(event))
+		{
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.min(Math.max(event.getIndex0(), event.getIndex1()),
+			keys.size() - 1);
+		if (index1 < index0)
+		{
+			return;
+		}
+		final int count = index1 - index0 + 1;
+		int size = 0;
+		for (int i = 0; i < orderSize; i++)
+		{
+			final int index = order[i];
+			if (index < index0)
+			{
+				order[size++] = index;
+			}
+			else if (index1 < index)
+			{
+				order[size++] = index - count;
+			}
+		}
+		orderSize = size;
+		keys.subList(index0, index1 + 1).clear();
+		if (index1 < lastSelectedIndex)
+		{
+			lastSelectedIndex -= count;
+		}
+		else if (index0 <= lastSelectedIndex)
+		{
+			lastSelectedIndex = -1;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * A change of the selection only is ignored, the display strings of changed items are updated.
+	 */
+	@Override
+	public void contentsChanged(final ListDataEvent event)
+	{
+		if (!isCurrent(event) || event.getIndex0() < 0 || event.getIndex1() < 0)
+		{
+			return;
+		}
+		final int index0 = Math.min(event.getIndex0(), event.getIndex1());
+		final int index1 = Math.min(Math.max(event.getIndex0(), event.getIndex1()),
+			keys.size() - 1);
+		int size = 0;
+		for (int i = 0; i < orderSize; i++)
+		{
+			final int index = order[i];
+			if (index < index0 || index1 < index)
+			{
+				order[size++] = index;
+			}
+		}
+		orderSize = size;
+		for (int index = index0; index <= index1; index++)
+		{
+			keys.set(index, keyAt(index));
+		}
+		mergeIntoOrder(index0, index1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The index is dropped if the combo box gets another model.
+	 */
+	@Override
+	public void propertyChange(final PropertyChangeEvent event)
+	{
+		dropIndex();
+	}
+
+	/**
+	 * Gets the time of the current key event or the current time if there is no input event.
+	 *
+	 * @return the time of the current key event
+	 */
+	protected long getCurrentTime()
+	{
+		final AWTEvent currentEvent = EventQueue.getCurrentEvent();
+		return currentEvent instanceof InputEvent
+			? ((InputEvent)currentEvent).getWhen()
+			: System.currentTimeMillis();
+	}
+
+	private void buildIndex(final ListModel<?> model)
+	{
+		dropIndex();
+		indexedModel = model;
+		final int size = model.getSize();
+		keys = new ArrayList<>(size);
+		for (int index = 0; index < size; index++)
+		{
+			keys.add(keyAt(index));
+		}
+		order = new int[Math.max(16, size)];
+		orderSize = 0;
+		mergeIntoOrder(0, size - 1);
+		model.addListDataListener(this);
+	}
+
+	private void dropIndex()
+	{
+		if (indexedModel != null)
+		{
+			indexedModel.removeListDataListener(this);
+		}
+		indexedModel = null;
+		keys = null;
+		order = null;
+		orderSize = 0;
+		lastSelectedIndex = -1;
+	}
+
+	/**
+	 * Checks if the given event is from the indexed model and this manager is still installed,
+	 * otherwise the index is dropped.
+	 */
+	private boolean isCurrent(final ListDataEvent event)
+	{
+		if (indexedModel == null || event.getSource() != indexedModel)
+		{
+			return false;
+		}
+		if (comboBox.getKeySelectionManager() != this || comboBox.getModel() != indexedModel)
+		{
+			dropIndex();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Merges the items of the given index range, whose keys are set, into the sorted order.
+	 */
+	private void mergeIntoOrder(final int index0, final int index1)
+	{
+		final List<Integer> added = new ArrayList<>(Math.max(0, index1 - index0 + 1));
+		for (int index = index0; index <= index1; index++)
+		{
+			if (keys.get(index) != null)
+			{
+				added.add(index);
+			}
+		}
+		if (added.isEmpty())
+		{
+			return;
+		}
+		added.sort(this::compareIndices);
+		final int[] merged = new int[Math.max(order.length, orderSize + added.size())];
+		int i = 0;
+		int j = 0;
+		int k = 0;
+		while (i < orderSize && j < added.size())
+		{
+			merged[k++] = compareIndices(order[i], added.get(j)) <= 0 ? order[i++] : added.get(j++);
+		}
+		while (i < orderSize)
+		{
+			merged[k++] = order[i++];
+		}
+		while (j < added.size())
+		{
+			merged[k++] = added.get(j++);
+		}
+		order = merged;
+		orderSize = k;
+	}
+
+	private int compareIndices(final int index, final int otherIndex)
+	{
+		final int result = keys.get(index).compareTo(keys.get(otherIndex));
+		return result != 0 ? result : Integer.compare(index, otherIndex);
+	}
+
+	/**
+	 * Gets the position of the first entry in the order whose key is not less than the given key.
+	 */
+	private int lowerBound(final String key)
+	{
+		int low = 0;
+		int high = orderSize;
+		while (low < high)
+		{
+			final int middle = (low + high) >>> 1;
+			if (keys.get(order[middle]).compareTo(key) < 0)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	@SuppressWarnings("unchecked")
+	private String keyAt(final int index)
+	{
+		final Object item = indexedModel.getElementAt(index);
+		if (item == null)
+		{
+			return null;
+		}
+		final String displayString = displayFunction.apply((T)item);
+		return displayString != null ? toKey(displayString) : null;
+	}
+
+	private int getSelectedIndex(final ComboBoxModel<?> model)
+	{
+		final Object selectedItem = model.getSelectedItem();
+		if (selectedItem == null)
+		{
+			return -1;
+		}
+		if (model instanceof IndexedComboBoxModel<?> indexedComboBoxModel)
+		{
+			return indexedComboBoxModel.indexOf(selectedItem);
+		}
+		if (0 <= lastSelectedIndex && lastSelectedIndex < model.getSize()
+			&& Objects.equals(selectedItem, model.getElementAt(lastSelectedIndex)))
+		{
+			return lastSelectedIndex;
+		}
+		return comboBox.getSelectedIndex();
+	}
+
+	private void shiftLastSelectedIndex(final int index0, final int count)
+	{
+		if (index0 <= lastSelectedIndex)
+		{
+			lastSelectedIndex += count;
+		}
+	}
+
+	private static String toKey(final String displayString)
+	{
+		return displayString.toUpperCase(Locale.ROOT);
+	}
+}
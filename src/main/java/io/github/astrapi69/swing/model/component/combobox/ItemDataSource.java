@@ -0,0 +1,128 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.util.List;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * The interface {@link ItemDataSource} provides the items of a {@link PagedComboBoxModel} page by
+ * page. An implementation can load the items from a database, a file or a service, only the
+ * requested ranges are fetched.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public interface ItemDataSource<T>
+{
+
+	/** The constant for the number of items that are fetched per step by the default search. */
+	int SEARCH_PAGE_SIZE = 1024;
+
+	/**
+	 * Gets the number of items. This method must not materialize the items, for instance a
+	 * database implementation should use a count query.
+	 *
+	 * @return the number of items
+	 */
+	int size();
+
+	/**
+	 * Fetches the items of the given range.
+	 *
+	 * @param offset
+	 *            the index of the first item
+	 * @param count
+	 *            the number of items
+	 * @return the items of the given range, the list can be shorter than the given count if the
+	 *         end of the items is reached
+	 */
+	List<T> fetch(int offset, int count);
+
+	/**
+	 * Gets the index of the given item. The default implementation fetches the items in steps of
+	 * {@link #SEARCH_PAGE_SIZE} until the item is found. An implementation that can find an item
+	 * directly, for instance with a query or a hash index, should override this method.
+	 *
+	 * @param item
+	 *            the item
+	 * @return the index of the given item or -1 if the item is not found
+	 */
+	default int indexOf(final Object item)
+	{
+		final int size = size();
+		for (int offset = 0; offset < size; offset += SEARCH_PAGE_SIZE)
+		{
+			final List<T> items = fetch(offset, Math.min(SEARCH_PAGE_SIZE, size - offset));
+			for (int i = 0; i < items.size(); i++)
+			{
+				if (Objects.equals(item, items.get(i)))
+				{
+					return offset + i;
+				}
+			}
+			if (items.size() < SEARCH_PAGE_SIZE)
+			{
+				break;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Factory method for create a new {@link ItemDataSource} over the given list
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @return the new {@link ItemDataSource}
+	 */
+	static <T> ItemDataSource<T> of(final @NonNull List<T> items)
+	{
+		return new ItemDataSource<>()
+		{
+			@Override
+			public int size()
+			{
+				return items.size();
+			}
+
+			@Override
+			public List<T> fetch(final int offset, final int count)
+			{
+				return items.subList(offset, Math.min(items.size(), offset + count));
+			}
+
+			@Override
+			public int indexOf(final Object item)
+			{
+				return items.indexOf(item);
+			}
+		};
+	}
+}
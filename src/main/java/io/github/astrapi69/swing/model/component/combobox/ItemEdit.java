@@ -0,0 +1,75 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The class {@link ItemEdit} describes one edit of a list of items as a range of the list. The
+ * edits of a {@link ListDiff} are applied in their order and the index of an edit refers to the
+ * list with the previous edits applied, so every edit corresponds to one list data event.
+ */
+@Value
+public class ItemEdit
+{
+
+	/**
+	 * The enum {@link Type} describes the kind of an edit.
+	 */
+	public enum Type
+	{
+		/** The items of the new list are inserted at the index. */
+		INSERTED,
+		/** The items at the index are removed. */
+		REMOVED,
+		/** The items at the index are replaced by the items of the new list. */
+		CHANGED
+	}
+
+	/** The kind of the edit. */
+	@NonNull
+	Type type;
+
+	/** The index of the first edited item in the list with the previous edits applied. */
+	int index;
+
+	/** The index of the first inserted or changed item in the new list, -1 for a removal. */
+	int newIndex;
+
+	/** The number of edited items. */
+	int length;
+
+	/**
+	 * Gets the index of the last edited item in the list after this edit, for a removal the index
+	 * of the last removed item before this edit.
+	 *
+	 * @return the index of the last edited item
+	 */
+	public int getLastIndex()
+	{
+		return this.index + this.length - 1;
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@link ItemLoaderExecutor} holds the shared executor that loads the items of the
+ * combo box models in the background. On a runtime with virtual threads every load runs on its own
+ * virtual thread. The virtual threads are looked up by reflection, because the library is compiled
+ * for Java 17. On an older runtime a cached pool of daemon threads is used.
+ */
+final class ItemLoaderExecutor
+{
+
+	/** The name of the factory method for an executor with virtual threads. */
+	private static final String VIRTUAL_THREAD_EXECUTOR = "newVirtualThreadPerTaskExecutor";
+
+	/** The shared executor, created on first use. */
+	private static volatile ExecutorService executor;
+
+	/** The flag if the shared executor runs the loads on virtual threads. */
+	private static volatile boolean virtualThreads;
+
+	private ItemLoaderExecutor()
+	{
+	}
+
+	/**
+	 * Gets the shared executor
+	 *
+	 * @return the shared executor
+	 */
+	static ExecutorService getExecutor()
+	{
+		ExecutorService current = executor;
+		if (current == null)
+		{
+			synchronized (ItemLoaderExecutor.class)
+			{
+				current = executor;
+				if (current == null)
+				{
+					current = newExecutor();
+					executor = current;
+				}
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Checks if the shared executor runs the loads on virtual threads
+	 *
+	 * @return true if the shared executor runs the loads on virtual threads
+	 */
+	static boolean isVirtualThreads()
+	{
+		getExecutor();
+		return virtualThreads;
+	}
+
+	private static ExecutorService newExecutor()
+	{
+		try
+		{
+			final Method factoryMethod = Executors.class.getMethod(VIRTUAL_THREAD_EXECUTOR);
+			final ExecutorService virtualThreadExecutor = (ExecutorService)factoryMethod
+				.invoke(null);
+			virtualThreads = true;
+			return virtualThreadExecutor;
+		}
+		catch (ReflectiveOperationException | RuntimeException exception)
+		{
+			// no virtual threads on this runtime or only as preview feature
+			final AtomicInteger threadNumber = new AtomicInteger();
+			return Executors.newCachedThreadPool(runnable -> {
+				final Thread thread = new Thread(runnable,
+					"combo-box-item-loader-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+	}
+}
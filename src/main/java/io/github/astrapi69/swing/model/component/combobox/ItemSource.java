@@ -0,0 +1,55 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.util.function.Consumer;
+
+/**
+ * The interface {@link ItemSource} streams the items of an {@link AsyncComboBoxModel}. The items
+ * are loaded on a background thread and passed one by one to the given sink, they are published to
+ * the model in batches.
+ * <p>
+ * If the load is superseded or cancelled, the loading thread is interrupted and the sink throws a
+ * {@link java.util.concurrent.CancellationException}, so a source does not need to check for a
+ * cancellation itself.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+@FunctionalInterface
+public interface ItemSource<T>
+{
+
+	/**
+	 * Loads the items and passes them to the given sink. This method is called on a background
+	 * thread.
+	 *
+	 * @param sink
+	 *            the sink of the items
+	 * @throws Exception
+	 *             if the items can not be loaded
+	 */
+	void load(Consumer<? super T> sink) throws Exception;
+}
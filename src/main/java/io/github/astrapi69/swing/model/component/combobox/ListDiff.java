@@ -0,0 +1,268 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ListDiff} computes the edits that turn one list of items into another with the
+ * difference algorithm of Myers. The common prefix and suffix are skipped first, the remaining
+ * lists are compared in O((N + M) D) time for a difference of D items. Adjacent removals and
+ * insertions at the same position are combined to changes, so the edits map to the minimal number
+ * of list data events and a replaced item does not become a removal and an insertion.
+ * <p>
+ * If the difference exceeds the maximum edit distance the remaining lists are treated as changed
+ * as a whole instead, which bounds the memory of the search.
+ */
+public final class ListDiff
+{
+
+	/** The constant for the default maximum edit distance that is searched for. */
+	public static final int DEFAULT_MAX_EDIT_DISTANCE = 1024;
+
+	/** The move along the diagonal, an item that is kept. */
+	private static final byte KEEP = 0;
+
+	/** The move to the right, an item of the old list that is removed. */
+	private static final byte REMOVE = 1;
+
+	/** The move down, an item of the new list that is inserted. */
+	private static final byte INSERT = 2;
+
+	private ListDiff()
+	{
+	}
+
+	/**
+	 * Computes the edits that turn the given old items into the given new items with the default
+	 * maximum edit distance.
+	 *
+	 * @param oldItems
+	 *            the old items
+	 * @param newItems
+	 *            the new items
+	 * @return the edits in the order in which they have to be applied
+	 */
+	public static List<ItemEdit> diff(final @NonNull List<?> oldItems,
+		final @NonNull List<?> newItems)
+	{
+		return diff(oldItems, newItems, DEFAULT_MAX_EDIT_DISTANCE);
+	}
+
+	/**
+	 * Computes the edits that turn the given old items into the given new items.
+	 *
+	 * @param oldItems
+	 *            the old items
+	 * @param newItems
+	 *            the new items
+	 * @param maxEditDistance
+	 *            the maximum number of removed and inserted items that is searched for
+	 * @return the edits in the order in which they have to be applied
+	 */
+	public static List<ItemEdit> diff(final @NonNull List<?> oldItems,
+		final @NonNull List<?> newItems, final int maxEditDistance)
+	{
+		if (maxEditDistance < 0)
+		{
+			throw new IllegalArgumentException(
+				"maxEditDistance must not be negative: " + maxEditDistance);
+		}
+		int prefix = 0;
+		final int minimumSize = Math.min(oldItems.size(), newItems.size());
+		while (prefix < minimumSize && Objects.equals(oldItems.get(prefix), newItems.get(prefix)))
+		{
+			prefix++;
+		}
+		int oldEnd = oldItems.size();
+		int newEnd = newItems.size();
+		while (prefix < oldEnd && prefix < newEnd
+			&& Objects.equals(oldItems.get(oldEnd - 1), newItems.get(newEnd - 1)))
+		{
+			oldEnd--;
+			newEnd--;
+		}
+		final List<?> a = oldItems.subList(prefix, oldEnd);
+		final List<?> b = newItems.subList(prefix, newEnd);
+		byte[] moves = search(a, b, maxEditDistance);
+		if (moves == null)
+		{
+			moves = new byte[a.size() + b.size()];
+			Arrays.fill(moves, 0, a.size(), REMOVE);
+			Arrays.fill(moves, a.size(), moves.length, INSERT);
+		}
+		return toEdits(moves, prefix);
+	}
+
+	/**
+	 * Searches the shortest edit script with the greedy forward search of Myers and returns its
+	 * moves in order.
+	 *
+	 * @param a
+	 *            the old items
+	 * @param b
+	 *            the new items
+	 * @param maxEditDistance
+	 *            the maximum number of removed and inserted items that is searched for
+	 * @return the moves or null if the difference exceeds the maximum edit distance
+	 */
+	private static byte[] search(final List<?> a, final List<?> b, final int maxEditDistance)
+	{
+		final int n = a.size();
+		final int m = b.size();
+		final int max = Math.min(n + m, maxEditDistance);
+		final int offset = max + 1;
+		final int[] v = new int[2 * max + 3];
+		final List<int[]> trace = new ArrayList<>();
+		for (int d = 0; d <= max; d++)
+		{
+			// the furthest reaching x of the diagonals -d - 1 to d + 1 before this step
+			trace.add(Arrays.copyOfRange(v, offset - d - 1, offset + d + 2));
+			for (int k = -d; k <= d; k += 2)
+			{
+				int x = k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])
+					? v[offset + k + 1]
+					: v[offset + k - 1] + 1;
+				int y = x - k;
+				while (x < n && y < m && Objects.equals(a.get(x), b.get(y)))
+				{
+					x++;
+					y++;
+				}
+				v[offset + k] = x;
+				if (n <= x && m <= y)
+				{
+					return backtrack(trace, n, m);
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Follows the trace of the search back from the end and returns the moves in order.
+	 *
+	 * @param trace
+	 *            the furthest reaching x of the diagonals before each step
+	 * @param n
+	 *            the number of old items
+	 * @param m
+	 *            the number of new items
+	 * @return the moves
+	 */
+	private static byte[] backtrack(final List<int[]> trace, final int n, final int m)
+	{
+		final int d = trace.size() - 1;
+		// (n + m - d) / 2 kept items and d removed or inserted items
+		final byte[] moves = new byte[(n + m + d) / 2];
+		int position = moves.length;
+		int x = n;
+		int y = m;
+		for (int step = d; 0 < step; step--)
+		{
+			final int[] v = trace.get(step);
+			final int k = x - y;
+			// v holds the diagonals -step - 1 to step + 1, so diagonal k is at k + step + 1
+			final int previousK = k == -step
+				|| (k != step && v[k - 1 + step + 1] < v[k + 1 + step + 1]) ? k + 1 : k - 1;
+			final int previousX = v[previousK + step + 1];
+			final int previousY = previousX - previousK;
+			while (previousX < x && previousY < y)
+			{
+				moves[--position] = KEEP;
+				x--;
+				y--;
+			}
+			moves[--position] = x == previousX ? INSERT : REMOVE;
+			x = previousX;
+			y = previousY;
+		}
+		while (0 < position)
+		{
+			moves[--position] = KEEP;
+		}
+		return moves;
+	}
+
+	/**
+	 * Combines the given moves to edits.
+	 *
+	 * @param moves
+	 *            the moves
+	 * @param prefix
+	 *            the number of common leading items that precede the moves
+	 * @return the edits
+	 */
+	private static List<ItemEdit> toEdits(final byte[] moves, final int prefix)
+	{
+		final List<ItemEdit> edits = new ArrayList<>();
+		// the index in the new list, which is also the index in the list with the edits applied
+		int y = prefix;
+		int i = 0;
+		while (i < moves.length)
+		{
+			if (moves[i] == KEEP)
+			{
+				y++;
+				i++;
+				continue;
+			}
+			int removed = 0;
+			int inserted = 0;
+			for (; i < moves.length && moves[i] != KEEP; i++)
+			{
+				if (moves[i] == REMOVE)
+				{
+					removed++;
+				}
+				else
+				{
+					inserted++;
+				}
+			}
+			final int changed = Math.min(removed, inserted);
+			if (0 < changed)
+			{
+				edits.add(new ItemEdit(ItemEdit.Type.CHANGED, y, y, changed));
+			}
+			if (changed < removed)
+			{
+				edits.add(new ItemEdit(ItemEdit.Type.REMOVED, y + changed, -1, removed - changed));
+			}
+			else if (changed < inserted)
+			{
+				edits.add(new ItemEdit(ItemEdit.Type.INSERTED, y + changed, y + changed,
+					inserted - changed));
+			}
+			y += inserted;
+		}
+		return edits;
+	}
+}
@@ -0,0 +1,312 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.swing.AbstractListModel;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link PagedComboBoxModel} is a combo box model whose items are fetched page by page
+ * from an {@link ItemDataSource} when they are requested. The size is read from the data source
+ * without materializing the items and only a bounded number of recently used pages is kept in
+ * memory, so a combo box over millions of items only loads the pages of the visible rows.
+ * <p>
+ * Like the Swing models this model is not thread safe and has to be used on the event dispatch
+ * thread. A combo box over a large model should have a prototype display value, otherwise the
+ * look and feel measures every item to compute the preferred size.
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public class PagedComboBoxModel<T> extends AbstractListModel<T> implements IndexedComboBoxModel<T>
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/** The constant for the default number of items per page. */
+	public static final int DEFAULT_PAGE_SIZE = 256;
+
+	/** The constant for the default maximum number of loaded pages. */
+	public static final int DEFAULT_MAXIMUM_PAGES = 16;
+
+	/** The constant for a size that is not read yet. */
+	private static final int UNKNOWN_SIZE = -1;
+
+	/** The data source of the items. */
+	private final transient ItemDataSource<T> dataSource;
+
+	/** The number of items per page. */
+	private final int pageSize;
+
+	/** The maximum number of loaded pages. */
+	private final int maximumPages;
+
+	/** The loaded pages by their index in access order, the eldest page is evicted first. */
+	private final transient Map<Integer, List<T>> pages;
+
+	/** The number of items, read from the data source on first use. */
+	private int size = UNKNOWN_SIZE;
+
+	/** The selected item. */
+	private Object selectedItem;
+
+	/**
+	 * Constructs a new <code>PagedComboBoxModel</code> with the given data source, page size and
+	 * maximum number of loaded pages.
+	 *
+	 * @param dataSource
+	 *            the data source of the items
+	 * @param pageSize
+	 *            the number of items per page
+	 * @param maximumPages
+	 *            the maximum number of loaded pages
+	 */
+	public PagedComboBoxModel(final @NonNull ItemDataSource<T> dataSource, final int pageSize,
+		final int maximumPages)
+	{
+		if (pageSize < 1)
+		{
+			throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+		}
+		if (maximumPages < 1)
+		{
+			throw new IllegalArgumentException("maximumPages must be positive: " + maximumPages);
+		}
+		this.dataSource = dataSource;
+		this.pageSize = pageSize;
+		this.maximumPages = maximumPages;
+		this.pages = new LinkedHashMap<>(maximumPages * 2, 0.75f, true)
+		{
+			@Serial
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<Integer, List<T>> eldest)
+			{
+				return PagedComboBoxModel.this.maximumPages < size();
+			}
+		};
+	}
+
+	/**
+	 * Factory method for create a new {@link PagedComboBoxModel} with the default page size and
+	 * maximum number of loaded pages
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param dataSource
+	 *            the data source of the items
+	 * @return the new {@link PagedComboBoxModel}
+	 */
+	public static <T> PagedComboBoxModel<T> of(final @NonNull ItemDataSource<T> dataSource)
+	{
+		return new PagedComboBoxModel<>(dataSource, DEFAULT_PAGE_SIZE, DEFAULT_MAXIMUM_PAGES);
+	}
+
+	/**
+	 * Factory method for create a new {@link PagedComboBoxModel} with the given page size and
+	 * maximum number of loaded pages
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param dataSource
+	 *            the data source of the items
+	 * @param pageSize
+	 *            the number of items per page
+	 * @param maximumPages
+	 *            the maximum number of loaded pages
+	 * @return the new {@link PagedComboBoxModel}
+	 */
+	public static <T> PagedComboBoxModel<T> of(final @NonNull ItemDataSource<T> dataSource,
+		final int pageSize, final int maximumPages)
+	{
+		return new PagedComboBoxModel<>(dataSource, pageSize, maximumPages);
+	}
+
+	/**
+	 * Gets the data source of the items
+	 *
+	 * @return the data source of the items
+	 */
+	public ItemDataSource<T> getDataSource()
+	{
+		return dataSource;
+	}
+
+	/**
+	 * Gets the number of items per page
+	 *
+	 * @return the number of items per page
+	 */
+	public int getPageSize()
+	{
+		return pageSize;
+	}
+
+	/**
+	 * Gets the maximum number of loaded pages
+	 *
+	 * @return the maximum number of loaded pages
+	 */
+	public int getMaximumPages()
+	{
+		return maximumPages;
+	}
+
+	/**
+	 * Gets the number of the currently loaded pages
+	 *
+	 * @return the number of the currently loaded pages
+	 */
+	public int getLoadedPageCount()
+	{
+		return pages.size();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getSize()
+	{
+		if (size == UNKNOWN_SIZE)
+		{
+			size = Math.max(0, dataSource.size());
+		}
+		return size;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Only the page of the given index is fetched if it is not loaded.
+	 */
+	@Override
+	public T getElementAt(final int index)
+	{
+		if (index < 0 || getSize() <= index)
+		{
+			return null;
+		}
+		final List<T> page = getPage(index / pageSize);
+		final int indexInPage = index % pageSize;
+		return indexInPage < page.size() ? page.get(indexInPage) : null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The loaded pages are searched first, then the data source is asked.
+	 */
+	@Override
+	public int indexOf(final Object item)
+	{
+		if (item == null)
+		{
+			return -1;
+		}
+		for (Map.Entry<Integer, List<T>> entry : pages.entrySet())
+		{
+			final int indexInPage = entry.getValue().indexOf(item);
+			if (indexInPage != -1)
+			{
+				return entry.getKey() * pageSize + indexInPage;
+			}
+		}
+		final int index = dataSource.indexOf(item);
+		return index < getSize() ? index : -1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getSelectedItem()
+	{
+		return selectedItem;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void setSelectedItem(final Object item)
+	{
+		if (!Objects.equals(selectedItem, item))
+		{
+			selectedItem = item;
+			fireContentsChanged(this, -1, -1);
+		}
+	}
+
+	/**
+	 * Discards the loaded pages and reads the size again from the data source. The listeners are
+	 * notified with the removed or added interval and the changed range, the selected item is
+	 * kept.
+	 */
+	public void refresh()
+	{
+		final int oldSize = getSize();
+		pages.clear();
+		size = UNKNOWN_SIZE;
+		final int newSize = getSize();
+		if (newSize < oldSize)
+		{
+			fireIntervalRemoved(this, newSize, oldSize - 1);
+		}
+		else if (oldSize < newSize)
+		{
+			fireIntervalAdded(this, oldSize, newSize - 1);
+		}
+		final int changed = Math.min(oldSize, newSize);
+		if (0 < changed)
+		{
+			fireContentsChanged(this, 0, changed - 1);
+		}
+	}
+
+	private List<T> getPage(final int pageIndex)
+	{
+		List<T> page = pages.get(pageIndex);
+		if (page == null)
+		{
+			final int offset = pageIndex * pageSize;
+			final int count = Math.min(pageSize, getSize() - offset);
+			page = new ArrayList<>(dataSource.fetch(offset, count));
+			pages.put(pageIndex, page);
+		}
+		return page;
+	}
+}
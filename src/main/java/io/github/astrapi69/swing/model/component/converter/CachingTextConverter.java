@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.converter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link CachingTextConverter} decorates a {@link TextConverter} with a small least
+ * recently used cache of converted texts, so a text that is converted again, for instance after
+ * an undo, is not parsed again. Texts that can not be converted are not cached.
+ *
+ * @param <T>
+ *            the type of the object, it has to be immutable
+ */
+public class CachingTextConverter<T> implements TextConverter<T>
+{
+
+	/** The decorated converter. */
+	private final TextConverter<T> converter;
+
+	/** The cache of the converted objects in access order. */
+	private final Map<String, T> cache;
+
+	/**
+	 * Constructs a new <code>CachingTextConverter</code> that decorates the given converter.
+	 *
+	 * @param converter
+	 *            the decorated converter
+	 * @param maximumSize
+	 *            the maximum number of cached texts
+	 */
+	public CachingTextConverter(final @NonNull TextConverter<T> converter, final int maximumSize)
+	{
+		if (maximumSize < 1)
+		{
+			throw new IllegalArgumentException("maximumSize must be positive: " + maximumSize);
+		}
+		this.converter = converter;
+		this.cache = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(final Map.Entry<String, T> eldest)
+			{
+				return maximumSize < size();
+			}
+		};
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Class<T> getType()
+	{
+		return this.converter.getType();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The object is taken from the cache if the text was converted recently.
+	 */
+	@Override
+	public T toObject(final String text)
+	{
+		synchronized (this.cache)
+		{
+			final T cached = this.cache.get(text);
+			if (cached != null)
+			{
+				return cached;
+			}
+		}
+		final T object = this.converter.toObject(text);
+		if (object != null)
+		{
+			synchronized (this.cache)
+			{
+				this.cache.put(text, object);
+			}
+		}
+		return object;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toText(final T object)
+	{
+		return this.converter.toText(object);
+	}
+}
@@ -0,0 +1,67 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.converter;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The class {@link StandardTextConverterProvider} provides the converters for the common types of
+ * the JDK. The date and time types use the ISO formats.
+ */
+public class StandardTextConverterProvider implements TextConverterProvider
+{
+
+	/** The converters, they are stateless and shared. */
+	private static final List<TextConverter<?>> CONVERTERS = List.of(
+		TextConverter.of(String.class, Function.identity(), Function.identity()),
+		TextConverter.of(Integer.class, Integer::valueOf, String::valueOf),
+		TextConverter.of(Long.class, Long::valueOf, String::valueOf),
+		TextConverter.of(Double.class, Double::valueOf, String::valueOf),
+		TextConverter.of(BigInteger.class, BigInteger::new, BigInteger::toString),
+		TextConverter.of(BigDecimal.class, BigDecimal::new, BigDecimal::toPlainString),
+		TextConverter.of(LocalDate.class, LocalDate::parse, LocalDate::toString),
+		TextConverter.of(LocalTime.class, LocalTime::parse, LocalTime::toString),
+		TextConverter.of(LocalDateTime.class, LocalDateTime::parse, LocalDateTime::toString),
+		TextConverter.of(Duration.class, Duration::parse, Duration::toString),
+		TextConverter.of(UUID.class, UUID::fromString, UUID::toString));
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Collection<TextConverter<?>> getConverters()
+	{
+		return CONVERTERS;
+	}
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.converter;
+
+import java.time.DateTimeException;
+import java.util.function.Function;
+
+import lombok.NonNull;
+
+/**
+ * The interface {@link TextConverter} converts between a text and an object of a type. The
+ * implementations have to be thread safe, they are shared by all components that bind the type.
+ *
+ * @param <T>
+ *            the type of the object
+ */
+public interface TextConverter<T>
+{
+
+	/**
+	 * Factory method for create a new {@link TextConverter} from the given functions. A
+	 * {@link DateTimeException} of the parser is rethrown as {@link IllegalArgumentException}.
+	 *
+	 * @param <T>
+	 *            the type of the object
+	 * @param type
+	 *            the type of the object
+	 * @param parser
+	 *            the function that converts a text to an object
+	 * @param formatter
+	 *            the function that converts an object to a text
+	 * @return the new {@link TextConverter}
+	 */
+	static <T> TextConverter<T> of(final @NonNull Class<T> type,
+		final @NonNull Function<String, T> parser, final @NonNull Function<T, String> formatter)
+	{
+		return new TextConverter<>()
+		{
+			@Override
+			public Class<T> getType()
+			{
+				return type;
+			}
+
+			@Override
+			public T toObject(final String text)
+			{
+				try
+				{
+					return parser.apply(text);
+				}
+				catch (DateTimeException exception)
+				{
+					throw new IllegalArgumentException(exception.getMessage(), exception);
+				}
+			}
+
+			@Override
+			public String toText(final T object)
+			{
+				return formatter.apply(object);
+			}
+		};
+	}
+
+	/**
+	 * Gets the type of the object.
+	 *
+	 * @return the type of the object
+	 */
+	Class<T> getType();
+
+	/**
+	 * Converts the given text to an object.
+	 *
+	 * @param text
+	 *            the text to convert, never <code>null</code> or empty
+	 * @return the converted object
+	 * @throws IllegalArgumentException
+	 *             if the text can not be converted
+	 */
+	T toObject(String text);
+
+	/**
+	 * Converts the given object to a text.
+	 *
+	 * @param object
+	 *            the object to convert, never <code>null</code>
+	 * @return the text representation of the object
+	 */
+	String toText(T object);
+
+	/**
+	 * Decorates this converter with a cache of the most recently converted texts. This is only
+	 * useful for immutable types whose conversion is expensive.
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached texts
+	 * @return the decorated converter
+	 */
+	default TextConverter<T> withParseCache(final int maximumSize)
+	{
+		return new CachingTextConverter<>(this, maximumSize);
+	}
+}
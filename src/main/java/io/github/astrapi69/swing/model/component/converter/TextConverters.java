@@ -0,0 +1,196 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.converter;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link TextConverters} is the registry of the {@link TextConverter}s. On first use it
+ * registers the converters of all {@link TextConverterProvider}s that are found with the
+ * {@link ServiceLoader}, the converters of other providers replace the standard converters. The
+ * converters for formatted values are cached per pattern, so a formatter is created once and not
+ * per conversion.
+ */
+public final class TextConverters
+{
+
+	/** The registered converters by type. */
+	private static final Map<Class<?>, TextConverter<?>> CONVERTERS = new ConcurrentHashMap<>();
+
+	/** The converters for formatted values by type and pattern. */
+	private static final Map<List<Object>, TextConverter<?>> FORMAT_CONVERTERS =
+		new ConcurrentHashMap<>();
+
+	static
+	{
+		for (TextConverter<?> converter : new StandardTextConverterProvider().getConverters())
+		{
+			CONVERTERS.put(converter.getType(), converter);
+		}
+		for (TextConverterProvider provider : ServiceLoader.load(TextConverterProvider.class))
+		{
+			if (provider instanceof StandardTextConverterProvider)
+			{
+				continue;
+			}
+			for (TextConverter<?> converter : provider.getConverters())
+			{
+				CONVERTERS.put(converter.getType(), converter);
+			}
+		}
+	}
+
+	private TextConverters()
+	{
+	}
+
+	/**
+	 * Registers the given converter, it replaces the converter of the same type.
+	 *
+	 * @param converter
+	 *            the converter to register
+	 */
+	public static void register(final @NonNull TextConverter<?> converter)
+	{
+		CONVERTERS.put(converter.getType(), converter);
+	}
+
+	/**
+	 * Finds the converter of the given type.
+	 *
+	 * @param <T>
+	 *            the type of the object
+	 * @param type
+	 *            the type of the object
+	 * @return the converter of the given type or an empty {@link Optional}
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> Optional<TextConverter<T>> find(final @NonNull Class<T> type)
+	{
+		return Optional.ofNullable((TextConverter<T>)CONVERTERS.get(type));
+	}
+
+	/**
+	 * Gets the converter of the given type.
+	 *
+	 * @param <T>
+	 *            the type of the object
+	 * @param type
+	 *            the type of the object
+	 * @return the converter of the given type
+	 * @throws IllegalArgumentException
+	 *             if no converter is registered for the given type
+	 */
+	public static <T> TextConverter<T> get(final @NonNull Class<T> type)
+	{
+		return find(type).orElseThrow(() -> new IllegalArgumentException(
+			"no TextConverter registered for " + type.getName()));
+	}
+
+	/**
+	 * Gets the cached converter for {@link LocalDate} values with the given pattern.
+	 *
+	 * @param pattern
+	 *            the pattern as described in {@link DateTimeFormatter}
+	 * @return the converter for the given pattern
+	 */
+	@SuppressWarnings("unchecked")
+	public static TextConverter<LocalDate> localDate(final @NonNull String pattern)
+	{
+		return (TextConverter<LocalDate>)FORMAT_CONVERTERS.computeIfAbsent(
+			List.of(LocalDate.class, pattern), key -> {
+				DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+				return TextConverter.of(LocalDate.class, text -> LocalDate.parse(text, formatter),
+					formatter::format);
+			});
+	}
+
+	/**
+	 * Gets the cached converter for {@link LocalDateTime} values with the given pattern.
+	 *
+	 * @param pattern
+	 *            the pattern as described in {@link DateTimeFormatter}
+	 * @return the converter for the given pattern
+	 */
+	@SuppressWarnings("unchecked")
+	public static TextConverter<LocalDateTime> localDateTime(final @NonNull String pattern)
+	{
+		return (TextConverter<LocalDateTime>)FORMAT_CONVERTERS.computeIfAbsent(
+			List.of(LocalDateTime.class, pattern), key -> {
+				DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
+				return TextConverter.of(LocalDateTime.class,
+					text -> LocalDateTime.parse(text, formatter), formatter::format);
+			});
+	}
+
+	/**
+	 * Gets the cached converter for {@link BigDecimal} values with the given pattern and locale.
+	 * The {@link DecimalFormat} is not thread safe, so every thread uses its own instance.
+	 *
+	 * @param pattern
+	 *            the pattern as described in {@link DecimalFormat}
+	 * @param locale
+	 *            the locale of the symbols
+	 * @return the converter for the given pattern and locale
+	 */
+	@SuppressWarnings("unchecked")
+	public static TextConverter<BigDecimal> decimal(final @NonNull String pattern,
+		final @NonNull Locale locale)
+	{
+		return (TextConverter<BigDecimal>)FORMAT_CONVERTERS.computeIfAbsent(
+			List.of(BigDecimal.class, pattern, locale), key -> {
+				ThreadLocal<DecimalFormat> formats = ThreadLocal.withInitial(() -> {
+					DecimalFormat format = new DecimalFormat(pattern,
+						DecimalFormatSymbols.getInstance(locale));
+					format.setParseBigDecimal(true);
+					return format;
+				});
+				return TextConverter.of(BigDecimal.class, text -> {
+					ParsePosition position = new ParsePosition(0);
+					Number number = formats.get().parse(text, position);
+					if (number == null || position.getIndex() != text.length())
+					{
+						throw new IllegalArgumentException(
+							"text can not be parsed with the pattern " + pattern + ": " + text);
+					}
+					return (BigDecimal)number;
+				}, value -> formats.get().format(value));
+			});
+	}
+}
@@ -0,0 +1,433 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * The class {@link DocumentNumberParser} parses the content of a {@link Document} to a primitive
+ * number. The characters are read directly from the document with a reused {@link Segment}, so no
+ * {@link String} and no boxed number is created. The overflow is detected digit by digit while the
+ * value is accumulated. An instance is not thread safe and is intended to be held by one component.
+ * <p>
+ * A double value is computed exactly from the digits if it has at most 15 significant digits and a
+ * decimal exponent of at most 22, which covers the values that are typed by hand. Other values are
+ * parsed with {@link Double#parseDouble(String)}.
+ */
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class DocumentNumberParser
+{
+
+	/**
+	 * The enum {@link Result} describes the outcome of a parse.
+	 */
+	public enum Result
+	{
+		/** The document is empty or contains only a sign. */
+		EMPTY,
+		/** The document contains a number in the range of the requested type. */
+		VALID,
+		/** The document contains a number that is out of the range of the requested type. */
+		OVERFLOW,
+		/** The document contains a character that is not allowed in a number. */
+		INVALID
+	}
+
+	/** The maximum number of significant digits that are exactly representable in a double. */
+	private static final int MAXIMUM_EXACT_DIGITS = 15;
+
+	/** The powers of ten that are exactly representable in a double. */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+			1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/** The maximum exponent that is accumulated, larger exponents are not representable anyway. */
+	private static final int MAXIMUM_EXPONENT = 100000;
+
+	/** The reused segment for reading the characters of the document. */
+	final Segment segment = new Segment();
+
+	/** The value of the last parse that resulted in {@link Result#VALID}. */
+	@Getter
+	long value;
+
+	/** The value of the last double parse that resulted in {@link Result#VALID}. */
+	@Getter
+	double doubleValue;
+
+	/**
+	 * Constructs a new <code>DocumentNumberParser</code>
+	 */
+	public DocumentNumberParser()
+	{
+		this.segment.setPartialReturn(true);
+	}
+
+	/**
+	 * Parses the content of the given document to an int value. On {@link Result#VALID} the value
+	 * can be obtained with {@link #getValue()}.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @return the result of the parse
+	 */
+	public Result parseInt(final @NonNull Document document)
+	{
+		return parse(document, Integer.MIN_VALUE, -Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Parses the content of the given document to a long value. On {@link Result#VALID} the value
+	 * can be obtained with {@link #getValue()}.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @return the result of the parse
+	 */
+	public Result parseLong(final @NonNull Document document)
+	{
+		return parse(document, Long.MIN_VALUE, -Long.MAX_VALUE);
+	}
+
+	/**
+	 * Parses the content of the given document to the unscaled long value of a decimal number with
+	 * the given scale. The number may have up to <code>scale</code> fraction digits, missing
+	 * fraction digits are taken as zeros. On {@link Result#VALID} the unscaled value can be
+	 * obtained with {@link #getValue()}.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @param scale
+	 *            the number of fraction digits of the unscaled value
+	 * @return the result of the parse, {@link Result#INVALID} if the number has more fraction
+	 *         digits than the scale
+	 */
+	public Result parseFixedScale(final @NonNull Document document, final int scale)
+	{
+		final int length = document.getLength();
+		if (length == 0)
+		{
+			return Result.EMPTY;
+		}
+		boolean negative = false;
+		boolean signAllowed = true;
+		boolean inFraction = false;
+		int digits = 0;
+		int fractionDigits = 0;
+		long limit = -Long.MAX_VALUE;
+		long minimumBeforeMultiply = limit / 10;
+		long result = 0;
+		int position = 0;
+		while (position < length)
+		{
+			try
+			{
+				document.getText(position, length - position, this.segment);
+			}
+			catch (BadLocationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+			final char[] array = this.segment.array;
+			final int end = this.segment.offset + this.segment.count;
+			for (int i = this.segment.offset; i < end; i++)
+			{
+				final char character = array[i];
+				if (signAllowed && (character == '-' || character == '+'))
+				{
+					negative = character == '-';
+					limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+					minimumBeforeMultiply = limit / 10;
+					signAllowed = false;
+					continue;
+				}
+				signAllowed = false;
+				if (character == '.' && !inFraction)
+				{
+					inFraction = true;
+					continue;
+				}
+				final int digit = character - '0';
+				if (digit < 0 || 9 < digit)
+				{
+					return Result.INVALID;
+				}
+				if (inFraction && scale < ++fractionDigits)
+				{
+					return Result.INVALID;
+				}
+				if (result < minimumBeforeMultiply)
+				{
+					return Result.OVERFLOW;
+				}
+				result *= 10;
+				if (result < limit + digit)
+				{
+					return Result.OVERFLOW;
+				}
+				result -= digit;
+				digits++;
+			}
+			position += this.segment.count;
+		}
+		if (digits == 0)
+		{
+			return Result.EMPTY;
+		}
+		for (int i = fractionDigits; i < scale; i++)
+		{
+			if (result < minimumBeforeMultiply)
+			{
+				return Result.OVERFLOW;
+			}
+			result *= 10;
+		}
+		this.value = negative ? result : -result;
+		return Result.VALID;
+	}
+
+	/**
+	 * Parses the content of the given document to a double value. The accepted syntax is an
+	 * optional sign, digits with an optional decimal point and an optional exponent. On
+	 * {@link Result#VALID} the value can be obtained with {@link #getDoubleValue()}.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @return the result of the parse, {@link Result#OVERFLOW} if the value is infinite
+	 */
+	public Result parseDouble(final @NonNull Document document)
+	{
+		final int length = document.getLength();
+		if (length == 0)
+		{
+			return Result.EMPTY;
+		}
+		boolean negative = false;
+		boolean signAllowed = true;
+		boolean inFraction = false;
+		boolean inExponent = false;
+		boolean negativeExponent = false;
+		int digits = 0;
+		int exponentDigits = 0;
+		int significantDigits = 0;
+		int scale = 0;
+		int exponent = 0;
+		long mantissa = 0;
+		int position = 0;
+		while (position < length)
+		{
+			try
+			{
+				document.getText(position, length - position, this.segment);
+			}
+			catch (BadLocationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+			final char[] array = this.segment.array;
+			final int end = this.segment.offset + this.segment.count;
+			for (int i = this.segment.offset; i < end; i++)
+			{
+				final char character = array[i];
+				if (signAllowed && (character == '-' || character == '+'))
+				{
+					if (inExponent)
+					{
+						negativeExponent = character == '-';
+					}
+					else
+					{
+						negative = character == '-';
+					}
+					signAllowed = false;
+					continue;
+				}
+				signAllowed = false;
+				final int digit = character - '0';
+				if (0 <= digit && digit <= 9)
+				{
+					if (inExponent)
+					{
+						exponentDigits++;
+						if (exponent < MAXIMUM_EXPONENT)
+						{
+							exponent = exponent * 10 + digit;
+						}
+						continue;
+					}
+					digits++;
+					if (mantissa != 0 || digit != 0)
+					{
+						significantDigits++;
+					}
+					if (significantDigits <= MAXIMUM_EXACT_DIGITS)
+					{
+						mantissa = mantissa * 10 + digit;
+						if (inFraction)
+						{
+							scale++;
+						}
+					}
+				}
+				else if (character == '.' && !inFraction && !inExponent)
+				{
+					inFraction = true;
+				}
+				else if ((character == 'e' || character == 'E') && !inExponent && digits != 0)
+				{
+					inExponent = true;
+					signAllowed = true;
+				}
+				else
+				{
+					return Result.INVALID;
+				}
+			}
+			position += this.segment.count;
+		}
+		if (digits == 0)
+		{
+			return Result.EMPTY;
+		}
+		if (inExponent && exponentDigits == 0)
+		{
+			return Result.INVALID;
+		}
+		final double result;
+		final int decimalExponent = (negativeExponent ? -exponent : exponent) - scale;
+		if (mantissa == 0)
+		{
+			result = 0.0d;
+		}
+		else if (significantDigits <= MAXIMUM_EXACT_DIGITS && 0 <= decimalExponent
+			&& decimalExponent < POWERS_OF_TEN.length)
+		{
+			result = mantissa * POWERS_OF_TEN[decimalExponent];
+		}
+		else if (significantDigits <= MAXIMUM_EXACT_DIGITS && decimalExponent < 0
+			&& -decimalExponent < POWERS_OF_TEN.length)
+		{
+			result = mantissa / POWERS_OF_TEN[-decimalExponent];
+		}
+		else
+		{
+			try
+			{
+				this.doubleValue = Double.parseDouble(document.getText(0, length));
+			}
+			catch (BadLocationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+			return Double.isInfinite(this.doubleValue) ? Result.OVERFLOW : Result.VALID;
+		}
+		this.doubleValue = negative ? -result : result;
+		return Result.VALID;
+	}
+
+	/**
+	 * Parses the content of the given document. As in {@link Long#parseLong(String)} the value is
+	 * accumulated negatively, so the lower bound of the range can be reached without an overflow.
+	 *
+	 * @param document
+	 *            the document to parse
+	 * @param negativeLimit
+	 *            the smallest value of a negative number
+	 * @param positiveLimit
+	 *            the negated largest value of a positive number
+	 * @return the result of the parse
+	 */
+	private Result parse(final Document document, final long negativeLimit,
+		final long positiveLimit)
+	{
+		final int length = document.getLength();
+		if (length == 0)
+		{
+			return Result.EMPTY;
+		}
+		boolean negative = false;
+		boolean signAllowed = true;
+		int digits = 0;
+		long limit = positiveLimit;
+		long minimumBeforeMultiply = limit / 10;
+		long result = 0;
+		int position = 0;
+		while (position < length)
+		{
+			try
+			{
+				document.getText(position, length - position, this.segment);
+			}
+			catch (BadLocationException e)
+			{
+				throw new IllegalStateException(e);
+			}
+			final char[] array = this.segment.array;
+			final int end = this.segment.offset + this.segment.count;
+			for (int i = this.segment.offset; i < end; i++)
+			{
+				final char character = array[i];
+				if (signAllowed && (character == '-' || character == '+'))
+				{
+					negative = character == '-';
+					limit = negative ? negativeLimit : positiveLimit;
+					minimumBeforeMultiply = limit / 10;
+					signAllowed = false;
+					continue;
+				}
+				signAllowed = false;
+				final int digit = character - '0';
+				if (digit < 0 || 9 < digit)
+				{
+					return Result.INVALID;
+				}
+				if (result < minimumBeforeMultiply)
+				{
+					return Result.OVERFLOW;
+				}
+				result *= 10;
+				if (result < limit + digit)
+				{
+					return Result.OVERFLOW;
+				}
+				result -= digit;
+				digits++;
+			}
+			position += this.segment.count;
+		}
+		if (digits == 0)
+		{
+			return Result.EMPTY;
+		}
+		this.value = negative ? result : -result;
+		return Result.VALID;
+	}
+}
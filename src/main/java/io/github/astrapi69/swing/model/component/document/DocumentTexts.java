@@ -0,0 +1,81 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link DocumentTexts} provides helper methods for reading the text of a
+ * {@link Document} on the path of a keystroke. Unlike a lambda for a checked exception decorator
+ * the methods capture nothing, so reading the text creates no object besides the text itself.
+ */
+public final class DocumentTexts
+{
+
+	private DocumentTexts()
+	{
+	}
+
+	/**
+	 * Gets the whole text of the given document.
+	 *
+	 * @param document
+	 *            the document
+	 * @return the whole text of the document
+	 */
+	public static String getText(final @NonNull Document document)
+	{
+		return getText(document, 0, document.getLength());
+	}
+
+	/**
+	 * Gets the text of the given range of the given document.
+	 *
+	 * @param document
+	 *            the document
+	 * @param offset
+	 *            the offset of the range
+	 * @param length
+	 *            the length of the range
+	 * @return the text of the range
+	 * @throws IllegalStateException
+	 *             if the range is not inside of the document
+	 */
+	public static String getText(final @NonNull Document document, final int offset,
+		final int length)
+	{
+		try
+		{
+			return document.getText(offset, length);
+		}
+		catch (BadLocationException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+}
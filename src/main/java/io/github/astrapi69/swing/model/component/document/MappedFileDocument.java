@@ -0,0 +1,686 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Hashtable;
+import java.util.Map;
+
+import javax.swing.event.DocumentListener;
+import javax.swing.event.EventListenerList;
+import javax.swing.event.UndoableEditListener;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.AttributeSet;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.text.SimpleAttributeSet;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link MappedFileDocument} is a read-only {@link Document} over a memory-mapped range
+ * of a file. The file content is never copied as a whole to the heap, only a compact index of the
+ * line starts is built with one sequential scan on open. The characters of a line are decoded on
+ * demand when the line is requested, so the cost of painting depends on the visible lines and not
+ * on the size of the file. Edits of the document are ignored.
+ * <p>
+ * Supported charsets are UTF-8, ISO-8859-1 and US-ASCII. Malformed input is replaced with the
+ * character <code>U+FFFD</code>.
+ */
+public class MappedFileDocument implements Document
+{
+
+	/** The constant for the size of the chunks that are read while the line index is built. */
+	private static final int SCAN_CHUNK_SIZE = 64 * 1024;
+
+	/** The constant for the character that replaces malformed input. */
+	private static final char REPLACEMENT = '\uFFFD';
+
+	/** The mapped file range. */
+	private final MappedFileRange fileRange;
+
+	/** The mapped bytes. */
+	private final ByteBuffer buffer;
+
+	/** The flag if the bytes are decoded as UTF-8 or else as single byte charset. */
+	private final boolean utf8;
+
+	/** The flag if bytes greater than 0x7F are decoded as malformed input. */
+	private final boolean asciiOnly;
+
+	/** The char offsets of the line starts. */
+	private final int[] lineCharStarts;
+
+	/** The byte offsets of the line starts, the same array as the char offsets if they match. */
+	private final int[] lineByteStarts;
+
+	/** The number of lines. */
+	private final int lineCount;
+
+	/** The number of chars without the implied break at the end. */
+	private final int length;
+
+	/** The number of bytes of the mapped range. */
+	private final int byteLength;
+
+	/** The number of chars of the longest line without its break. */
+	private final int maximumLineLength;
+
+	/** The root element. */
+	private final Element root = new RootElement();
+
+	/** The listeners of this document. */
+	private final EventListenerList listenerList = new EventListenerList();
+
+	/** The properties of this document. */
+	private final Map<Object, Object> properties = new Hashtable<>(4);
+
+	/** The last decoded line. */
+	private volatile DecodedLine lastDecodedLine;
+
+	private MappedFileDocument(final MappedFileRange fileRange, final ByteBuffer buffer)
+	{
+		this.fileRange = fileRange;
+		this.buffer = buffer;
+		Charset charset = fileRange.getCharset();
+		this.utf8 = StandardCharsets.UTF_8.equals(charset);
+		this.asciiOnly = StandardCharsets.US_ASCII.equals(charset);
+		if (!utf8 && !asciiOnly && !StandardCharsets.ISO_8859_1.equals(charset))
+		{
+			throw new IllegalArgumentException("Unsupported charset: " + charset);
+		}
+		this.byteLength = buffer.capacity();
+		int[] charStarts = new int[1024];
+		int[] byteStarts = new int[1024];
+		int lines = 1;
+		int chars = 0;
+		int lineStart = 0;
+		int longest = 0;
+		boolean singleByteChars = true;
+		byte[] chunk = new byte[Math.min(SCAN_CHUNK_SIZE, Math.max(byteLength, 1))];
+		ByteBuffer source = buffer.duplicate();
+		for (int position = 0; position < byteLength; position += chunk.length)
+		{
+			int count = Math.min(chunk.length, byteLength - position);
+			source.get(chunk, 0, count);
+			for (int i = 0; i < count; i++)
+			{
+				int b = chunk[i];
+				if (b >= 0)
+				{
+					chars++;
+				}
+				else if (!utf8)
+				{
+					chars++;
+				}
+				else if ((b & 0xC0) != 0x80)
+				{
+					singleByteChars = false;
+					chars += (b & 0xF8) == 0xF0 ? 2 : 1;
+				}
+				else
+				{
+					singleByteChars = false;
+				}
+				if (b == '\n')
+				{
+					if (lines == charStarts.length)
+					{
+						charStarts = Arrays.copyOf(charStarts, lines * 2);
+						byteStarts = Arrays.copyOf(byteStarts, lines * 2);
+					}
+					longest = Math.max(longest, chars - 1 - lineStart);
+					charStarts[lines] = chars;
+					byteStarts[lines] = position + i + 1;
+					lineStart = chars;
+					lines++;
+				}
+			}
+		}
+		this.length = chars;
+		this.lineCount = lines;
+		this.maximumLineLength = Math.max(longest, chars - lineStart);
+		this.lineCharStarts = charStarts;
+		this.lineByteStarts = singleByteChars ? charStarts : byteStarts;
+	}
+
+	/**
+	 * Opens the given file range as new {@link MappedFileDocument}
+	 *
+	 * @param fileRange
+	 *            the file range
+	 * @return the new {@link MappedFileDocument}
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 */
+	public static MappedFileDocument open(final @NonNull MappedFileRange fileRange)
+		throws IOException
+	{
+		try (FileChannel channel = FileChannel.open(fileRange.getPath(), StandardOpenOption.READ))
+		{
+			long size = channel.size();
+			long offset = fileRange.getOffset();
+			long length = fileRange.getLength() == MappedFileRange.TO_END_OF_FILE
+				? size - offset
+				: fileRange.getLength();
+			if (offset < 0 || offset > size || length < 0 || offset + length > size)
+			{
+				throw new IllegalArgumentException("Invalid file range: offset=" + offset
+					+ ", length=" + length + ", file size=" + size);
+			}
+			if (Integer.MAX_VALUE - 1 < length)
+			{
+				throw new IllegalArgumentException(
+					"File range is too large for a document: length=" + length);
+			}
+			return new MappedFileDocument(fileRange,
+				channel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+		}
+	}
+
+	/**
+	 * Gets the mapped file range
+	 *
+	 * @return the mapped file range
+	 */
+	public MappedFileRange getFileRange()
+	{
+		return fileRange;
+	}
+
+	/**
+	 * Gets the number of chars of the longest line without its break
+	 *
+	 * @return the number of chars of the longest line
+	 */
+	public int getMaximumLineLength()
+	{
+		return maximumLineLength;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int getLength()
+	{
+		return length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addDocumentListener(final DocumentListener listener)
+	{
+		listenerList.add(DocumentListener.class, listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeDocumentListener(final DocumentListener listener)
+	{
+		listenerList.remove(DocumentListener.class, listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void addUndoableEditListener(final UndoableEditListener listener)
+	{
+		listenerList.add(UndoableEditListener.class, listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void removeUndoableEditListener(final UndoableEditListener listener)
+	{
+		listenerList.remove(UndoableEditListener.class, listener);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Object getProperty(final Object key)
+	{
+		return properties.get(key);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void putProperty(final Object key, final Object value)
+	{
+		if (value != null)
+		{
+			properties.put(key, value);
+		}
+		else
+		{
+			properties.remove(key);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Does nothing because this document is read-only, like a text component that is not editable
+	 * ignores the edits.
+	 */
+	@Override
+	public void remove(final int offs, final int len)
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Does nothing because this document is read-only, like a text component that is not editable
+	 * ignores the edits.
+	 */
+	@Override
+	public void insertString(final int offset, final String str, final AttributeSet a)
+	{
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getText(final int offset, final int length) throws BadLocationException
+	{
+		Segment segment = new Segment();
+		getText(offset, length, segment);
+		return segment.toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * If the requested range lies within one line the segment refers to the decoded chars of the
+	 * line, which must not be modified.
+	 */
+	@Override
+	public void getText(final int offset, final int length, final Segment txt)
+		throws BadLocationException
+	{
+		if (offset < 0 || length < 0 || this.length + 1 - length < offset)
+		{
+			throw new BadLocationException("Invalid range", offset);
+		}
+		int line = getLineIndex(offset);
+		int end = offset + length;
+		if (end <= getLineEnd(line))
+		{
+			txt.array = decodeLine(line);
+			txt.offset = offset - lineCharStarts[line];
+			txt.count = length;
+			return;
+		}
+		char[] chars = new char[length];
+		int position = offset;
+		while (position < end)
+		{
+			char[] decoded = decodeLine(line);
+			int lineStart = lineCharStarts[line];
+			int count = Math.min(end, getLineEnd(line)) - position;
+			System.arraycopy(decoded, position - lineStart, chars, position - offset, count);
+			position += count;
+			line++;
+		}
+		txt.array = chars;
+		txt.offset = 0;
+		txt.count = length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position getStartPosition()
+	{
+		return () -> 0;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position getEndPosition()
+	{
+		return () -> length + 1;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position createPosition(final int offs) throws BadLocationException
+	{
+		if (offs < 0 || length + 1 < offs)
+		{
+			throw new BadLocationException("Invalid position", offs);
+		}
+		return () -> offs;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Element[] getRootElements()
+	{
+		return new Element[] { root };
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Element getDefaultRootElement()
+	{
+		return root;
+	}
+
+	/**
+	 * Runs the given runnable directly because this document never changes
+	 *
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void render(final Runnable r)
+	{
+		r.run();
+	}
+
+	private int getLineIndex(final int offset)
+	{
+		int index = Arrays.binarySearch(lineCharStarts, 0, lineCount, offset);
+		return index < 0 ? -index - 2 : index;
+	}
+
+	private int getLineEnd(final int line)
+	{
+		return line + 1 < lineCount ? lineCharStarts[line + 1] : length + 1;
+	}
+
+	private char[] decodeLine(final int line)
+	{
+		DecodedLine decoded = lastDecodedLine;
+		if (decoded != null && decoded.line == line)
+		{
+			return decoded.chars;
+		}
+		int byteStart = lineByteStarts[line];
+		int byteEnd = line + 1 < lineCount ? lineByteStarts[line + 1] : byteLength;
+		char[] chars = new char[getLineEnd(line) - lineCharStarts[line]];
+		if (line + 1 == lineCount)
+		{
+			chars[chars.length - 1] = '\n';
+		}
+		if (utf8 && lineByteStarts != lineCharStarts)
+		{
+			decodeUtf8(byteStart, byteEnd, chars);
+		}
+		else
+		{
+			for (int i = byteStart; i < byteEnd; i++)
+			{
+				int b = buffer.get(i);
+				chars[i - byteStart] = b < 0 && (utf8 || asciiOnly)
+					? REPLACEMENT
+					: (char)(b & 0xFF);
+			}
+		}
+		lastDecodedLine = new DecodedLine(line, chars);
+		return chars;
+	}
+
+	/**
+	 * Decodes the given bytes as UTF-8. Every byte that is not a continuation byte results in one
+	 * char, or in two chars for the lead byte of a four byte sequence, so that the char offsets
+	 * match the ones that are counted while the line index is built.
+	 */
+	private void decodeUtf8(final int byteStart, final int byteEnd, final char[] chars)
+	{
+		int c = 0;
+		int i = byteStart;
+		while (i < byteEnd)
+		{
+			int b = buffer.get(i++) & 0xFF;
+			if (b < 0x80)
+			{
+				chars[c++] = (char)b;
+				continue;
+			}
+			if ((b & 0xC0) == 0x80)
+			{
+				continue;
+			}
+			int expected;
+			int codePoint;
+			if ((b & 0xE0) == 0xC0)
+			{
+				expected = 1;
+				codePoint = b & 0x1F;
+			}
+			else if ((b & 0xF0) == 0xE0)
+			{
+				expected = 2;
+				codePoint = b & 0x0F;
+			}
+			else if ((b & 0xF8) == 0xF0)
+			{
+				expected = 3;
+				codePoint = b & 0x07;
+			}
+			else
+			{
+				chars[c++] = REPLACEMENT;
+				continue;
+			}
+			int read = 0;
+			while (read < expected && i < byteEnd && (buffer.get(i) & 0xC0) == 0x80)
+			{
+				codePoint = (codePoint << 6) | (buffer.get(i++) & 0x3F);
+				read++;
+			}
+			if (expected == 3)
+			{
+				boolean valid = read == 3 && Character.isSupplementaryCodePoint(codePoint);
+				chars[c++] = valid ? Character.highSurrogate(codePoint) : REPLACEMENT;
+				chars[c++] = valid ? Character.lowSurrogate(codePoint) : REPLACEMENT;
+			}
+			else
+			{
+				boolean valid = read == expected && (expected == 1 ? 0x80 : 0x800) <= codePoint
+					&& !Character.isSurrogate((char)codePoint);
+				chars[c++] = valid ? (char)codePoint : REPLACEMENT;
+			}
+		}
+	}
+
+	private static final class DecodedLine
+	{
+		final int line;
+		final char[] chars;
+
+		DecodedLine(final int line, final char[] chars)
+		{
+			this.line = line;
+			this.chars = chars;
+		}
+	}
+
+	private class RootElement implements Element
+	{
+		@Override
+		public Document getDocument()
+		{
+			return MappedFileDocument.this;
+		}
+
+		@Override
+		public Element getParentElement()
+		{
+			return null;
+		}
+
+		@Override
+		public String getName()
+		{
+			return AbstractDocument.ParagraphElementName;
+		}
+
+		@Override
+		public AttributeSet getAttributes()
+		{
+			return SimpleAttributeSet.EMPTY;
+		}
+
+		@Override
+		public int getStartOffset()
+		{
+			return 0;
+		}
+
+		@Override
+		public int getEndOffset()
+		{
+			return length + 1;
+		}
+
+		@Override
+		public int getElementIndex(final int offset)
+		{
+			return offset <= 0 ? 0 : Math.min(getLineIndex(offset), lineCount - 1);
+		}
+
+		@Override
+		public int getElementCount()
+		{
+			return lineCount;
+		}
+
+		@Override
+		public Element getElement(final int index)
+		{
+			return 0 <= index && index < lineCount ? new LineElement(index) : null;
+		}
+
+		@Override
+		public boolean isLeaf()
+		{
+			return false;
+		}
+	}
+
+	private class LineElement implements Element
+	{
+		private final int line;
+
+		LineElement(final int line)
+		{
+			this.line = line;
+		}
+
+		@Override
+		public Document getDocument()
+		{
+			return MappedFileDocument.this;
+		}
+
+		@Override
+		public Element getParentElement()
+		{
+			return root;
+		}
+
+		@Override
+		public String getName()
+		{
+			return AbstractDocument.ContentElementName;
+		}
+
+		@Override
+		public AttributeSet getAttributes()
+		{
+			return SimpleAttributeSet.EMPTY;
+		}
+
+		@Override
+		public int getStartOffset()
+		{
+			return lineCharStarts[line];
+		}
+
+		@Override
+		public int getEndOffset()
+		{
+			return getLineEnd(line);
+		}
+
+		@Override
+		public int getElementIndex(final int offset)
+		{
+			return -1;
+		}
+
+		@Override
+		public int getElementCount()
+		{
+			return 0;
+		}
+
+		@Override
+		public Element getElement(final int index)
+		{
+			return null;
+		}
+
+		@Override
+		public boolean isLeaf()
+		{
+			return true;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.Value;
+
+/**
+ * The class {@link MappedFileRange} describes a byte range of a file together with the charset of
+ * its content. It is the model object of a {@link MappedFileDocument}.
+ */
+@Value
+@Builder(toBuilder = true)
+public class MappedFileRange
+{
+
+	/** The constant for the length that describes the range up to the end of the file. */
+	public static final long TO_END_OF_FILE = -1L;
+
+	/** The path of the file. */
+	@NonNull
+	Path path;
+
+	/** The offset in bytes of the range. */
+	@Builder.Default
+	long offset = 0L;
+
+	/** The length in bytes of the range or {@link #TO_END_OF_FILE}. */
+	@Builder.Default
+	long length = TO_END_OF_FILE;
+
+	/** The charset of the content. */
+	@NonNull
+	@Builder.Default
+	Charset charset = StandardCharsets.UTF_8;
+
+	/**
+	 * Factory method for create a new {@link MappedFileRange} for the whole given file with the
+	 * charset UTF-8.
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @return the new {@link MappedFileRange}
+	 */
+	public static MappedFileRange of(final @NonNull Path path)
+	{
+		return MappedFileRange.builder().path(path).build();
+	}
+}
@@ -0,0 +1,142 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.awt.Component;
+import java.awt.Font;
+import java.awt.Graphics;
+import java.awt.Shape;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.PlainView;
+import javax.swing.text.Position;
+
+/**
+ * The class {@link MappedFileView} is a {@link PlainView} for a {@link MappedFileDocument}. The
+ * {@link PlainView} measures every line of the document whenever the font changes to find the
+ * longest line, which would decode the whole file. This view estimates the preferred width from
+ * the longest line of the document instead, so only the visible lines are ever decoded.
+ */
+public class MappedFileView extends PlainView
+{
+
+	/** The font that the metrics belong to. */
+	private Font measuredFont;
+
+	/** The width of a tab. */
+	private float tabWidth;
+
+	/** The x position of the allocation that the tab stops are relative to. */
+	private int tabOrigin;
+
+	/**
+	 * Constructs a new <code>MappedFileView</code> wrapped on an element.
+	 *
+	 * @param elem
+	 *            the element
+	 */
+	public MappedFileView(final Element elem)
+	{
+		super(elem);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected void updateMetrics()
+	{
+		Component host = getContainer();
+		Font font = host.getFont();
+		if (measuredFont != font || metrics == null)
+		{
+			measuredFont = font;
+			metrics = host.getFontMetrics(font);
+			tabWidth = getTabSize() * metrics.charWidth('m');
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float getPreferredSpan(final int axis)
+	{
+		if (axis == X_AXIS && getDocument() instanceof MappedFileDocument)
+		{
+			updateMetrics();
+			MappedFileDocument document = (MappedFileDocument)getDocument();
+			return (float)document.getMaximumLineLength() * metrics.charWidth('m');
+		}
+		return super.getPreferredSpan(axis);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void paint(final Graphics g, final Shape a)
+	{
+		tabOrigin = a.getBounds().x;
+		super.paint(g, a);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Shape modelToView(final int pos, final Shape a, final Position.Bias b)
+		throws BadLocationException
+	{
+		tabOrigin = a.getBounds().x;
+		return super.modelToView(pos, a, b);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int viewToModel(final float fx, final float fy, final Shape a,
+		final Position.Bias[] bias)
+	{
+		tabOrigin = a.getBounds().x;
+		return super.viewToModel(fx, fy, a, bias);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextTabStop(final float x, final int tabOffset)
+	{
+		if (tabWidth == 0)
+		{
+			return x;
+		}
+		int tabs = (int)((x - tabOrigin) / tabWidth);
+		return tabOrigin + (tabs + 1) * tabWidth;
+	}
+}
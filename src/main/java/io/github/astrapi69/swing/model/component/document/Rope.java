@@ -0,0 +1,534 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.util.Arrays;
+
+import javax.swing.text.Segment;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link Rope} is an immutable character sequence that is stored as a height balanced
+ * binary tree of character chunks. Inserting into or removing from a rope creates a new rope that
+ * shares all untouched chunks with the original one, so edits cost <code>O(log n)</code> and every
+ * rope can be used as a snapshot of a text that never has to be copied.
+ */
+public final class Rope implements CharSequence
+{
+
+	/** The constant for the maximum length of one chunk. */
+	static final int MAX_LEAF_LENGTH = 1024;
+
+	/** The constant for the empty rope. */
+	public static final Rope EMPTY = new Rope(new Leaf(new char[0]));
+
+	/** The root node of the tree. */
+	private final Node root;
+
+	private Rope(final Node root)
+	{
+		this.root = root;
+	}
+
+	/**
+	 * Factory method for create a new {@link Rope} that holds the given text.
+	 *
+	 * @param text
+	 *            the text
+	 * @return the new {@link Rope}
+	 */
+	public static Rope of(final @NonNull CharSequence text)
+	{
+		if (text instanceof Rope)
+		{
+			return (Rope)text;
+		}
+		if (text.length() == 0)
+		{
+			return EMPTY;
+		}
+		return new Rope(build(text, 0, text.length()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length()
+	{
+		return this.root.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public char charAt(final int index)
+	{
+		checkIndex(index, length());
+		Node node = this.root;
+		int offset = index;
+		while (node instanceof Concat)
+		{
+			Concat concat = (Concat)node;
+			if (offset < concat.left.length)
+			{
+				node = concat.left;
+			}
+			else
+			{
+				offset -= concat.left.length;
+				node = concat.right;
+			}
+		}
+		return ((Leaf)node).chars[offset];
+	}
+
+	/**
+	 * Returns the rope between the given indexes. The returned rope shares the chunks with this
+	 * rope.
+	 *
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return the rope between the given indexes
+	 */
+	@Override
+	public Rope subSequence(final int start, final int end)
+	{
+		checkRange(start, end, length());
+		if (start == 0 && end == length())
+		{
+			return this;
+		}
+		return new Rope(tail(head(this.root, end), start));
+	}
+
+	/**
+	 * Creates a new rope with the given text inserted at the given index.
+	 *
+	 * @param index
+	 *            the index to insert
+	 * @param text
+	 *            the text to insert
+	 * @return the new rope
+	 */
+	public Rope insert(final int index, final @NonNull CharSequence text)
+	{
+		checkRange(index, index, length());
+		if (text.length() == 0)
+		{
+			return this;
+		}
+		Node inserted = text instanceof Rope ? ((Rope)text).root : build(text, 0, text.length());
+		return new Rope(
+			join(join(head(this.root, index), inserted), tail(this.root, index)));
+	}
+
+	/**
+	 * Creates a new rope with the given text appended.
+	 *
+	 * @param text
+	 *            the text to append
+	 * @return the new rope
+	 */
+	public Rope append(final @NonNull CharSequence text)
+	{
+		return insert(length(), text);
+	}
+
+	/**
+	 * Creates a new rope without the characters between the given indexes.
+	 *
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @return the new rope
+	 */
+	public Rope delete(final int start, final int end)
+	{
+		checkRange(start, end, length());
+		if (start == end)
+		{
+			return this;
+		}
+		return new Rope(join(head(this.root, start), tail(this.root, end)));
+	}
+
+	/**
+	 * Copies the characters between the given indexes into the given array.
+	 *
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @param destination
+	 *            the destination array
+	 * @param destinationOffset
+	 *            the offset in the destination array
+	 */
+	public void getChars(final int start, final int end, final char @NonNull [] destination,
+		final int destinationOffset)
+	{
+		checkRange(start, end, length());
+		copy(this.root, start, end, destination, destinationOffset);
+	}
+
+	/**
+	 * Fetches the characters between the given indexes into the given {@link Segment}. If the range
+	 * lies within one chunk the segment refers to the chunk directly without copying. Otherwise the
+	 * characters are copied into a new array or, if the segment allows a partial return, only the
+	 * characters of the first chunk are returned.
+	 *
+	 * @param start
+	 *            the start index, inclusive
+	 * @param end
+	 *            the end index, exclusive
+	 * @param segment
+	 *            the segment to fill
+	 */
+	public void getChars(final int start, final int end, final @NonNull Segment segment)
+	{
+		checkRange(start, end, length());
+		Node node = this.root;
+		int offset = start;
+		while (node instanceof Concat)
+		{
+			Concat concat = (Concat)node;
+			if (offset < concat.left.length)
+			{
+				node = concat.left;
+			}
+			else
+			{
+				offset -= concat.left.length;
+				node = concat.right;
+			}
+		}
+		Leaf leaf = (Leaf)node;
+		int length = end - start;
+		if (offset + length <= leaf.length || segment.isPartialReturn())
+		{
+			segment.array = leaf.chars;
+			segment.offset = offset;
+			segment.count = Math.min(length, leaf.length - offset);
+			return;
+		}
+		char[] chars = new char[length];
+		copy(this.root, start, end, chars, 0);
+		segment.array = chars;
+		segment.offset = 0;
+		segment.count = length;
+	}
+
+	/**
+	 * Gets the height of the tree, that grows logarithmic with the number of chunks.
+	 *
+	 * @return the height of the tree
+	 */
+	public int getHeight()
+	{
+		return this.root.height;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		char[] chars = new char[length()];
+		copy(this.root, 0, chars.length, chars, 0);
+		return new String(chars);
+	}
+
+	private static Node build(final CharSequence text, final int start, final int end)
+	{
+		int length = end - start;
+		if (length <= MAX_LEAF_LENGTH)
+		{
+			char[] chars = new char[length];
+			if (text instanceof String)
+			{
+				((String)text).getChars(start, end, chars, 0);
+			}
+			else
+			{
+				for (int i = 0; i < length; i++)
+				{
+					chars[i] = text.charAt(start + i);
+				}
+			}
+			return new Leaf(chars);
+		}
+		int leafCount = (length + MAX_LEAF_LENGTH - 1) / MAX_LEAF_LENGTH;
+		int middle = start + (leafCount / 2) * MAX_LEAF_LENGTH;
+		return new Concat(build(text, start, middle), build(text, middle, end));
+	}
+
+	private static void copy(final Node node, final int start, final int end,
+		final char[] destination, final int destinationOffset)
+	{
+		if (start >= end)
+		{
+			return;
+		}
+		if (node instanceof Leaf)
+		{
+			System.arraycopy(((Leaf)node).chars, start, destination, destinationOffset,
+				end - start);
+			return;
+		}
+		Concat concat = (Concat)node;
+		int leftLength = concat.left.length;
+		if (start < leftLength)
+		{
+			copy(concat.left, start, Math.min(end, leftLength), destination, destinationOffset);
+		}
+		if (leftLength < end)
+		{
+			int rightStart = Math.max(start, leftLength);
+			copy(concat.right, rightStart - leftLength, end - leftLength, destination,
+				destinationOffset + rightStart - start);
+		}
+	}
+
+	private static Node head(final Node node, final int index)
+	{
+		if (index >= node.length)
+		{
+			return node;
+		}
+		if (node instanceof Leaf)
+		{
+			return new Leaf(Arrays.copyOfRange(((Leaf)node).chars, 0, index));
+		}
+		Concat concat = (Concat)node;
+		if (index <= concat.left.length)
+		{
+			return head(concat.left, index);
+		}
+		return join(concat.left, head(concat.right, index - concat.left.length));
+	}
+
+	private static Node tail(final Node node, final int index)
+	{
+		if (index <= 0)
+		{
+			return node;
+		}
+		if (node instanceof Leaf)
+		{
+			char[] chars = ((Leaf)node).chars;
+			return new Leaf(Arrays.copyOfRange(chars, index, chars.length));
+		}
+		Concat concat = (Concat)node;
+		if (index >= concat.left.length)
+		{
+			return tail(concat.right, index - concat.left.length);
+		}
+		return join(tail(concat.left, index), concat.right);
+	}
+
+	private static Node join(final Node left, final Node right)
+	{
+		if (left.length == 0)
+		{
+			return right;
+		}
+		if (right.length == 0)
+		{
+			return left;
+		}
+		if (right instanceof Leaf && right.length < MAX_LEAF_LENGTH)
+		{
+			Node merged = appendToLastLeaf(left, (Leaf)right);
+			if (merged != null)
+			{
+				return merged;
+			}
+		}
+		if (left instanceof Leaf && left.length < MAX_LEAF_LENGTH)
+		{
+			Node merged = prependToFirstLeaf((Leaf)left, right);
+			if (merged != null)
+			{
+				return merged;
+			}
+		}
+		if (left.height > right.height + 1)
+		{
+			return joinRight((Concat)left, right);
+		}
+		if (right.height > left.height + 1)
+		{
+			return joinLeft(left, (Concat)right);
+		}
+		return new Concat(left, right);
+	}
+
+	private static Node joinRight(final Concat left, final Node right)
+	{
+		Node newRight = left.right.height <= right.height + 1
+			? new Concat(left.right, right)
+			: joinRight((Concat)left.right, right);
+		return balance(left.left, newRight);
+	}
+
+	private static Node joinLeft(final Node left, final Concat right)
+	{
+		Node newLeft = right.left.height <= left.height + 1
+			? new Concat(left, right.left)
+			: joinLeft(left, (Concat)right.left);
+		return balance(newLeft, right.right);
+	}
+
+	private static Node balance(final Node left, final Node right)
+	{
+		if (right.height > left.height + 1)
+		{
+			Concat concat = (Concat)right;
+			if (concat.left.height > concat.right.height)
+			{
+				Concat inner = (Concat)concat.left;
+				return new Concat(new Concat(left, inner.left),
+					new Concat(inner.right, concat.right));
+			}
+			return new Concat(new Concat(left, concat.left), concat.right);
+		}
+		if (left.height > right.height + 1)
+		{
+			Concat concat = (Concat)left;
+			if (concat.right.height > concat.left.height)
+			{
+				Concat inner = (Concat)concat.right;
+				return new Concat(new Concat(concat.left, inner.left),
+					new Concat(inner.right, right));
+			}
+			return new Concat(concat.left, new Concat(concat.right, right));
+		}
+		return new Concat(left, right);
+	}
+
+	private static Node appendToLastLeaf(final Node node, final Leaf leaf)
+	{
+		if (node instanceof Leaf)
+		{
+			if (node.length + leaf.length > MAX_LEAF_LENGTH)
+			{
+				return null;
+			}
+			char[] chars = Arrays.copyOf(((Leaf)node).chars, node.length + leaf.length);
+			System.arraycopy(leaf.chars, 0, chars, node.length, leaf.length);
+			return new Leaf(chars);
+		}
+		Concat concat = (Concat)node;
+		Node newRight = appendToLastLeaf(concat.right, leaf);
+		return newRight == null ? null : new Concat(concat.left, newRight);
+	}
+
+	private static Node prependToFirstLeaf(final Leaf leaf, final Node node)
+	{
+		if (node instanceof Leaf)
+		{
+			if (node.length + leaf.length > MAX_LEAF_LENGTH)
+			{
+				return null;
+			}
+			char[] chars = new char[node.length + leaf.length];
+			System.arraycopy(leaf.chars, 0, chars, 0, leaf.length);
+			System.arraycopy(((Leaf)node).chars, 0, chars, leaf.length, node.length);
+			return new Leaf(chars);
+		}
+		Concat concat = (Concat)node;
+		Node newLeft = prependToFirstLeaf(leaf, concat.left);
+		return newLeft == null ? null : new Concat(newLeft, concat.right);
+	}
+
+	private static void checkIndex(final int index, final int length)
+	{
+		if (index < 0 || index >= length)
+		{
+			throw new IndexOutOfBoundsException("index " + index + ", length " + length);
+		}
+	}
+
+	private static void checkRange(final int start, final int end, final int length)
+	{
+		if (start < 0 || start > end || end > length)
+		{
+			throw new IndexOutOfBoundsException(
+				"start " + start + ", end " + end + ", length " + length);
+		}
+	}
+
+	/**
+	 * A node of the tree.
+	 */
+	private abstract static class Node
+	{
+		final int length;
+		final int height;
+
+		Node(final int length, final int height)
+		{
+			this.length = length;
+			this.height = height;
+		}
+	}
+
+	/**
+	 * A leaf of the tree that holds a chunk of characters. The array is never modified.
+	 */
+	private static final class Leaf extends Node
+	{
+		final char[] chars;
+
+		Leaf(final char[] chars)
+		{
+			super(chars.length, 0);
+			this.chars = chars;
+		}
+	}
+
+	/**
+	 * An inner node of the tree that concatenates two nodes.
+	 */
+	private static final class Concat extends Node
+	{
+		final Node left;
+		final Node right;
+
+		Concat(final Node left, final Node right)
+		{
+			super(left.length + right.length, Math.max(left.height, right.height) + 1);
+			this.left = left;
+			this.right = right;
+		}
+	}
+}
@@ -0,0 +1,462 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+/**
+ * The class {@link RopeContent} is an implementation of {@link AbstractDocument.Content} that
+ * stores the text in a {@link Rope}. Inserts and removes cost <code>O(log n)</code> wherever they
+ * take place and the current text can be obtained as immutable {@link Rope} without copying.
+ * <p>
+ * Positions are tracked like in {@link javax.swing.text.GapContent}: the marks are kept sorted and
+ * split by a virtual gap, so only the marks between two consecutive edit locations have to be
+ * updated.
+ */
+public class RopeContent implements AbstractDocument.Content
+{
+
+	/** The constant for the initial size of the virtual gap of the marks. */
+	private static final long INITIAL_GAP_SIZE = 1L << 62;
+
+	/** The queue for the positions that are no more referenced. */
+	private final ReferenceQueue<StickyPosition> queue = new ReferenceQueue<>();
+
+	/** The current text including the implied break at the end. */
+	private Rope rope;
+
+	/**
+	 * The marks sorted by their offset. The array is a gap buffer, the marks in front of the gap
+	 * are stored from the start of the array and the marks behind the gap at the end of the array.
+	 */
+	private Mark[] marks = new Mark[16];
+
+	/** The index of the gap in the marks, that is the number of marks in front of the gap. */
+	private int gapStart;
+
+	/** The index in the array of the first mark behind the gap. */
+	private int gapEnd = 16;
+
+	/**
+	 * The size of the virtual gap. A mark behind the gap stores its offset plus the gap size, so
+	 * shifting all marks behind the gap only requires to change the gap size.
+	 */
+	private long gapSize = INITIAL_GAP_SIZE;
+
+	/**
+	 * Constructs a new <code>RopeContent</code> that contains only the implied break.
+	 */
+	public RopeContent()
+	{
+		this.rope = Rope.of("\n");
+	}
+
+	/**
+	 * Gets the current text without the implied break as immutable {@link Rope}. The returned rope
+	 * is not affected by later changes of this content.
+	 *
+	 * @return the current text as {@link Rope}
+	 */
+	public Rope getRope()
+	{
+		return this.rope.subSequence(0, this.rope.length() - 1);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Position createPosition(final int offset) throws BadLocationException
+	{
+		if (offset < 0 || offset > this.rope.length())
+		{
+			throw new BadLocationException("Invalid position", offset);
+		}
+		if (this.queue.poll() != null)
+		{
+			removeUnusedMarks();
+		}
+		int index = indexOf(offset);
+		if (index < markCount() && offsetOf(markAt(index)) == offset)
+		{
+			StickyPosition position = markAt(index).get();
+			if (position != null)
+			{
+				return position;
+			}
+		}
+		moveGap(index);
+		if (this.gapStart == this.gapEnd)
+		{
+			growMarks();
+		}
+		StickyPosition position = new StickyPosition();
+		Mark mark = new Mark(position, offset, this.queue);
+		position.mark = mark;
+		this.marks[this.gapStart++] = mark;
+		return position;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length()
+	{
+		return this.rope.length();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit insertString(final int where, final String str) throws BadLocationException
+	{
+		if (where >= this.rope.length() || where < 0)
+		{
+			throw new BadLocationException("Invalid insert", this.rope.length());
+		}
+		this.rope = this.rope.insert(where, str);
+		updateMarksForInsert(where, str.length());
+		return new InsertUndo(where, str.length());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public UndoableEdit remove(final int where, final int nitems) throws BadLocationException
+	{
+		if (where < 0 || nitems < 0 || where + nitems >= this.rope.length())
+		{
+			throw new BadLocationException("Invalid remove", this.rope.length() + 1);
+		}
+		Rope removed = this.rope.subSequence(where, where + nitems);
+		this.rope = this.rope.delete(where, where + nitems);
+		updateMarksForRemove(where, nitems);
+		return new RemoveUndo(where, removed);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getString(final int where, final int len) throws BadLocationException
+	{
+		checkBounds(where, len);
+		return this.rope.subSequence(where, where + len).toString();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void getChars(final int where, final int len, final Segment txt)
+		throws BadLocationException
+	{
+		checkBounds(where, len);
+		this.rope.getChars(where, where + len, txt);
+	}
+
+	private void checkBounds(final int where, final int len) throws BadLocationException
+	{
+		if (where < 0 || len < 0 || where + len > this.rope.length())
+		{
+			throw new BadLocationException("Invalid location", this.rope.length() + 1);
+		}
+	}
+
+	private void updateMarksForInsert(final int offset, final int length)
+	{
+		// like in the other content implementations a position at offset zero stays at zero
+		moveGap(indexOf(offset == 0 ? 1 : offset));
+		this.gapSize -= length;
+	}
+
+	private void updateMarksForRemove(final int offset, final int length)
+	{
+		int start = indexOf(offset);
+		moveGap(indexOf(offset + length));
+		for (int i = start; i < this.gapStart; i++)
+		{
+			this.marks[i].offset = offset;
+		}
+		this.gapSize += length;
+	}
+
+	/**
+	 * Moves the gap of the marks to the given index. The moved marks are converted between the
+	 * stored offsets in front of and behind the gap.
+	 */
+	private void moveGap(final int index)
+	{
+		if (index < this.gapStart)
+		{
+			int count = this.gapStart - index;
+			int newGapEnd = this.gapEnd - count;
+			System.arraycopy(this.marks, index, this.marks, newGapEnd, count);
+			for (int i = newGapEnd; i < this.gapEnd; i++)
+			{
+				this.marks[i].offset += this.gapSize;
+			}
+			Arrays.fill(this.marks, index, Math.min(this.gapStart, newGapEnd), null);
+			this.gapStart = index;
+			this.gapEnd = newGapEnd;
+		}
+		else if (index > this.gapStart)
+		{
+			int count = index - this.gapStart;
+			System.arraycopy(this.marks, this.gapEnd, this.marks, this.gapStart, count);
+			for (int i = this.gapStart; i < index; i++)
+			{
+				this.marks[i].offset -= this.gapSize;
+			}
+			Arrays.fill(this.marks, Math.max(index, this.gapEnd), this.gapEnd + count, null);
+			this.gapStart = index;
+			this.gapEnd += count;
+		}
+	}
+
+	private void growMarks()
+	{
+		Mark[] newMarks = new Mark[this.marks.length * 2];
+		int backCount = this.marks.length - this.gapEnd;
+		System.arraycopy(this.marks, 0, newMarks, 0, this.gapStart);
+		System.arraycopy(this.marks, this.gapEnd, newMarks, newMarks.length - backCount, backCount);
+		this.marks = newMarks;
+		this.gapEnd = newMarks.length - backCount;
+	}
+
+	/**
+	 * Gets the number of marks, including the marks of positions that are no more referenced and
+	 * not yet removed.
+	 *
+	 * @return the number of marks
+	 */
+	int markCount()
+	{
+		return this.gapStart + this.marks.length - this.gapEnd;
+	}
+
+	private Mark markAt(final int index)
+	{
+		return index < this.gapStart
+			? this.marks[index]
+			: this.marks[index + this.gapEnd - this.gapStart];
+	}
+
+	/**
+	 * Finds the index of the first mark with an offset that is equal or greater than the given
+	 * offset.
+	 */
+	private int indexOf(final int offset)
+	{
+		int low = 0;
+		int high = markCount();
+		while (low < high)
+		{
+			int middle = (low + high) >>> 1;
+			if (offsetOf(markAt(middle)) < offset)
+			{
+				low = middle + 1;
+			}
+			else
+			{
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	private int offsetOf(final Mark mark)
+	{
+		return (int)(mark.offset >= this.gapSize ? mark.offset - this.gapSize : mark.offset);
+	}
+
+	private void removeUnusedMarks()
+	{
+		while (this.queue.poll() != null)
+		{
+			// drain the queue, the unused marks are removed below
+		}
+		int newGapStart = 0;
+		for (int i = 0; i < this.gapStart; i++)
+		{
+			if (this.marks[i].get() != null)
+			{
+				this.marks[newGapStart++] = this.marks[i];
+			}
+		}
+		int newGapEnd = this.marks.length;
+		for (int i = this.marks.length - 1; i >= this.gapEnd; i--)
+		{
+			if (this.marks[i].get() != null)
+			{
+				this.marks[--newGapEnd] = this.marks[i];
+			}
+		}
+		Arrays.fill(this.marks, newGapStart, newGapEnd, null);
+		this.gapStart = newGapStart;
+		this.gapEnd = newGapEnd;
+	}
+
+	/**
+	 * A mark that tracks the offset of one position. The stored offset of a mark behind the
+	 * virtual gap contains the gap size.
+	 */
+	private static final class Mark extends WeakReference<StickyPosition>
+	{
+		long offset;
+
+		Mark(final StickyPosition position, final long offset,
+			final ReferenceQueue<StickyPosition> queue)
+		{
+			super(position, queue);
+			this.offset = offset;
+		}
+	}
+
+	/**
+	 * The position that is handed out, it holds its mark as long as it is referenced.
+	 */
+	private final class StickyPosition implements Position
+	{
+		Mark mark;
+
+		@Override
+		public int getOffset()
+		{
+			return offsetOf(this.mark);
+		}
+
+		@Override
+		public String toString()
+		{
+			return Integer.toString(getOffset());
+		}
+	}
+
+	/**
+	 * The undoable edit of an insert.
+	 */
+	private final class InsertUndo extends AbstractUndoableEdit
+	{
+		private final int offset;
+		private final int length;
+		private String string;
+
+		InsertUndo(final int offset, final int length)
+		{
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void undo() throws CannotUndoException
+		{
+			super.undo();
+			try
+			{
+				this.string = getString(this.offset, this.length);
+				remove(this.offset, this.length);
+			}
+			catch (BadLocationException exception)
+			{
+				throw new CannotUndoException();
+			}
+		}
+
+		@Override
+		public void redo() throws CannotRedoException
+		{
+			super.redo();
+			try
+			{
+				insertString(this.offset, this.string);
+				this.string = null;
+			}
+			catch (BadLocationException exception)
+			{
+				throw new CannotRedoException();
+			}
+		}
+	}
+
+	/**
+	 * The undoable edit of a remove.
+	 */
+	private final class RemoveUndo extends AbstractUndoableEdit
+	{
+		private final int offset;
+		private final int length;
+		private Rope removed;
+
+		RemoveUndo(final int offset, final Rope removed)
+		{
+			this.offset = offset;
+			this.length = removed.length();
+			this.removed = removed;
+		}
+
+		@Override
+		public void undo() throws CannotUndoException
+		{
+			super.undo();
+			if (this.offset >= rope.length())
+			{
+				throw new CannotUndoException();
+			}
+			rope = rope.insert(this.offset, this.removed);
+			updateMarksForInsert(this.offset, this.length);
+			this.removed = null;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException
+		{
+			super.redo();
+			try
+			{
+				this.removed = rope.subSequence(this.offset, this.offset + this.length);
+				remove(this.offset, this.length);
+			}
+			catch (BadLocationException | IndexOutOfBoundsException exception)
+			{
+				throw new CannotRedoException();
+			}
+		}
+	}
+}
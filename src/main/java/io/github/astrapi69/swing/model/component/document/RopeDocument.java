@@ -0,0 +1,70 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.io.Serial;
+
+import javax.swing.text.PlainDocument;
+
+/**
+ * The class {@link RopeDocument} is a plain document that stores its text in a {@link RopeContent}.
+ * It is intended for very large texts where inserts and removes should cost
+ * <code>O(log n)</code> and the current text should be obtainable as immutable snapshot without
+ * copying.
+ */
+public class RopeDocument extends PlainDocument
+{
+
+	/** The Constant serialVersionUID. */
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Constructs a new empty <code>RopeDocument</code>.
+	 */
+	public RopeDocument()
+	{
+		super(new RopeContent());
+	}
+
+	/**
+	 * Gets an immutable snapshot of the current text. The snapshot shares its storage with the
+	 * document and is not affected by later changes of the document.
+	 *
+	 * @return the current text as {@link Rope}
+	 */
+	public Rope getSnapshot()
+	{
+		readLock();
+		try
+		{
+			return ((RopeContent)getContent()).getRope();
+		}
+		finally
+		{
+			readUnlock();
+		}
+	}
+}
@@ -0,0 +1,330 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import java.util.Arrays;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link SecretBuffer} holds a secret text such as a password in one reusable char
+ * array that is updated incrementally with the inserts and removes of a {@link Document}. The
+ * characters are read through a {@link Segment} that points into the content of the document, so
+ * no temporary copy of the secret is created. If the array has to grow, the characters are copied
+ * into the new array and the old array is zeroed immediately, and removed characters are zeroed
+ * too, so no superseded copy of the secret stays in the heap until the next garbage collection.
+ * <p>
+ * The buffer itself is the {@link CharSequence} view over the secret, it is not thread-safe and is
+ * meant to be used on the event dispatch thread.
+ */
+public final class SecretBuffer implements CharSequence
+{
+
+	/** The initial capacity of the char array. */
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/** The segment for reading the document. */
+	private final Segment segment = new Segment();
+
+	/** The characters. */
+	private char[] chars;
+
+	/** The length of the secret. */
+	private int length;
+
+	/**
+	 * Constructs a new empty <code>SecretBuffer</code> with the default capacity.
+	 */
+	public SecretBuffer()
+	{
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new empty <code>SecretBuffer</code> with the given capacity.
+	 *
+	 * @param capacity
+	 *            the initial capacity
+	 * @throws IllegalArgumentException
+	 *             if the capacity is negative
+	 */
+	public SecretBuffer(final int capacity)
+	{
+		if (capacity < 0)
+		{
+			throw new IllegalArgumentException("capacity must not be negative: " + capacity);
+		}
+		this.chars = new char[capacity];
+		this.segment.setPartialReturn(true);
+	}
+
+	/**
+	 * Inserts the characters of the given range of the given document at the given offset of this
+	 * buffer.
+	 *
+	 * @param offset
+	 *            the offset in this buffer
+	 * @param document
+	 *            the document
+	 * @param documentOffset
+	 *            the offset of the range in the document
+	 * @param count
+	 *            the number of characters to insert
+	 * @throws IllegalArgumentException
+	 *             if the offset is not inside of this buffer or the count is negative
+	 * @throws IllegalStateException
+	 *             if the range is not inside of the document
+	 */
+	public void insert(final int offset, final @NonNull Document document,
+		final int documentOffset, final int count)
+	{
+		checkOffset(offset);
+		if (count < 0)
+		{
+			throw new IllegalArgumentException("count must not be negative: " + count);
+		}
+		ensureCapacity(this.length + count);
+		System.arraycopy(this.chars, offset, this.chars, offset + count, this.length - offset);
+		int position = documentOffset;
+		int target = offset;
+		final int end = documentOffset + count;
+		try
+		{
+			while (position < end)
+			{
+				document.getText(position, end - position, this.segment);
+				System.arraycopy(this.segment.array, this.segment.offset, this.chars, target,
+					this.segment.count);
+				position += this.segment.count;
+				target += this.segment.count;
+			}
+		}
+		catch (BadLocationException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+		finally
+		{
+			this.segment.array = null;
+		}
+		this.length += count;
+	}
+
+	/**
+	 * Removes the given number of characters at the given offset and zeroes the freed characters.
+	 *
+	 * @param offset
+	 *            the offset
+	 * @param count
+	 *            the number of characters to remove
+	 * @throws IllegalArgumentException
+	 *             if the range is not inside of this buffer
+	 */
+	public void remove(final int offset, final int count)
+	{
+		checkOffset(offset);
+		if (count < 0 || this.length - offset < count)
+		{
+			throw new IllegalArgumentException(
+				"invalid range: offset " + offset + ", count " + count + ", length " + this.length);
+		}
+		System.arraycopy(this.chars, offset + count, this.chars, offset,
+			this.length - offset - count);
+		Arrays.fill(this.chars, this.length - count, this.length, '\0');
+		this.length -= count;
+	}
+
+	/**
+	 * Replaces the content of this buffer with the whole text of the given document.
+	 *
+	 * @param document
+	 *            the document
+	 */
+	public void load(final @NonNull Document document)
+	{
+		wipe();
+		insert(0, document, 0, document.getLength());
+	}
+
+	/**
+	 * Zeroes all characters and sets the length to 0.
+	 */
+	public void wipe()
+	{
+		Arrays.fill(this.chars, 0, this.length, '\0');
+		this.length = 0;
+	}
+
+	/**
+	 * Gets the capacity of the char array.
+	 *
+	 * @return the capacity
+	 */
+	public int capacity()
+	{
+		return this.chars.length;
+	}
+
+	/**
+	 * Creates a copy of the secret. The caller is responsible for zeroing the returned array.
+	 *
+	 * @return the new char array with the secret
+	 */
+	public char[] toCharArray()
+	{
+		return Arrays.copyOf(this.chars, this.length);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int length()
+	{
+		return this.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public char charAt(final int index)
+	{
+		if (index < 0 || this.length <= index)
+		{
+			throw new IndexOutOfBoundsException("index " + index + ", length " + this.length);
+		}
+		return this.chars[index];
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned sequence is a view over this buffer and copies no characters.
+	 */
+	@Override
+	public CharSequence subSequence(final int start, final int end)
+	{
+		if (start < 0 || end < start || this.length < end)
+		{
+			throw new IndexOutOfBoundsException(
+				"start " + start + ", end " + end + ", length " + this.length);
+		}
+		return new View(this, start, end - start);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The returned string is a copy of the secret that can not be zeroed, so this method should be
+	 * avoided.
+	 */
+	@Override
+	public String toString()
+	{
+		return new String(this.chars, 0, this.length);
+	}
+
+	private void checkOffset(final int offset)
+	{
+		if (offset < 0 || this.length < offset)
+		{
+			throw new IllegalArgumentException("offset " + offset + ", length " + this.length);
+		}
+	}
+
+	private void ensureCapacity(final int capacity)
+	{
+		if (capacity <= this.chars.length)
+		{
+			return;
+		}
+		final char[] oldChars = this.chars;
+		final char[] newChars = new char[Math.max(capacity, oldChars.length * 2)];
+		System.arraycopy(oldChars, 0, newChars, 0, this.length);
+		Arrays.fill(oldChars, '\0');
+		this.chars = newChars;
+	}
+
+	/**
+	 * The view over a range of a {@link SecretBuffer}.
+	 */
+	private static final class View implements CharSequence
+	{
+
+		/** The buffer. */
+		private final SecretBuffer buffer;
+
+		/** The start of the range. */
+		private final int start;
+
+		/** The length of the range. */
+		private final int length;
+
+		private View(final SecretBuffer buffer, final int start, final int length)
+		{
+			this.buffer = buffer;
+			this.start = start;
+			this.length = length;
+		}
+
+		@Override
+		public int length()
+		{
+			return this.length;
+		}
+
+		@Override
+		public char charAt(final int index)
+		{
+			if (index < 0 || this.length <= index)
+			{
+				throw new IndexOutOfBoundsException("index " + index + ", length " + this.length);
+			}
+			return this.buffer.charAt(this.start + index);
+		}
+
+		@Override
+		public CharSequence subSequence(final int start, final int end)
+		{
+			if (start < 0 || end < start || this.length < end)
+			{
+				throw new IndexOutOfBoundsException(
+					"start " + start + ", end " + end + ", length " + this.length);
+			}
+			return new View(this.buffer, this.start + start, end - start);
+		}
+
+		@Override
+		public String toString()
+		{
+			return new String(this.buffer.chars, this.start, this.length);
+		}
+	}
+}
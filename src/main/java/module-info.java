@@ -28,4 +28,13 @@ module swing.model.components.main
 	requires swing.base.components.main;
 
 	exports io.github.astrapi69.swing.model.component;
+	exports io.github.astrapi69.swing.model.component.binding;
+	exports io.github.astrapi69.swing.model.component.document;
+	exports io.github.astrapi69.swing.model.component.converter;
+	exports io.github.astrapi69.swing.model.component.combobox;
+
+	uses io.github.astrapi69.swing.model.component.converter.TextConverterProvider;
+
+	provides io.github.astrapi69.swing.model.component.converter.TextConverterProvider
+		with io.github.astrapi69.swing.model.component.converter.StandardTextConverterProvider;
 }
\ No newline at end of file
@@ -0,0 +1,233 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import javax.swing.SwingUtilities;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultCaret;
+import javax.swing.text.JTextComponent;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.swing.model.component.binding.CommitPolicy;
+import io.github.astrapi69.swing.model.component.binding.FixedScaleDecimalModel;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+
+/**
+ * Test class for the allocations of the text components on the path of a keystroke. A synthetic
+ * keystroke is measured once on the document of the component and once on the
+ * {@link PlainDocument} of the plain Swing component it is derived from, the difference must not
+ * exceed the declared budget of the component. The allocations of the documents and listeners of
+ * this library are counted, the allocations of Swing itself, for instance the document events,
+ * the undoable edits and the updates of the views, are in both measurements and are not counted.
+ */
+public class AllocationBudgetTest
+{
+
+	/** The number of keystrokes for warming up the JIT compiler. */
+	private static final int WARM_UP_KEYSTROKES = 50_000;
+
+	/** The number of measured keystrokes per round. */
+	private static final int MEASURED_KEYSTROKES = 20_000;
+
+	/**
+	 * The number of measured rounds on both documents, the smallest result of each is taken
+	 * because a round can be disturbed by the compilation of the JIT compiler.
+	 */
+	private static final int MEASURED_ROUNDS = 10;
+
+	/** The tolerance in bytes per keystroke for the noise of the measurement. */
+	private static final long TOLERANCE = 8L;
+
+	/** The digits as interned strings, so the typing itself allocates nothing. */
+	private static final String[] DIGITS = { "1", "2", "3", "4", "5", "6", "7", "8", "9", "0" };
+
+	/** The budget of the components that must not allocate anything. */
+	private static final long NO_ALLOCATION = 0L;
+
+	/** The budget of an integer that is boxed beyond the cache of {@link Integer#valueOf(int)}. */
+	private static final long BOXED_INTEGER = 16L;
+
+	/** The budget of a string with at most eight latin characters for a string model. */
+	private static final long SHORT_STRING = 48L;
+
+	/**
+	 * Test method for the numeric text fields that must not allocate on a keystroke
+	 */
+	@Test
+	public void testNumericTextFields() throws Exception
+	{
+		assertBudget("JMIntTextField", JMIntTextField::new, NO_ALLOCATION);
+		assertBudget("JMLongTextField", JMLongTextField::new, NO_ALLOCATION);
+		assertBudget("JMDoubleTextField", JMDoubleTextField::new, NO_ALLOCATION);
+		assertBudget("JMFixedScaleDecimalTextField",
+			() -> new JMFixedScaleDecimalTextField(FixedScaleDecimalModel.of(0)), NO_ALLOCATION);
+		assertBudget("JMIntegerTextField", JMIntegerTextField::new, BOXED_INTEGER);
+	}
+
+	/**
+	 * Test method for the text components with a string model that must allocate nothing but the
+	 * new text
+	 */
+	@Test
+	public void testStringTextComponents() throws Exception
+	{
+		assertBudget("JMTextField", () -> new JMTextField(BaseModel.of("")), SHORT_STRING);
+		assertBudget("JMTextField with observable model",
+			() -> new JMTextField(ObservableModel.of("")), SHORT_STRING);
+		assertBudget("JMStringTextField", () -> new JMStringTextField(BaseModel.of("")),
+			SHORT_STRING);
+		assertBudget("JMTextArea", () -> new JMTextArea(BaseModel.of("")), SHORT_STRING);
+	}
+
+	/**
+	 * Test method for the text components without a model that must not allocate on a keystroke,
+	 * the default model is only created on the first call of the getter of the model
+	 */
+	@Test
+	public void testTextComponentsWithoutModel() throws Exception
+	{
+		assertBudget("JMTextField without model", JMTextField::new, NO_ALLOCATION);
+		assertBudget("JMPasswordField without model", JMPasswordField::new, NO_ALLOCATION);
+		assertBudget("JMFormattedTextField without model", JMFormattedTextField::new,
+			NO_ALLOCATION);
+		assertBudget("JMTextArea without model", JMTextArea::new, NO_ALLOCATION);
+	}
+
+	/**
+	 * Test method for {@link JMTextField} with the commit policy {@link CommitPolicy#DEBOUNCED}
+	 * that must not allocate on a keystroke, the commit is rescheduled in place
+	 */
+	@Test
+	public void testDebouncedTextField() throws Exception
+	{
+		assertBudget("JMTextField debounced",
+			() -> new JMTextField().setCommitPolicy(CommitPolicy.DEBOUNCED), NO_ALLOCATION);
+	}
+
+	private static void assertBudget(final String name,
+		final Supplier<? extends JTextComponent> factory, final long budget) throws Exception
+	{
+		ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		long[] bytesPerKeystroke = { Long.MAX_VALUE, Long.MAX_VALUE };
+		SwingUtilities.invokeAndWait(() -> {
+			JTextComponent component = factory.get();
+			JTextComponent plainComponent = plainComponent(component);
+			// the caret posts a repaint event on every keystroke and the event captures the access
+			// control context of the call stack, its size depends on the code sources on the stack
+			// and not on the component
+			((DefaultCaret)component.getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
+			((DefaultCaret)plainComponent.getCaret()).setUpdatePolicy(DefaultCaret.NEVER_UPDATE);
+			AbstractDocument document = (AbstractDocument)component.getDocument();
+			AbstractDocument plainDocument = (AbstractDocument)plainComponent.getDocument();
+			typeKeystrokes(document, WARM_UP_KEYSTROKES);
+			typeKeystrokes(plainDocument, WARM_UP_KEYSTROKES);
+			// the measurements alternate, so a later compilation of the JIT compiler affects both
+			// measurements alike
+			for (int round = 0; round < MEASURED_ROUNDS; round++)
+			{
+				bytesPerKeystroke[0] = Math.min(bytesPerKeystroke[0],
+					measure(threadMXBean, document));
+				bytesPerKeystroke[1] = Math.min(bytesPerKeystroke[1],
+					measure(threadMXBean, plainDocument));
+			}
+		});
+		long allocated = bytesPerKeystroke[0] - bytesPerKeystroke[1];
+		assertTrue(allocated <= budget + TOLERANCE,
+			name + " allocates " + allocated + " bytes per keystroke, the budget is " + budget);
+	}
+
+	/**
+	 * Creates the plain Swing text component the given component is derived from, its default
+	 * {@link PlainDocument} has the document listeners of Swing but none of this library
+	 */
+	private static JTextComponent plainComponent(final JTextComponent component)
+	{
+		Class<?> swingClass = component.getClass();
+		while (!swingClass.getName().startsWith("javax.swing."))
+		{
+			swingClass = swingClass.getSuperclass();
+		}
+		try
+		{
+			JTextComponent plainComponent = (JTextComponent)swingClass.getConstructor()
+				.newInstance();
+			assertTrue(plainComponent.getDocument() instanceof PlainDocument);
+			return plainComponent;
+		}
+		catch (ReflectiveOperationException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	private static long measure(final ThreadMXBean threadMXBean, final AbstractDocument document)
+	{
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		typeKeystrokes(document, MEASURED_KEYSTROKES);
+		long after = threadMXBean.getThreadAllocatedBytes(threadId);
+		return (after - before) / MEASURED_KEYSTROKES;
+	}
+
+	/**
+	 * Types the given number of keystrokes. Seven digits are typed and the eighth keystroke clears
+	 * the text, so the text stays short and the values stay in the range of every numeric type.
+	 */
+	private static void typeKeystrokes(final AbstractDocument document, final int keystrokes)
+	{
+		try
+		{
+			for (int i = 0; i < keystrokes; i++)
+			{
+				if (i % 8 == 7)
+				{
+					document.remove(0, document.getLength());
+				}
+				else
+				{
+					document.insertString(document.getLength(), DIGITS[i % 10], null);
+				}
+			}
+		}
+		catch (BadLocationException exception)
+		{
+			throw new IllegalStateException(exception);
+		}
+	}
+}
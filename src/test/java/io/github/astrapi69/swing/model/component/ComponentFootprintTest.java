@@ -0,0 +1,209 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+import javax.swing.JCheckBox;
+import javax.swing.JComponent;
+import javax.swing.JPasswordField;
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+
+/**
+ * Test class for the footprint of the components. The construction of a component is measured
+ * against the construction of the plain Swing component, the difference must not exceed the
+ * declared budget. The default models are created lazily and all components share one listener
+ * for the focus, action, item and change events.
+ */
+public class ComponentFootprintTest
+{
+
+	/** The number of instances for warming up the JIT compiler. */
+	private static final int WARM_UP_INSTANCES = 5_000;
+
+	/** The number of measured instances per round. */
+	private static final int MEASURED_INSTANCES = 2_000;
+
+	/**
+	 * The number of measured rounds, the smallest result is taken because a round can be
+	 * disturbed by the compilation of the JIT compiler.
+	 */
+	private static final int MEASURED_ROUNDS = 5;
+
+	/** The budget in bytes per instance of a text component over the Swing component. */
+	private static final long TEXT_COMPONENT_BUDGET = 512L;
+
+	/** The budget in bytes per instance of a check box over the Swing component. */
+	private static final long CHECK_BOX_BUDGET = 384L;
+
+	/**
+	 * Test method for the footprint of the text components without a model
+	 */
+	@Test
+	public void testTextComponents() throws Exception
+	{
+		assertBudget("JMTextField", JMTextField::new, JTextField::new, TEXT_COMPONENT_BUDGET);
+		assertBudget("JMPasswordField", JMPasswordField::new, JPasswordField::new,
+			TEXT_COMPONENT_BUDGET);
+	}
+
+	/**
+	 * Test method for the footprint of {@link JMCheckBox} without a model
+	 */
+	@Test
+	public void testCheckBox() throws Exception
+	{
+		assertBudget("JMCheckBox", JMCheckBox::new, JCheckBox::new, CHECK_BOX_BUDGET);
+	}
+
+	/**
+	 * Test method for the lazily created default model of {@link JMTextField}
+	 */
+	@Test
+	public void testLazyTextFieldModel()
+	{
+		JMTextField textField = new JMTextField("foo");
+		textField.setText("bar");
+		IModel<String> propertyModel = textField.getPropertyModel();
+		assertEquals("bar", propertyModel.getObject());
+		assertSame(propertyModel, textField.getPropertyModel());
+		textField.setText("baz");
+		assertEquals("baz", propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for the lazily created default model of {@link JMPasswordField}
+	 */
+	@Test
+	public void testLazyPasswordFieldModel()
+	{
+		JMPasswordField passwordField = new JMPasswordField("secret");
+		assertEquals("secret", String.valueOf(passwordField.getPropertyModel().getObject()));
+		passwordField.setText("other");
+		assertEquals("other", String.valueOf(passwordField.getPropertyModel().getObject()));
+	}
+
+	/**
+	 * Test method for the lazily created default model of {@link JMCheckBox} and for a model that
+	 * is set later
+	 */
+	@Test
+	public void testLazyCheckBoxModel()
+	{
+		JMCheckBox checkBox = new JMCheckBox();
+		checkBox.setSelected(true);
+		assertSame(checkBox.getPropertyModel(), checkBox.getPropertyModel());
+		IModel<Boolean> propertyModel = BaseModel.of(Boolean.FALSE);
+		checkBox.setPropertyModel(propertyModel);
+		assertFalse(checkBox.isSelected());
+		checkBox.setSelected(true);
+		assertTrue(propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for the shared listener of the components
+	 */
+	@Test
+	public void testSharedListener()
+	{
+		JMTextField first = new JMTextField();
+		JMTextField second = new JMTextField();
+		assertTrue(contains(first.getFocusListeners(), SharedComponentListener.INSTANCE));
+		assertTrue(contains(second.getFocusListeners(), SharedComponentListener.INSTANCE));
+		JMCheckBox checkBox = new JMCheckBox();
+		assertTrue(contains(checkBox.getItemListeners(), SharedComponentListener.INSTANCE));
+	}
+
+	private static boolean contains(final Object[] listeners, final Object listener)
+	{
+		for (Object current : listeners)
+		{
+			if (current == listener)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static void assertBudget(final String name,
+		final Supplier<? extends JComponent> factory,
+		final Supplier<? extends JComponent> swingFactory, final long budget) throws Exception
+	{
+		ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		long[] bytesPerInstance = new long[2];
+		SwingUtilities.invokeAndWait(() -> {
+			construct(factory, WARM_UP_INSTANCES);
+			construct(swingFactory, WARM_UP_INSTANCES);
+			bytesPerInstance[0] = measure(threadMXBean, factory);
+			bytesPerInstance[1] = measure(threadMXBean, swingFactory);
+		});
+		long allocated = bytesPerInstance[0] - bytesPerInstance[1];
+		assertTrue(allocated <= budget,
+			name + " allocates " + allocated + " bytes per instance more than the Swing component,"
+				+ " the budget is " + budget);
+	}
+
+	private static long measure(final ThreadMXBean threadMXBean,
+		final Supplier<? extends JComponent> factory)
+	{
+		long threadId = Thread.currentThread().getId();
+		long minimum = Long.MAX_VALUE;
+		for (int round = 0; round < MEASURED_ROUNDS; round++)
+		{
+			long before = threadMXBean.getThreadAllocatedBytes(threadId);
+			construct(factory, MEASURED_INSTANCES);
+			long after = threadMXBean.getThreadAllocatedBytes(threadId);
+			minimum = Math.min(minimum, (after - before) / MEASURED_INSTANCES);
+		}
+		return minimum;
+	}
+
+	private static void construct(final Supplier<? extends JComponent> factory,
+		final int instances)
+	{
+		for (int i = 0; i < instances; i++)
+		{
+			factory.get();
+		}
+	}
+}
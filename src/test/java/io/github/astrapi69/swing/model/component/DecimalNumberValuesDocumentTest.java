@@ -0,0 +1,229 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+import javax.swing.undo.UndoManager;
+
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * Test class for the class {@link DecimalNumberValuesDocument}
+ */
+public class DecimalNumberValuesDocumentTest
+{
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument} that must accept exactly the changes that
+	 * result in a text matching {@link DecimalNumberValuesDocument#DEFAULT_REGEX}
+	 */
+	@Test
+	public void testAcceptsLikeDefaultRegex() throws BadLocationException
+	{
+		Random random = new Random(3);
+		String alphabet = "0123456789..--a";
+		DecimalNumberValuesDocument document = new DecimalNumberValuesDocument();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+		{
+			int length = expected.length();
+			int offset = random.nextInt(length + 1);
+			StringBuilder text = new StringBuilder();
+			int count = random.nextInt(4);
+			for (int k = 0; k < count; k++)
+			{
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			int operation = random.nextInt(3);
+			if (operation == 0)
+			{
+				String proposed = expected.substring(0, offset) + text + expected.substring(offset);
+				if (proposed.matches(DecimalNumberValuesDocument.DEFAULT_REGEX))
+				{
+					expected.insert(offset, text);
+				}
+				document.insertString(offset, text.toString(), null);
+			}
+			else if (operation == 1)
+			{
+				int removed = random.nextInt(length - offset + 1);
+				String proposed = expected.substring(0, offset) + text
+					+ expected.substring(offset + removed);
+				if (proposed.matches(DecimalNumberValuesDocument.DEFAULT_REGEX))
+				{
+					expected.replace(offset, offset + removed, text.toString());
+				}
+				document.replace(offset, removed, text.toString(), null);
+			}
+			else
+			{
+				int removed = random.nextInt(length - offset + 1);
+				expected.delete(offset, offset + removed);
+				document.remove(offset, removed);
+			}
+			assertEquals(expected.toString(), document.getText(0, document.getLength()));
+		}
+	}
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument} with undo and redo that must keep the
+	 * tracked decimal point and sign
+	 */
+	@Test
+	public void testUndoRedo() throws BadLocationException
+	{
+		DecimalNumberValuesDocument document = new DecimalNumberValuesDocument();
+		UndoManager undoManager = new UndoManager();
+		document.addUndoableEditListener(undoManager);
+		document.insertString(0, "-12.5", null);
+		document.remove(3, 1);
+		assertEquals("-125", document.getText(0, document.getLength()));
+		undoManager.undo();
+		document.insertString(1, ".", null);
+		document.insertString(0, "-", null);
+		assertEquals("-12.5", document.getText(0, document.getLength()));
+		undoManager.redo();
+		document.insertString(1, ".", null);
+		assertEquals("-.125", document.getText(0, document.getLength()));
+		undoManager.undo();
+		undoManager.undo();
+		undoManager.undo();
+		assertEquals("", document.getText(0, document.getLength()));
+		document.insertString(0, "-5", null);
+		assertEquals("-5", document.getText(0, document.getLength()));
+	}
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument#validate(String)}
+	 */
+	@Test
+	public void testValidate()
+	{
+		DecimalNumberValuesDocument document = new DecimalNumberValuesDocument();
+		assertEquals("", document.validate(""));
+		assertEquals("-12.5", document.validate("-12.5"));
+		assertEquals("-.", document.validate("-."));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("1.2.3"));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("1-2"));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("1e5"));
+	}
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument} that must not allocate more than a
+	 * {@link PlainDocument} on a typed digit
+	 */
+	@Test
+	public void testTypedDigitAllocations() throws BadLocationException
+	{
+		String text = "-1234.5";
+		long allocated = allocatedBytesOverPlainDocument(text, "7", 20_000);
+		assertTrue(allocated <= 8L, "a typed digit allocates " + allocated + " bytes");
+	}
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument} that must not copy the text on a paste of
+	 * 100.000 digits
+	 */
+	@Test
+	public void testPastedDigitsAllocations() throws BadLocationException
+	{
+		String text = "-" + "1".repeat(100_000) + ".";
+		String digits = "9".repeat(100_000);
+		long allocated = allocatedBytesOverPlainDocument(text, digits, 20);
+		assertTrue(allocated <= 1024L, "a paste of digits allocates " + allocated + " bytes");
+	}
+
+	/**
+	 * Measures the insertion of the given text before the decimal point of the given text in a
+	 * {@link DecimalNumberValuesDocument} and in a {@link PlainDocument}. The measurements
+	 * alternate after a warm up, so the compilation of the JIT compiler affects both alike, and the
+	 * difference of the smallest numbers of allocated bytes per insertion is returned.
+	 */
+	private static long allocatedBytesOverPlainDocument(final String text, final String insertion,
+		final int insertions) throws BadLocationException
+	{
+		ThreadMXBean threadMXBean = (ThreadMXBean)ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean.isThreadAllocatedMemorySupported());
+		threadMXBean.setThreadAllocatedMemoryEnabled(true);
+		AbstractDocument document = new DecimalNumberValuesDocument();
+		AbstractDocument plainDocument = new PlainDocument();
+		document.insertString(0, text, null);
+		plainDocument.insertString(0, text, null);
+		int offset = text.length() - 1;
+		for (int round = 0; round < 5; round++)
+		{
+			measure(threadMXBean, document, offset, insertion, insertions);
+			measure(threadMXBean, plainDocument, offset, insertion, insertions);
+		}
+		long[] bytesPerInsertion = { Long.MAX_VALUE, Long.MAX_VALUE };
+		for (int round = 0; round < 10; round++)
+		{
+			bytesPerInsertion[0] = Math.min(bytesPerInsertion[0],
+				measure(threadMXBean, document, offset, insertion, insertions));
+			bytesPerInsertion[1] = Math.min(bytesPerInsertion[1],
+				measure(threadMXBean, plainDocument, offset, insertion, insertions));
+		}
+		return bytesPerInsertion[0] - bytesPerInsertion[1];
+	}
+
+	private static long measure(final ThreadMXBean threadMXBean, final AbstractDocument document,
+		final int offset, final String insertion, final int insertions) throws BadLocationException
+	{
+		long threadId = Thread.currentThread().getId();
+		long before = threadMXBean.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < insertions; i++)
+		{
+			document.insertString(offset, insertion, null);
+			document.remove(offset, insertion.length());
+		}
+		long after = threadMXBean.getThreadAllocatedBytes(threadId);
+		return (after - before) / insertions;
+	}
+
+	/**
+	 * Test method for {@link DecimalNumberValuesDocument} with a custom regular expression
+	 */
+	@Test
+	public void testCustomRegex() throws BadLocationException
+	{
+		DecimalNumberValuesDocument document = new DecimalNumberValuesDocument("\\d{0,3}");
+		document.insertString(0, "12", null);
+		document.insertString(2, "3", null);
+		document.insertString(3, "4", null);
+		assertEquals("123", document.getText(0, document.getLength()));
+	}
+}
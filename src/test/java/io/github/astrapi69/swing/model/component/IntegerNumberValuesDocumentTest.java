@@ -0,0 +1,135 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Random;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.undo.UndoManager;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link IntegerNumberValuesDocument}
+ */
+public class IntegerNumberValuesDocumentTest
+{
+
+	/**
+	 * Test method for {@link IntegerNumberValuesDocument} that must accept exactly the changes
+	 * that result in a text matching {@link IntegerNumberValuesDocument#DEFAULT_REGEX}
+	 */
+	@Test
+	public void testAcceptsLikeDefaultRegex() throws BadLocationException
+	{
+		Random random = new Random(5);
+		String alphabet = "0123456789--++a.";
+		IntegerNumberValuesDocument document = new IntegerNumberValuesDocument();
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+		{
+			int length = expected.length();
+			int offset = random.nextInt(length + 1);
+			StringBuilder text = new StringBuilder();
+			int count = random.nextInt(4);
+			for (int k = 0; k < count; k++)
+			{
+				text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+			}
+			int operation = random.nextInt(3);
+			if (operation == 0)
+			{
+				String proposed = expected.substring(0, offset) + text + expected.substring(offset);
+				if (proposed.matches(IntegerNumberValuesDocument.DEFAULT_REGEX))
+				{
+					expected.insert(offset, text);
+				}
+				document.insertString(offset, text.toString(), null);
+			}
+			else if (operation == 1)
+			{
+				int removed = random.nextInt(length - offset + 1);
+				String proposed = expected.substring(0, offset) + text
+					+ expected.substring(offset + removed);
+				if (proposed.matches(IntegerNumberValuesDocument.DEFAULT_REGEX))
+				{
+					expected.replace(offset, offset + removed, text.toString());
+				}
+				document.replace(offset, removed, text.toString(), null);
+			}
+			else
+			{
+				int removed = random.nextInt(length - offset + 1);
+				expected.delete(offset, offset + removed);
+				document.remove(offset, removed);
+			}
+			assertEquals(expected.toString(), document.getText(0, document.getLength()));
+		}
+	}
+
+	/**
+	 * Test method for {@link IntegerNumberValuesDocument} with undo and redo that must keep the
+	 * tracked sign
+	 */
+	@Test
+	public void testUndoRedo() throws BadLocationException
+	{
+		IntegerNumberValuesDocument document = new IntegerNumberValuesDocument();
+		UndoManager undoManager = new UndoManager();
+		document.addUndoableEditListener(undoManager);
+		document.insertString(0, "-12", null);
+		document.remove(0, 1);
+		assertEquals("12", document.getText(0, document.getLength()));
+		undoManager.undo();
+		document.insertString(0, "+", null);
+		assertEquals("-12", document.getText(0, document.getLength()));
+		undoManager.redo();
+		document.insertString(0, "+", null);
+		assertEquals("+12", document.getText(0, document.getLength()));
+		undoManager.undo();
+		undoManager.undo();
+		assertEquals("-12", document.getText(0, document.getLength()));
+		document.insertString(0, "5", null);
+		assertEquals("-12", document.getText(0, document.getLength()));
+	}
+
+	/**
+	 * Test method for {@link IntegerNumberValuesDocument#validate(String)}
+	 */
+	@Test
+	public void testValidate()
+	{
+		IntegerNumberValuesDocument document = new IntegerNumberValuesDocument();
+		assertEquals("", document.validate(""));
+		assertEquals("-", document.validate("-"));
+		assertEquals("+42", document.validate("+42"));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("1-2"));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("--1"));
+		assertThrows(IllegalArgumentException.class, () -> document.validate("1.5"));
+	}
+}
@@ -0,0 +1,166 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.FixedScaleDecimalModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+
+/**
+ * Test class for the class {@link JMFixedScaleDecimalTextField}
+ */
+public class JMFixedScaleDecimalTextFieldTest
+{
+
+	private static String format(final long unscaledValue, final int scale)
+	{
+		char[] buffer = new char[JMFixedScaleDecimalTextField.MAXIMUM_TEXT_LENGTH];
+		int length = JMFixedScaleDecimalTextField.format(unscaledValue, scale, buffer);
+		return new String(buffer, 0, length);
+	}
+
+	/**
+	 * Test method for {@link JMFixedScaleDecimalTextField#format(long, int, char[])}
+	 */
+	@Test
+	public void testFormat()
+	{
+		long[] values = { 0L, 5L, -5L, 123L, -12345L, 100L, Long.MAX_VALUE, Long.MIN_VALUE };
+		for (int scale = 0; scale <= FixedScaleDecimalModel.MAXIMUM_SCALE; scale++)
+		{
+			for (long value : values)
+			{
+				assertEquals(BigDecimal.valueOf(value, scale).toPlainString(),
+					format(value, scale));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link JMFixedScaleDecimalTextField#toGenericObject(String)}
+	 */
+	@Test
+	public void testToGenericObject()
+	{
+		JMFixedScaleDecimalTextField textField = new JMFixedScaleDecimalTextField();
+		textField.setPropertyModel(BaseModel.of(BigDecimal.ZERO));
+		textField.setScale(2);
+		assertEquals(new BigDecimal("1.50"), textField.toGenericObject("1.5"));
+		assertEquals(new BigDecimal("-0.25"), textField.toGenericObject("-.25"));
+		assertEquals(new BigDecimal("1.20"), textField.toGenericObject("1.200"));
+		// more fraction digits than the scale can not be converted without rounding
+		assertNull(textField.toGenericObject("1.234"));
+		assertNull(textField.toGenericObject("-"));
+	}
+
+	/**
+	 * Test method for {@link JMFixedScaleDecimalTextField} with a {@link FixedScaleDecimalModel}
+	 */
+	@Test
+	public void testFixedScaleDecimalModel() throws Exception
+	{
+		FixedScaleDecimalModel model = FixedScaleDecimalModel.of(new BigDecimal("12.5"), 2);
+		JMFixedScaleDecimalTextField textField = new JMFixedScaleDecimalTextField(model);
+		assertEquals(1250L, model.getUnscaledValue());
+		assertEquals("12.50", textField.getText());
+
+		textField.setText("-3.1");
+		assertEquals(-310L, model.getUnscaledValue());
+		assertEquals(new BigDecimal("-3.10"), model.getObject());
+
+		textField.setText("-3.105");
+		assertEquals(-310L, model.getUnscaledValue());
+
+		textField.setText("92233720368547758.08");
+		assertTrue(textField.isOverflow());
+		assertEquals(-310L, model.getUnscaledValue());
+
+		textField.setText("");
+		assertEquals(0L, model.getUnscaledValue());
+
+		model.setUnscaledValue(99L);
+		awaitFrame();
+		assertEquals("0.99", textField.getText());
+
+		assertThrows(ArithmeticException.class, () -> model.setObject(new BigDecimal("0.001")));
+		assertThrows(IllegalArgumentException.class, () -> textField.setScale(3));
+	}
+
+	/**
+	 * Test method for {@link JMFixedScaleDecimalTextField} with a boxed model
+	 */
+	@Test
+	public void testBoxedModel()
+	{
+		IModel<BigDecimal> model = BaseModel.of(BigDecimal.ONE);
+		JMFixedScaleDecimalTextField textField = new JMFixedScaleDecimalTextField();
+		textField.setPropertyModel(model);
+		textField.setScale(3);
+		textField.setText("2.5");
+		assertEquals(new BigDecimal("2.500"), model.getObject());
+	}
+
+	/**
+	 * Test method for {@link FixedScaleDecimalModel#sumUnscaledValues(int, Iterable)}
+	 */
+	@Test
+	public void testSumUnscaledValues()
+	{
+		List<FixedScaleDecimalModel> models = List.of(FixedScaleDecimalModel.of(150L, 2),
+			FixedScaleDecimalModel.of(-25L, 2), FixedScaleDecimalModel.of(1L, 2));
+		assertEquals(126L, FixedScaleDecimalModel.sumUnscaledValues(2, models));
+		assertThrows(IllegalArgumentException.class,
+			() -> FixedScaleDecimalModel.sumUnscaledValues(3, models));
+		assertThrows(ArithmeticException.class,
+			() -> FixedScaleDecimalModel.sumUnscaledValues(2,
+				List.of(FixedScaleDecimalModel.of(Long.MAX_VALUE, 2),
+					FixedScaleDecimalModel.of(1L, 2))));
+	}
+
+	private static void awaitFrame() throws Exception
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		SharedSwingTimer.schedule(new Object(), SharedSwingTimer.FRAME_DELAY * 2,
+			latch::countDown);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+		});
+	}
+}
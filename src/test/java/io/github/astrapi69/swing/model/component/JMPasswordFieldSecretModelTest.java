@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.text.BadLocationException;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.SecretModel;
+
+/**
+ * Test class for the class {@link JMPasswordField} with a {@link SecretModel}
+ */
+public class JMPasswordFieldSecretModelTest
+{
+
+	/**
+	 * Test method for {@link JMPasswordField#setPropertyModel(IModel)}
+	 * with a {@link SecretModel}
+	 */
+	@Test
+	public void testSecretModelIsViewOverBuffer() throws BadLocationException
+	{
+		SecretModel model = SecretModel.of();
+		model.setObject("foo".toCharArray());
+		JMPasswordField passwordField = new JMPasswordField();
+		passwordField.setPropertyModel(model);
+		assertArrayEquals("foo".toCharArray(), passwordField.getPassword());
+		CharSequence secret = model.getSecret();
+		assertEquals("foo", secret.toString());
+
+		List<String> notifications = new ArrayList<>();
+		model.addSecretChangeListener(value -> notifications.add(value.toString()));
+		passwordField.getDocument().insertString(3, "bar", null);
+		passwordField.getDocument().remove(0, 1);
+		assertEquals(List.of("foobar", "oobar"), notifications);
+		// the model keeps the same view and sees every change without a copy
+		assertSame(secret, model.getSecret());
+		assertArrayEquals("oobar".toCharArray(), model.getObject());
+
+		passwordField.wipePassword();
+		assertEquals(0, model.getSecret().length());
+	}
+
+	/**
+	 * Test method for {@link JMPasswordField#setPropertyModel(IModel)}
+	 * with a model that is not a {@link SecretModel}
+	 */
+	@Test
+	public void testCopyingModel() throws BadLocationException
+	{
+		SecretModel secretModel = SecretModel.of();
+		JMPasswordField passwordField = new JMPasswordField(secretModel);
+		passwordField.getDocument().insertString(0, "abc", null);
+		CharSequence secret = secretModel.getSecret();
+		assertEquals("abc", secret.toString());
+
+		BaseModel<char[]> model = BaseModel.of();
+		passwordField.setPropertyModel(model);
+		// the buffer of the former secret model is zeroed
+		assertEquals(0, secret.length());
+		passwordField.getDocument().insertString(3, "d", null);
+		assertArrayEquals("abcd".toCharArray(), model.getObject());
+	}
+}
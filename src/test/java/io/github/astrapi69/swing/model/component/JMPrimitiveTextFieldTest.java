@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.DoubleModel;
+import io.github.astrapi69.swing.model.component.binding.IntModel;
+import io.github.astrapi69.swing.model.component.binding.LongModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+
+/**
+ * Test class for the classes {@link JMIntTextField}, {@link JMLongTextField} and
+ * {@link JMDoubleTextField}
+ */
+public class JMPrimitiveTextFieldTest
+{
+
+	/**
+	 * Test method for {@link JMIntTextField} with an {@link IntModel}
+	 */
+	@Test
+	public void testJMIntTextField() throws Exception
+	{
+		List<Integer> changes = new ArrayList<>();
+		IntModel model = IntModel.of(7);
+		model.addIntChangeListener(changes::add);
+		JMIntTextField textField = new JMIntTextField(model);
+		assertEquals("7", textField.getText());
+
+		textField.setText("-42");
+		assertEquals(-42, model.getInt());
+		textField.setText("-042");
+		assertEquals(List.of(-42), changes);
+
+		textField.setText("2147483648");
+		assertTrue(textField.isOverflow());
+		assertEquals(-42, model.getInt());
+
+		textField.setText("");
+		assertFalse(textField.isOverflow());
+		assertEquals(0, model.getInt());
+
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i <= 10000; i++)
+			{
+				model.setInt(i);
+			}
+		});
+		producer.start();
+		producer.join();
+		awaitFrame();
+		assertEquals("10000", textField.getText());
+	}
+
+	/**
+	 * Test method for {@link JMIntTextField#setPropertyModel(IModel)} with a boxed model and a
+	 * replaced model
+	 */
+	@Test
+	public void testJMIntTextFieldSetPropertyModel() throws Exception
+	{
+		IntModel first = IntModel.of(1);
+		JMIntTextField textField = new JMIntTextField(first);
+		IModel<Integer> second = BaseModel.of(2);
+		textField.setPropertyModel(second);
+		assertEquals("2", textField.getText());
+		textField.setText("3");
+		assertEquals(3, second.getObject());
+
+		first.setInt(5);
+		awaitFrame();
+		assertEquals("3", textField.getText());
+	}
+
+	/**
+	 * Test method for {@link JMLongTextField} with a {@link LongModel}
+	 */
+	@Test
+	public void testJMLongTextField() throws Exception
+	{
+		LongModel model = LongModel.of();
+		JMLongTextField textField = new JMLongTextField(model, 20);
+		assertEquals("0", textField.getText());
+		textField.setText(String.valueOf(Long.MIN_VALUE));
+		assertEquals(Long.MIN_VALUE, model.getLong());
+		textField.setText("9223372036854775808");
+		assertTrue(textField.isOverflow());
+		assertEquals(Long.MIN_VALUE, model.getLong());
+
+		Thread producer = new Thread(() -> model.setLong(4294967296L));
+		producer.start();
+		producer.join();
+		awaitFrame();
+		assertEquals("4294967296", textField.getText());
+	}
+
+	/**
+	 * Test method for {@link JMDoubleTextField} with a {@link DoubleModel}
+	 */
+	@Test
+	public void testJMDoubleTextField() throws Exception
+	{
+		DoubleModel model = DoubleModel.of(1.5d);
+		JMDoubleTextField textField = new JMDoubleTextField(model);
+		assertEquals("1.5", textField.getText());
+		textField.setText("-0.1");
+		assertEquals(-0.1d, model.getDouble());
+		textField.setText("123456789.123456789");
+		assertEquals(123456789.123456789d, model.getDouble());
+
+		model.setDouble(1e20d);
+		awaitFrame();
+		assertEquals("100000000000000000000", textField.getText());
+		assertEquals(1e20d, model.getDouble());
+	}
+
+	private static void awaitFrame() throws Exception
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		SharedSwingTimer.schedule(new Object(), SharedSwingTimer.FRAME_DELAY * 2,
+			latch::countDown);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+		});
+	}
+}
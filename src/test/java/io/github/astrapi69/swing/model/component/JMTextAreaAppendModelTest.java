@@ -0,0 +1,111 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.LambdaModel;
+import io.github.astrapi69.swing.model.component.binding.TextBindingMode;
+import io.github.astrapi69.swing.model.component.document.RopeDocument;
+
+/**
+ * Test class for the binding mode {@link TextBindingMode#APPENDS} of the component
+ * {@link JMTextArea}
+ */
+public class JMTextAreaAppendModelTest
+{
+
+	/**
+	 * Test method for {@link JMTextArea#appendAsync(String)} from several threads
+	 */
+	@Test
+	public void testAppendAsync() throws Exception
+	{
+		StringBuilder chunks = new StringBuilder();
+		JMTextArea textArea = new JMTextArea()
+			.setAppendModel(LambdaModel.of(() -> null, chunks::append));
+		assertEquals(TextBindingMode.APPENDS, textArea.getBindingMode());
+		assertInstanceOf(RopeDocument.class, textArea.getDocument());
+
+		int threadCount = 4;
+		int linesPerThread = 1000;
+		CountDownLatch done = new CountDownLatch(threadCount);
+		for (int t = 0; t < threadCount; t++)
+		{
+			String prefix = "thread " + t + " line ";
+			new Thread(() -> {
+				for (int i = 0; i < linesPerThread; i++)
+				{
+					textArea.appendAsync(prefix + i + "\n");
+				}
+				done.countDown();
+			}).start();
+		}
+		assertTrue(done.await(10, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(textArea::flushAppends);
+
+		String text = textArea.getText();
+		assertEquals(text, chunks.toString());
+		assertEquals(threadCount * linesPerThread + 1,
+			textArea.getDocument().getDefaultRootElement().getElementCount());
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#setMaximumLineCount(int)}
+	 */
+	@Test
+	public void testMaximumLineCount() throws Exception
+	{
+		StringBuilder chunks = new StringBuilder();
+		JMTextArea textArea = new JMTextArea()
+			.setAppendModel(LambdaModel.of(() -> null, chunks::append));
+		SwingUtilities.invokeAndWait(() -> {
+			textArea.setMaximumLineCount(3);
+			textArea.appendAsync("a\nb\n");
+			textArea.flushAppends();
+			assertEquals("a\nb\n", textArea.getText());
+			textArea.appendAsync("c\n");
+			textArea.appendAsync("d\n");
+			textArea.flushAppends();
+			assertEquals("c\nd\n", textArea.getText());
+			textArea.appendAsync("e\nf\ng\nh");
+			textArea.flushAppends();
+			assertEquals("f\ng\nh", textArea.getText());
+			textArea.setMaximumLineCount(1);
+			assertEquals("h", textArea.getText());
+		});
+		// the append model receives every appended chunk even if lines are removed
+		assertEquals("a\nb\nc\nd\ne\nf\ng\nh", chunks.toString());
+	}
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.LambdaModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.DocumentTextModel;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+import io.github.astrapi69.swing.model.component.binding.TextBindingMode;
+import io.github.astrapi69.swing.model.component.binding.TextEdit;
+
+/**
+ * Test class for the binding mode {@link TextBindingMode#EDITS} of the component
+ * {@link JMTextArea}
+ */
+public class JMTextAreaEditModelTest
+{
+
+	/**
+	 * Test method for {@link JMTextArea#setEditModel(IModel)}
+	 */
+	@Test
+	public void testSetEditModel() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		StringBuilder mirror = new StringBuilder();
+		JMTextArea textArea = new JMTextArea(propertyModel)
+			.setEditModel(LambdaModel.of(() -> null, edit -> edit.applyTo(mirror)));
+		assertEquals(TextBindingMode.EDITS, textArea.getBindingMode());
+
+		textArea.getDocument().insertString(0, "hello world", null);
+		textArea.getDocument().insertString(5, ",", null);
+		textArea.getDocument().remove(0, 1);
+		textArea.getDocument().insertString(0, "H", null);
+		textArea.replaceRange("World", 7, 12);
+
+		assertEquals("Hello, World", textArea.getText());
+		assertEquals(textArea.getText(), mirror.toString());
+		// the property model is not updated in the binding mode EDITS
+		assertEquals("", propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#setEditModel(IModel)} with an {@link ObservableModel} and
+	 * two equal edits in a row
+	 */
+	@Test
+	public void testEqualEditsInARow() throws Exception
+	{
+		ObservableModel<TextEdit> editModel = ObservableModel.of();
+		StringBuilder mirror = new StringBuilder();
+		editModel.addModelChangeListener(edit -> edit.applyTo(mirror));
+		JMTextArea textArea = new JMTextArea().setEditModel(editModel);
+
+		textArea.getDocument().insertString(0, "hello world", null);
+		textArea.getDocument().remove(5, 1);
+		textArea.getDocument().remove(5, 1);
+
+		assertEquals("helloorld", textArea.getText());
+		assertEquals(textArea.getText(), mirror.toString());
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#getDocumentTextModel()}
+	 */
+	@Test
+	public void testDocumentTextModel() throws Exception
+	{
+		IModel<TextEdit> editModel = BaseModel.of();
+		JMTextArea textArea = new JMTextArea().setEditModel(editModel);
+		DocumentTextModel documentTextModel = textArea.getDocumentTextModel();
+		assertFalse(documentTextModel.isCached());
+
+		textArea.getDocument().insertString(0, "foo", null);
+		assertEquals(TextEdit.insert(0, "foo"), editModel.getObject());
+		assertFalse(documentTextModel.isCached());
+		assertEquals("foo", documentTextModel.getObject());
+		assertTrue(documentTextModel.isCached());
+
+		textArea.getDocument().remove(1, 2);
+		assertEquals(TextEdit.remove(1, 2), editModel.getObject());
+		assertFalse(documentTextModel.isCached());
+		assertEquals("f", documentTextModel.getObject());
+	}
+}
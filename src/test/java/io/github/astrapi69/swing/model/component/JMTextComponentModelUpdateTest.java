@@ -0,0 +1,182 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.LambdaModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+
+/**
+ * Test class for the suppression of redundant model updates in the text components
+ */
+public class JMTextComponentModelUpdateTest
+{
+
+	private static IModel<String> recordingModel(final String initialValue,
+		final List<String> writes)
+	{
+		final String[] value = { initialValue };
+		return LambdaModel.of(() -> value[0], text -> {
+			writes.add(text);
+			value[0] = text;
+		});
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setText(String)} and
+	 * {@link JMTextField#setPropertyModel(IModel)}
+	 */
+	@Test
+	public void testJMTextField()
+	{
+		List<String> writes = new ArrayList<>();
+		JMTextField textField = new JMTextField();
+		textField.setPropertyModel(recordingModel("foo", writes));
+		assertEquals("foo", textField.getText());
+		// the text read from the model is not written back
+		assertEquals(List.of(), writes);
+
+		textField.setText("bar");
+		// the replacement results in one update without the intermediate empty text
+		assertEquals(List.of("bar"), writes);
+
+		textField.setText("bar");
+		assertEquals(List.of("bar"), writes);
+
+		textField.selectAll();
+		textField.replaceSelection("baz");
+		assertEquals(List.of("bar", "baz"), writes);
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#replaceRange(String, int, int)}
+	 */
+	@Test
+	public void testJMTextArea()
+	{
+		List<String> writes = new ArrayList<>();
+		JMTextArea textArea = new JMTextArea();
+		textArea.setPropertyModel(recordingModel("hello world", writes));
+		assertEquals(List.of(), writes);
+
+		textArea.replaceRange("there", 6, 11);
+		assertEquals(List.of("hello there"), writes);
+
+		textArea.append("!");
+		assertEquals(List.of("hello there", "hello there!"), writes);
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#getPropertyModel()} that must create the default model
+	 * with the current text and follow a replaced document
+	 */
+	@Test
+	public void testJMTextAreaDefaultModel() throws BadLocationException
+	{
+		JMTextArea textArea = new JMTextArea("foo");
+		assertEquals("foo", textArea.getPropertyModel().getObject());
+		textArea.append("bar");
+		assertEquals("foobar", textArea.getPropertyModel().getObject());
+
+		PlainDocument oldDocument = (PlainDocument)textArea.getDocument();
+		textArea.setDocument(new PlainDocument());
+		textArea.setText("baz");
+		assertEquals("baz", textArea.getPropertyModel().getObject());
+		oldDocument.insertString(0, "old", null);
+		assertEquals("baz", textArea.getPropertyModel().getObject());
+	}
+
+	/**
+	 * Test method for {@link JMStringTextField#setText(String)}
+	 */
+	@Test
+	public void testJMStringTextField()
+	{
+		List<String> writes = new ArrayList<>();
+		JMStringTextField textField = new JMStringTextField();
+		textField.setPropertyModel(recordingModel("foo", writes));
+		assertEquals(List.of(), writes);
+
+		textField.setText("bar");
+		assertEquals(List.of("bar"), writes);
+	}
+
+	/**
+	 * Test method for {@link JMIntegerTextField#updatePropertyModel()}
+	 */
+	@Test
+	public void testJMIntegerTextField()
+	{
+		List<Integer> writes = new ArrayList<>();
+		final Integer[] value = { 5 };
+		JMIntegerTextField textField = new JMIntegerTextField();
+		textField.setPropertyModel(LambdaModel.of(() -> value[0], number -> {
+			writes.add(number);
+			value[0] = number;
+		}));
+		assertEquals("5", textField.getText());
+		assertEquals(List.of(), writes);
+
+		textField.setText("12");
+		textField.setText("012");
+		assertEquals(Arrays.asList(12), writes);
+
+		textField.setText("99999999999");
+		assertTrue(textField.isOverflow());
+		assertEquals(Arrays.asList(12), writes);
+
+		textField.setText("");
+		assertFalse(textField.isOverflow());
+		assertEquals(Arrays.asList(12, null), writes);
+	}
+
+	/**
+	 * Test method for {@link ObservableModel#setObject(Object)} with an equal value
+	 */
+	@Test
+	public void testObservableModelSkipsEqualValue()
+	{
+		List<String> notifications = new ArrayList<>();
+		ObservableModel<String> model = ObservableModel.of("foo");
+		model.addModelChangeListener(notifications::add);
+		model.setObject("foo");
+		model.setObject("bar");
+		model.setObject("bar");
+		assertEquals(List.of("bar"), notifications);
+	}
+}
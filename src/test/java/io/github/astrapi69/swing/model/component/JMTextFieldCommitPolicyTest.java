@@ -0,0 +1,191 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.event.FocusEvent;
+import java.awt.event.FocusListener;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.binding.CommitPolicy;
+import io.github.astrapi69.swing.model.component.binding.ObservableModel;
+import io.github.astrapi69.swing.model.component.binding.SharedSwingTimer;
+
+/**
+ * Test class for the commit policies of the component {@link JMTextField}
+ */
+public class JMTextFieldCommitPolicyTest
+{
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} with the default policy
+	 * {@link CommitPolicy#IMMEDIATE}
+	 */
+	@Test
+	public void testImmediate() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		JMTextField textField = new JMTextField(propertyModel);
+		assertEquals(CommitPolicy.IMMEDIATE, textField.getCommitPolicy());
+		SwingUtilities.invokeAndWait(() -> textField.setText("foo"));
+		assertEquals("foo", propertyModel.getObject());
+		assertFalse(textField.isCommitPending());
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} with the policy
+	 * {@link CommitPolicy#ON_ENTER}
+	 */
+	@Test
+	public void testOnEnter() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		JMTextField textField = new JMTextField(propertyModel)
+			.setCommitPolicy(CommitPolicy.ON_ENTER);
+		SwingUtilities.invokeAndWait(() -> textField.setText("foo"));
+		assertEquals("", propertyModel.getObject());
+		assertTrue(textField.isCommitPending());
+		SwingUtilities.invokeAndWait(textField::postActionEvent);
+		assertEquals("foo", propertyModel.getObject());
+		assertFalse(textField.isCommitPending());
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} with the policies
+	 * {@link CommitPolicy#ON_FOCUS_LOST} and {@link CommitPolicy#ON_ENTER} on focus lost
+	 */
+	@Test
+	public void testFocusLost() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		JMTextField textField = new JMTextField(propertyModel)
+			.setCommitPolicy(CommitPolicy.ON_FOCUS_LOST);
+		SwingUtilities.invokeAndWait(() -> textField.setText("foo"));
+		assertEquals("", propertyModel.getObject());
+		SwingUtilities.invokeAndWait(() -> loseFocus(textField));
+		assertEquals("foo", propertyModel.getObject());
+		assertFalse(textField.isCommitPending());
+
+		// with the policy on enter the change stays pending on focus lost
+		textField.setCommitPolicy(CommitPolicy.ON_ENTER);
+		SwingUtilities.invokeAndWait(() -> textField.setText("bar"));
+		SwingUtilities.invokeAndWait(() -> loseFocus(textField));
+		assertEquals("foo", propertyModel.getObject());
+		assertTrue(textField.isCommitPending());
+		SwingUtilities.invokeAndWait(textField::postActionEvent);
+		assertEquals("bar", propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} with the policy
+	 * {@link CommitPolicy#DEBOUNCED}
+	 */
+	@Test
+	public void testDebounced() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		JMTextField textField = new JMTextField(propertyModel)
+			.setCommitPolicy(CommitPolicy.DEBOUNCED).setCommitDelay(50);
+		SwingUtilities.invokeAndWait(() -> {
+			textField.setText("f");
+			textField.setText("fo");
+			textField.setText("foo");
+		});
+		assertEquals("", propertyModel.getObject());
+		assertTrue(textField.isCommitPending());
+		CountDownLatch latch = new CountDownLatch(1);
+		SharedSwingTimer.schedule(latch, 100, latch::countDown);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> assertFalse(textField.isCommitPending()));
+		assertEquals("foo", propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} with the policy
+	 * {@link CommitPolicy#DEBOUNCED} and an {@link ObservableModel} that must keep a keystroke
+	 * that is typed in the frame after the commit
+	 */
+	@Test
+	public void testDebouncedCommitKeepsLaterKeystroke() throws Exception
+	{
+		ObservableModel<String> propertyModel = ObservableModel.of("");
+		JMTextField textField = new JMTextField(propertyModel)
+			.setCommitPolicy(CommitPolicy.DEBOUNCED).setCommitDelay(200);
+		CountDownLatch committed = new CountDownLatch(1);
+		propertyModel.addModelChangeListener(newValue -> {
+			if ("foo".equals(newValue))
+			{
+				SwingUtilities.invokeLater(() -> textField.setText("foox"));
+				committed.countDown();
+			}
+		});
+		SwingUtilities.invokeAndWait(() -> textField.setText("foo"));
+		assertTrue(committed.await(5, TimeUnit.SECONDS));
+		CountDownLatch frames = new CountDownLatch(1);
+		SharedSwingTimer.schedule(frames, SharedSwingTimer.FRAME_DELAY * 3, frames::countDown);
+		assertTrue(frames.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+			assertEquals("foox", textField.getText());
+			assertTrue(textField.isCommitPending());
+			textField.commit();
+		});
+		assertEquals("foox", propertyModel.getObject());
+	}
+
+	/**
+	 * Test method for {@link JMTextField#setCommitPolicy(CommitPolicy)} that switches back to the
+	 * policy {@link CommitPolicy#IMMEDIATE} with a pending change
+	 */
+	@Test
+	public void testSwitchToImmediateCommitsPendingChange() throws Exception
+	{
+		IModel<String> propertyModel = BaseModel.of("");
+		JMTextField textField = new JMTextField(propertyModel)
+			.setCommitPolicy(CommitPolicy.ON_FOCUS_LOST);
+		SwingUtilities.invokeAndWait(() -> textField.setText("bar"));
+		assertEquals("", propertyModel.getObject());
+		SwingUtilities.invokeAndWait(() -> textField.setCommitPolicy(CommitPolicy.IMMEDIATE));
+		assertEquals("bar", propertyModel.getObject());
+	}
+
+	private static void loseFocus(final JMTextField textField)
+	{
+		FocusEvent focusEvent = new FocusEvent(textField, FocusEvent.FOCUS_LOST);
+		for (FocusListener focusListener : textField.getFocusListeners())
+		{
+			focusListener.focusLost(focusEvent);
+		}
+	}
+}
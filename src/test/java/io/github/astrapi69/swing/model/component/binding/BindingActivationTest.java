@@ -0,0 +1,196 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMCheckBox;
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.JMIntTextField;
+import io.github.astrapi69.swing.model.component.JMPasswordField;
+import io.github.astrapi69.swing.model.component.JMTextField;
+
+/**
+ * Test class for the enum {@link BindingActivation}
+ */
+public class BindingActivationTest
+{
+
+	/**
+	 * Restores the default activation
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		ModelViewBinding.setDefaultActivation(BindingActivation.IMMEDIATE);
+	}
+
+	/**
+	 * Test method for {@link BindingActivation#IMMEDIATE} that is the default
+	 */
+	@Test
+	public void testImmediate() throws Exception
+	{
+		assertEquals(BindingActivation.IMMEDIATE, ModelViewBinding.getDefaultActivation());
+		ObservableModel<Boolean> model = ObservableModel.of(Boolean.FALSE);
+		JMCheckBox checkBox = new JMCheckBox();
+		checkBox.setPropertyModel(model);
+		model.setObject(Boolean.TRUE);
+		awaitFrame();
+		assertTrue(checkBox.isSelected());
+	}
+
+	/**
+	 * Test method for {@link BindingActivation#ON_DISPLAY} with a {@link JMTextField}
+	 */
+	@Test
+	public void testOnDisplayTextField() throws Exception
+	{
+		ModelViewBinding.setDefaultActivation(BindingActivation.ON_DISPLAY);
+		ObservableModel<String> model = ObservableModel.of("a");
+		JMTextField textField = new JMTextField();
+		textField.setPropertyModel(model);
+		assertEquals("a", textField.getText());
+
+		// not displayed, the change of the model is not observed
+		model.setObject("b");
+		awaitFrame();
+		assertEquals("a", textField.getText());
+
+		// displayed, the view is synchronized and observes the model
+		SwingUtilities.invokeAndWait(textField::addNotify);
+		assertEquals("b", textField.getText());
+		model.setObject("c");
+		awaitFrame();
+		assertEquals("c", textField.getText());
+
+		SwingUtilities.invokeAndWait(textField::removeNotify);
+		model.setObject("d");
+		awaitFrame();
+		assertEquals("c", textField.getText());
+		SwingUtilities.invokeAndWait(textField::addNotify);
+		assertEquals("d", textField.getText());
+
+		// a pending change is committed when the text field is removed
+		SwingUtilities.invokeAndWait(() -> {
+			textField.setCommitPolicy(CommitPolicy.ON_FOCUS_LOST);
+			textField.setText("e");
+			textField.removeNotify();
+			textField.addNotify();
+		});
+		assertEquals("e", model.getObject());
+		assertEquals("e", textField.getText());
+	}
+
+	/**
+	 * Test method for {@link BindingActivation#ON_DISPLAY} with a {@link JMIntTextField}
+	 */
+	@Test
+	public void testOnDisplayIntTextField() throws Exception
+	{
+		ModelViewBinding.setDefaultActivation(BindingActivation.ON_DISPLAY);
+		IntModel model = IntModel.of(1);
+		JMIntTextField textField = new JMIntTextField(model);
+		assertEquals("1", textField.getText());
+
+		model.setInt(2);
+		awaitFrame();
+		assertEquals("1", textField.getText());
+
+		SwingUtilities.invokeAndWait(textField::addNotify);
+		assertEquals("2", textField.getText());
+		model.setInt(3);
+		awaitFrame();
+		assertEquals("3", textField.getText());
+
+		SwingUtilities.invokeAndWait(textField::removeNotify);
+		model.setInt(4);
+		awaitFrame();
+		assertEquals("3", textField.getText());
+		// the view still writes into the model while it is not displayed
+		SwingUtilities.invokeAndWait(() -> textField.setText("5"));
+		assertEquals(5, model.getInt());
+	}
+
+	/**
+	 * Test method for {@link BindingActivation#ON_DISPLAY} with a {@link JMPasswordField}
+	 */
+	@Test
+	public void testOnDisplayPasswordField() throws Exception
+	{
+		ModelViewBinding.setDefaultActivation(BindingActivation.ON_DISPLAY);
+		IModel<char[]> model = BaseModel.of(new char[0]);
+		JMPasswordField passwordField = new JMPasswordField(model);
+
+		// not displayed, the document is not observed
+		SwingUtilities.invokeAndWait(() -> passwordField.setText("a"));
+		assertArrayEquals(new char[0], model.getObject());
+
+		// displayed, the model is synchronized and follows the document
+		SwingUtilities.invokeAndWait(passwordField::addNotify);
+		assertArrayEquals("a".toCharArray(), model.getObject());
+		SwingUtilities.invokeAndWait(() -> passwordField.setText("b"));
+		assertArrayEquals("b".toCharArray(), model.getObject());
+
+		SwingUtilities.invokeAndWait(passwordField::removeNotify);
+		SwingUtilities.invokeAndWait(() -> passwordField.setText("c"));
+		assertArrayEquals("b".toCharArray(), model.getObject());
+		SwingUtilities.invokeAndWait(passwordField::addNotify);
+		assertArrayEquals("c".toCharArray(), model.getObject());
+
+		// a secret model gets the buffer with the text that was set before the display
+		SecretModel secretModel = SecretModel.of();
+		secretModel.setObject("d".toCharArray());
+		JMPasswordField secretField = new JMPasswordField();
+		secretField.setPropertyModel(secretModel);
+		assertEquals("d", secretModel.getSecret().toString());
+		SwingUtilities.invokeAndWait(() -> {
+			secretField.addNotify();
+			secretField.setText("e");
+		});
+		assertEquals("e", secretModel.getSecret().toString());
+	}
+
+	private static void awaitFrame() throws Exception
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		SharedSwingTimer.schedule(new Object(), SharedSwingTimer.FRAME_DELAY * 2,
+			latch::countDown);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+		});
+	}
+}
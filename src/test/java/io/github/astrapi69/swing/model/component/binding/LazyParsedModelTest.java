@@ -0,0 +1,132 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMBigDecimalTextField;
+import io.github.astrapi69.swing.model.component.JMBigIntegerTextField;
+
+/**
+ * Test class for the class {@link LazyParsedModel}
+ */
+public class LazyParsedModelTest
+{
+
+	private static <T> Function<String, T> counting(final Function<String, T> parser,
+		final AtomicInteger parses)
+	{
+		return text -> {
+			parses.incrementAndGet();
+			return parser.apply(text);
+		};
+	}
+
+	/**
+	 * Test method for {@link LazyParsedModel#getObject()} that must parse only on read and only
+	 * once per edit
+	 */
+	@Test
+	public void testParsesOnRead()
+	{
+		AtomicInteger parses = new AtomicInteger();
+		LazyParsedModel<BigDecimal> model = LazyParsedModel.of(counting(BigDecimal::new, parses));
+		JMBigDecimalTextField textField = new JMBigDecimalTextField();
+		textField.setPropertyModel(model);
+		for (int i = 0; i < 1000; i++)
+		{
+			textField.replaceSelection(i == 500 ? "." : "7");
+		}
+		assertEquals(0, parses.get());
+		assertTrue(model.isParsePending());
+
+		BigDecimal value = model.getObject();
+		assertEquals(textField.getText(), value.toPlainString());
+		assertEquals(value, model.getObject());
+		assertTrue(model.isValid());
+		assertEquals(1, parses.get());
+		assertFalse(model.isParsePending());
+
+		textField.setText("-");
+		assertNull(model.getObject());
+		assertFalse(model.isValid());
+		assertEquals(2, parses.get());
+
+		model.setObject(BigDecimal.TEN);
+		assertEquals(BigDecimal.TEN, model.getObject());
+		assertTrue(model.isValid());
+		assertEquals(2, parses.get());
+	}
+
+	/**
+	 * Test method for {@link LazyParsedModel#invalidate(javax.swing.text.Document)} with a text
+	 * that is long enough to be parsed in the background
+	 */
+	@Test
+	public void testBackgroundParse() throws Exception
+	{
+		AtomicInteger parses = new AtomicInteger();
+		LazyParsedModel<BigInteger> model = LazyParsedModel.of(counting(BigInteger::new, parses),
+			1000);
+		JMBigIntegerTextField textField = new JMBigIntegerTextField();
+		textField.setPropertyModel(model);
+		textField.setText("12345");
+		assertEquals(0, parses.get());
+
+		String digits = "9".repeat(5000);
+		textField.setText(digits);
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (model.isParsePending() && System.nanoTime() < deadline)
+		{
+			Thread.sleep(1);
+		}
+		assertFalse(model.isParsePending());
+		assertEquals(new BigInteger(digits), model.getObject());
+		assertEquals(1, parses.get());
+	}
+
+	/**
+	 * Test method for {@link LazyParsedModel#LazyParsedModel(Function, int)} with a negative
+	 * threshold
+	 */
+	@Test
+	public void testNegativeThreshold()
+	{
+		assertThrows(IllegalArgumentException.class,
+			() -> LazyParsedModel.of(BigInteger::new, -1));
+	}
+}
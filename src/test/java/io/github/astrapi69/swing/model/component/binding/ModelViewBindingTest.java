@@ -0,0 +1,115 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMCheckBox;
+import io.github.astrapi69.swing.model.component.JMTextField;
+
+/**
+ * Test class for the class {@link ModelViewBinding}
+ */
+public class ModelViewBindingTest
+{
+
+	/**
+	 * Test method for {@link ModelViewBinding} that must coalesce many model changes from other
+	 * threads to few view updates with the latest value
+	 */
+	@Test
+	public void testCoalescesModelChanges() throws Exception
+	{
+		AtomicInteger viewUpdates = new AtomicInteger();
+		ObservableModel<String> model = ObservableModel.of("start");
+		JMTextField textField = new JMTextField(model)
+		{
+			@Override
+			protected void updateView(final String text)
+			{
+				assertTrue(SwingUtilities.isEventDispatchThread());
+				viewUpdates.incrementAndGet();
+				super.updateView(text);
+			}
+		};
+
+		Thread producer = new Thread(() -> {
+			for (int i = 0; i <= 10000; i++)
+			{
+				model.setObject("value " + i);
+			}
+		});
+		producer.start();
+		producer.join();
+		awaitFrame();
+
+		assertEquals("value 10000", textField.getText());
+		assertTrue(viewUpdates.get() < 100, "view updates: " + viewUpdates.get());
+	}
+
+	/**
+	 * Test method for {@link ModelViewBinding#unbind()} when the property model is replaced
+	 */
+	@Test
+	public void testRebind() throws Exception
+	{
+		ObservableModel<Boolean> first = ObservableModel.of(Boolean.FALSE);
+		ObservableModel<Boolean> second = ObservableModel.of(Boolean.FALSE);
+		JMCheckBox checkBox = new JMCheckBox();
+		checkBox.setPropertyModel(first);
+		first.setObject(Boolean.TRUE);
+		awaitFrame();
+		assertTrue(checkBox.isSelected());
+
+		checkBox.setPropertyModel(second);
+		assertFalse(checkBox.isSelected());
+		first.setObject(Boolean.TRUE);
+		awaitFrame();
+		assertFalse(checkBox.isSelected());
+		second.setObject(Boolean.TRUE);
+		awaitFrame();
+		assertTrue(checkBox.isSelected());
+	}
+
+	private static void awaitFrame() throws Exception
+	{
+		CountDownLatch latch = new CountDownLatch(1);
+		SharedSwingTimer.schedule(new Object(), SharedSwingTimer.FRAME_DELAY * 2,
+			latch::countDown);
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+		});
+	}
+}
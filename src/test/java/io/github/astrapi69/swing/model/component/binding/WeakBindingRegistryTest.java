@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.binding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.SwingUtilities;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMIntTextField;
+import io.github.astrapi69.swing.model.component.JMTextField;
+
+/**
+ * Test class for the class {@link WeakBindingRegistry}
+ */
+public class WeakBindingRegistryTest
+{
+
+	private static int listenerCount(final ObservableModel<?> model)
+		throws ReflectiveOperationException
+	{
+		Field field = ObservableModel.class.getDeclaredField("listeners");
+		field.setAccessible(true);
+		Object[] listeners = (Object[])field.get(model);
+		return listeners == null ? 0 : listeners.length;
+	}
+
+	private static void awaitCollected(final WeakReference<?> reference) throws Exception
+	{
+		for (int i = 0; i < 100 && reference.get() != null; i++)
+		{
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(reference.get());
+	}
+
+	/**
+	 * Test method for
+	 * {@link WeakBindingRegistry#bind(ObservableModel, ModelChangeListener, Object)} that must not
+	 * keep a discarded component reachable
+	 */
+	@Test
+	public void testDiscardedComponentIsPurged() throws Exception
+	{
+		ObservableModel<String> model = ObservableModel.of("foo");
+		WeakReference<JMTextField> reference = bindTextField(model);
+		List<WeakBindingRegistry.Binding> bindings = WeakBindingRegistry.getBindings(model);
+		assertEquals(1, bindings.size());
+		assertSame(reference.get(), bindings.get(0).getOwner());
+		assertSame(model, bindings.get(0).getModel());
+		bindings = null;
+		assertEquals(1, listenerCount(model));
+
+		awaitCollected(reference);
+		for (int i = 0; i < 100 && !WeakBindingRegistry.getBindings(model).isEmpty(); i++)
+		{
+			Thread.sleep(20);
+		}
+		assertTrue(WeakBindingRegistry.getBindings(model).isEmpty());
+		assertEquals(0, listenerCount(model));
+		// notifying a model after the purge must not fail
+		model.setObject("bar");
+	}
+
+	private static WeakReference<JMTextField> bindTextField(final ObservableModel<String> model)
+		throws Exception
+	{
+		List<JMTextField> textFields = new ArrayList<>();
+		SwingUtilities.invokeAndWait(() -> {
+			JMTextField textField = new JMTextField();
+			textField.setPropertyModel(model);
+			textFields.add(textField);
+		});
+		return new WeakReference<>(textFields.get(0));
+	}
+
+	/**
+	 * Test method for {@link WeakBindingRegistry.Binding#unbind()}
+	 */
+	@Test
+	public void testUnbind()
+	{
+		IntModel model = IntModel.of();
+		List<Integer> values = new ArrayList<>();
+		IntChangeListener listener = values::add;
+		WeakBindingRegistry.Binding binding = WeakBindingRegistry.bind(model, listener, null);
+		model.setInt(1);
+		assertEquals(List.of(1), values);
+		assertSame(listener, binding.getListener());
+
+		binding.unbind();
+		model.setInt(2);
+		assertEquals(List.of(1), values);
+		assertTrue(WeakBindingRegistry.getBindings(model).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link WeakBindingRegistry#getBindingsPerModel()}
+	 */
+	@Test
+	public void testBindingsPerModel()
+	{
+		IntModel first = IntModel.of();
+		IntModel second = IntModel.of();
+		JMIntTextField firstField = new JMIntTextField(first);
+		JMIntTextField secondField = new JMIntTextField(first);
+		JMIntTextField thirdField = new JMIntTextField(second);
+
+		Map<Object, List<WeakBindingRegistry.Binding>> bindingsPerModel = WeakBindingRegistry
+			.getBindingsPerModel();
+		assertEquals(2, bindingsPerModel.get(first).size());
+		assertEquals(1, bindingsPerModel.get(second).size());
+		assertSame(thirdField, bindingsPerModel.get(second).get(0).getOwner());
+
+		// replacing the model removes the registration at the previous model
+		firstField.setPropertyModel(second);
+		assertEquals(1, WeakBindingRegistry.getBindings(first).size());
+		assertSame(secondField, WeakBindingRegistry.getBindings(first).get(0).getOwner());
+		assertEquals(2, WeakBindingRegistry.getBindings(second).size());
+	}
+}
@@ -0,0 +1,301 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link AsyncComboBoxModel}
+ */
+public class AsyncComboBoxModelTest
+{
+
+	/** The timeout in seconds for a load. */
+	private static final long TIMEOUT = 10L;
+
+	private static ItemSource<String> items(final int count)
+	{
+		return sink -> {
+			for (int i = 0; i < count; i++)
+			{
+				sink.accept("item-" + i);
+			}
+		};
+	}
+
+	private static <T> T onEventDispatchThread(final Callable<T> callable)
+		throws Exception
+	{
+		AtomicReference<T> result = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			try
+			{
+				result.set(callable.call());
+			}
+			catch (Exception exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		});
+		return result.get();
+	}
+
+	private static List<String> recordEvents(final AsyncComboBoxModel<String> model)
+	{
+		List<String> events = Collections.synchronizedList(new ArrayList<>());
+		model.addListDataListener(new ListDataListener()
+		{
+			@Override
+			public void intervalAdded(final ListDataEvent e)
+			{
+				events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void intervalRemoved(final ListDataEvent e)
+			{
+				events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void contentsChanged(final ListDataEvent e)
+			{
+				events.add("selected " + model.getSelectedItem());
+			}
+		});
+		return events;
+	}
+
+	/**
+	 * Test method for {@link AsyncComboBoxModel#load(ItemSource)} that must publish the items with
+	 * one event per batch
+	 */
+	@Test
+	public void testLoadInBatches() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>(500, 60_000L);
+		List<String> events = recordEvents(model);
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> model.load(items(1200)));
+		assertEquals(1200, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(List.of("added 0-499", "added 500-999", "added 1000-1199"), events);
+		assertEquals("item-1199", onEventDispatchThread(() -> model.getElementAt(1199)));
+		assertFalse(onEventDispatchThread(model::isLoading));
+	}
+
+	/**
+	 * Test method for {@link AsyncComboBoxModel#load(ItemSource)} that must publish an incomplete
+	 * batch after the batch delay even if the source stalls
+	 */
+	@Test
+	public void testPublishIncompleteBatchOfStalledSource() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>(500, 50L);
+		List<String> events = recordEvents(model);
+		CountDownLatch published = new CountDownLatch(1);
+		model.addListDataListener(new ListDataListener()
+		{
+			@Override
+			public void intervalAdded(final ListDataEvent e)
+			{
+				published.countDown();
+			}
+
+			@Override
+			public void intervalRemoved(final ListDataEvent e)
+			{
+			}
+
+			@Override
+			public void contentsChanged(final ListDataEvent e)
+			{
+			}
+		});
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> model.load(sink -> {
+			sink.accept("first");
+			release.await();
+			sink.accept("second");
+		}));
+		assertTrue(published.await(TIMEOUT, TimeUnit.SECONDS));
+		assertTrue(onEventDispatchThread(model::isLoading));
+		assertEquals("first", onEventDispatchThread(() -> model.getElementAt(0)));
+		release.countDown();
+		assertEquals(2, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(List.of("added 0-0", "added 1-1"), events);
+	}
+
+	/**
+	 * Test method for {@link AsyncComboBoxModel#load(ItemSource)} that must cancel and interrupt a
+	 * superseded load and must never publish its items
+	 */
+	@Test
+	public void testSupersededLoad() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>(1, 0L);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch interrupted = new CountDownLatch(1);
+		ItemSource<String> blocking = sink -> {
+			started.countDown();
+			try
+			{
+				Thread.sleep(TimeUnit.SECONDS.toMillis(TIMEOUT * 2));
+			}
+			catch (InterruptedException exception)
+			{
+				interrupted.countDown();
+				throw exception;
+			}
+			sink.accept("stale");
+		};
+		CompletableFuture<Integer> first = onEventDispatchThread(() -> model.load(blocking));
+		assertTrue(started.await(TIMEOUT, TimeUnit.SECONDS));
+		CompletableFuture<Integer> second = onEventDispatchThread(() -> model.load(items(3)));
+		assertThrows(CancellationException.class, () -> first.get(TIMEOUT, TimeUnit.SECONDS));
+		assertTrue(first.isCancelled());
+		assertTrue(interrupted.await(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(3, second.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(-1, (int)onEventDispatchThread(() -> model.indexOf("stale")));
+	}
+
+	/**
+	 * Test method for the selected value of the property model of a {@link JMComboBox} that must be
+	 * restored as soon as it is loaded
+	 */
+	@Test
+	public void testRestoreSelection() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>(100, 60_000L);
+		List<String> writes = Collections.synchronizedList(new ArrayList<>());
+		IModel<String> propertyModel = new BaseModel<>("item-250")
+		{
+			@Override
+			public void setObject(final String object)
+			{
+				writes.add(object);
+				super.setObject(object);
+			}
+		};
+		JMComboBox<String, AsyncComboBoxModel<String>> comboBox = onEventDispatchThread(
+			() -> new JMComboBox<>(model, propertyModel));
+		assertEquals("item-250", model.getSelectedItem());
+		List<String> events = recordEvents(model);
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> model.load(items(400)));
+		assertEquals(400, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(List.of("selected null", "added 0-99", "added 100-199", "added 200-299",
+			"selected item-250", "added 300-399"), events);
+		assertEquals("item-250", onEventDispatchThread(comboBox::getSelectedItem));
+		assertEquals(250, (int)onEventDispatchThread(comboBox::getSelectedIndex));
+		assertEquals("item-250", propertyModel.getObject());
+		assertEquals(List.of(), writes);
+	}
+
+	/**
+	 * Test method for a pending selection that is not loaded
+	 */
+	@Test
+	public void testPendingSelectionNotLoaded() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>();
+		onEventDispatchThread(() -> {
+			model.setSelectedItem("missing");
+			return model.load(items(10));
+		}).get(TIMEOUT, TimeUnit.SECONDS);
+		assertNull(onEventDispatchThread(model::getSelectedItem));
+		assertNull(onEventDispatchThread(model::getPendingSelection));
+	}
+
+	/**
+	 * Test method for a source that fails
+	 */
+	@Test
+	public void testFailure() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>();
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> model.load(sink -> {
+			sink.accept("first");
+			throw new IOException("source not available");
+		}));
+		ExecutionException exception = assertThrows(ExecutionException.class,
+			() -> result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertInstanceOf(IOException.class, exception.getCause());
+		assertFalse(onEventDispatchThread(model::isLoading));
+	}
+
+	/**
+	 * Test method for {@link AsyncComboBoxModel#cancelLoading()}
+	 */
+	@Test
+	public void testCancelLoading() throws Exception
+	{
+		AsyncComboBoxModel<String> model = new AsyncComboBoxModel<>();
+		CountDownLatch release = new CountDownLatch(1);
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> model.load(sink -> {
+			release.await();
+			sink.accept("late");
+		}));
+		assertTrue(onEventDispatchThread(model::cancelLoading));
+		assertFalse(onEventDispatchThread(model::cancelLoading));
+		assertTrue(result.isCancelled());
+		release.countDown();
+		assertEquals(0, (int)onEventDispatchThread(model::getSize));
+	}
+
+	/**
+	 * Test method for the constructor of {@link AsyncComboBoxModel} with invalid arguments
+	 */
+	@Test
+	public void testInvalidArguments()
+	{
+		assertThrows(IllegalArgumentException.class, () -> new AsyncComboBoxModel<>(0, 1L));
+		assertThrows(IllegalArgumentException.class, () -> new AsyncComboBoxModel<>(1, -1L));
+	}
+}
@@ -0,0 +1,209 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.DefaultComboBoxModel;
+import javax.swing.DefaultListCellRenderer;
+import javax.swing.JList;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link CellMetricsCache}
+ */
+public class CellMetricsCacheTest
+{
+
+	/** The number of items of the test model. */
+	private static final int SIZE = 100_000;
+
+	/** The index of the widest item, the last item is always sampled. */
+	private static final int WIDEST = SIZE - 1;
+
+	/**
+	 * A renderer that counts its calls.
+	 */
+	private static class CountingRenderer extends DefaultListCellRenderer
+	{
+		int calls;
+
+		@Override
+		public Component getListCellRendererComponent(final JList<?> list, final Object value,
+			final int index, final boolean isSelected, final boolean cellHasFocus)
+		{
+			calls++;
+			return super.getListCellRendererComponent(list, value, index, isSelected,
+				cellHasFocus);
+		}
+	}
+
+	private static HashedComboBoxModel<String> newModel()
+	{
+		List<String> items = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++)
+		{
+			items.add("item-" + i);
+		}
+		items.set(WIDEST, "the widest item of the model");
+		return HashedComboBoxModel.of(items);
+	}
+
+	private static JMComboBox<String, HashedComboBoxModel<String>> newComboBox(
+		final HashedComboBoxModel<String> model, final CountingRenderer renderer)
+	{
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = new JMComboBox<>(model);
+		comboBox.setRenderer(renderer);
+		renderer.calls = 0;
+		return comboBox;
+	}
+
+	/**
+	 * Test method for {@link CellMetricsCache#install(javax.swing.JComboBox, int)} that must only
+	 * measure the sampled items
+	 */
+	@Test
+	public void testInstallMeasuresSample()
+	{
+		CountingRenderer renderer = new CountingRenderer();
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = newComboBox(newModel(),
+			renderer);
+		CellMetricsCache<String> cache = CellMetricsCache.install(comboBox, 65);
+		comboBox.getPreferredSize();
+		comboBox.addItem("item");
+		comboBox.getPreferredSize();
+		assertTrue(renderer.calls < 80, "renderer calls: " + renderer.calls);
+		assertEquals("the widest item of the model", comboBox.getPrototypeDisplayValue());
+		assertEquals(65, cache.getCachedCount());
+	}
+
+	/**
+	 * Test method for {@link CellMetricsCache} with a model that is filled item by item, that must
+	 * measure only a few of the items
+	 */
+	@Test
+	public void testAddItemByItem()
+	{
+		CountingRenderer renderer = new CountingRenderer();
+		DefaultComboBoxModel<String> model = new DefaultComboBoxModel<>();
+		JMComboBox<String, DefaultComboBoxModel<String>> comboBox = new JMComboBox<>(model);
+		comboBox.setRenderer(renderer);
+		CellMetricsCache<String> cache = CellMetricsCache.install(comboBox, 64);
+		for (int i = 0; i < SIZE; i++)
+		{
+			model.addElement("item-" + i);
+		}
+		assertTrue(cache.getCachedCount() <= 128, "cached widths: " + cache.getCachedCount());
+		assertTrue(renderer.calls < 1_000, "renderer calls: " + renderer.calls);
+		assertTrue(String.valueOf(comboBox.getPrototypeDisplayValue()).startsWith("item-"));
+	}
+
+	/**
+	 * Test method for {@link CellMetricsCache} with added, removed and changed items
+	 */
+	@Test
+	public void testWidthCacheFollowsModelEvents()
+	{
+		CountingRenderer renderer = new CountingRenderer();
+		HashedComboBoxModel<String> model = newModel();
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = newComboBox(model, renderer);
+		CellMetricsCache<String> cache = CellMetricsCache.install(comboBox, 65);
+		int widestWidth = cache.getWidestWidth();
+		int width = cache.getWidth(WIDEST);
+		assertEquals(widestWidth, width);
+
+		renderer.calls = 0;
+		model.insertElementAt("item", 0);
+		assertEquals("the widest item of the model", comboBox.getPrototypeDisplayValue());
+		assertEquals(width, cache.getWidth(WIDEST + 1));
+
+		model.removeElementAt(0);
+		assertEquals("the widest item of the model", comboBox.getPrototypeDisplayValue());
+		assertEquals(widestWidth, cache.getWidestWidth());
+		assertEquals(width, cache.getWidth(WIDEST));
+		assertEquals(0, renderer.calls);
+
+		model.removeElementAt(WIDEST);
+		assertEquals(-1, cache.getWidth(WIDEST));
+		assertTrue(cache.getWidestWidth() < widestWidth);
+		assertTrue(String.valueOf(comboBox.getPrototypeDisplayValue()).startsWith("item-"));
+
+		model.removeAllElements();
+		assertEquals(0, cache.getCachedCount());
+		assertNull(comboBox.getPrototypeDisplayValue());
+	}
+
+	/**
+	 * Test method for {@link CellMetricsCache} with a wider item that is inserted into a small
+	 * model and removed again
+	 */
+	@Test
+	public void testInsertAndRemoveWiderItem()
+	{
+		CountingRenderer renderer = new CountingRenderer();
+		HashedComboBoxModel<String> model = HashedComboBoxModel.of("a", "bb");
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = newComboBox(model, renderer);
+		CellMetricsCache.install(comboBox);
+		assertEquals("bb", comboBox.getPrototypeDisplayValue());
+		model.insertElementAt("a much wider item", 0);
+		assertEquals("a much wider item", comboBox.getPrototypeDisplayValue());
+		renderer.calls = 0;
+		model.removeElementAt(0);
+		assertEquals("bb", comboBox.getPrototypeDisplayValue());
+		assertTrue(renderer.calls <= 1, "renderer calls: " + renderer.calls);
+	}
+
+	/**
+	 * Test method for {@link JMComboBox#installAutoPrototype()} with a new model and an uninstalled
+	 * cache
+	 */
+	@Test
+	public void testNewModelAndUninstall()
+	{
+		CountingRenderer renderer = new CountingRenderer();
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = newComboBox(
+			HashedComboBoxModel.of("a", "bb"), renderer);
+		CellMetricsCache<String> cache = CellMetricsCache.install(comboBox);
+		assertEquals("bb", comboBox.getPrototypeDisplayValue());
+		comboBox.setModel(HashedComboBoxModel.of("ccc", "d"));
+		assertEquals("ccc", comboBox.getPrototypeDisplayValue());
+		assertEquals(2, cache.getCachedCount());
+		cache.uninstall();
+		comboBox.addItem("a much wider item");
+		assertEquals("ccc", comboBox.getPrototypeDisplayValue());
+		assertEquals(0, cache.getCachedCount());
+		comboBox.installAutoPrototype();
+		assertEquals("a much wider item", comboBox.getPrototypeDisplayValue());
+	}
+}
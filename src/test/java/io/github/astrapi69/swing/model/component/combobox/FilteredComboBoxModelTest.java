@@ -0,0 +1,263 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.text.JTextComponent;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link FilteredComboBoxModel}
+ */
+public class FilteredComboBoxModelTest
+{
+
+	/** The number of items of the test models. */
+	private static final int SIZE = 200_000;
+
+	/** The timeout in seconds for a filter. */
+	private static final long TIMEOUT = 10L;
+
+	private static List<String> items()
+	{
+		List<String> items = new ArrayList<>(SIZE);
+		for (int i = 0; i < SIZE; i++)
+		{
+			items.add("Item-" + i);
+		}
+		return items;
+	}
+
+	private static List<String> view(final FilteredComboBoxModel<String> model)
+	{
+		List<String> view = new ArrayList<>();
+		for (int i = 0; i < model.getSize(); i++)
+		{
+			view.add(model.getElementAt(i));
+		}
+		return view;
+	}
+
+	private static <T> T onEventDispatchThread(final Callable<T> callable) throws Exception
+	{
+		AtomicReference<T> result = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			try
+			{
+				result.set(callable.call());
+			}
+			catch (Exception exception)
+			{
+				throw new IllegalStateException(exception);
+			}
+		});
+		return result.get();
+	}
+
+	/**
+	 * Test method for {@link FilteredComboBoxModel#setFilterText(String)} that must publish the
+	 * matching items in their order with one removal and one change event
+	 */
+	@Test
+	public void testSetFilterText() throws Exception
+	{
+		List<String> items = items();
+		FilteredComboBoxModel<String> model = new FilteredComboBoxModel<>(items, String::valueOf,
+			1_000);
+		List<String> events = new ArrayList<>();
+		model.addListDataListener(new ListDataListener()
+		{
+			@Override
+			public void intervalAdded(final ListDataEvent e)
+			{
+				events.add("added");
+			}
+
+			@Override
+			public void intervalRemoved(final ListDataEvent e)
+			{
+				events.add("removed");
+			}
+
+			@Override
+			public void contentsChanged(final ListDataEvent e)
+			{
+				events.add("changed");
+			}
+		});
+		CompletableFuture<Integer> result = onEventDispatchThread(
+			() -> model.setFilterText("M-99"));
+		List<String> expected = items.stream().filter(item -> item.contains("m-99")).toList();
+		assertEquals(expected.size(), result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(expected, onEventDispatchThread(() -> view(model)));
+		assertEquals(List.of("removed", "changed"), events);
+		assertEquals(1, onEventDispatchThread(() -> model.indexOf("Item-990")));
+
+		events.clear();
+		result = onEventDispatchThread(() -> model.setFilterText(""));
+		assertEquals(SIZE, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(List.of("added", "changed"), events);
+	}
+
+	/**
+	 * Test method for {@link FilteredComboBoxModel#setFilterText(String)} that must only filter
+	 * the current view if the new text contains the text of the view
+	 */
+	@Test
+	public void testNarrowingFiltersCurrentView() throws Exception
+	{
+		AtomicInteger displayCalls = new AtomicInteger();
+		FilteredComboBoxModel<String> model = FilteredComboBoxModel.of(items(), item -> {
+			displayCalls.incrementAndGet();
+			return item;
+		});
+		int size = onEventDispatchThread(() -> model.setFilterText("-9")).get(TIMEOUT,
+			TimeUnit.SECONDS);
+		assertEquals(SIZE, displayCalls.getAndSet(0));
+		int narrowed = onEventDispatchThread(() -> model.setFilterText("-99")).get(TIMEOUT,
+			TimeUnit.SECONDS);
+		assertEquals(size, displayCalls.get());
+		assertTrue(narrowed < size);
+	}
+
+	/**
+	 * Test method for {@link FilteredComboBoxModel#setItems(List)} with fewer items while a filter
+	 * is active, that must show the published view until the new view is published and must not
+	 * narrow the published view of the replaced items
+	 */
+	@Test
+	public void testShrinkItemsWhileFiltered() throws Exception
+	{
+		FilteredComboBoxModel<String> model = FilteredComboBoxModel.of(items());
+		onEventDispatchThread(() -> model.setFilterText("-9")).get(TIMEOUT, TimeUnit.SECONDS);
+		List<String> published = onEventDispatchThread(() -> view(model));
+		List<String> fewerItems = items().subList(0, 100);
+		List<String> shown = new ArrayList<>();
+		CompletableFuture<Integer> result = onEventDispatchThread(() -> {
+			model.setItems(fewerItems);
+			shown.addAll(view(model));
+			return model.setFilterText("-99");
+		});
+		assertEquals(published, shown);
+		assertEquals(1, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(List.of("Item-99"), onEventDispatchThread(() -> view(model)));
+
+		result = onEventDispatchThread(() -> model.setFilterText("-9"));
+		assertEquals(11, result.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(100, model.getItemCount());
+	}
+
+	/**
+	 * Test method for {@link FilteredComboBoxModel#setFilter(java.util.function.Predicate)} that
+	 * must cancel a stale filter and skip its remaining chunks
+	 */
+	@Test
+	public void testStaleFilterIsCancelled() throws Exception
+	{
+		FilteredComboBoxModel<String> model = new FilteredComboBoxModel<>(items(), String::valueOf,
+			1_000);
+		CountDownLatch latch = new CountDownLatch(1);
+		AtomicInteger staleCalls = new AtomicInteger();
+		CompletableFuture<Integer> stale = onEventDispatchThread(() -> model.setFilter(item -> {
+			try
+			{
+				latch.await();
+			}
+			catch (InterruptedException exception)
+			{
+				Thread.currentThread().interrupt();
+			}
+			staleCalls.incrementAndGet();
+			return true;
+		}));
+		CompletableFuture<Integer> current = onEventDispatchThread(
+			() -> model.setFilter(item -> item.endsWith("7")));
+		latch.countDown();
+		assertThrows(CancellationException.class, () -> stale.get(TIMEOUT, TimeUnit.SECONDS));
+		assertEquals(SIZE / 10, current.get(TIMEOUT, TimeUnit.SECONDS));
+		Thread.sleep(100L);
+		assertTrue(staleCalls.get() < SIZE / 2, "stale calls: " + staleCalls.get());
+		assertEquals(SIZE / 10, (int)onEventDispatchThread(model::getSize));
+	}
+
+	/**
+	 * Test method for {@link JMComboBox#installFilter()} that must filter with the text of the
+	 * editor and keep the view when the editor shows the selected item
+	 */
+	@Test
+	public void testInstallFilter() throws Exception
+	{
+		FilteredComboBoxModel<String> model = FilteredComboBoxModel.of(items());
+		JMComboBox<String, FilteredComboBoxModel<String>> comboBox = onEventDispatchThread(
+			() -> new JMComboBox<>(model).installFilter());
+		JTextComponent editor = (JTextComponent)comboBox.getEditor().getEditorComponent();
+		onEventDispatchThread(() -> {
+			editor.setText("item-7777");
+			return null;
+		});
+		waitForFilter(model);
+		assertEquals(List.of("Item-7777", "Item-77770", "Item-77771", "Item-77772", "Item-77773",
+			"Item-77774", "Item-77775", "Item-77776", "Item-77777", "Item-77778", "Item-77779"),
+			onEventDispatchThread(() -> view(model)));
+		assertEquals("item-7777", onEventDispatchThread(editor::getText));
+		onEventDispatchThread(() -> {
+			comboBox.setSelectedItem("Item-77775");
+			return null;
+		});
+		waitForFilter(model);
+		assertEquals("Item-77775", onEventDispatchThread(editor::getText));
+		assertEquals(11, (int)onEventDispatchThread(model::getSize));
+	}
+
+	private static void waitForFilter(final FilteredComboBoxModel<?> model) throws Exception
+	{
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT);
+		while (onEventDispatchThread(model::isFiltering) && System.nanoTime() < deadline)
+		{
+			Thread.sleep(10L);
+		}
+		// the view is published with a later event
+		onEventDispatchThread(() -> null);
+	}
+}
@@ -0,0 +1,281 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.swing.DefaultComboBoxModel;
+import javax.swing.MutableComboBoxModel;
+import javax.swing.SwingUtilities;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link HashedComboBoxModel}
+ */
+public class HashedComboBoxModelTest
+{
+
+	/**
+	 * A listener that records the received events as text.
+	 */
+	private static class RecordingListener implements ListDataListener
+	{
+		final List<String> events = new ArrayList<>();
+
+		@Override
+		public void intervalAdded(final ListDataEvent e)
+		{
+			events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void intervalRemoved(final ListDataEvent e)
+		{
+			events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+
+		@Override
+		public void contentsChanged(final ListDataEvent e)
+		{
+			events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+		}
+	}
+
+	/**
+	 * Test method for {@link HashedComboBoxModel#indexOf(Object)} after random insertions and
+	 * removals with duplicates, compared with {@link List#indexOf(Object)}
+	 */
+	@Test
+	public void testIndexOfAfterRandomChanges()
+	{
+		Random random = new Random(42);
+		HashedComboBoxModel<String> model = new HashedComboBoxModel<>();
+		List<String> expected = new ArrayList<>();
+		for (int round = 0; round < 2_000; round++)
+		{
+			String item = "item-" + random.nextInt(50);
+			int operation = random.nextInt(6);
+			if (operation < 2 || expected.isEmpty())
+			{
+				model.addElement(item);
+				expected.add(item);
+			}
+			else if (operation == 2)
+			{
+				int index = random.nextInt(expected.size() + 1);
+				model.insertElementAt(item, index);
+				expected.add(index, item);
+			}
+			else if (operation == 3)
+			{
+				int index = random.nextInt(expected.size());
+				model.removeElementAt(index);
+				expected.remove(index);
+			}
+			else if (operation == 4)
+			{
+				model.removeElement(item);
+				expected.remove(item);
+			}
+			else
+			{
+				int index = random.nextInt(expected.size() + 1);
+				List<String> items = List.of(item, "item-" + random.nextInt(50));
+				model.addAll(index, items);
+				expected.addAll(index, items);
+			}
+			if (round % 3 == 0)
+			{
+				for (int i = 0; i < 55; i++)
+				{
+					assertEquals(expected.indexOf("item-" + i), model.indexOf("item-" + i));
+				}
+			}
+		}
+		model.removeAllElements();
+		assertEquals(0, model.getSize());
+		assertEquals(-1, model.indexOf("item-1"));
+		assertNull(model.getSelectedItem());
+	}
+
+	/**
+	 * Test method for the selection and the events of {@link HashedComboBoxModel} that must be the
+	 * same as of a {@link DefaultComboBoxModel}
+	 */
+	@Test
+	public void testSameBehaviorAsDefaultComboBoxModel()
+	{
+		HashedComboBoxModel<String> model = new HashedComboBoxModel<>();
+		DefaultComboBoxModel<String> defaultModel = new DefaultComboBoxModel<>();
+		RecordingListener listener = new RecordingListener();
+		RecordingListener defaultListener = new RecordingListener();
+		model.addListDataListener(listener);
+		defaultModel.addListDataListener(defaultListener);
+		for (MutableComboBoxModel<String> each : List.of(model, defaultModel))
+		{
+			each.addElement("a");
+			each.addElement("b");
+			each.insertElementAt("c", 1);
+			each.setSelectedItem("c");
+			each.removeElementAt(1);
+			each.removeElement("a");
+			each.removeElement("x");
+			each.addElement("d");
+			each.setSelectedItem("d");
+			each.removeElementAt(1);
+		}
+		model.addAll(List.of("e", "f"));
+		defaultModel.addAll(List.of("e", "f"));
+		assertEquals(defaultListener.events, listener.events);
+		assertEquals(defaultModel.getSelectedItem(), model.getSelectedItem());
+		assertEquals(defaultModel.getSize(), model.getSize());
+		for (int i = 0; i < model.getSize(); i++)
+		{
+			assertEquals(defaultModel.getElementAt(i), model.getElementAt(i));
+		}
+	}
+
+	/**
+	 * Test method for {@link EnumComboBoxModel#indexOf(Object)}
+	 */
+	@Test
+	public void testEnumComboBoxModel()
+	{
+		EnumComboBoxModel<DayOfWeek> model = EnumComboBoxModel.of(DayOfWeek.class);
+		assertEquals(DayOfWeek.MONDAY, model.getSelectedItem());
+		assertEquals(DayOfWeek.SUNDAY.ordinal(), model.indexOf(DayOfWeek.SUNDAY));
+		assertEquals(-1, model.indexOf("SUNDAY"));
+		model.removeElement(DayOfWeek.TUESDAY);
+		assertEquals(-1, model.indexOf(DayOfWeek.TUESDAY));
+		assertEquals(1, model.indexOf(DayOfWeek.WEDNESDAY));
+		model.insertElementAt(DayOfWeek.SUNDAY, 0);
+		assertEquals(0, model.indexOf(DayOfWeek.SUNDAY));
+		assertEquals(2, model.indexOf(DayOfWeek.WEDNESDAY));
+		model.addElement(DayOfWeek.TUESDAY);
+		assertEquals(7, model.indexOf(DayOfWeek.TUESDAY));
+	}
+
+	/**
+	 * Test method for the selection in a {@link JMComboBox} with a {@link HashedComboBoxModel}
+	 */
+	@Test
+	public void testJMComboBoxSelection()
+	{
+		List<String> items = new ArrayList<>();
+		for (int i = 0; i < 10_000; i++)
+		{
+			items.add("item-" + i);
+		}
+		HashedComboBoxModel<String> model = HashedComboBoxModel.of(items);
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = new JMComboBox<>(model);
+		comboBox.setSelectedItem("item-9999");
+		assertEquals(9999, comboBox.getSelectedIndex());
+		comboBox.removeItemAt(0);
+		assertEquals(9998, comboBox.getSelectedIndex());
+		comboBox.insertItemAt("item-new", 10);
+		comboBox.setSelectedItem("item-new");
+		assertEquals(10, comboBox.getSelectedIndex());
+		comboBox.setSelectedItem("unknown");
+		assertEquals("item-new", comboBox.getSelectedItem());
+	}
+	/**
+	 * Test method for {@link AbstractIndexedComboBoxModel#reconcile(List)} that must fire one event
+	 * per changed range and keep the selected item without an item event
+	 */
+	@Test
+	public void testReconcile()
+	{
+		HashedComboBoxModel<String> model = HashedComboBoxModel.of("a", "b", "c", "d");
+		JMComboBox<String, HashedComboBoxModel<String>> comboBox = new JMComboBox<>(model);
+		String selection = "c";
+		comboBox.setSelectedItem(selection);
+		List<Integer> itemEvents = new ArrayList<>();
+		comboBox.addItemListener(e -> itemEvents.add(e.getStateChange()));
+		RecordingListener listener = new RecordingListener();
+		model.addListDataListener(listener);
+
+		List<String> newItems = List.of("a", "x", new String("c"), "d", "e");
+		assertEquals(2, model.reconcile(newItems));
+		assertEquals(List.of("changed 1-1", "added 4-4"), listener.events);
+		assertSame(selection, model.getSelectedItem());
+		assertSame(selection, model.getElementAt(2));
+		assertEquals(List.of(), itemEvents);
+		assertEquals(2, comboBox.getSelectedIndex());
+		assertEquals(4, model.indexOf("e"));
+		assertEquals(-1, model.indexOf("b"));
+
+		listener.events.clear();
+		assertEquals(1, model.reconcile(List.of("a")));
+		assertEquals(List.of("removed 1-4", "changed -1--1"), listener.events);
+		assertNull(model.getSelectedItem());
+		assertEquals(1, itemEvents.size());
+	}
+
+	/**
+	 * Test method for {@link AbstractIndexedComboBoxModel#reconcileAsync(List)} with a superseded
+	 * reconciliation and a modification while the difference is computed
+	 */
+	@Test
+	public void testReconcileAsync() throws Exception
+	{
+		HashedComboBoxModel<String> model = HashedComboBoxModel.of("a", "b", "c");
+		List<String> newItems = List.of("b", "c", "d");
+		AtomicReference<CompletableFuture<Integer>> first = new AtomicReference<>();
+		AtomicReference<CompletableFuture<Integer>> second = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			first.set(model.reconcileAsync(List.of("z")));
+			second.set(model.reconcileAsync(newItems));
+			model.addElement("e");
+		});
+		assertThrows(CancellationException.class, () -> first.get().get(10L, TimeUnit.SECONDS));
+		assertEquals(2, second.get().get(10L, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() -> {
+			List<String> items = new ArrayList<>();
+			for (int i = 0; i < model.getSize(); i++)
+			{
+				items.add(model.getElementAt(i));
+			}
+			assertEquals(newItems, items);
+			assertEquals(2, model.indexOf("d"));
+		});
+	}
+}
@@ -0,0 +1,279 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ComboBoxModel;
+import javax.swing.DefaultComboBoxModel;
+import javax.swing.JList;
+import javax.swing.text.Position;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link IndexedKeySelectionManager}
+ */
+public class IndexedKeySelectionManagerTest
+{
+
+	/** The prefixes that are compared with the search of {@link JList}. */
+	private static final String[] PREFIXES = { "a", "B", "ab", "ba", "cab", "x", "AAA", "ca" };
+
+	/**
+	 * An item that counts the calls of {@link #toString()}.
+	 */
+	private static class Item
+	{
+		static final AtomicInteger toStringCalls = new AtomicInteger();
+
+		final String name;
+
+		Item(final String name)
+		{
+			this.name = name;
+		}
+
+		@Override
+		public String toString()
+		{
+			toStringCalls.incrementAndGet();
+			return name;
+		}
+	}
+
+	/**
+	 * A combo box model whose items can be replaced.
+	 */
+	private static class ReplaceableModel extends AbstractListModel<Item>
+		implements
+			ComboBoxModel<Item>
+	{
+		final List<Item> items = new ArrayList<>();
+
+		Object selectedItem;
+
+		void set(final int index, final Item item)
+		{
+			items.set(index, item);
+			fireContentsChanged(this, index, index);
+		}
+
+		void add(final int index, final Item item)
+		{
+			items.add(index, item);
+			fireIntervalAdded(this, index, index);
+		}
+
+		void remove(final int index0, final int index1)
+		{
+			items.subList(index0, index1 + 1).clear();
+			fireIntervalRemoved(this, index0, index1);
+		}
+
+		@Override
+		public int getSize()
+		{
+			return items.size();
+		}
+
+		@Override
+		public Item getElementAt(final int index)
+		{
+			return items.get(index);
+		}
+
+		@Override
+		public void setSelectedItem(final Object item)
+		{
+			selectedItem = item;
+			fireContentsChanged(this, -1, -1);
+		}
+
+		@Override
+		public Object getSelectedItem()
+		{
+			return selectedItem;
+		}
+	}
+
+	private static Item randomItem(final Random random)
+	{
+		char[] name = new char[1 + random.nextInt(5)];
+		for (int i = 0; i < name.length; i++)
+		{
+			char letter = (char)('a' + random.nextInt(3));
+			name[i] = random.nextBoolean() ? Character.toUpperCase(letter) : letter;
+		}
+		return new Item(new String(name));
+	}
+
+	private static void assertSameMatches(final IndexedKeySelectionManager<?> keySelectionManager,
+		final ComboBoxModel<Item> model, final Random random)
+	{
+		JList<Item> list = new JList<>(model);
+		for (String prefix : PREFIXES)
+		{
+			for (int round = 0; round < 20; round++)
+			{
+				int startIndex = random.nextInt(model.getSize());
+				assertEquals(list.getNextMatch(prefix, startIndex, Position.Bias.Forward),
+					keySelectionManager.nextMatch(prefix, startIndex),
+					"prefix " + prefix + " from " + startIndex);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link IndexedKeySelectionManager#selectionForKey(char, ComboBoxModel)} with
+	 * a repeated first key and with a prefix that is typed in quick succession
+	 */
+	@Test
+	public void testSelectionForKey()
+	{
+		long[] time = { 1000L };
+		JMComboBox<String, DefaultComboBoxModel<String>> comboBox = new JMComboBox<>(
+			new String[] { "Apple", "Banana", "blueberry", "Cherry", "Blackberry", "avocado" });
+		comboBox.setKeySelectionManager(new IndexedKeySelectionManager<>(comboBox,
+			String::valueOf)
+		{
+			@Override
+			protected long getCurrentTime()
+			{
+				return time[0];
+			}
+		});
+		assertTrue(comboBox.selectWithKeyChar('b'));
+		assertEquals("Banana", comboBox.getSelectedItem());
+		time[0] += 100;
+		comboBox.selectWithKeyChar('b');
+		assertEquals("blueberry", comboBox.getSelectedItem());
+		time[0] += 100;
+		comboBox.selectWithKeyChar('b');
+		assertEquals("Blackberry", comboBox.getSelectedItem());
+		time[0] += 100;
+		comboBox.selectWithKeyChar('b');
+		assertEquals("Banana", comboBox.getSelectedItem());
+
+		time[0] += 5000;
+		comboBox.selectWithKeyChar('b');
+		assertEquals("blueberry", comboBox.getSelectedItem());
+		time[0] += 100;
+		comboBox.selectWithKeyChar('l');
+		assertEquals("blueberry", comboBox.getSelectedItem());
+		time[0] += 100;
+		comboBox.selectWithKeyChar('a');
+		assertEquals("Blackberry", comboBox.getSelectedItem());
+
+		time[0] += 5000;
+		assertFalse(comboBox.selectWithKeyChar('z'));
+		assertEquals("Blackberry", comboBox.getSelectedItem());
+	}
+
+	/**
+	 * Test method for {@link IndexedKeySelectionManager#nextMatch(String, int)} that must find the
+	 * same items as {@link JList#getNextMatch(String, int, Position.Bias)}
+	 */
+	@Test
+	public void testNextMatch()
+	{
+		Random random = new Random(42);
+		DefaultComboBoxModel<Item> model = new DefaultComboBoxModel<>();
+		for (int i = 0; i < 2000; i++)
+		{
+			model.addElement(randomItem(random));
+		}
+		JMComboBox<Item, DefaultComboBoxModel<Item>> comboBox = new JMComboBox<>(model);
+		IndexedKeySelectionManager<Item> keySelectionManager = IndexedKeySelectionManager
+			.install(comboBox);
+		assertSame(keySelectionManager, comboBox.getKeySelectionManager());
+		assertSameMatches(keySelectionManager, model, random);
+	}
+
+	/**
+	 * Test method for the incremental update of the index on the events of the model, only the
+	 * added and changed items must be converted to a string
+	 */
+	@Test
+	public void testIncrementalUpdate()
+	{
+		Random random = new Random(7);
+		ReplaceableModel model = new ReplaceableModel();
+		for (int i = 0; i < 1000; i++)
+		{
+			model.items.add(randomItem(random));
+		}
+		JMComboBox<Item, ReplaceableModel> comboBox = new JMComboBox<>(model);
+		// without a prototype the look and feel measures every item
+		comboBox.setPrototypeDisplayValue(new Item("prototype"));
+		IndexedKeySelectionManager<Item> keySelectionManager = IndexedKeySelectionManager
+			.install(comboBox);
+		keySelectionManager.nextMatch("a", 0);
+		assertTrue(keySelectionManager.isIndexed());
+
+		Item.toStringCalls.set(0);
+		model.add(0, new Item("Zebra"));
+		model.add(500, new Item("zoo"));
+		model.add(model.getSize(), new Item("zulu"));
+		model.remove(10, 20);
+		model.set(100, new Item("Zeta"));
+		model.setSelectedItem(model.getElementAt(3));
+		assertEquals(4, Item.toStringCalls.get());
+
+		assertEquals(0, keySelectionManager.nextMatch("ze", 0));
+		assertEquals(100, keySelectionManager.nextMatch("ze", 1));
+		assertEquals(model.getSize() - 1, keySelectionManager.nextMatch("zu", 0));
+		assertSameMatches(keySelectionManager, model, random);
+		model.remove(0, model.getSize() - 1);
+		assertEquals(-1, keySelectionManager.nextMatch("a", 0));
+	}
+
+	/**
+	 * Test method for the index that must be dropped if the combo box gets another model
+	 */
+	@Test
+	public void testModelReplaced()
+	{
+		JMComboBox<String, DefaultComboBoxModel<String>> comboBox = new JMComboBox<>(
+			new String[] { "one", "two" });
+		IndexedKeySelectionManager<String> keySelectionManager = IndexedKeySelectionManager
+			.install(comboBox);
+		assertEquals(1, keySelectionManager.nextMatch("t", 0));
+		comboBox.setModel(new DefaultComboBoxModel<>(new String[] { "three" }));
+		assertFalse(keySelectionManager.isIndexed());
+		assertEquals(0, keySelectionManager.nextMatch("t", 0));
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link ListDiff}
+ */
+public class ListDiffTest
+{
+
+	private static List<String> apply(final List<String> oldItems, final List<String> newItems,
+		final List<ItemEdit> edits)
+	{
+		List<String> items = new ArrayList<>(oldItems);
+		for (ItemEdit edit : edits)
+		{
+			int index = edit.getIndex();
+			switch (edit.getType())
+			{
+				case INSERTED :
+					int newIndex = edit.getNewIndex();
+					items.addAll(index, newItems.subList(newIndex, newIndex + edit.getLength()));
+					break;
+				case REMOVED :
+					items.subList(index, index + edit.getLength()).clear();
+					break;
+				case CHANGED :
+					for (int i = 0; i < edit.getLength(); i++)
+					{
+						items.set(index + i, newItems.get(edit.getNewIndex() + i));
+					}
+					break;
+			}
+		}
+		return items;
+	}
+
+	private static int editDistance(final List<ItemEdit> edits)
+	{
+		int distance = 0;
+		for (ItemEdit edit : edits)
+		{
+			distance += edit.getType() == ItemEdit.Type.CHANGED
+				? 2 * edit.getLength()
+				: edit.getLength();
+		}
+		return distance;
+	}
+
+	private static int longestCommonSubsequence(final List<String> a, final List<String> b)
+	{
+		int[][] lengths = new int[a.size() + 1][b.size() + 1];
+		for (int i = 1; i <= a.size(); i++)
+		{
+			for (int j = 1; j <= b.size(); j++)
+			{
+				lengths[i][j] = a.get(i - 1).equals(b.get(j - 1))
+					? lengths[i - 1][j - 1] + 1
+					: Math.max(lengths[i - 1][j], lengths[i][j - 1]);
+			}
+		}
+		return lengths[a.size()][b.size()];
+	}
+
+	private static List<String> randomItems(final Random random)
+	{
+		List<String> items = new ArrayList<>();
+		int size = random.nextInt(40);
+		for (int i = 0; i < size; i++)
+		{
+			items.add(String.valueOf((char)('a' + random.nextInt(6))));
+		}
+		return items;
+	}
+
+	/**
+	 * Test method for {@link ListDiff#diff(List, List)} with random lists, the edits must turn the
+	 * old list into the new list with the minimal number of removed and inserted items
+	 */
+	@Test
+	public void testDiffIsMinimal()
+	{
+		Random random = new Random(7);
+		for (int round = 0; round < 1_000; round++)
+		{
+			List<String> oldItems = randomItems(random);
+			List<String> newItems = randomItems(random);
+			List<ItemEdit> edits = ListDiff.diff(oldItems, newItems);
+			assertEquals(newItems, apply(oldItems, newItems, edits));
+			assertEquals(
+				oldItems.size() + newItems.size()
+					- 2 * longestCommonSubsequence(oldItems, newItems),
+				editDistance(edits));
+		}
+	}
+
+	/**
+	 * Test method for {@link ListDiff#diff(List, List)} that must combine a removal and an
+	 * insertion at the same position to a change
+	 */
+	@Test
+	public void testDiffCombinesChanges()
+	{
+		List<String> oldItems = List.of("a", "b", "c", "d");
+		List<String> newItems = List.of("a", "x", "c", "d", "e");
+		assertEquals(List.of(new ItemEdit(ItemEdit.Type.CHANGED, 1, 1, 1),
+			new ItemEdit(ItemEdit.Type.INSERTED, 4, 4, 1)), ListDiff.diff(oldItems, newItems));
+		assertEquals(List.of(), ListDiff.diff(oldItems, new ArrayList<>(oldItems)));
+		assertEquals(List.of(new ItemEdit(ItemEdit.Type.REMOVED, 0, -1, 4)),
+			ListDiff.diff(oldItems, List.of()));
+	}
+
+	/**
+	 * Test method for {@link ListDiff#diff(List, List, int)} that must treat the differing range
+	 * as changed as a whole if the maximum edit distance is exceeded
+	 */
+	@Test
+	public void testDiffExceedsMaxEditDistance()
+	{
+		Random random = new Random(11);
+		for (int round = 0; round < 200; round++)
+		{
+			List<String> oldItems = randomItems(random);
+			List<String> newItems = randomItems(random);
+			List<ItemEdit> edits = ListDiff.diff(oldItems, newItems, 2);
+			assertEquals(newItems, apply(oldItems, newItems, edits));
+			assertTrue(edits.size() <= 2 || editDistance(edits) <= 2);
+		}
+	}
+}
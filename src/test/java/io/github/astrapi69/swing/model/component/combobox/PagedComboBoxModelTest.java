@@ -0,0 +1,295 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.combobox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.JList;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.plaf.basic.ComboPopup;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.swing.model.component.JMComboBox;
+
+/**
+ * Test class for the class {@link PagedComboBoxModel}
+ */
+public class PagedComboBoxModelTest
+{
+
+	/** The number of items of the test data source. */
+	private static final int SIZE = 1_000_000;
+
+	/**
+	 * A data source that computes its items and counts the fetched items.
+	 */
+	private static class CountingDataSource implements ItemDataSource<String>
+	{
+		final AtomicInteger fetches = new AtomicInteger();
+
+		final AtomicInteger fetchedItems = new AtomicInteger();
+
+		int size = SIZE;
+
+		@Override
+		public int size()
+		{
+			return size;
+		}
+
+		@Override
+		public List<String> fetch(final int offset, final int count)
+		{
+			fetches.incrementAndGet();
+			fetchedItems.addAndGet(count);
+			List<String> items = new ArrayList<>(count);
+			for (int i = offset; i < offset + count; i++)
+			{
+				items.add(item(i));
+			}
+			return items;
+		}
+
+		@Override
+		public int indexOf(final Object item)
+		{
+			String text = String.valueOf(item);
+			return text.startsWith("item-") ? Integer.parseInt(text.substring(5)) : -1;
+		}
+	}
+
+	private static String item(final int index)
+	{
+		return "item-" + index;
+	}
+
+	/**
+	 * Test method for {@link PagedComboBoxModel#getSize()} that must not fetch any item
+	 */
+	@Test
+	public void testSizeWithoutFetch()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource);
+		assertEquals(SIZE, model.getSize());
+		assertEquals(0, dataSource.fetches.get());
+		assertEquals(0, model.getLoadedPageCount());
+	}
+
+	/**
+	 * Test method for {@link PagedComboBoxModel#getElementAt(int)} that must fetch only the page of
+	 * the requested index once
+	 */
+	@Test
+	public void testGetElementAt()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource, 100, 4);
+		assertEquals(item(123_456), model.getElementAt(123_456));
+		assertEquals(item(123_499), model.getElementAt(123_499));
+		assertEquals(1, dataSource.fetches.get());
+		assertEquals(100, dataSource.fetchedItems.get());
+		assertNull(model.getElementAt(-1));
+		assertNull(model.getElementAt(SIZE));
+	}
+
+	/**
+	 * Test method for the least recently used pages of {@link PagedComboBoxModel}
+	 */
+	@Test
+	public void testLeastRecentlyUsedPages()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource, 10, 3);
+		model.getElementAt(0);
+		model.getElementAt(10);
+		model.getElementAt(20);
+		model.getElementAt(0);
+		model.getElementAt(30);
+		assertEquals(3, model.getLoadedPageCount());
+		assertEquals(4, dataSource.fetches.get());
+		// the page at 0 was used recently, the page at 10 was evicted
+		model.getElementAt(5);
+		assertEquals(4, dataSource.fetches.get());
+		model.getElementAt(15);
+		assertEquals(5, dataSource.fetches.get());
+	}
+
+	/**
+	 * Test method for {@link PagedComboBoxModel#indexOf(Object)}
+	 */
+	@Test
+	public void testIndexOf()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource);
+		assertEquals(999_999, model.indexOf(item(999_999)));
+		assertEquals(-1, model.indexOf("unknown"));
+		assertEquals(-1, model.indexOf(null));
+		assertEquals(0, dataSource.fetches.get());
+
+		PagedComboBoxModel<String> listModel = PagedComboBoxModel
+			.of(ItemDataSource.of(List.of("a", "b", "c")), 2, 2);
+		assertEquals(2, listModel.indexOf("c"));
+		assertEquals(-1, listModel.indexOf("d"));
+	}
+
+	/**
+	 * Test method for the default {@link ItemDataSource#indexOf(Object)} that searches with fetch
+	 */
+	@Test
+	public void testDefaultIndexOf()
+	{
+		List<Integer> items = new ArrayList<>();
+		for (int i = 0; i < 3000; i++)
+		{
+			items.add(i);
+		}
+		ItemDataSource<Integer> dataSource = new ItemDataSource<>()
+		{
+			@Override
+			public int size()
+			{
+				return items.size();
+			}
+
+			@Override
+			public List<Integer> fetch(final int offset, final int count)
+			{
+				return items.subList(offset, offset + count);
+			}
+		};
+		assertEquals(2500, dataSource.indexOf(2500));
+		assertEquals(-1, dataSource.indexOf(3000));
+	}
+
+	/**
+	 * Test method for {@link PagedComboBoxModel#refresh()}
+	 */
+	@Test
+	public void testRefresh()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource);
+		model.getElementAt(0);
+		model.setSelectedItem(item(0));
+		List<String> events = new ArrayList<>();
+		model.addListDataListener(new ListDataListener()
+		{
+			@Override
+			public void intervalAdded(final ListDataEvent e)
+			{
+				events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void intervalRemoved(final ListDataEvent e)
+			{
+				events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+
+			@Override
+			public void contentsChanged(final ListDataEvent e)
+			{
+				events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+			}
+		});
+		dataSource.size = 10;
+		model.refresh();
+		assertEquals(List.of("removed 10-999999", "changed 0-9"), events);
+		assertEquals(0, model.getLoadedPageCount());
+		assertEquals(10, model.getSize());
+		assertEquals(item(0), model.getSelectedItem());
+	}
+
+	/**
+	 * Test method for the constructor of {@link PagedComboBoxModel} with invalid arguments
+	 */
+	@Test
+	public void testInvalidArguments()
+	{
+		ItemDataSource<String> dataSource = ItemDataSource.of(List.of());
+		assertThrows(IllegalArgumentException.class,
+			() -> new PagedComboBoxModel<>(dataSource, 0, 1));
+		assertThrows(IllegalArgumentException.class,
+			() -> new PagedComboBoxModel<>(dataSource, 1, 0));
+	}
+
+	/**
+	 * Test method for a {@link JMComboBox} with a {@link PagedComboBoxModel} and a prototype display
+	 * value that must select an item and show its index without iterating over the items
+	 */
+	@Test
+	public void testComboBoxSelection()
+	{
+		CountingDataSource dataSource = new CountingDataSource();
+		PagedComboBoxModel<String> model = PagedComboBoxModel.of(dataSource);
+		JMComboBox<String, PagedComboBoxModel<String>> comboBox = new JMComboBox<>(model);
+		comboBox.setPrototypeDisplayValue(item(SIZE));
+		AtomicInteger actions = new AtomicInteger();
+		comboBox.addActionListener(e -> actions.incrementAndGet());
+
+		comboBox.setSelectedItem(item(765_432));
+		assertEquals(item(765_432), comboBox.getSelectedItem());
+		assertEquals(765_432, comboBox.getSelectedIndex());
+		assertEquals(item(765_432), comboBox.getPropertyModel().getObject());
+		assertEquals(1, actions.get());
+		assertTrue(dataSource.fetchedItems.get() <= PagedComboBoxModel.DEFAULT_PAGE_SIZE);
+
+		comboBox.setSelectedItem("unknown");
+		assertEquals(item(765_432), comboBox.getSelectedItem());
+		assertEquals(1, actions.get());
+	}
+
+	/**
+	 * Test method for the prototype display value of {@link JMComboBox} that must fix the cell
+	 * size of the list in the popup
+	 */
+	@Test
+	public void testPopupPrototype()
+	{
+		JMComboBox<String, PagedComboBoxModel<String>> comboBox = new JMComboBox<>(
+			PagedComboBoxModel.of(new CountingDataSource()));
+		JList<Object> list = ((ComboPopup)comboBox.getUI().getAccessibleChild(comboBox, 0))
+			.getList();
+		comboBox.setPrototypeDisplayValue(item(SIZE));
+		assertEquals(item(SIZE), list.getPrototypeCellValue());
+		assertTrue(0 < list.getFixedCellHeight());
+		comboBox.updateUI();
+		list = ((ComboPopup)comboBox.getUI().getAccessibleChild(comboBox, 0)).getList();
+		assertEquals(item(SIZE), list.getPrototypeCellValue());
+		comboBox.setPrototypeDisplayValue(null);
+		assertEquals(-1, list.getFixedCellHeight());
+	}
+}
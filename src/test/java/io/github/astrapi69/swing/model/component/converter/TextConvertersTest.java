@@ -0,0 +1,137 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.converter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.JMConvertingTextField;
+
+/**
+ * Test class for the class {@link TextConverters}
+ */
+public class TextConvertersTest
+{
+
+	/**
+	 * Test method for {@link TextConverters#get(Class)}
+	 */
+	@Test
+	public void testGet()
+	{
+		assertEquals(LocalDate.of(2024, 2, 29),
+			TextConverters.get(LocalDate.class).toObject("2024-02-29"));
+		assertEquals("PT1H30M", TextConverters.get(Duration.class).toText(Duration.ofMinutes(90)));
+		UUID uuid = UUID.randomUUID();
+		assertEquals(uuid, TextConverters.get(UUID.class).toObject(uuid.toString()));
+		assertEquals(42L, TextConverters.get(Long.class).toObject("42"));
+		assertThrows(IllegalArgumentException.class,
+			() -> TextConverters.get(LocalDate.class).toObject("2024-02-30"));
+		assertThrows(IllegalArgumentException.class, () -> TextConverters.get(Object.class));
+	}
+
+	/**
+	 * Test method for {@link TextConverters#localDate(String)} and
+	 * {@link TextConverters#decimal(String, Locale)}
+	 */
+	@Test
+	public void testFormatConverters()
+	{
+		TextConverter<LocalDate> converter = TextConverters.localDate("dd.MM.yyyy");
+		assertSame(converter, TextConverters.localDate("dd.MM.yyyy"));
+		assertEquals("01.03.2024", converter.toText(LocalDate.of(2024, 3, 1)));
+		assertEquals(LocalDate.of(2024, 3, 1), converter.toObject("01.03.2024"));
+
+		TextConverter<BigDecimal> decimal = TextConverters.decimal("#,##0.00", Locale.GERMANY);
+		assertSame(decimal, TextConverters.decimal("#,##0.00", Locale.GERMANY));
+		assertEquals("1.234,50", decimal.toText(new BigDecimal("1234.5")));
+		assertEquals(0, new BigDecimal("1234.5").compareTo(decimal.toObject("1.234,50")));
+		assertThrows(IllegalArgumentException.class, () -> decimal.toObject("12x"));
+	}
+
+	/**
+	 * Test method for {@link TextConverter#withParseCache(int)}
+	 */
+	@Test
+	public void testParseCache()
+	{
+		AtomicInteger parses = new AtomicInteger();
+		TextConverter<Long> converter = TextConverter.of(Long.class, text -> {
+			parses.incrementAndGet();
+			return Long.valueOf(text);
+		}, String::valueOf).withParseCache(2);
+		converter.toObject("1");
+		converter.toObject("2");
+		converter.toObject("1");
+		assertEquals(2, parses.get());
+		// the least recently used text 2 is evicted
+		converter.toObject("3");
+		converter.toObject("1");
+		assertEquals(3, parses.get());
+		converter.toObject("2");
+		assertEquals(4, parses.get());
+	}
+
+	/**
+	 * Test method for {@link JMConvertingTextField}
+	 */
+	@Test
+	public void testJMConvertingTextField()
+	{
+		IModel<LocalDate> model = BaseModel.of(LocalDate.of(2024, 1, 15));
+		JMConvertingTextField<LocalDate> textField = new JMConvertingTextField<>(LocalDate.class,
+			model);
+		assertEquals("2024-01-15", textField.getText());
+
+		textField.setText("2024-01-1");
+		assertFalse(textField.isConversionValid());
+		assertEquals(LocalDate.of(2024, 1, 15), model.getObject());
+
+		textField.setText("2024-01-16");
+		assertTrue(textField.isConversionValid());
+		assertEquals(LocalDate.of(2024, 1, 16), model.getObject());
+
+		textField.setConverter(TextConverters.localDate("dd.MM.yyyy"));
+		assertEquals("16.01.2024", textField.getText());
+
+		textField.setText("");
+		assertNull(model.getObject());
+	}
+}
@@ -0,0 +1,161 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link DocumentNumberParser}
+ */
+public class DocumentNumberParserTest
+{
+
+	private static PlainDocument document(final String text) throws BadLocationException
+	{
+		PlainDocument document = new PlainDocument();
+		document.insertString(0, text, null);
+		return document;
+	}
+
+	private static void assertInt(final String text) throws BadLocationException
+	{
+		DocumentNumberParser parser = new DocumentNumberParser();
+		assertEquals(DocumentNumberParser.Result.VALID, parser.parseInt(document(text)));
+		assertEquals(Integer.parseInt(text), parser.getValue());
+	}
+
+	/**
+	 * Test method for {@link DocumentNumberParser#parseInt(javax.swing.text.Document)}
+	 */
+	@Test
+	public void testParseInt() throws BadLocationException
+	{
+		assertInt("0");
+		assertInt("42");
+		assertInt("-42");
+		assertInt("+7");
+		assertInt("007");
+		assertInt(String.valueOf(Integer.MAX_VALUE));
+		assertInt(String.valueOf(Integer.MIN_VALUE));
+
+		DocumentNumberParser parser = new DocumentNumberParser();
+		assertEquals(DocumentNumberParser.Result.EMPTY, parser.parseInt(document("")));
+		assertEquals(DocumentNumberParser.Result.EMPTY, parser.parseInt(document("-")));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW, parser.parseInt(document("2147483648")));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW,
+			parser.parseInt(document("-2147483649")));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW,
+			parser.parseInt(document("99999999999999999999")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseInt(document("1-2")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseInt(document("--1")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseInt(document("1a")));
+	}
+
+	/**
+	 * Test method for {@link DocumentNumberParser#parseLong(javax.swing.text.Document)}
+	 */
+	@Test
+	public void testParseLong() throws BadLocationException
+	{
+		DocumentNumberParser parser = new DocumentNumberParser();
+		assertEquals(DocumentNumberParser.Result.VALID,
+			parser.parseLong(document(String.valueOf(Long.MIN_VALUE))));
+		assertEquals(Long.MIN_VALUE, parser.getValue());
+		assertEquals(DocumentNumberParser.Result.VALID, parser.parseLong(document("2147483648")));
+		assertEquals(2147483648L, parser.getValue());
+		assertEquals(DocumentNumberParser.Result.OVERFLOW,
+			parser.parseLong(document("9223372036854775808")));
+	}
+
+	/**
+	 * Test method for {@link DocumentNumberParser#parseDouble(javax.swing.text.Document)}
+	 */
+	@Test
+	public void testParseDouble() throws BadLocationException
+	{
+		DocumentNumberParser parser = new DocumentNumberParser();
+		for (String text : new String[] { "0", "-0", "1.5", "-.25", "7.", "0.1", "0.3",
+				"123456789.123456789", "1e22", "1e23", "2.5E-3", "-4e+2", "1e-400", "1e308",
+				"0.000000000000000000000000001", "9007199254740993", "3.141592653589793" })
+		{
+			assertEquals(DocumentNumberParser.Result.VALID, parser.parseDouble(document(text)),
+				text);
+			assertEquals(Double.parseDouble(text), parser.getDoubleValue(), text);
+		}
+		assertEquals(DocumentNumberParser.Result.EMPTY, parser.parseDouble(document("")));
+		assertEquals(DocumentNumberParser.Result.EMPTY, parser.parseDouble(document("-.")));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW, parser.parseDouble(document("1e309")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseDouble(document("1.2.3")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseDouble(document("1e")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseDouble(document("e5")));
+		assertEquals(DocumentNumberParser.Result.INVALID, parser.parseDouble(document("1-")));
+	}
+
+	/**
+	 * Test method for {@link DocumentNumberParser#parseFixedScale(javax.swing.text.Document, int)}
+	 */
+	@Test
+	public void testParseFixedScale() throws BadLocationException
+	{
+		DocumentNumberParser parser = new DocumentNumberParser();
+		String[] texts = { "0", "12", "12.3", "-12.34", ".5", "7.", "-0.01",
+				"92233720368547758.07", "-92233720368547758.08" };
+		for (String text : texts)
+		{
+			assertEquals(DocumentNumberParser.Result.VALID,
+				parser.parseFixedScale(document(text), 2), text);
+			assertEquals(new BigDecimal(text).setScale(2).unscaledValue().longValue(),
+				parser.getValue(), text);
+		}
+		assertEquals(DocumentNumberParser.Result.EMPTY, parser.parseFixedScale(document("-."), 2));
+		assertEquals(DocumentNumberParser.Result.INVALID,
+			parser.parseFixedScale(document("1.234"), 2));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW,
+			parser.parseFixedScale(document("92233720368547758.08"), 2));
+		assertEquals(DocumentNumberParser.Result.OVERFLOW,
+			parser.parseFixedScale(document("922337203685477580"), 2));
+	}
+
+	/**
+	 * Test method for {@link DocumentNumberParser#parseInt(javax.swing.text.Document)} with a
+	 * document whose content is split by the gap of the content
+	 */
+	@Test
+	public void testParseSplitContent() throws BadLocationException
+	{
+		PlainDocument document = document("1289");
+		document.insertString(2, "34567", null);
+		DocumentNumberParser parser = new DocumentNumberParser();
+		assertEquals(DocumentNumberParser.Result.VALID, parser.parseInt(document));
+		assertEquals(123456789L, parser.getValue());
+	}
+}
@@ -0,0 +1,163 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.swing.model.component.JMTextArea;
+
+/**
+ * Test class for the class {@link MappedFileDocument}
+ */
+public class MappedFileDocumentTest
+{
+
+	@TempDir
+	Path directory;
+
+	/**
+	 * Test method for {@link MappedFileDocument} that must provide the same text and line elements
+	 * as a {@link PlainDocument} with the decoded file content
+	 */
+	@Test
+	public void testBehavesLikePlainDocument() throws IOException, BadLocationException
+	{
+		Random random = new Random(11);
+		String[] pieces = { "a", "xyz", "\n", "\u00E4", "\u20AC", "\uD83D\uDE00", "\t" };
+		for (Charset charset : new Charset[] { StandardCharsets.UTF_8,
+				StandardCharsets.ISO_8859_1 })
+		{
+			StringBuilder text = new StringBuilder();
+			for (int i = 0; i < 20000; i++)
+			{
+				String piece = pieces[random.nextInt(pieces.length)];
+				if (charset.newEncoder().canEncode(piece))
+				{
+					text.append(piece);
+				}
+			}
+			Path file = directory.resolve(charset.name() + ".txt");
+			Files.writeString(file, text, charset);
+			MappedFileDocument actual = MappedFileDocument.open(
+				MappedFileRange.builder().path(file).charset(charset).build());
+			PlainDocument expected = new PlainDocument();
+			expected.insertString(0, text.toString(), null);
+
+			assertEquals(expected.getLength(), actual.getLength());
+			assertEquals(expected.getText(0, expected.getLength()),
+				actual.getText(0, actual.getLength()));
+			Element expectedRoot = expected.getDefaultRootElement();
+			Element actualRoot = actual.getDefaultRootElement();
+			assertEquals(expectedRoot.getElementCount(), actualRoot.getElementCount());
+			assertEquals(expectedRoot.getEndOffset(), actualRoot.getEndOffset());
+			for (int i = 0; i < expectedRoot.getElementCount(); i++)
+			{
+				Element line = actualRoot.getElement(i);
+				assertEquals(expectedRoot.getElement(i).getStartOffset(), line.getStartOffset());
+				assertEquals(expectedRoot.getElement(i).getEndOffset(), line.getEndOffset());
+				assertEquals(
+					expected.getText(line.getStartOffset(),
+						line.getEndOffset() - line.getStartOffset()),
+					actual.getText(line.getStartOffset(),
+						line.getEndOffset() - line.getStartOffset()));
+			}
+			for (int i = 0; i < 2000; i++)
+			{
+				int offset = random.nextInt(expected.getLength() + 1);
+				assertEquals(expectedRoot.getElementIndex(offset),
+					actualRoot.getElementIndex(offset));
+				int length = random.nextInt(expected.getLength() + 1 - offset);
+				assertEquals(expected.getText(offset, length), actual.getText(offset, length));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link MappedFileDocument} with a range of a file and malformed input
+	 */
+	@Test
+	public void testRangeAndMalformedInput() throws IOException, BadLocationException
+	{
+		Path file = directory.resolve("range.txt");
+		Files.write(file, new byte[] { 'a', 'b', (byte)0xC3, '\n', (byte)0xF0, (byte)0x9F, 'c',
+				(byte)0x80, 'd' });
+		MappedFileDocument document = MappedFileDocument
+			.open(MappedFileRange.builder().path(file).offset(1L).build());
+		assertEquals("b\uFFFD\n\uFFFD\uFFFDcd", document.getText(0, document.getLength()));
+		assertEquals(2, document.getDefaultRootElement().getElementCount());
+		assertEquals(4, document.getMaximumLineLength());
+		assertThrows(BadLocationException.class, () -> document.getText(5, 10));
+		document.insertString(0, "x", null);
+		document.remove(0, 2);
+		assertEquals("b\uFFFD\n\uFFFD\uFFFDcd", document.getText(0, document.getLength()));
+		assertThrows(IllegalArgumentException.class, () -> MappedFileDocument
+			.open(MappedFileRange.builder().path(file).offset(4L).length(10L).build()));
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#setFileRangeModel(io.github.astrapi69.model.api.IModel)}
+	 */
+	@Test
+	public void testJMTextAreaFileRangeModel() throws IOException, BadLocationException
+	{
+		Path file = directory.resolve("area.txt");
+		Files.writeString(file, "first line\n\tsecond line\nthird", StandardCharsets.UTF_8);
+		JMTextArea textArea = new JMTextArea();
+		textArea.setFileRangeModel(BaseModel.of(MappedFileRange.of(file)));
+		assertInstanceOf(MappedFileDocument.class, textArea.getDocument());
+		assertInstanceOf(MappedFileTextAreaUI.class, textArea.getUI());
+		assertFalse(textArea.isEditable());
+		assertEquals("second line", textArea.getText(12, 11));
+		textArea.setText("replaced");
+		textArea.replaceRange("x", 0, 5);
+		textArea.appendAsync("appended");
+		textArea.flushAppends();
+		textArea.setPropertyModel(BaseModel.of("replaced"));
+		assertEquals("first line\n\tsecond line\nthird", textArea.getText());
+		assertEquals("replaced", textArea.getPropertyModel().getObject());
+		textArea.setSize(textArea.getPreferredSize());
+		textArea.modelToView2D(15);
+		textArea.setDocument(new PlainDocument());
+		assertFalse(textArea.getUI() instanceof MappedFileTextAreaUI);
+	}
+}
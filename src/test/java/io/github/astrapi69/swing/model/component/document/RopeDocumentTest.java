@@ -0,0 +1,185 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Position;
+import javax.swing.undo.UndoManager;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.model.BaseModel;
+import io.github.astrapi69.model.api.IModel;
+import io.github.astrapi69.swing.model.component.JMTextArea;
+
+/**
+ * Test class for the class {@link RopeDocument}
+ */
+public class RopeDocumentTest
+{
+
+	/**
+	 * Test method for {@link RopeDocument} that must behave like a {@link PlainDocument} for the
+	 * text, the line elements and the positions
+	 */
+	@Test
+	public void testBehavesLikePlainDocument() throws BadLocationException
+	{
+		Random random = new Random(7);
+		PlainDocument expected = new PlainDocument();
+		RopeDocument actual = new RopeDocument();
+		List<Position> expectedPositions = new ArrayList<>();
+		List<Position> actualPositions = new ArrayList<>();
+		for (int i = 0; i < 5000; i++)
+		{
+			int length = expected.getLength();
+			int operation = random.nextInt(10);
+			if (operation < 5 || length == 0)
+			{
+				int offset = random.nextInt(length + 1);
+				StringBuilder text = new StringBuilder();
+				int count = random.nextInt(15) == 0 ? random.nextInt(3000) : 1 + random.nextInt(4);
+				for (int k = 0; k < count; k++)
+				{
+					text.append(random.nextInt(8) == 0 ? '\n' : (char)('a' + random.nextInt(26)));
+				}
+				expected.insertString(offset, text.toString(), null);
+				actual.insertString(offset, text.toString(), null);
+			}
+			else if (operation < 8)
+			{
+				int offset = random.nextInt(length + 1);
+				int count = Math.min(length - offset, random.nextInt(50));
+				expected.remove(offset, count);
+				actual.remove(offset, count);
+			}
+			else
+			{
+				int offset = random.nextInt(length + 2);
+				expectedPositions.add(expected.createPosition(offset));
+				actualPositions.add(actual.createPosition(offset));
+			}
+			assertEquals(expected.getText(0, expected.getLength()),
+				actual.getText(0, actual.getLength()));
+			if (i % 100 == 0)
+			{
+				assertSameStructure(expected, actual);
+				for (int k = 0; k < expectedPositions.size(); k++)
+				{
+					assertEquals(expectedPositions.get(k).getOffset(),
+						actualPositions.get(k).getOffset());
+				}
+			}
+		}
+		assertEquals(expected.getText(0, expected.getLength()), actual.getSnapshot().toString());
+	}
+
+	/**
+	 * Test method for undo and redo of a {@link RopeDocument}
+	 */
+	@Test
+	public void testUndoRedo() throws BadLocationException
+	{
+		RopeDocument document = new RopeDocument();
+		document.insertString(0, "first line\nsecond line\n", null);
+		UndoManager undoManager = new UndoManager();
+		document.addUndoableEditListener(undoManager);
+		document.insertString(6, "long ", null);
+		document.remove(0, 6);
+		assertEquals("long line\nsecond line\n", document.getText(0, document.getLength()));
+		undoManager.undo();
+		undoManager.undo();
+		assertEquals("first line\nsecond line\n", document.getText(0, document.getLength()));
+		undoManager.redo();
+		assertEquals("first long line\nsecond line\n", document.getText(0, document.getLength()));
+	}
+
+	/**
+	 * Test method for {@link RopeContent#createPosition(int)} that must remove the marks of the
+	 * positions that are no more referenced
+	 */
+	@Test
+	public void testUnusedMarksAreRemoved() throws Exception
+	{
+		RopeContent content = new RopeContent();
+		content.insertString(0, "x".repeat(10_000));
+		List<Position> positions = new ArrayList<>();
+		for (int offset = 0; offset < 10_000; offset++)
+		{
+			positions.add(content.createPosition(offset));
+		}
+		assertEquals(10_000, content.markCount());
+		positions.clear();
+		for (int round = 0; round < 50 && 100 <= content.markCount(); round++)
+		{
+			System.gc();
+			Thread.sleep(20L);
+			content.createPosition(0);
+		}
+		assertTrue(content.markCount() < 100, "marks: " + content.markCount());
+	}
+
+	/**
+	 * Test method for {@link JMTextArea#setSnapshotModel(IModel)}
+	 */
+	@Test
+	public void testSnapshotModel() throws BadLocationException
+	{
+		IModel<CharSequence> snapshotModel = BaseModel.of();
+		JMTextArea textArea = new JMTextArea("foo");
+		textArea.setSnapshotModel(snapshotModel);
+		assertInstanceOf(RopeDocument.class, textArea.getDocument());
+		assertEquals("foo", snapshotModel.getObject().toString());
+		CharSequence first = snapshotModel.getObject();
+		textArea.getDocument().insertString(3, " bar", null);
+		assertEquals("foo bar", snapshotModel.getObject().toString());
+		assertEquals("foo", first.toString());
+	}
+
+	private static void assertSameStructure(final PlainDocument expected,
+		final PlainDocument actual)
+	{
+		Element expectedRoot = expected.getDefaultRootElement();
+		Element actualRoot = actual.getDefaultRootElement();
+		assertEquals(expectedRoot.getElementCount(), actualRoot.getElementCount());
+		for (int i = 0; i < expectedRoot.getElementCount(); i++)
+		{
+			assertEquals(expectedRoot.getElement(i).getStartOffset(),
+				actualRoot.getElement(i).getStartOffset());
+			assertEquals(expectedRoot.getElement(i).getEndOffset(),
+				actualRoot.getElement(i).getEndOffset());
+		}
+	}
+}
@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import javax.swing.text.Segment;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link Rope}
+ */
+public class RopeTest
+{
+
+	/**
+	 * Test method for {@link Rope#insert(int, CharSequence)}, {@link Rope#delete(int, int)} and
+	 * {@link Rope#subSequence(int, int)} against a {@link StringBuilder}
+	 */
+	@Test
+	public void testEditsAgainstStringBuilder()
+	{
+		Random random = new Random(42);
+		Rope rope = Rope.EMPTY;
+		StringBuilder expected = new StringBuilder();
+		for (int i = 0; i < 20000; i++)
+		{
+			int operation = random.nextInt(10);
+			if (operation < 6 || expected.length() == 0)
+			{
+				int index = random.nextInt(expected.length() + 1);
+				String text = randomText(random,
+					random.nextInt(20) == 0 ? random.nextInt(5000) : 1 + random.nextInt(3));
+				rope = rope.insert(index, text);
+				expected.insert(index, text);
+			}
+			else if (operation < 9)
+			{
+				int start = random.nextInt(expected.length() + 1);
+				int end = Math.min(expected.length(), start + random.nextInt(100));
+				rope = rope.delete(start, end);
+				expected.delete(start, end);
+			}
+			else
+			{
+				int start = random.nextInt(expected.length() + 1);
+				int end = start + random.nextInt(expected.length() - start + 1);
+				assertEquals(expected.substring(start, end),
+					rope.subSequence(start, end).toString());
+			}
+			assertEquals(expected.length(), rope.length());
+		}
+		assertEquals(expected.toString(), rope.toString());
+		for (int i = 0; i < 1000; i++)
+		{
+			int index = random.nextInt(expected.length());
+			assertEquals(expected.charAt(index), rope.charAt(index));
+		}
+	}
+
+	/**
+	 * Test method for the immutability of {@link Rope}
+	 */
+	@Test
+	public void testSnapshotsAreImmutable()
+	{
+		Rope snapshot = Rope.of("hello world");
+		Rope changed = snapshot.insert(5, ",").delete(0, 1).append("!");
+		assertEquals("hello world", snapshot.toString());
+		assertEquals("ello, world!", changed.toString());
+		assertSame(snapshot, Rope.of(snapshot));
+		assertSame(snapshot, snapshot.subSequence(0, snapshot.length()));
+	}
+
+	/**
+	 * Test method for the height of {@link Rope} that must stay logarithmic
+	 */
+	@Test
+	public void testHeightStaysLogarithmic()
+	{
+		Rope rope = Rope.of("x".repeat(1_000_000));
+		for (int i = 0; i < 10000; i++)
+		{
+			rope = rope.insert((i * 7919) % rope.length(), "y");
+		}
+		assertEquals(1_010_000, rope.length());
+		assertTrue(rope.getHeight() < 30, "height " + rope.getHeight());
+	}
+
+	/**
+	 * Test method for {@link Rope#getChars(int, int, Segment)}
+	 */
+	@Test
+	public void testGetCharsWithSegment()
+	{
+		String text = randomText(new Random(1), 5000);
+		Rope rope = Rope.of(text);
+		Segment segment = new Segment();
+		rope.getChars(100, 4000, segment);
+		assertEquals(text.substring(100, 4000), segment.toString());
+		rope.getChars(10, 20, segment);
+		assertEquals(text.substring(10, 20), segment.toString());
+		segment.setPartialReturn(true);
+		rope.getChars(1000, 3000, segment);
+		assertTrue(segment.count <= 2000);
+		assertEquals(text.substring(1000, 1000 + segment.count), segment.toString());
+		assertThrows(IndexOutOfBoundsException.class, () -> rope.getChars(4000, 6000, segment));
+	}
+
+	private static String randomText(final Random random, final int length)
+	{
+		StringBuilder text = new StringBuilder(length);
+		for (int i = 0; i < length; i++)
+		{
+			text.append(random.nextInt(10) == 0 ? '\n' : (char)('a' + random.nextInt(26)));
+		}
+		return text.toString();
+	}
+}
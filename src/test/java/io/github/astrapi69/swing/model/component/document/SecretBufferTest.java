@@ -0,0 +1,125 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.swing.model.component.document;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the class {@link SecretBuffer}
+ */
+public class SecretBufferTest
+{
+
+	private static char[] chars(final SecretBuffer buffer) throws ReflectiveOperationException
+	{
+		Field field = SecretBuffer.class.getDeclaredField("chars");
+		field.setAccessible(true);
+		return (char[])field.get(buffer);
+	}
+
+	/**
+	 * Test method for {@link SecretBuffer#insert(int, javax.swing.text.Document, int, int)} and
+	 * {@link SecretBuffer#remove(int, int)}
+	 */
+	@Test
+	public void testInsertAndRemove() throws BadLocationException
+	{
+		PlainDocument document = new PlainDocument();
+		SecretBuffer buffer = new SecretBuffer();
+		document.insertString(0, "secret", null);
+		buffer.insert(0, document, 0, 6);
+		assertEquals("secret", buffer.toString());
+
+		document.insertString(3, "XY", null);
+		buffer.insert(3, document, 3, 2);
+		assertEquals("secXYret", buffer.toString());
+		assertEquals('X', buffer.charAt(3));
+		assertEquals("XY", buffer.subSequence(3, 5).toString());
+
+		buffer.remove(0, 3);
+		assertEquals("XYret", buffer.toString());
+		assertArrayEquals("XYret".toCharArray(), buffer.toCharArray());
+
+		assertThrows(IllegalArgumentException.class, () -> buffer.remove(2, 4));
+		assertThrows(IllegalArgumentException.class, () -> buffer.insert(6, document, 0, 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> buffer.charAt(5));
+	}
+
+	/**
+	 * Test method for {@link SecretBuffer#remove(int, int)} and {@link SecretBuffer#wipe()} that
+	 * zero the freed characters
+	 */
+	@Test
+	public void testRemovedCharactersAreZeroed()
+		throws BadLocationException, ReflectiveOperationException
+	{
+		PlainDocument document = new PlainDocument();
+		document.insertString(0, "abcdef", null);
+		SecretBuffer buffer = new SecretBuffer();
+		buffer.load(document);
+		buffer.remove(1, 2);
+		char[] chars = chars(buffer);
+		assertEquals("adef", new String(chars, 0, 4));
+		assertEquals(0, chars[4]);
+		assertEquals(0, chars[5]);
+
+		buffer.wipe();
+		assertEquals(0, buffer.length());
+		for (char c : chars(buffer))
+		{
+			assertEquals(0, c);
+		}
+	}
+
+	/**
+	 * Test method for {@link SecretBuffer#insert(int, javax.swing.text.Document, int, int)} that
+	 * zeroes the superseded array if the buffer grows
+	 */
+	@Test
+	public void testGrowZeroesOldArray() throws BadLocationException, ReflectiveOperationException
+	{
+		PlainDocument document = new PlainDocument();
+		document.insertString(0, "0123456789", null);
+		SecretBuffer buffer = new SecretBuffer(4);
+		buffer.insert(0, document, 0, 3);
+		char[] oldChars = chars(buffer);
+		buffer.insert(3, document, 3, 7);
+		assertEquals("0123456789", buffer.toString());
+		assertEquals(10, buffer.capacity());
+		for (char c : oldChars)
+		{
+			assertEquals(0, c);
+		}
+	}
+}